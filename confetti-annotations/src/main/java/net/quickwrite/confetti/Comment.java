@@ -37,7 +37,7 @@ import java.lang.annotation.*;
  */
 @Documented
 @Target(ElementType.METHOD)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface Comment {
     /**
      * Provides the specified comment for the configuration entry
@@ -35,7 +35,7 @@ import java.lang.annotation.*;
  */
 @Documented
 @Target(ElementType.TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface ConfettiConfig {
     /**
      * Provides the current version of this config file. If the value is
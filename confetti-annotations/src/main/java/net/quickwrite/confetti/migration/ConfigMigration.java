@@ -37,7 +37,7 @@ import java.lang.annotation.*;
  */
 @Documented
 @Target(ElementType.TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface ConfigMigration {
     /**
      * Provides the target interface that is being annotated with {@link net.quickwrite.confetti.ConfettiConfig}.
@@ -0,0 +1,29 @@
+plugins {
+    java
+}
+
+dependencies {
+    implementation(project(":confetti-formats-hocon"))
+    implementation(project(":confetti-formats-yaml"))
+    implementation(project(":confetti-formats-toml"))
+    implementation(project(":confetti-formats-properties"))
+    implementation(project(":confetti-formats-msgpack"))
+    implementation(project(":confetti-offheap"))
+    implementation("com.typesafe:config:1.4.5")
+
+    implementation("org.openjdk.jmh:jmh-core:1.37")
+    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks {
+    // Runs the benchmarks with the allocation profiler, e.g.
+    // gradle :confetti-benchmarks:jmh -Pjmh.args="TypedAccessor -prof gc"
+    register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks."
+
+        classpath = sourceSets.main.get().runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        args = (project.findProperty("jmh.args") as String? ?: "-prof gc").split(' ').filter { it.isNotBlank() }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.benchmark;
+
+import com.typesafe.config.ConfigFactory;
+import net.quickwrite.confetti.ArrayNode;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.HoconArrayNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a large numeric array node by node with the bulk methods of {@link ArrayNode}.
+ *
+ * <p>
+ * Run with {@code -prof gc}: the bulk methods should only allocate the resulting array.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkExtractionBenchmark {
+    @Param({ "10000" })
+    private int size;
+
+    private ArrayNode buckets;
+
+    @Setup
+    public void setUp() {
+        final StringJoiner values = new StringJoiner(", ", "buckets = [ ", " ]");
+        for (int i = 0; i < this.size; ++i) {
+            values.add(Long.toString(i * 1_000L));
+        }
+
+        this.buckets = new HoconArrayNode(ConfigFactory.parseString(values.toString()).getList("buckets"));
+    }
+
+    @Benchmark
+    public long[] iterateNodes() {
+        final long[] values = new long[this.buckets.size()];
+
+        int i = 0;
+        for (final ConfigNode node : this.buckets) {
+            values[i++] = node.toValue().asLong();
+        }
+
+        return values;
+    }
+
+    @Benchmark
+    public long[] toLongArray() {
+        return this.buckets.toLongArray();
+    }
+
+    @Benchmark
+    public double[] toDoubleArray() {
+        return this.buckets.toDoubleArray();
+    }
+}
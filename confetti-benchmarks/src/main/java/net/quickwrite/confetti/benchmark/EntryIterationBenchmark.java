@@ -0,0 +1,74 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.benchmark;
+
+import com.typesafe.config.ConfigFactory;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.EntryCursor;
+import net.quickwrite.confetti.HoconObjectNode;
+import net.quickwrite.confetti.ObjectNode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares iterating all entries of an {@link ObjectNode} through
+ * {@code toMap().entrySet()}, {@link ObjectNode#forEachEntry} and {@link ObjectNode#entryCursor()}.
+ *
+ * <p>
+ * Run with {@code -prof gc} to compare the {@code gc.alloc.rate.norm} of the variants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntryIterationBenchmark {
+    @Param({"16", "1024"})
+    public int size;
+
+    private ObjectNode config;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < this.size; ++i) {
+            builder.append("key").append(i).append(" = ").append(i).append('\n');
+        }
+
+        this.config = new HoconObjectNode(ConfigFactory.parseString(builder.toString()).root());
+    }
+
+    @Benchmark
+    public void entrySet(final Blackhole blackhole) {
+        for (final Map.Entry<String, ConfigNode> entry : this.config.toMap().entrySet()) {
+            blackhole.consume(entry.getKey());
+            blackhole.consume(entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public void forEachEntry(final Blackhole blackhole) {
+        this.config.forEachEntry((key, node) -> {
+            blackhole.consume(key);
+            blackhole.consume(node);
+        });
+    }
+
+    @Benchmark
+    public void entryCursor(final Blackhole blackhole) {
+        final EntryCursor cursor = this.config.entryCursor();
+
+        while (cursor.next()) {
+            blackhole.consume(cursor.key());
+            blackhole.consume(cursor.value());
+        }
+    }
+}
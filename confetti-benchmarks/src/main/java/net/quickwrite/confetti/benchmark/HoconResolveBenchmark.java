@@ -0,0 +1,61 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.benchmark;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigResolveOptions;
+import net.quickwrite.confetti.HoconObjectNode;
+import net.quickwrite.confetti.HoconResolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a single substituted value of a configuration with many substitutions
+ * through the lazy {@link HoconResolver} against resolving the whole configuration up front.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HoconResolveBenchmark {
+    @Param({"100", "10000"})
+    public int services;
+
+    private Config config;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder hocon = new StringBuilder("defaults { timeout = 5, retries = 3 }\ndomain = example.com\n");
+
+        for (int i = 0; i < this.services; ++i) {
+            hocon.append("service").append(i).append(" = ${defaults} {\n")
+                    .append("  host = service").append(i).append(".${domain}\n")
+                    .append("  url = \"https://service").append(i).append(".\"${domain}\n")
+                    .append("}\n");
+        }
+
+        this.config = ConfigFactory.parseString(hocon.toString());
+    }
+
+    @Benchmark
+    public String lazy() {
+        final HoconObjectNode root = new HoconResolver(this.config, null).root();
+
+        return root.getNodeOrNull("service0").toObject().getString("url", null);
+    }
+
+    @Benchmark
+    public String eager() {
+        final HoconObjectNode root = new HoconObjectNode(this.config.resolve(ConfigResolveOptions.noSystem()).root());
+
+        return root.getNodeOrNull("service0").toObject().getString("url", null);
+    }
+}
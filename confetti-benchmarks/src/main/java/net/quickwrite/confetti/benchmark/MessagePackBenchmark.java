@@ -0,0 +1,75 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.benchmark;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.factory.MessagePack;
+import net.quickwrite.confetti.factory.YamlConfigFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a config bundle from MessagePack, from a heap and a direct buffer,
+ * against parsing the same tree from YAML text, and measures the encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessagePackBenchmark {
+    @Param({"100", "10000"})
+    public int servers;
+
+    private String yaml;
+    private ConfigNode tree;
+    private ByteBuffer heap;
+    private ByteBuffer direct;
+
+    private final YamlConfigFactory yamlFactory = new YamlConfigFactory();
+
+    @Setup
+    public void setUp() {
+        final StringBuilder yaml = new StringBuilder("name: app\nservers:\n");
+
+        for (int i = 0; i < this.servers; ++i) {
+            yaml.append("  - host: host").append(i).append('\n')
+                    .append("    port: ").append(8000 + i).append('\n')
+                    .append("    secure: ").append(i % 2 == 0).append('\n')
+                    .append("    weight: ").append(i / 7.0).append('\n')
+                    .append("    tags: [a, b, c]\n");
+        }
+
+        this.yaml = yaml.toString();
+        this.tree = this.yamlFactory.parse(this.yaml);
+        this.heap = MessagePack.write(this.tree);
+        this.direct = ByteBuffer.allocateDirect(this.heap.remaining()).put(this.heap.duplicate()).flip();
+    }
+
+    @Benchmark
+    public ConfigNode readHeap() {
+        return MessagePack.read(this.heap.duplicate());
+    }
+
+    @Benchmark
+    public ConfigNode readDirect() {
+        return MessagePack.read(this.direct.duplicate());
+    }
+
+    @Benchmark
+    public ConfigNode parseYaml() {
+        return this.yamlFactory.parse(this.yaml);
+    }
+
+    @Benchmark
+    public ByteBuffer write() {
+        return MessagePack.write(this.tree);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.benchmark;
+
+import com.typesafe.config.ConfigFactory;
+import net.quickwrite.confetti.HoconObjectNode;
+import net.quickwrite.confetti.ObjectNode;
+import net.quickwrite.confetti.OffHeapTree;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a large routing table that is kept on the heap by Typesafe Config with the
+ * same table in an {@link OffHeapTree}.
+ *
+ * <p>
+ * The setup prints the heap that is retained by the table after a full collection.
+ * {@code fullGc} measures the duration of a full collection while the table is alive,
+ * and {@code lookup} the cost of reading a single route.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class OffHeapFootprintBenchmark {
+    public enum Backend { HOCON, OFF_HEAP }
+
+    @Param({"HOCON", "OFF_HEAP"})
+    public Backend backend;
+
+    @Param({"200000"})
+    public int routes;
+
+    private ObjectNode table;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        final long before = usedHeap();
+
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < this.routes; ++i) {
+            builder.append("route").append(i)
+                    .append(" { target = \"backend-").append(i % 500)
+                    .append(".internal\", weight = ").append(i % 100)
+                    .append(", sticky = ").append(i % 2 == 0)
+                    .append(", region = \"eu-west-").append(i % 3).append("\" }\n");
+        }
+
+        final HoconObjectNode hocon = new HoconObjectNode(ConfigFactory.parseString(builder.toString()).root());
+
+        this.table = switch (this.backend) {
+            case HOCON -> hocon;
+            case OFF_HEAP -> OffHeapTree.encode(hocon).root().toObject();
+        };
+
+        System.out.printf("%nRetained heap of %s: %d MiB%n", this.backend, (usedHeap() - before) >> 20);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ObjectNode fullGc() {
+        System.gc();
+
+        return this.table;
+    }
+
+    @Benchmark
+    public long lookup() {
+        this.next = (this.next + 7919) % this.routes;
+
+        return this.table.getNodeOrNull("route" + this.next).toObject().getLong("weight", 0L);
+    }
+
+    private static long usedHeap() {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        System.gc();
+
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
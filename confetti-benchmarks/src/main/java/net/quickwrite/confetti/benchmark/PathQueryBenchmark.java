@@ -0,0 +1,78 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.benchmark;
+
+import com.typesafe.config.ConfigFactory;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.HoconObjectNode;
+import net.quickwrite.confetti.query.PathQuery;
+import net.quickwrite.confetti.visitor.ConfigVisitor;
+import net.quickwrite.confetti.visitor.ConfigWalker;
+import net.quickwrite.confetti.visitor.PathCursor;
+import net.quickwrite.confetti.visitor.VisitResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a compiled {@link PathQuery} with a full walk that tests the path of every node.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathQueryBenchmark {
+    @Param({"servers[*].port", "**.timeout"})
+    public String expression;
+
+    private ConfigNode root;
+    private PathQuery query;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder builder = new StringBuilder("servers = [\n");
+        for (int i = 0; i < 1000; ++i) {
+            builder.append("{ host = \"host").append(i).append("\", port = ").append(8000 + i)
+                    .append(", http { timeout = 30, retries = 3, headers { a = 1, b = 2, c = 3 } } }\n");
+        }
+        builder.append("]\n");
+
+        for (int i = 0; i < 1000; ++i) {
+            builder.append("feature").append(i).append(" { enabled = true, rollout = 50 }\n");
+        }
+
+        this.root = new HoconObjectNode(ConfigFactory.parseString(builder.toString()).root());
+        this.query = PathQuery.compile(this.expression);
+    }
+
+    @Benchmark
+    public List<ConfigNode> compiledQuery() {
+        return this.query.select(this.root);
+    }
+
+    @Benchmark
+    public List<ConfigNode> fullWalk() {
+        final List<ConfigNode> result = new ArrayList<>();
+
+        ConfigWalker.sequential().walk(this.root, new ConfigVisitor() {
+            @Override
+            public VisitResult enter(final ConfigNode node, final PathCursor path) {
+                if (query.matches(path.toNodePath())) {
+                    result.add(node);
+                }
+
+                return VisitResult.CONTINUE;
+            }
+        });
+
+        return result;
+    }
+}
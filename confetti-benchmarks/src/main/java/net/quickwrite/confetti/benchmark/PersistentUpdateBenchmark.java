@@ -0,0 +1,67 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.benchmark;
+
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.tree.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares setting a single flag with {@link ConfigTree#with(ConfigData, NodePath, ConfigData)}
+ * with rebuilding the whole tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentUpdateBenchmark {
+    @Param({"100", "10000"})
+    public int services;
+
+    private ObjectData root;
+    private NodePath flag;
+    private boolean enabled;
+
+    @Setup
+    public void setUp() {
+        final ObjectData.Builder builder = ObjectData.builder();
+
+        for (int i = 0; i < this.services; ++i) {
+            final ObjectData.Builder service = ObjectData.builder();
+            for (int j = 0; j < 20; ++j) {
+                service.put("setting" + j, ScalarData.ofLong(j));
+            }
+            service.put("enabled", ScalarData.ofBoolean(false));
+
+            builder.put("service" + i, service.build());
+        }
+
+        this.root = builder.build();
+        this.flag = NodePath.of(PathSegment.key("service" + (this.services / 2)), PathSegment.key("enabled"));
+    }
+
+    @Benchmark
+    public ConfigData persistentUpdate() {
+        this.enabled = !this.enabled;
+
+        return ConfigTree.with(this.root, this.flag, ScalarData.ofBoolean(this.enabled));
+    }
+
+    @Benchmark
+    public ConfigData fullRebuild() {
+        this.enabled = !this.enabled;
+
+        final ConfigData copy = ConfigTree.copyOf(ConfigTree.root(this.root), new ConfigInterner());
+
+        return ConfigTree.with(copy, this.flag, ScalarData.ofBoolean(this.enabled));
+    }
+}
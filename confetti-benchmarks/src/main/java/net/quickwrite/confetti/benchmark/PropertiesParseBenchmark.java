@@ -0,0 +1,66 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.benchmark;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.factory.HoconConfigFactory;
+import net.quickwrite.confetti.factory.PropertiesConfigFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading the {@code app.} keys of a set of properties with the
+ * {@link PropertiesConfigFactory} against converting them into HOCON text and parsing it.
+ * One in ten keys has the prefix.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesParseBenchmark {
+    private static final String PREFIX = "app.";
+
+    @Param({"100", "10000"})
+    public int keys;
+
+    private final Properties properties = new Properties();
+
+    private final PropertiesConfigFactory propertiesFactory = new PropertiesConfigFactory(PREFIX);
+    private final HoconConfigFactory hoconFactory = new HoconConfigFactory();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < this.keys; ++i) {
+            final String prefix = i % 10 == 0 ? PREFIX : "system.";
+
+            this.properties.setProperty(prefix + "group" + (i % 50) + ".key" + i, String.valueOf(i));
+        }
+    }
+
+    @Benchmark
+    public ConfigNode properties() {
+        return this.propertiesFactory.parse(this.properties);
+    }
+
+    @Benchmark
+    public ConfigNode hoconText() {
+        final StringBuilder hocon = new StringBuilder();
+
+        for (final String key : this.properties.stringPropertyNames()) {
+            if (key.startsWith(PREFIX)) {
+                hocon.append(key, PREFIX.length(), key.length())
+                        .append(" = \"").append(this.properties.getProperty(key)).append("\"\n");
+            }
+        }
+
+        return this.hoconFactory.parse(hocon.toString());
+    }
+}
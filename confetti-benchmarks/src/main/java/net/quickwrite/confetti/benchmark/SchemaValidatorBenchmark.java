@@ -0,0 +1,73 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.benchmark;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.schema.Schema;
+import net.quickwrite.confetti.schema.SchemaValidator;
+import net.quickwrite.confetti.schema.Violation;
+import net.quickwrite.confetti.tree.ArrayData;
+import net.quickwrite.confetti.tree.ConfigTree;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential and the parallel validation of a tree with a large array.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaValidatorBenchmark {
+    @Param({"1000", "100000"})
+    public int servers;
+
+    private ConfigNode root;
+    private SchemaValidator parallel;
+    private SchemaValidator sequential;
+
+    @Setup
+    public void setUp() {
+        final ArrayData.Builder array = ArrayData.builder();
+        for (int i = 0; i < this.servers; ++i) {
+            array.add(ObjectData.builder()
+                    .put("host", ScalarData.ofString("host" + i))
+                    .put("port", ScalarData.ofLong(8000 + i % 1000))
+                    .put("weight", ScalarData.ofDouble(i % 10 / 10.0))
+                    .put("tags", ArrayData.builder().add(ScalarData.ofString("a")).add(ScalarData.ofString("b")).build())
+                    .build());
+        }
+
+        this.root = ConfigTree.root(ObjectData.builder().put("servers", array.build()).build());
+
+        final Schema server = Schema.object()
+                .required("host", Schema.string())
+                .required("port", Schema.integer(1, 65535))
+                .required("weight", Schema.number(0, 1))
+                .optional("tags", Schema.arrayOf(Schema.string()))
+                .build();
+
+        this.parallel = SchemaValidator.compile(Schema.object().required("servers", Schema.arrayOf(server)).build());
+        this.sequential = this.parallel.sequential();
+    }
+
+    @Benchmark
+    public List<Violation> sequential() {
+        return this.sequential.validate(this.root);
+    }
+
+    @Benchmark
+    public List<Violation> parallel() {
+        return this.parallel.validate(this.root);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.benchmark;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.factory.HoconConfigFactory;
+import net.quickwrite.confetti.factory.TomlConfigFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the TOML and the HOCON factory on the same document, which
+ * stores its servers as an array of tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TomlParseBenchmark {
+    @Param({"100", "10000"})
+    public int servers;
+
+    private String toml;
+    private String hocon;
+
+    private final TomlConfigFactory tomlFactory = new TomlConfigFactory();
+    private final HoconConfigFactory hoconFactory = new HoconConfigFactory();
+
+    @Setup
+    public void setUp() {
+        final StringBuilder toml = new StringBuilder("name = \"app\"\n");
+        final StringBuilder hocon = new StringBuilder("name = app\nservers = [\n");
+
+        for (int i = 0; i < this.servers; ++i) {
+            toml.append("\n[[servers]]\n")
+                    .append("host = \"host").append(i).append("\"\n")
+                    .append("port = ").append(8000 + i).append('\n')
+                    .append("secure = ").append(i % 2 == 0).append('\n')
+                    .append("tags = [\"a\", \"b\", \"c\"]\n");
+            hocon.append("  { host = host").append(i)
+                    .append(", port = ").append(8000 + i)
+                    .append(", secure = ").append(i % 2 == 0)
+                    .append(", tags = [a, b, c] }\n");
+        }
+
+        hocon.append("]\n");
+
+        this.toml = toml.toString();
+        this.hocon = hocon.toString();
+    }
+
+    @Benchmark
+    public ConfigNode toml() {
+        return this.tomlFactory.parse(this.toml);
+    }
+
+    @Benchmark
+    public ConfigNode hocon() {
+        return this.hoconFactory.parse(this.hocon);
+    }
+}
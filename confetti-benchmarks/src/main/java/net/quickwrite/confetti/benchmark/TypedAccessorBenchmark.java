@@ -0,0 +1,87 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.benchmark;
+
+import com.typesafe.config.ConfigFactory;
+import net.quickwrite.confetti.ArrayNode;
+import net.quickwrite.confetti.HoconObjectNode;
+import net.quickwrite.confetti.ObjectNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link java.util.Optional}-based lookup of values with the typed accessors
+ * of {@link ObjectNode} and {@link ArrayNode}.
+ *
+ * <p>
+ * Run with {@code -prof gc}: the typed accessors are expected to report a
+ * {@code gc.alloc.rate.norm} of (close to) {@code 0 B/op}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypedAccessorBenchmark {
+    private ObjectNode config;
+    private ArrayNode ports;
+
+    @Setup
+    public void setUp() {
+        this.config = new HoconObjectNode(ConfigFactory.parseString("""
+                port = 8080
+                ratio = 0.75
+                enabled = true
+                name = confetti
+                ports = [ 1000, 2000, 3000 ]
+                """).root());
+
+        this.ports = this.config.getNodeOrNull("ports").toArray();
+    }
+
+    @Benchmark
+    public long optionalLong() {
+        return this.config.get("port").orElseThrow().toValue().asLong();
+    }
+
+    @Benchmark
+    public long typedLong() {
+        return this.config.getLong("port", 0L);
+    }
+
+    @Benchmark
+    public long typedLongDefault() {
+        return this.config.getLong("missing", 0L);
+    }
+
+    @Benchmark
+    public double typedDouble() {
+        return this.config.getDouble("ratio", 0.0);
+    }
+
+    @Benchmark
+    public boolean typedBoolean() {
+        return this.config.getBoolean("enabled", false);
+    }
+
+    @Benchmark
+    public String typedString() {
+        return this.config.getString("name", null);
+    }
+
+    @Benchmark
+    public long indexedLong() {
+        return this.ports.getLong(1);
+    }
+
+    @Benchmark
+    public long nodeIndexedLong() {
+        return this.ports.get(1).toValue().asLong();
+    }
+}
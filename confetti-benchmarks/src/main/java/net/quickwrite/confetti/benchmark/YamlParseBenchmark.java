@@ -0,0 +1,82 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.benchmark;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.factory.HoconConfigFactory;
+import net.quickwrite.confetti.factory.YamlConfigFactory;
+import net.quickwrite.confetti.factory.YamlStreamReader;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the YAML and the HOCON factory on the same document, and
+ * the streaming of its largest list with the {@link YamlStreamReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class YamlParseBenchmark {
+    private static final NodePath SERVERS = NodePath.of(PathSegment.key("servers"));
+
+    @Param({"100", "10000"})
+    public int servers;
+
+    private String yaml;
+    private String hocon;
+
+    private final YamlConfigFactory yamlFactory = new YamlConfigFactory();
+    private final HoconConfigFactory hoconFactory = new HoconConfigFactory();
+
+    @Setup
+    public void setUp() {
+        final StringBuilder yaml = new StringBuilder("name: app\nservers:\n");
+        final StringBuilder hocon = new StringBuilder("name = app\nservers = [\n");
+
+        for (int i = 0; i < this.servers; ++i) {
+            yaml.append("  - host: host").append(i).append('\n')
+                    .append("    port: ").append(8000 + i).append('\n')
+                    .append("    secure: ").append(i % 2 == 0).append('\n')
+                    .append("    tags: [a, b, c]\n");
+            hocon.append("  { host = host").append(i)
+                    .append(", port = ").append(8000 + i)
+                    .append(", secure = ").append(i % 2 == 0)
+                    .append(", tags = [a, b, c] }\n");
+        }
+
+        hocon.append("]\n");
+
+        this.yaml = yaml.toString();
+        this.hocon = hocon.toString();
+    }
+
+    @Benchmark
+    public ConfigNode yaml() {
+        return this.yamlFactory.parse(this.yaml);
+    }
+
+    @Benchmark
+    public ConfigNode hocon() {
+        return this.hoconFactory.parse(this.hocon);
+    }
+
+    @Benchmark
+    public long yamlStreaming(final Blackhole blackhole) throws IOException {
+        try (YamlStreamReader reader = new YamlStreamReader(new StringReader(this.yaml))) {
+            return reader.forEachChild(SERVERS, (segment, node) -> blackhole.consume(node));
+        }
+    }
+}
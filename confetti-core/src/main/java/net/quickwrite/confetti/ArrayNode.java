@@ -8,6 +8,9 @@ package net.quickwrite.confetti;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A {@link ConfigNode} representing an ordered, index-based collection of nodes.
@@ -41,6 +44,139 @@ public non-sealed interface ArrayNode extends ConfigNode, Iterable<ConfigNode> {
      */
     int size();
 
+    /**
+     * Returns the element at the specified position interpreted as a long.
+     *
+     * <p>
+     * The typed accessors of this interface require the element to be a {@link ValueNode}
+     * and convert it with the corresponding {@code as...} method. Implementations may
+     * override them to read the value directly from their storage without creating
+     * intermediate nodes.
+     *
+     * @param index index of the element to return
+     * @return The element at the index as a long
+     * @throws IndexOutOfBoundsException if the index is negative or
+     *                                   greater than or equal to {@link #size()}
+     * @throws net.quickwrite.confetti.exception.InvalidNodeTypeException if the element is not a {@link ValueNode}
+     */
+    default long getLong(final int index) {
+        return this.get(index).toValue().asLong();
+    }
+
+    /**
+     * Returns the element at the specified position interpreted as a double.
+     *
+     * @param index index of the element to return
+     * @return The element at the index as a double
+     * @throws IndexOutOfBoundsException if the index is negative or
+     *                                   greater than or equal to {@link #size()}
+     * @throws net.quickwrite.confetti.exception.InvalidNodeTypeException if the element is not a {@link ValueNode}
+     * @see #getLong(int)
+     */
+    default double getDouble(final int index) {
+        return this.get(index).toValue().asDouble();
+    }
+
+    /**
+     * Returns the element at the specified position interpreted as a boolean.
+     *
+     * @param index index of the element to return
+     * @return The element at the index as a boolean
+     * @throws IndexOutOfBoundsException if the index is negative or
+     *                                   greater than or equal to {@link #size()}
+     * @throws net.quickwrite.confetti.exception.InvalidNodeTypeException if the element is not a {@link ValueNode}
+     * @see #getLong(int)
+     */
+    default boolean getBoolean(final int index) {
+        return this.get(index).toValue().asBoolean();
+    }
+
+    /**
+     * Returns the element at the specified position interpreted as a string.
+     *
+     * @param index index of the element to return
+     * @return The element at the index as a string
+     * @throws IndexOutOfBoundsException if the index is negative or
+     *                                   greater than or equal to {@link #size()}
+     * @throws net.quickwrite.confetti.exception.InvalidNodeTypeException if the element is not a {@link ValueNode}
+     * @see #getLong(int)
+     */
+    default String getString(final int index) {
+        return this.get(index).toValue().asString();
+    }
+
+    /**
+     * Copies every element of this array into a new {@code long} array.
+     *
+     * <p>
+     * The default implementation reads the elements with {@link #getLong(int)}. Implementations
+     * may override the bulk methods to fill the array in a single pass over their storage.
+     *
+     * @return a new array containing the elements of this array as longs
+     * @throws net.quickwrite.confetti.exception.InvalidNodeTypeException if an element is not a {@link ValueNode}
+     */
+    default long[] toLongArray() {
+        final long[] values = new long[this.size()];
+
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = this.getLong(i);
+        }
+
+        return values;
+    }
+
+    /**
+     * Copies every element of this array into a new {@code int} array.
+     *
+     * @return a new array containing the elements of this array as ints
+     * @throws net.quickwrite.confetti.exception.InvalidNodeTypeException if an element is not a {@link ValueNode}
+     * @throws ArithmeticException if an element does not fit into an {@code int}
+     * @see #toLongArray()
+     */
+    default int[] toIntArray() {
+        final int[] values = new int[this.size()];
+
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = Math.toIntExact(this.getLong(i));
+        }
+
+        return values;
+    }
+
+    /**
+     * Copies every element of this array into a new {@code double} array.
+     *
+     * @return a new array containing the elements of this array as doubles
+     * @throws net.quickwrite.confetti.exception.InvalidNodeTypeException if an element is not a {@link ValueNode}
+     * @see #toLongArray()
+     */
+    default double[] toDoubleArray() {
+        final double[] values = new double[this.size()];
+
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = this.getDouble(i);
+        }
+
+        return values;
+    }
+
+    /**
+     * Copies every element of this array into a new {@link String} array.
+     *
+     * @return a new array containing the elements of this array as strings
+     * @throws net.quickwrite.confetti.exception.InvalidNodeTypeException if an element is not a {@link ValueNode}
+     * @see #toLongArray()
+     */
+    default String[] toStringArray() {
+        final String[] values = new String[this.size()];
+
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = this.getString(i);
+        }
+
+        return values;
+    }
+
     /**
      * Returns an iterator over the elements in this array in proper sequence.
      *
@@ -68,6 +204,39 @@ public non-sealed interface ArrayNode extends ConfigNode, Iterable<ConfigNode> {
         };
     }
 
+    /**
+     * Creates a {@link Spliterator} over the elements of this array.
+     *
+     * <p>
+     * The default implementation accesses the elements with {@link #get(int)} and reports
+     * {@link Spliterator#ORDERED}, {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and
+     * {@link Spliterator#IMMUTABLE}. Splitting halves the remaining index range, so parallel
+     * streams over large arrays are distributed evenly.
+     *
+     * @return a {@link Spliterator} over the elements of this array
+     */
+    @Override
+    default Spliterator<ConfigNode> spliterator() {
+        return new IndexedSpliterator<>(
+                this::get,
+                0,
+                this.size(),
+                Spliterator.ORDERED | Spliterator.IMMUTABLE
+        );
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the elements of this array.
+     *
+     * <p>
+     * Use {@link Stream#parallel()} to process the elements in parallel.
+     *
+     * @return a {@link Stream} over the elements of this array
+     */
+    default Stream<ConfigNode> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
     /**
      * Converts the contents of this array node into a {@link List}.
      *
@@ -34,6 +34,13 @@ import java.util.Optional;
  * calling type-specific accessors such as {@link #toObject()} or
  * {@link #toArray()}. Calling an incompatible accessor may result in
  * a runtime exception.
+ *
+ * <h2>Equality</h2>
+ * Immutable implementations compare nodes structurally: two nodes are equal if they have
+ * the same type and content, independent of their {@link #path()}. Their hash codes are
+ * computed as defined by {@link NodeEquality} and cached, so equal subtrees of different
+ * implementations have the same hash code and unequal trees can usually be told apart
+ * without traversing them. Nodes can therefore be used as keys of hash-based collections.
  */
 public sealed interface ConfigNode permits AbstractConfigNode, ArrayNode, ObjectNode, ValueNode {
     /**
@@ -0,0 +1,55 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+/**
+ * A cursor over the entries of an {@link ObjectNode}.
+ *
+ * <p>
+ * In contrast to an {@link java.util.Iterator} of {@link java.util.Map.Entry Map.Entry} objects
+ * the cursor itself holds the current entry, so iterating an object does not create an entry
+ * object per key. The cursor starts <em>before</em> the first entry:
+ * {@snippet :
+ * final EntryCursor cursor = objectNode.entryCursor();
+ * while (cursor.next()) {
+ *     System.out.println(cursor.key() + " = " + cursor.value());
+ * }
+ * }
+ *
+ * <p>
+ * A cursor is not thread-safe and is meant to be used by a single loop.
+ *
+ * @see ObjectNode#entryCursor()
+ */
+public interface EntryCursor {
+    /**
+     * Moves the cursor to the next entry.
+     *
+     * @return {@code true} if the cursor points at an entry, {@code false} if all entries have been visited
+     */
+    boolean next();
+
+    /**
+     * Returns the key of the current entry.
+     *
+     * @return the key of the current entry
+     * @throws IllegalStateException if the cursor does not point at an entry
+     */
+    String key();
+
+    /**
+     * Returns the node of the current entry.
+     *
+     * <p>
+     * Implementations may create the node only when this method is called,
+     * so loops that only look at the keys do not pay for the nodes.
+     *
+     * @return the node of the current entry
+     * @throws IllegalStateException if the cursor does not point at an entry
+     */
+    ConfigNode value();
+}
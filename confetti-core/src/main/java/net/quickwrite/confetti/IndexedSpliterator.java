@@ -0,0 +1,107 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * {@link Spliterator} over a fixed range of indices whose elements are created by an accessor.
+ *
+ * <p>
+ * The range is split in the middle, so every split produces two halves of (nearly) the
+ * same size and the exact size of each half is always known. This lets parallel streams
+ * distribute large arrays evenly across the fork-join pool.
+ *
+ * <p>
+ * The accessor is only called for the indices that are actually traversed, so elements
+ * are still created lazily.
+ *
+ * @param <T> the type of the elements
+ */
+final class IndexedSpliterator<T> implements Spliterator<T> {
+    private final IntFunction<? extends T> accessor;
+    private final int characteristics;
+
+    private int index;
+    private final int fence;
+
+    /**
+     * Creates a spliterator over the indices {@code [origin, fence)}.
+     *
+     * @param accessor the function returning the element at an index
+     * @param origin the first index (inclusive)
+     * @param fence the last index (exclusive)
+     * @param characteristics the characteristics of the elements; {@link #SIZED} and
+     *                        {@link #SUBSIZED} are always added
+     */
+    IndexedSpliterator(final IntFunction<? extends T> accessor, final int origin, final int fence, final int characteristics) {
+        Objects.requireNonNull(accessor, "accessor cannot be null");
+
+        this.accessor = accessor;
+        this.index = origin;
+        this.fence = fence;
+        this.characteristics = characteristics | SIZED | SUBSIZED;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+
+        if (this.index >= this.fence) {
+            return false;
+        }
+
+        action.accept(this.accessor.apply(this.index++));
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+
+        final int fence = this.fence;
+        int index = this.index;
+        this.index = fence;
+
+        for (; index < fence; ++index) {
+            action.accept(this.accessor.apply(index));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Spliterator<T> trySplit() {
+        final int origin = this.index;
+        final int middle = (origin + this.fence) >>> 1;
+
+        if (origin >= middle) {
+            return null;
+        }
+
+        this.index = middle;
+
+        return new IndexedSpliterator<>(this.accessor, origin, middle, this.characteristics);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long estimateSize() {
+        return this.fence - this.index;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int characteristics() {
+        return this.characteristics;
+    }
+}
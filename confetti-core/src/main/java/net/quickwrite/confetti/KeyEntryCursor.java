@@ -0,0 +1,62 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import java.util.Iterator;
+
+/**
+ * {@link EntryCursor} that iterates the {@link ObjectNode#keys()} of an object and
+ * resolves the node of the current key with {@link ObjectNode#getNodeOrNull(String)}
+ * once it is requested.
+ */
+final class KeyEntryCursor implements EntryCursor {
+    private final ObjectNode objectNode;
+    private final Iterator<String> keys;
+
+    private String key;
+    private ConfigNode value;
+
+    KeyEntryCursor(final ObjectNode objectNode) {
+        this.objectNode = objectNode;
+        this.keys = objectNode.keys().iterator();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean next() {
+        this.value = null;
+
+        if (!this.keys.hasNext()) {
+            this.key = null;
+            return false;
+        }
+
+        this.key = this.keys.next();
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String key() {
+        if (this.key == null) {
+            throw new IllegalStateException("The cursor does not point at an entry");
+        }
+
+        return this.key;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConfigNode value() {
+        if (this.value == null) {
+            this.value = this.objectNode.getNodeOrNull(this.key());
+        }
+
+        return this.value;
+    }
+}
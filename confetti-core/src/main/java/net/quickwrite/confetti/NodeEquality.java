@@ -0,0 +1,284 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import net.quickwrite.confetti.visitor.ConfigVisitor;
+import net.quickwrite.confetti.visitor.ConfigWalker;
+import net.quickwrite.confetti.visitor.PathCursor;
+import net.quickwrite.confetti.visitor.VisitResult;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * Utility class that implements the structural equality contract of {@link ConfigNode}.
+ *
+ * <p>
+ * Two nodes are equal if they have the same {@link NodeType} and
+ * <ul>
+ *   <li>both are {@code null} nodes,</li>
+ *   <li>both are values of the same kind with the same value,</li>
+ *   <li>both are arrays with pairwise equal elements, or</li>
+ *   <li>both are objects with the same keys and equal values for every key.</li>
+ * </ul>
+ * The position of a node, its {@link ConfigNode#key()} and {@link ConfigNode#path()},
+ * is not part of its identity. The order of the keys of an object does not matter.
+ *
+ * <p>
+ * Values are compared by kind: strings, integral numbers ({@link Byte}, {@link Short},
+ * {@link Integer} and {@link Long}), other numbers as {@code double} and booleans. An
+ * integral number is never equal to a floating point number or a string, so {@code 1}
+ * differs from {@code 1.0} and {@code "1"}.
+ *
+ * <h2>Hash codes</h2>
+ * The hash code of a node is
+ * <ul>
+ *   <li>{@code 0} for {@code null} nodes,</li>
+ *   <li>{@link #valueHash(Object)} of {@link ValueNode#value()} for values,</li>
+ *   <li>{@code 31 * h + element.hashCode()} over all elements starting with {@code h = 1} for arrays and</li>
+ *   <li>the sum of {@link #entryHash(String, int)} over all entries for objects.</li>
+ * </ul>
+ * The formula is the same as the one of {@link net.quickwrite.confetti.tree.ConfigData}, so a node
+ * and its {@link net.quickwrite.confetti.tree.ConfigTree#copyOf(ConfigNode) immutable copy} have the
+ * same hash code.
+ *
+ * <p>
+ * Implementations are expected to cache the hash code, so {@link #equals(ConfigNode, ConfigNode)}
+ * usually rejects unequal trees in constant time.
+ *
+ * <hr>
+ *
+ * This class is intentionally non-instantiable and exposes only static
+ * utility methods.
+ */
+public final class NodeEquality {
+    private static final int STRING = 0;
+    private static final int LONG = 1;
+    private static final int DOUBLE = 2;
+    private static final int BOOLEAN = 3;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private NodeEquality() {}
+
+    /**
+     * Computes the structural hash code of the node.
+     *
+     * <p>
+     * The tree is traversed once without recursion, so the cost is linear in
+     * the size of the tree. Callers should cache the result.
+     *
+     * @param node the node
+     * @return the hash code
+     */
+    public static int hash(final ConfigNode node) {
+        Objects.requireNonNull(node, "node cannot be null");
+
+        return switch (node.type()) {
+            case NULL -> 0;
+            case VALUE -> valueHash(node.toValue().value());
+            case OBJECT, ARRAY -> {
+                final HashVisitor visitor = new HashVisitor();
+                ConfigWalker.sequential().walk(node, visitor);
+
+                yield visitor.result;
+            }
+        };
+    }
+
+    /**
+     * Checks if the two nodes are structurally equal.
+     *
+     * <p>
+     * The check returns immediately if the nodes are the same instance or their
+     * {@link Object#hashCode() hash codes} differ. Otherwise, the trees are compared
+     * without recursion, skipping pairs of identical subtrees.
+     *
+     * @param first  the first node
+     * @param second the second node
+     * @return {@code true} if the nodes are equal
+     */
+    public static boolean equals(final ConfigNode first, final ConfigNode second) {
+        if (first == second) {
+            return true;
+        }
+
+        if (first == null || second == null || first.type() != second.type() || first.hashCode() != second.hashCode()) {
+            return false;
+        }
+
+        final Deque<ConfigNode[]> pending = new ArrayDeque<>();
+        pending.push(new ConfigNode[] { first, second });
+
+        while (!pending.isEmpty()) {
+            final ConfigNode[] pair = pending.pop();
+            final ConfigNode left = pair[0];
+            final ConfigNode right = pair[1];
+
+            if (left == right) {
+                continue;
+            }
+
+            if (left.type() != right.type()) {
+                return false;
+            }
+
+            switch (left.type()) {
+                case NULL -> {}
+                case VALUE -> {
+                    if (!valueEquals(left.toValue().value(), right.toValue().value())) {
+                        return false;
+                    }
+                }
+                case ARRAY -> {
+                    final ArrayNode leftArray = left.toArray();
+                    final ArrayNode rightArray = right.toArray();
+                    final int size = leftArray.size();
+
+                    if (size != rightArray.size()) {
+                        return false;
+                    }
+
+                    for (int i = 0; i < size; ++i) {
+                        pending.push(new ConfigNode[] { leftArray.get(i), rightArray.get(i) });
+                    }
+                }
+                case OBJECT -> {
+                    final ObjectNode rightObject = right.toObject();
+
+                    if (left.toObject().keys().size() != rightObject.keys().size()) {
+                        return false;
+                    }
+
+                    final EntryCursor cursor = left.toObject().entryCursor();
+                    while (cursor.next()) {
+                        final ConfigNode other = rightObject.getNodeOrNull(cursor.key());
+
+                        if (other == null) {
+                            return false;
+                        }
+
+                        pending.push(new ConfigNode[] { cursor.value(), other });
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes the hash code of a scalar as returned by {@link ValueNode#value()}.
+     *
+     * @param value the non-null value
+     * @return the hash code
+     */
+    public static int valueHash(final Object value) {
+        return switch (value) {
+            case String string -> 31 * STRING + string.hashCode();
+            case Boolean bool -> 31 * BOOLEAN + (bool ? 1 : 0);
+            case Byte number -> 31 * LONG + Long.hashCode(number);
+            case Short number -> 31 * LONG + Long.hashCode(number);
+            case Integer number -> 31 * LONG + Long.hashCode(number);
+            case Long number -> 31 * LONG + Long.hashCode(number);
+            case Number number -> 31 * DOUBLE + Long.hashCode(Double.doubleToLongBits(number.doubleValue()));
+            default -> 31 * STRING + value.toString().hashCode();
+        };
+    }
+
+    /**
+     * Computes the contribution of a single entry to the hash code of an object.
+     *
+     * @param key       the key of the entry
+     * @param valueHash the hash code of the value of the entry
+     * @return the hash code of the entry
+     */
+    public static int entryHash(final String key, final int valueHash) {
+        // Spreads the bits (the finalizer of MurmurHash3), so swapped values do not cancel out
+        int hash = 31 * key.hashCode() + valueHash;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+
+        return hash;
+    }
+
+    private static boolean valueEquals(final Object first, final Object second) {
+        final int kind = kind(first);
+
+        if (kind != kind(second)) {
+            return false;
+        }
+
+        return switch (kind) {
+            case LONG -> ((Number) first).longValue() == ((Number) second).longValue();
+            case DOUBLE -> Double.doubleToLongBits(((Number) first).doubleValue())
+                    == Double.doubleToLongBits(((Number) second).doubleValue());
+            case BOOLEAN -> first.equals(second);
+            default -> first.toString().equals(second.toString());
+        };
+    }
+
+    private static int kind(final Object value) {
+        return switch (value) {
+            case Boolean ignored -> BOOLEAN;
+            case Byte ignored -> LONG;
+            case Short ignored -> LONG;
+            case Integer ignored -> LONG;
+            case Long ignored -> LONG;
+            case Number ignored -> DOUBLE;
+            default -> STRING;
+        };
+    }
+
+    /**
+     * Computes the hashes of all containers bottom-up; the hash of every open
+     * container is accumulated on a stack.
+     */
+    private static final class HashVisitor implements ConfigVisitor {
+        private int[] open = new int[16];
+        private int depth;
+        private int result;
+
+        @Override
+        public VisitResult enter(final ConfigNode node, final PathCursor path) {
+            if (node.isObject() || node.isArray()) {
+                if (this.depth == this.open.length) {
+                    this.open = Arrays.copyOf(this.open, 2 * this.depth);
+                }
+
+                this.open[this.depth++] = node.isObject() ? 0 : 1;
+            }
+
+            return VisitResult.CONTINUE;
+        }
+
+        @Override
+        public VisitResult leave(final ConfigNode node, final PathCursor path) {
+            final int hash = switch (node.type()) {
+                case OBJECT, ARRAY -> this.open[--this.depth];
+                case VALUE -> valueHash(node.toValue().value());
+                case NULL -> 0;
+            };
+
+            if (path.depth() == 0) {
+                this.result = hash;
+            } else if (path.isKey(path.depth() - 1)) {
+                this.open[this.depth - 1] += entryHash(path.key(path.depth() - 1), hash);
+            } else {
+                this.open[this.depth - 1] = 31 * this.open[this.depth - 1] + hash;
+            }
+
+            return VisitResult.CONTINUE;
+        }
+    }
+}
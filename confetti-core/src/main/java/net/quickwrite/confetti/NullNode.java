@@ -24,6 +24,9 @@ import net.quickwrite.confetti.path.PathSegment;
  *       that led to it, enabling accurate path reconstruction.
  *   </li>
  *   <li>
+ *       Equal to every other {@code null} node, independent of its position.
+ *   </li>
+ *   <li>
  *       Returned by APIs such as {@code getOrEmpty()} or {@code atOrEmpty()}
  *       to avoid {@code null} checks.
  *   </li>
@@ -55,4 +58,23 @@ public final class NullNode extends AbstractConfigNode {
     public NodeType type() {
         return NodeType.NULL;
     }
+
+    /**
+     * Checks if the other object is a {@code null} node.
+     *
+     * @param other the object to compare with
+     * @return {@code true} if the other object is a {@link ConfigNode} of type {@link NodeType#NULL}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof ConfigNode node && node.isNull();
+    }
+
+    /**
+     * Returns {@code 0}, the hash code of all {@code null} nodes.
+     */
+    @Override
+    public int hashCode() {
+        return 0;
+    }
 }
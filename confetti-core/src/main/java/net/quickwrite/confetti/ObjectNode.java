@@ -7,6 +7,9 @@
 package net.quickwrite.confetti;
 
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A {@link ConfigNode} representing a key–value mapping of named nodes.
@@ -32,6 +35,88 @@ public non-sealed interface ObjectNode extends ConfigNode {
      */
     Optional<ConfigNode> get(final String key);
 
+    /**
+     * Returns the value associated with the given key or {@code null} if the key is not present.
+     *
+     * <p>
+     * In contrast to {@link #get(String)} no {@link Optional} is created, so this method
+     * should be preferred in hot paths. The default implementation delegates to
+     * {@link #get(String)}; implementations are encouraged to override it and
+     * read directly from their storage.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the associated {@link ConfigNode} or {@code null} if the key is not present
+     */
+    default ConfigNode getNodeOrNull(final String key) {
+        return this.get(key).orElse(null);
+    }
+
+    /**
+     * Returns the value of the given key interpreted as a long.
+     *
+     * <p>
+     * The typed accessors of this interface return the provided default value if the key
+     * is not present or if it is associated with a {@link NullNode}. Any other node has to
+     * be a {@link ValueNode} and is converted with the corresponding {@code as...} method.
+     * Implementations may override these accessors to read the value directly from
+     * their storage without creating intermediate nodes.
+     *
+     * @param key the key whose associated value is to be returned
+     * @param defaultValue the value that is returned if there is no value for the key
+     * @return the value of the key or {@code defaultValue}
+     * @throws net.quickwrite.confetti.exception.InvalidNodeTypeException if the node is not a {@link ValueNode}
+     */
+    default long getLong(final String key, final long defaultValue) {
+        final ConfigNode node = this.getNodeOrNull(key);
+
+        return node == null || node.isNull() ? defaultValue : node.toValue().asLong();
+    }
+
+    /**
+     * Returns the value of the given key interpreted as a double.
+     *
+     * @param key the key whose associated value is to be returned
+     * @param defaultValue the value that is returned if there is no value for the key
+     * @return the value of the key or {@code defaultValue}
+     * @throws net.quickwrite.confetti.exception.InvalidNodeTypeException if the node is not a {@link ValueNode}
+     * @see #getLong(String, long)
+     */
+    default double getDouble(final String key, final double defaultValue) {
+        final ConfigNode node = this.getNodeOrNull(key);
+
+        return node == null || node.isNull() ? defaultValue : node.toValue().asDouble();
+    }
+
+    /**
+     * Returns the value of the given key interpreted as a boolean.
+     *
+     * @param key the key whose associated value is to be returned
+     * @param defaultValue the value that is returned if there is no value for the key
+     * @return the value of the key or {@code defaultValue}
+     * @throws net.quickwrite.confetti.exception.InvalidNodeTypeException if the node is not a {@link ValueNode}
+     * @see #getLong(String, long)
+     */
+    default boolean getBoolean(final String key, final boolean defaultValue) {
+        final ConfigNode node = this.getNodeOrNull(key);
+
+        return node == null || node.isNull() ? defaultValue : node.toValue().asBoolean();
+    }
+
+    /**
+     * Returns the value of the given key interpreted as a string.
+     *
+     * @param key the key whose associated value is to be returned
+     * @param defaultValue the value that is returned if there is no value for the key (may be {@code null})
+     * @return the value of the key or {@code defaultValue}
+     * @throws net.quickwrite.confetti.exception.InvalidNodeTypeException if the node is not a {@link ValueNode}
+     * @see #getLong(String, long)
+     */
+    default String getString(final String key, final String defaultValue) {
+        final ConfigNode node = this.getNodeOrNull(key);
+
+        return node == null || node.isNull() ? defaultValue : node.toValue().asString();
+    }
+
     /**
      * Returns the set of keys contained in this object.
      *
@@ -54,6 +139,80 @@ public non-sealed interface ObjectNode extends ConfigNode {
      */
     Collection<ConfigNode> values();
 
+    /**
+     * Performs the given action for every entry of this object.
+     *
+     * <p>
+     * The entries are visited in the order of {@link #keys()}. In contrast to iterating
+     * {@code toMap().entrySet()} no intermediate collections or entry objects are created.
+     * The default implementation resolves every key with {@link #getNodeOrNull(String)};
+     * implementations may override it to read their storage in a single pass.
+     *
+     * @param action the action that receives the key and the node of every entry
+     */
+    default void forEachEntry(final BiConsumer<? super String, ? super ConfigNode> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+
+        for (final String key : this.keys()) {
+            final ConfigNode node = this.getNodeOrNull(key);
+
+            if (node != null) {
+                action.accept(key, node);
+            }
+        }
+    }
+
+    /**
+     * Creates an {@link EntryCursor} over the entries of this object.
+     *
+     * <p>
+     * The cursor visits the entries in the order of {@link #keys()} and does not create an
+     * entry object per key. The default implementation resolves the node of the current key
+     * with {@link #getNodeOrNull(String)} once {@link EntryCursor#value()} is called.
+     *
+     * @return a new cursor positioned before the first entry
+     */
+    default EntryCursor entryCursor() {
+        return new KeyEntryCursor(this);
+    }
+
+    /**
+     * Creates a {@link Spliterator} over the entries of this object.
+     *
+     * <p>
+     * The default implementation takes a snapshot of the {@link #keys()} and resolves the
+     * values lazily with {@link #getNodeOrNull(String)} while the entries are traversed.
+     * It reports {@link Spliterator#DISTINCT}, {@link Spliterator#NONNULL},
+     * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#IMMUTABLE},
+     * and it splits evenly, so parallel streams over large objects are distributed
+     * across the fork-join pool.
+     *
+     * @return a {@link Spliterator} over the key–value pairs of this object
+     */
+    default Spliterator<Map.Entry<String, ConfigNode>> entrySpliterator() {
+        final String[] keys = this.keys().toArray(String[]::new);
+
+        return new IndexedSpliterator<>(
+                index -> new AbstractMap.SimpleImmutableEntry<>(keys[index], this.getNodeOrNull(keys[index])),
+                0,
+                keys.length,
+                Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE
+        );
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the entries of this object.
+     *
+     * <p>
+     * Use {@link Stream#parallel()} to process the entries in parallel.
+     *
+     * @return a {@link Stream} over the key–value pairs of this object
+     * @see #entrySpliterator()
+     */
+    default Stream<Map.Entry<String, ConfigNode>> stream() {
+        return StreamSupport.stream(this.entrySpliterator(), false);
+    }
+
     /**
      * Converts this object node into a {@link Map}.
      *
@@ -0,0 +1,73 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.event;
+
+import jdk.jfr.*;
+import net.quickwrite.confetti.migration.MigrationPlan;
+
+/**
+ * Flight recorder event for the migration of a configuration by a {@link MigrationPlan}.
+ *
+ * <p>
+ * The event is disabled by default. Migrations of a configuration that is already
+ * at the current version are not recorded.
+ */
+@Name(ConfigMigrationEvent.NAME)
+@Label("Config Migration")
+@Description("Migration of a configuration to its current version")
+@Category("Confetti")
+@Enabled(false)
+@StackTrace(false)
+public final class ConfigMigrationEvent extends Event {
+    /** The name of the event type. */
+    public static final String NAME = "net.quickwrite.confetti.Migration";
+
+    @Label("From Version")
+    int fromVersion;
+
+    @Label("To Version")
+    int toVersion;
+
+    @Label("Step Count")
+    int stepCount;
+
+    @Label("Failure")
+    @Description("The exception that stopped the migration")
+    String failure;
+
+    /**
+     * Creates an event for the versions and starts its timing.
+     *
+     * @param fromVersion The version of the configuration
+     * @param toVersion The version the configuration is migrated to
+     * @return The started event
+     */
+    public static ConfigMigrationEvent start(final int fromVersion, final int toVersion) {
+        final ConfigMigrationEvent event = new ConfigMigrationEvent();
+        event.fromVersion = fromVersion;
+        event.toVersion = toVersion;
+        event.begin();
+
+        return event;
+    }
+
+    /**
+     * Ends the timing and commits the event.
+     *
+     * @param stepCount The number of migration steps that were applied
+     * @param exception The exception thrown by a migrator or {@code null}
+     */
+    public void finish(final int stepCount, final RuntimeException exception) {
+        this.end();
+
+        if (this.shouldCommit()) {
+            this.stepCount = stepCount;
+            this.failure = exception == null ? null : EventSupport.describe(exception);
+            this.commit();
+        }
+    }
+}
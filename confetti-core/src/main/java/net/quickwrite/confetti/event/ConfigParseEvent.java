@@ -0,0 +1,144 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.event;
+
+import jdk.jfr.*;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.factory.ConfigFactory;
+import net.quickwrite.confetti.visitor.ConfigVisitor;
+import net.quickwrite.confetti.visitor.ConfigWalker;
+import net.quickwrite.confetti.visitor.PathCursor;
+import net.quickwrite.confetti.visitor.VisitResult;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Flight recorder event for the parsing of a configuration source by a {@link ConfigFactory}.
+ *
+ * <p>
+ * The event is disabled by default and can be enabled in a recording with
+ * {@snippet :
+ * recording.enable(ConfigParseEvent.NAME);
+ * }
+ * The byte size and the node count are only determined if the event is committed. Counting
+ * the nodes walks the parsed tree, which forces lazily converted trees to be converted, so
+ * factories of such trees supply the count themselves, see {@link ConfigFactory#countNodes(ConfigNode)}.
+ */
+@Name(ConfigParseEvent.NAME)
+@Label("Config Parse")
+@Description("Parsing of a configuration source")
+@Category("Confetti")
+@Enabled(false)
+@StackTrace(false)
+public final class ConfigParseEvent extends Event {
+    /** The name of the event type. */
+    public static final String NAME = "net.quickwrite.confetti.Parse";
+
+    @Label("Source")
+    @Description("The file, stream or string that was parsed")
+    String source;
+
+    @Label("Byte Size")
+    @Description("The size of the source or -1 if it is unknown")
+    @DataAmount
+    long byteSize;
+
+    @Label("Node Count")
+    @Description("The number of nodes of the parsed tree or -1 if the tree cannot be walked")
+    long nodeCount;
+
+    @Label("Failure")
+    @Description("The exception that stopped the parsing")
+    String failure;
+
+    /**
+     * Creates an event for the source and starts its timing.
+     *
+     * @param source A description of the source
+     * @return The started event
+     */
+    public static ConfigParseEvent start(final String source) {
+        final ConfigParseEvent event = new ConfigParseEvent();
+        event.source = source;
+        event.begin();
+
+        return event;
+    }
+
+    /**
+     * Ends the timing and commits the event for a successfully parsed tree.
+     *
+     * @param root The root of the parsed tree
+     * @param byteSize Supplies the size of the source if the event is committed
+     */
+    public void succeeded(final ConfigNode root, final LongSupplier byteSize) {
+        this.succeeded(byteSize, () -> countNodes(root));
+    }
+
+    /**
+     * Ends the timing and commits the event for a successfully parsed tree whose nodes
+     * are counted by the caller.
+     *
+     * @param byteSize Supplies the size of the source if the event is committed
+     * @param nodeCount Supplies the number of nodes or {@code -1} if the event is committed
+     */
+    public void succeeded(final LongSupplier byteSize, final LongSupplier nodeCount) {
+        this.end();
+
+        if (this.shouldCommit()) {
+            this.byteSize = byteSize.getAsLong();
+            this.nodeCount = nodeCount.getAsLong();
+            this.commit();
+        }
+    }
+
+    /**
+     * Ends the timing and commits the event for a parse that threw an exception.
+     *
+     * @param exception The exception that was thrown
+     * @param byteSize Supplies the size of the source if the event is committed
+     */
+    public void failed(final Exception exception, final LongSupplier byteSize) {
+        this.end();
+
+        if (this.shouldCommit()) {
+            this.byteSize = byteSize.getAsLong();
+            this.failure = EventSupport.describe(exception);
+            this.commit();
+        }
+    }
+
+    /**
+     * Counts the nodes of the tree by walking it.
+     *
+     * <p>
+     * Returns {@code -1} if a node cannot be created, for example because a lazily resolved
+     * substitution is missing. Such failures belong to the access of the node and must not
+     * fail the parse.
+     *
+     * @param root The root of the tree
+     * @return The number of nodes or {@code -1}
+     */
+    public static long countNodes(final ConfigNode root) {
+        final long[] count = new long[1];
+
+        try {
+            ConfigWalker.sequential().walk(root, new ConfigVisitor() {
+                @Override
+                public VisitResult enter(final ConfigNode node, final PathCursor path) {
+                    ++count[0];
+
+                    return VisitResult.CONTINUE;
+                }
+            });
+        } catch (final RuntimeException exception) {
+            return -1;
+        }
+
+        return count[0];
+    }
+}
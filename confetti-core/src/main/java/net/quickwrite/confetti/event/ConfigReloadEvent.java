@@ -0,0 +1,63 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.event;
+
+import jdk.jfr.*;
+import net.quickwrite.confetti.holder.ConfigHolder;
+
+/**
+ * Flight recorder event for the delivery of a new root of a {@link ConfigHolder}.
+ *
+ * <p>
+ * The event is disabled by default. Its duration covers the comparison of the previous
+ * and the new root and the calls of all notified listeners.
+ */
+@Name(ConfigReloadEvent.NAME)
+@Label("Config Reload")
+@Description("Delivery of a published configuration to its listeners")
+@Category("Confetti")
+@Enabled(false)
+@StackTrace(false)
+public final class ConfigReloadEvent extends Event {
+    /** The name of the event type. */
+    public static final String NAME = "net.quickwrite.confetti.Reload";
+
+    @Label("Notified Listeners")
+    int notifiedListeners;
+
+    @Label("Failed Listeners")
+    @Description("The number of listeners that threw an exception")
+    int failedListeners;
+
+    /**
+     * Creates an event and starts its timing.
+     *
+     * @return The started event
+     */
+    public static ConfigReloadEvent start() {
+        final ConfigReloadEvent event = new ConfigReloadEvent();
+        event.begin();
+
+        return event;
+    }
+
+    /**
+     * Ends the timing and commits the event.
+     *
+     * @param notifiedListeners The number of listeners that were called
+     * @param failedListeners The number of listeners that threw an exception
+     */
+    public void finish(final int notifiedListeners, final int failedListeners) {
+        this.end();
+
+        if (this.shouldCommit()) {
+            this.notifiedListeners = notifiedListeners;
+            this.failedListeners = failedListeners;
+            this.commit();
+        }
+    }
+}
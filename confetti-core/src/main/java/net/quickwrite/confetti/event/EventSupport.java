@@ -0,0 +1,33 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.event;
+
+/**
+ * Utility class with helpers shared by the flight recorder events.
+ *
+ * <hr>
+ *
+ * This class is intentionally non-instantiable and exposes only static
+ * utility methods.
+ */
+final class EventSupport {
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private EventSupport() {}
+
+    /**
+     * Describes an exception by its class and message.
+     */
+    static String describe(final Throwable exception) {
+        final String message = exception.getMessage();
+
+        return message == null
+                ? exception.getClass().getName()
+                : exception.getClass().getName() + ": " + message;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.event;
+
+import jdk.jfr.*;
+import net.quickwrite.confetti.resolver.TypeResolver;
+
+import java.lang.reflect.Type;
+
+/**
+ * Flight recorder event for the conversion of a node by a {@link TypeResolver}.
+ *
+ * <p>
+ * The event is disabled by default and is recorded by {@link TypeResolver#convert}.
+ */
+@Name(TypeConversionEvent.NAME)
+@Label("Config Type Conversion")
+@Description("Conversion of a configuration node into a Java value")
+@Category("Confetti")
+@Enabled(false)
+@StackTrace(false)
+public final class TypeConversionEvent extends Event {
+    /** The name of the event type. */
+    public static final String NAME = "net.quickwrite.confetti.TypeConversion";
+
+    @Label("Target Type")
+    String targetType;
+
+    @Label("Resolver")
+    Class<?> resolver;
+
+    @Label("Failure")
+    @Description("The exception that stopped the conversion")
+    String failure;
+
+    /**
+     * Creates an event and starts its timing.
+     *
+     * @return The started event
+     */
+    public static TypeConversionEvent start() {
+        final TypeConversionEvent event = new TypeConversionEvent();
+        event.begin();
+
+        return event;
+    }
+
+    /**
+     * Ends the timing and commits the event.
+     *
+     * @param resolver The resolver that converted the node
+     * @param type The requested type
+     * @param exception The exception thrown by the resolver or {@code null}
+     */
+    public void finish(final TypeResolver<?> resolver, final Type type, final Exception exception) {
+        this.end();
+
+        if (this.shouldCommit()) {
+            this.resolver = resolver.getClass();
+            this.targetType = type.getTypeName();
+            this.failure = exception == null ? null : EventSupport.describe(exception);
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.exception;
+
+/**
+ * Thrown to indicate that a substitution of a configuration cannot be resolved.
+ *
+ * <p>
+ * Formats that resolve substitutions like {@code ${server.host}} lazily throw this
+ * exception when a node is accessed whose substitution refers to a missing value
+ * or is part of a cycle, rather than while the configuration is parsed.
+ */
+public class ConfigResolveException extends RuntimeException {
+    /**
+     * Constructs a new exception with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public ConfigResolveException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new exception with the specified detail message and cause.
+     *
+     * @param message the detail message
+     * @param cause the cause or {@code null} if it is unknown
+     */
+    public ConfigResolveException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
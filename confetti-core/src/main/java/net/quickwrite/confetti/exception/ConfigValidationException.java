@@ -0,0 +1,55 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.exception;
+
+import net.quickwrite.confetti.schema.SchemaValidator;
+import net.quickwrite.confetti.schema.Violation;
+
+import java.util.List;
+
+/**
+ * Thrown when a configuration does not match its schema.
+ *
+ * <p>
+ * The exception carries every {@link Violation} that was found by the
+ * {@link SchemaValidator}, so all problems of a configuration can be reported at once.
+ */
+public class ConfigValidationException extends RuntimeException {
+    private final List<Violation> violations;
+
+    /**
+     * Create a ConfigValidationException with the violations of a configuration.
+     *
+     * @param violations non-empty list of the violations in document order
+     */
+    public ConfigValidationException(final List<Violation> violations) {
+        super(message(violations));
+
+        this.violations = List.copyOf(violations);
+    }
+
+    /**
+     * Returns the violations of the configuration.
+     *
+     * @return An immutable list of the violations in document order
+     */
+    public List<Violation> violations() {
+        return this.violations;
+    }
+
+    private static String message(final List<Violation> violations) {
+        final StringBuilder builder = new StringBuilder("The configuration has ")
+                .append(violations.size())
+                .append(violations.size() == 1 ? " violation:" : " violations:");
+
+        for (final Violation violation : violations) {
+            builder.append("\n - ").append(violation);
+        }
+
+        return builder.toString();
+    }
+}
@@ -7,6 +7,7 @@
 package net.quickwrite.confetti.factory;
 
 import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.event.ConfigParseEvent;
 import net.quickwrite.confetti.exception.ConfigParseException;
 
 import java.io.*;
@@ -23,6 +24,12 @@ import java.util.Objects;
  * Implementations must implement {@link #parse(Reader)} as the core parsing
  * entry point. Other parsing methods provide convenient overloads that delegate
  * to the reader-based method.
+ *
+ * <h2>Flight recording</h2>
+ * <p>
+ * The path, stream and string overloads record a {@link ConfigParseEvent}.
+ * Implementations that override them should record the event as well; direct
+ * calls of {@link #parse(Reader)} are not recorded.
  */
 public interface ConfigFactory {
     /**
@@ -52,8 +59,16 @@ public interface ConfigFactory {
     default ConfigNode parse(final Path path) throws IOException, ConfigParseException {
         Objects.requireNonNull(path, "The path cannot be null.");
 
+        final ConfigParseEvent event = ConfigParseEvent.start(path.toString());
+
         try (final Reader r = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
-            return parse(r);
+            final ConfigNode node = parse(r);
+            event.succeeded(() -> fileSize(path), () -> this.countNodes(node));
+
+            return node;
+        } catch (final IOException | RuntimeException exception) {
+            event.failed(exception, () -> fileSize(path));
+            throw exception;
         }
     }
 
@@ -74,8 +89,16 @@ public interface ConfigFactory {
         Objects.requireNonNull(in, "The InputStream cannot be null.");
         Objects.requireNonNull(charset, "The charset cannot be null.");
 
+        final ConfigParseEvent event = ConfigParseEvent.start("stream");
+
         try (final Reader r = new InputStreamReader(in, charset)) {
-            return parse(r);
+            final ConfigNode node = parse(r);
+            event.succeeded(() -> -1, () -> this.countNodes(node));
+
+            return node;
+        } catch (final IOException | RuntimeException exception) {
+            event.failed(exception, () -> -1);
+            throw exception;
         }
     }
 
@@ -95,12 +118,48 @@ public interface ConfigFactory {
     default ConfigNode parse(final String input) throws ConfigParseException {
         Objects.requireNonNull(input, "The input cannot be null.");
 
+        final ConfigParseEvent event = ConfigParseEvent.start("string");
+
         try (final Reader r = new StringReader(input)) {
             // StringReader.close() is a no-op, but keep try-with-resources for clarity.
-            return parse(r);
+            final ConfigNode node = parse(r);
+            event.succeeded(() -> input.getBytes(StandardCharsets.UTF_8).length, () -> this.countNodes(node));
+
+            return node;
         } catch (final IOException e) {
             // unlikely with StringReader; wrap as parse exception
-            throw new ConfigParseException("Unexpected I/O error while parsing string", e);
+            final ConfigParseException exception = new ConfigParseException("Unexpected I/O error while parsing string", e);
+            event.failed(exception, () -> input.getBytes(StandardCharsets.UTF_8).length);
+            throw exception;
+        } catch (final RuntimeException exception) {
+            event.failed(exception, () -> input.getBytes(StandardCharsets.UTF_8).length);
+            throw exception;
+        }
+    }
+
+    /**
+     * Counts the nodes of a parsed tree for the {@link ConfigParseEvent}. Only called if the
+     * event is committed.
+     *
+     * <p>
+     * The default implementation walks the tree. Factories that return lazily resolved
+     * trees override it so that recording the event does not resolve them.
+     *
+     * @param root the root returned by {@link #parse(Reader)}
+     * @return the number of nodes or {@code -1} if it is unknown
+     */
+    default long countNodes(final ConfigNode root) {
+        return ConfigParseEvent.countNodes(root);
+    }
+
+    /**
+     * Returns the size of the file or {@code -1} if it cannot be determined.
+     */
+    private static long fileSize(final Path path) {
+        try {
+            return Files.size(path);
+        } catch (final IOException exception) {
+            return -1;
         }
     }
 }
@@ -0,0 +1,34 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.footprint;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+
+/**
+ * The parts of a configuration tree that its heap footprint is broken down into.
+ */
+public enum FootprintCategory {
+    /** The node objects of {@link net.quickwrite.confetti.ObjectNode}s. */
+    OBJECT_NODES,
+    /** The node objects of {@link net.quickwrite.confetti.ArrayNode}s. */
+    ARRAY_NODES,
+    /** The node objects of {@link net.quickwrite.confetti.ValueNode}s. */
+    VALUE_NODES,
+    /** The node objects of {@code null} nodes. */
+    NULL_NODES,
+    /** Strings including their character arrays, for example keys and string values. */
+    STRINGS,
+    /** {@link NodePath}s and {@link PathSegment}s that are kept by the nodes. */
+    PATHS,
+    /**
+     * Everything else the {@link ConfigNode}s keep alive, for example the objects
+     * of the parser library or the immutable tree behind the nodes.
+     */
+    BACKEND
+}
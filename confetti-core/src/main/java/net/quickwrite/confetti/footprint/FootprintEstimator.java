@@ -0,0 +1,289 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.footprint;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.NodeType;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.visitor.ConfigVisitor;
+import net.quickwrite.confetti.visitor.ConfigWalker;
+import net.quickwrite.confetti.visitor.PathCursor;
+import net.quickwrite.confetti.visitor.VisitResult;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * Utility class that estimates the memory footprint of a {@link ConfigNode} tree.
+ *
+ * <p>
+ * The estimate follows the references of the tree through reflection, so it works for
+ * every backend and includes everything the nodes keep alive, for example the objects of
+ * the parser library. Every object is counted once, even if it is shared by several
+ * nodes. The sizes are computed from the object layout of the running JVM.
+ * {@snippet :
+ * final FootprintReport report = FootprintEstimator.estimate(factory.parse(path));
+ * System.out.println(report);
+ * }
+ *
+ * <h2>Accuracy</h2>
+ * The fields of classes in named modules that are not opened, for example the classes of
+ * the JDK, cannot be read. Their instances are estimated with models instead:
+ * <ul>
+ *   <li>strings by their length and whether they fit into Latin-1,</li>
+ *   <li>maps as hash tables with a load factor of {@code 0.75},</li>
+ *   <li>other collections as an array of references,</li>
+ *   <li>direct buffers by their capacity, which is reported as off-heap memory.</li>
+ * </ul>
+ * Padding between fields is not modeled. Enum constants and classes are shared by all
+ * trees and are not counted.
+ *
+ * <p>
+ * Nodes that refer to their parent keep the whole tree alive, so estimating a subtree
+ * of such a backend reports the whole tree.
+ *
+ * <hr>
+ *
+ * This class is intentionally non-instantiable and exposes only static
+ * utility methods.
+ */
+public final class FootprintEstimator {
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private FootprintEstimator() {}
+
+    /**
+     * Estimates the footprint of the tree.
+     *
+     * @param root The root of the tree
+     * @return The estimated footprint
+     */
+    public static FootprintReport estimate(final ConfigNode root) {
+        return estimate(root, ObjectLayout.CURRENT);
+    }
+
+    static FootprintReport estimate(final ConfigNode root, final ObjectLayout layout) {
+        Objects.requireNonNull(root, "root cannot be null");
+
+        // The heap is measured first, as walking the tree may create nodes that are cached
+        final Measurement measurement = new Measurement(layout);
+        measurement.measure(root);
+
+        return new FootprintReport(
+                measurement.heapBytes,
+                measurement.offHeapBytes,
+                measurement.bytes,
+                measurement.objects,
+                countNodes(root)
+        );
+    }
+
+    private static Map<NodeType, Long> countNodes(final ConfigNode root) {
+        final Map<NodeType, Long> counts = new EnumMap<>(NodeType.class);
+        for (final NodeType type : NodeType.values()) {
+            counts.put(type, 0L);
+        }
+
+        ConfigWalker.sequential().walk(root, new ConfigVisitor() {
+            @Override
+            public VisitResult enter(final ConfigNode node, final PathCursor path) {
+                counts.merge(node.type(), 1L, Long::sum);
+
+                return VisitResult.CONTINUE;
+            }
+        });
+
+        return counts;
+    }
+
+    /**
+     * Walks the object graph and sums the sizes per category.
+     */
+    private static final class Measurement {
+        private final ObjectLayout layout;
+        private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Deque<Pending> pending = new ArrayDeque<>();
+
+        private final Map<FootprintCategory, Long> bytes = new EnumMap<>(FootprintCategory.class);
+        private final Map<FootprintCategory, Long> objects = new EnumMap<>(FootprintCategory.class);
+        private long heapBytes;
+        private long offHeapBytes;
+
+        private Measurement(final ObjectLayout layout) {
+            this.layout = layout;
+
+            for (final FootprintCategory category : FootprintCategory.values()) {
+                this.bytes.put(category, 0L);
+                this.objects.put(category, 0L);
+            }
+        }
+
+        /**
+         * An object that is reachable but not measured yet, together with the category
+         * of the object that refers to it.
+         */
+        private record Pending(Object object, FootprintCategory owner) {}
+
+        private void measure(final Object root) {
+            this.push(root, FootprintCategory.BACKEND);
+
+            while (!this.pending.isEmpty()) {
+                final Pending next = this.pending.pop();
+                final FootprintCategory category = categorize(next.object, next.owner);
+
+                this.add(category, this.size(next.object, category));
+            }
+        }
+
+        private void push(final Object object, final FootprintCategory owner) {
+            if (object == null || object instanceof Enum<?> || object instanceof Class<?>
+                    || object instanceof ClassLoader || object instanceof Thread) {
+                return;
+            }
+
+            if (this.visited.add(object)) {
+                this.pending.push(new Pending(object, owner));
+            }
+        }
+
+        private void add(final FootprintCategory category, final long size) {
+            this.bytes.merge(category, size, Long::sum);
+            this.objects.merge(category, 1L, Long::sum);
+            this.heapBytes += size;
+        }
+
+        /**
+         * Returns the heap size of the object and schedules the objects it refers to.
+         */
+        private long size(final Object object, final FootprintCategory category) {
+            final Class<?> type = object.getClass();
+
+            if (type.isArray()) {
+                final int length = Array.getLength(object);
+
+                if (object instanceof Object[] elements) {
+                    for (final Object element : elements) {
+                        this.push(element, category);
+                    }
+                }
+
+                return this.layout.arraySize(type.getComponentType(), length);
+            }
+
+            if (object instanceof String string) {
+                final int length = string.length();
+
+                return this.layout.classLayout(String.class).shallowSize()
+                        + this.layout.arraySize(byte.class, isLatin1(string) ? length : 2 * length);
+            }
+
+            final ObjectLayout.ClassLayout classLayout = this.layout.classLayout(type);
+
+            if (classLayout.references() != null) {
+                for (final Field field : classLayout.references()) {
+                    this.push(read(field, object), category);
+                }
+
+                return classLayout.shallowSize();
+            }
+
+            return classLayout.shallowSize() + this.model(object, category);
+        }
+
+        /**
+         * Estimates the size of the internals of a JDK object and schedules
+         * the objects it refers to.
+         */
+        private long model(final Object object, final FootprintCategory category) {
+            switch (object) {
+                case ByteBuffer buffer -> {
+                    if (buffer.isDirect()) {
+                        this.offHeapBytes += buffer.capacity();
+                    } else if (buffer.hasArray()) {
+                        this.push(buffer.array(), category);
+                    } else {
+                        return this.layout.arraySize(byte.class, buffer.capacity());
+                    }
+
+                    return 0;
+                }
+                case Map<?, ?> map -> {
+                    for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                        this.push(entry.getKey(), category);
+                        this.push(entry.getValue(), category);
+                    }
+
+                    // A table of the next power of two and a node with hash, key, value and next per entry
+                    final int capacity = tableSize((int) Math.ceil(map.size() / 0.75));
+                    final long entrySize = this.layout.align(this.layout.headerSize + 4 + 3L * this.layout.referenceSize);
+
+                    return this.layout.arraySize(Object.class, capacity) + map.size() * entrySize;
+                }
+                case Collection<?> collection -> {
+                    for (final Object element : collection) {
+                        this.push(element, category);
+                    }
+
+                    return collection.isEmpty() ? 0 : this.layout.arraySize(Object.class, collection.size());
+                }
+                case Optional<?> optional -> {
+                    this.push(optional.orElse(null), category);
+
+                    return 0;
+                }
+                default -> {
+                    return 0;
+                }
+            }
+        }
+
+        private static FootprintCategory categorize(final Object object, final FootprintCategory owner) {
+            return switch (object) {
+                case ConfigNode node -> switch (node.type()) {
+                    case OBJECT -> FootprintCategory.OBJECT_NODES;
+                    case ARRAY -> FootprintCategory.ARRAY_NODES;
+                    case VALUE -> FootprintCategory.VALUE_NODES;
+                    case NULL -> FootprintCategory.NULL_NODES;
+                };
+                case String ignored -> FootprintCategory.STRINGS;
+                case NodePath ignored -> FootprintCategory.PATHS;
+                case PathSegment ignored -> FootprintCategory.PATHS;
+                // The internals of a path, like the list of its segments, belong to the path
+                default -> owner == FootprintCategory.PATHS ? FootprintCategory.PATHS : FootprintCategory.BACKEND;
+            };
+        }
+
+        /**
+         * Returns the smallest power of two that is at least the minimum capacity.
+         */
+        private static int tableSize(final int minimum) {
+            return minimum <= 1 ? minimum : Integer.highestOneBit(minimum - 1) << 1;
+        }
+
+        private static boolean isLatin1(final String string) {
+            for (int i = 0; i < string.length(); ++i) {
+                if (string.charAt(i) > 0xFF) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private static Object read(final Field field, final Object object) {
+            try {
+                return field.get(object);
+            } catch (final IllegalAccessException exception) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.footprint;
+
+import net.quickwrite.confetti.NodeType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The estimated memory footprint of a configuration tree.
+ *
+ * @param heapBytes     the estimated number of heap bytes of all objects reachable from the tree
+ * @param offHeapBytes  the capacity of the direct buffers reachable from the tree
+ * @param bytes         the heap bytes per category; every category is present
+ * @param objects       the number of objects per category; every category is present
+ * @param nodeCounts    the number of logical nodes of the tree per node type; every node type is present
+ */
+public record FootprintReport(
+        long heapBytes,
+        long offHeapBytes,
+        Map<FootprintCategory, Long> bytes,
+        Map<FootprintCategory, Long> objects,
+        Map<NodeType, Long> nodeCounts
+) {
+    /**
+     * Creates a report with unmodifiable copies of the maps.
+     */
+    public FootprintReport {
+        bytes = Collections.unmodifiableMap(new EnumMap<>(bytes));
+        objects = Collections.unmodifiableMap(new EnumMap<>(objects));
+        nodeCounts = Collections.unmodifiableMap(new EnumMap<>(nodeCounts));
+    }
+
+    /**
+     * Returns the total number of logical nodes of the tree.
+     *
+     * @return The number of nodes
+     */
+    public long nodeCount() {
+        long count = 0;
+        for (final long value : this.nodeCounts.values()) {
+            count += value;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the average number of heap bytes per logical node.
+     *
+     * @return The bytes per node or {@code 0} for a tree without nodes
+     */
+    public double bytesPerNode() {
+        final long count = this.nodeCount();
+
+        return count == 0 ? 0 : (double) this.heapBytes / count;
+    }
+
+    /**
+     * Formats the report as a table with one line per category.
+     *
+     * @return The formatted report
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "%-14s %14s %12s%n", "category", "bytes", "objects"));
+
+        for (final FootprintCategory category : FootprintCategory.values()) {
+            builder.append(String.format(Locale.ROOT, "%-14s %14d %12d%n",
+                    category.name().toLowerCase(Locale.ROOT), this.bytes.get(category), this.objects.get(category)));
+        }
+
+        builder.append(String.format(Locale.ROOT, "%-14s %14d%n", "heap", this.heapBytes));
+        builder.append(String.format(Locale.ROOT, "%-14s %14d%n", "off-heap", this.offHeapBytes));
+        builder.append(String.format(Locale.ROOT, "%-14s %14d (%.1f bytes per node)", "nodes", this.nodeCount(), this.bytesPerNode()));
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.footprint;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The sizes of object headers, references and fields of the running JVM.
+ *
+ * <p>
+ * The layout is read from the HotSpot options once. Other JVMs are assumed to use the
+ * HotSpot defaults for heaps below 32 GiB: compressed references and class pointers
+ * and an alignment of 8 bytes.
+ */
+final class ObjectLayout {
+    static final ObjectLayout CURRENT = detect();
+
+    final int headerSize;
+    final int arrayHeaderSize;
+    final int referenceSize;
+    final int alignment;
+
+    /** The shallow size and the readable reference fields of every class. */
+    private final ClassValue<ClassLayout> classes = new ClassValue<>() {
+        @Override
+        protected ClassLayout computeValue(final Class<?> type) {
+            return layout(type);
+        }
+    };
+
+    ObjectLayout(final boolean compressedReferences, final boolean compressedClassPointers, final int alignment) {
+        this.headerSize = compressedClassPointers ? 12 : 16;
+        this.arrayHeaderSize = compressedClassPointers ? 16 : 20;
+        this.referenceSize = compressedReferences ? 4 : 8;
+        this.alignment = alignment;
+    }
+
+    /**
+     * The size and the references of the instances of a class.
+     *
+     * @param shallowSize the size of an instance without the objects it refers to
+     * @param references  the reference fields, or {@code null} if the fields of the class cannot be read
+     */
+    record ClassLayout(long shallowSize, Field[] references) {}
+
+    ClassLayout classLayout(final Class<?> type) {
+        return this.classes.get(type);
+    }
+
+    long arraySize(final Class<?> componentType, final int length) {
+        final int elementSize = componentType.isPrimitive() ? primitiveSize(componentType) : this.referenceSize;
+
+        return this.align(this.arrayHeaderSize + (long) elementSize * length);
+    }
+
+    long align(final long size) {
+        return (size + this.alignment - 1) / this.alignment * this.alignment;
+    }
+
+    private ClassLayout layout(final Class<?> type) {
+        long size = this.headerSize;
+        final List<Field> references = new ArrayList<>();
+        boolean readable = true;
+
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+
+                if (field.getType().isPrimitive()) {
+                    size += primitiveSize(field.getType());
+                    continue;
+                }
+
+                size += this.referenceSize;
+
+                if (readable && field.trySetAccessible()) {
+                    references.add(field);
+                } else {
+                    readable = false;
+                }
+            }
+        }
+
+        return new ClassLayout(this.align(size), readable ? references.toArray(Field[]::new) : null);
+    }
+
+    private static int primitiveSize(final Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+
+        return 1;
+    }
+
+    private static ObjectLayout detect() {
+        try {
+            final HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+
+            return new ObjectLayout(
+                    Boolean.parseBoolean(hotSpot.getVMOption("UseCompressedOops").getValue()),
+                    Boolean.parseBoolean(hotSpot.getVMOption("UseCompressedClassPointers").getValue()),
+                    Integer.parseInt(hotSpot.getVMOption("ObjectAlignmentInBytes").getValue())
+            );
+        } catch (final RuntimeException | LinkageError exception) {
+            return new ObjectLayout(true, true, 8);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.holder;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.path.NodePath;
+
+/**
+ * Describes the change of the subtree a {@link ConfigChangeListener} subscribed to.
+ *
+ * @param path     The path the listener subscribed to
+ * @param previous The node at the path before the change or {@code null} if it did not exist
+ * @param current  The node at the path after the change or {@code null} if it was removed
+ */
+public record ConfigChange(NodePath path, ConfigNode previous, ConfigNode current) {
+    /**
+     * Checks if the node at the path was added by the change.
+     *
+     * @return {@code true} if there was no node before the change
+     */
+    public boolean isAdded() {
+        return this.previous == null;
+    }
+
+    /**
+     * Checks if the node at the path was removed by the change.
+     *
+     * @return {@code true} if there is no node after the change
+     */
+    public boolean isRemoved() {
+        return this.current == null;
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.holder;
+
+/**
+ * Receives the changes of a subtree of a {@link ConfigHolder}.
+ *
+ * <p>
+ * Listeners are called on the executor of the holder, never on the thread that
+ * published the change. The changes of a holder are delivered one at a time and in
+ * the order in which they were published.
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+    /**
+     * Called after the subtree the listener subscribed to has changed.
+     *
+     * @param change The change
+     */
+    void onChange(ConfigChange change);
+}
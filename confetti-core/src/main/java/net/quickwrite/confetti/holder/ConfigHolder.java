@@ -0,0 +1,256 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.holder;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.event.ConfigReloadEvent;
+import net.quickwrite.confetti.path.NodePath;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the current root of a configuration and notifies listeners when parts of it change.
+ *
+ * <p>
+ * Readers get the current snapshot with a single volatile read. Writers replace the root
+ * atomically; the previous snapshot stays valid for everyone who still uses it.
+ * {@snippet :
+ * final ConfigHolder holder = new ConfigHolder(initial);
+ *
+ * try (Subscription subscription = holder.subscribe(NodePath.of(PathSegment.key("database")),
+ *         change -> pool.reconfigure(change.current()))) {
+ *     holder.publish(reloaded);
+ * }
+ * }
+ *
+ * <h2>Notifications</h2>
+ * Listeners subscribe to a path and are notified when the subtree at that path changes,
+ * including when it is added or removed. The listeners are indexed by the segments of their
+ * paths. After a publish, only the branches of that index whose nodes differ between the
+ * previous and the new root are followed. Unchanged subtrees are recognized by
+ * {@link ConfigNode#equals(Object)}, so a reload that changes one key only wakes the listeners
+ * of that key and its parents.
+ *
+ * <p>
+ * The comparison and all listener calls run on the executor of the holder, never on the
+ * publishing thread. Changes are delivered one at a time in the order in which they were
+ * published. An exception thrown by a listener is passed to the uncaught exception handler
+ * of the executing thread and does not affect the other listeners. An {@link Error} ends the
+ * running dispatch instead; the changes that were still queued are delivered together with
+ * the next publish.
+ */
+public final class ConfigHolder {
+    /** Only written while holding {@link #writeLock}. */
+    private volatile ConfigNode root;
+
+    private final Executor executor;
+    private final ListenerTrie listeners = new ListenerTrie();
+
+    /**
+     * Orders the writers so that the changes are queued in the order of the swaps.
+     * Readers never take it.
+     */
+    private final Object writeLock = new Object();
+    /** Published changes that have not been dispatched yet; each entry holds the previous and the new root. */
+    private final Queue<ConfigNode[]> changes = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+
+    /**
+     * Creates a holder that notifies its listeners on the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param initial The initial root
+     */
+    public ConfigHolder(final ConfigNode initial) {
+        this(initial, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a holder that notifies its listeners on the executor.
+     *
+     * @param initial The initial root
+     * @param executor The executor that computes the changes and calls the listeners
+     */
+    public ConfigHolder(final ConfigNode initial, final Executor executor) {
+        Objects.requireNonNull(initial, "initial cannot be null");
+        Objects.requireNonNull(executor, "executor cannot be null");
+
+        this.root = initial;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the current root.
+     *
+     * @return The current root
+     */
+    public ConfigNode get() {
+        return this.root;
+    }
+
+    /**
+     * Replaces the root and schedules the notification of the listeners.
+     *
+     * @param root The new root
+     * @return The previous root
+     * @throws RejectedExecutionException if the executor rejects the notification; the root is
+     *                                    replaced anyway and the change is delivered with the next publish
+     */
+    public ConfigNode publish(final ConfigNode root) {
+        Objects.requireNonNull(root, "root cannot be null");
+
+        final ConfigNode previous;
+        synchronized (this.writeLock) {
+            previous = this.root;
+            this.root = root;
+            this.enqueue(previous, root);
+        }
+        this.startDispatch();
+
+        return previous;
+    }
+
+    /**
+     * Replaces the root if it is still the expected one.
+     *
+     * @param expected The root the new root is based on
+     * @param root The new root
+     * @return {@code true} if the root was replaced
+     * @throws RejectedExecutionException if the executor rejects the notification; the root is
+     *                                    replaced anyway and the change is delivered with the next publish
+     */
+    public boolean compareAndPublish(final ConfigNode expected, final ConfigNode root) {
+        Objects.requireNonNull(root, "root cannot be null");
+
+        synchronized (this.writeLock) {
+            if (this.root != expected) {
+                return false;
+            }
+
+            this.root = root;
+            this.enqueue(expected, root);
+        }
+        this.startDispatch();
+
+        return true;
+    }
+
+    /**
+     * Replaces the root with the result of the function. The function is retried
+     * if another writer published a root in the meantime, so it should be free of side effects.
+     *
+     * @param function The function that computes the new root from the current one
+     * @return The new root
+     */
+    public ConfigNode update(final UnaryOperator<ConfigNode> function) {
+        Objects.requireNonNull(function, "function cannot be null");
+
+        while (true) {
+            final ConfigNode current = this.root;
+            final ConfigNode updated = function.apply(current);
+
+            if (this.compareAndPublish(current, updated)) {
+                return updated;
+            }
+        }
+    }
+
+    /**
+     * Subscribes the listener to the changes of the subtree at the path.
+     *
+     * @param path The path of the subtree, the empty path subscribes to the whole configuration
+     * @param listener The listener
+     * @return The subscription that removes the listener again
+     */
+    public Subscription subscribe(final NodePath path, final ConfigChangeListener listener) {
+        Objects.requireNonNull(path, "path cannot be null");
+        Objects.requireNonNull(listener, "listener cannot be null");
+
+        return this.listeners.add(path, listener);
+    }
+
+    private void enqueue(final ConfigNode previous, final ConfigNode current) {
+        if (previous != current) {
+            this.changes.add(new ConfigNode[] { previous, current });
+        }
+    }
+
+    private void startDispatch() {
+        if (!this.changes.isEmpty() && this.dispatching.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(this::dispatch);
+            } catch (final RejectedExecutionException exception) {
+                // Otherwise no later publish could start a dispatch again
+                this.dispatching.set(false);
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Delivers all queued changes. Only a single dispatch runs at a time, which keeps
+     * the changes in order.
+     */
+    private void dispatch() {
+        try {
+            final List<ListenerTrie.Notification> notifications = new ArrayList<>();
+
+            ConfigNode[] change;
+            while ((change = this.changes.poll()) != null) {
+                final ConfigReloadEvent event = ConfigReloadEvent.start();
+                int notified = 0;
+                int failed = 0;
+
+                notifications.clear();
+                this.listeners.collect(change[0], change[1], notifications);
+
+                for (final ListenerTrie.Notification notification : notifications) {
+                    if (!notification.registration().isClosed()) {
+                        ++notified;
+
+                        if (!deliver(notification)) {
+                            ++failed;
+                        }
+                    }
+                }
+
+                event.finish(notified, failed);
+            }
+        } finally {
+            this.dispatching.set(false);
+        }
+
+        // A change may have been queued after the queue was drained but before the flag was reset
+        this.startDispatch();
+    }
+
+    /**
+     * Calls the listener of the notification.
+     *
+     * @return {@code false} if the listener threw an exception
+     */
+    private static boolean deliver(final ListenerTrie.Notification notification) {
+        try {
+            notification.registration().listener().onChange(notification.change());
+
+            return true;
+        } catch (final RuntimeException exception) {
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.holder;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A node of the trie of listeners of a {@link ConfigHolder}, indexed by the segments
+ * of the paths they subscribed to.
+ *
+ * <p>
+ * Every node has its own concurrent map of children and list of listeners, so
+ * subscriptions to different paths do not contend with each other.
+ */
+final class ListenerTrie {
+    private final Map<PathSegment, ListenerTrie> children = new ConcurrentHashMap<>();
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers the listener at the path.
+     *
+     * @return the subscription that removes the listener again
+     */
+    Registration add(final NodePath path, final ConfigChangeListener listener) {
+        ListenerTrie node = this;
+
+        for (final PathSegment segment : path) {
+            node = node.children.computeIfAbsent(segment, ignored -> new ListenerTrie());
+        }
+
+        final Registration registration = new Registration(node, listener);
+        node.registrations.add(registration);
+
+        return registration;
+    }
+
+    /**
+     * Collects the listeners of all paths whose subtree differs between the two roots.
+     *
+     * <p>
+     * A branch of the trie is only followed while the nodes at its path differ, so the cost
+     * depends on the number of subscribed paths that changed and not on the total number of
+     * listeners. Unchanged subtrees are detected with {@link ConfigNode#equals(Object)}, which
+     * is usually constant time for implementations with cached hash codes.
+     *
+     * @param previous the previous root
+     * @param current  the new root
+     * @param sink     receives the listeners and their changes
+     */
+    void collect(final ConfigNode previous, final ConfigNode current, final List<Notification> sink) {
+        final List<Pending> pending = new ArrayList<>();
+        pending.add(new Pending(this, NodePath.empty(), previous, current));
+
+        while (!pending.isEmpty()) {
+            final Pending next = pending.removeLast();
+
+            if (Objects.equals(next.previous, next.current)) {
+                continue;
+            }
+
+            if (!next.trie.registrations.isEmpty()) {
+                final ConfigChange change = new ConfigChange(next.path, next.previous, next.current);
+
+                for (final Registration registration : next.trie.registrations) {
+                    sink.add(new Notification(registration, change));
+                }
+            }
+
+            next.trie.children.forEach((segment, child) -> pending.add(new Pending(
+                    child,
+                    next.path.appendPathSegment(segment),
+                    child(next.previous, segment),
+                    child(next.current, segment)
+            )));
+        }
+    }
+
+    private static ConfigNode child(final ConfigNode node, final PathSegment segment) {
+        if (node == null) {
+            return null;
+        }
+
+        if (segment.isKey()) {
+            return node.isObject() ? node.toObject().getNodeOrNull(segment.key()) : null;
+        }
+
+        return node.isArray() && segment.index() < node.toArray().size() ? node.toArray().get(segment.index()) : null;
+    }
+
+    /**
+     * A listener that is registered at a node of the trie.
+     *
+     * <p>
+     * The trie nodes are kept when a subscription is closed, so a later subscription
+     * to the same path does not have to create them again.
+     */
+    static final class Registration implements Subscription {
+        private final ListenerTrie node;
+        private final ConfigChangeListener listener;
+        private volatile boolean closed;
+
+        private Registration(final ListenerTrie node, final ConfigChangeListener listener) {
+            this.node = node;
+            this.listener = listener;
+        }
+
+        ConfigChangeListener listener() {
+            return this.listener;
+        }
+
+        boolean isClosed() {
+            return this.closed;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            this.closed = true;
+            this.node.registrations.remove(this);
+        }
+    }
+
+    /**
+     * A registration together with the change it has to receive.
+     */
+    record Notification(Registration registration, ConfigChange change) {}
+
+    private record Pending(ListenerTrie trie, NodePath path, ConfigNode previous, ConfigNode current) {}
+}
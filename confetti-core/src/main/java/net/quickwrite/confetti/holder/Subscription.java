@@ -0,0 +1,19 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.holder;
+
+/**
+ * The registration of a {@link ConfigChangeListener} at a {@link ConfigHolder}.
+ */
+public interface Subscription extends AutoCloseable {
+    /**
+     * Removes the listener. It does not receive changes that are dispatched afterward.
+     * Closing a subscription more than once has no effect.
+     */
+    @Override
+    void close();
+}
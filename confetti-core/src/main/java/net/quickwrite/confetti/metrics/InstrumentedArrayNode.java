@@ -0,0 +1,204 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.metrics;
+
+import net.quickwrite.confetti.ArrayNode;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.ObjectNode;
+import net.quickwrite.confetti.ValueNode;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * An {@link ArrayNode} that updates the {@link NodeMetrics} of its elements.
+ *
+ * <p>
+ * The bulk conversions like {@link #toLongArray()} are delegated as they are and
+ * count as a single lookup of this array.
+ */
+final class InstrumentedArrayNode implements ArrayNode {
+    final ArrayNode delegate;
+    private final PathCounters counters;
+
+    InstrumentedArrayNode(final ArrayNode delegate, final PathCounters counters) {
+        this.delegate = delegate;
+        this.counters = counters;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConfigNode get(final int index) {
+        final PathCounters child = this.counters.child(index);
+        child.lookups.increment();
+
+        return NodeMetrics.wrap(this.delegate.get(index), child);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return this.delegate.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLong(final int index) {
+        final PathCounters child = this.lookup(index);
+
+        try {
+            return this.delegate.getLong(index);
+        } catch (final RuntimeException exception) {
+            child.failures.increment();
+            throw exception;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDouble(final int index) {
+        final PathCounters child = this.lookup(index);
+
+        try {
+            return this.delegate.getDouble(index);
+        } catch (final RuntimeException exception) {
+            child.failures.increment();
+            throw exception;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean getBoolean(final int index) {
+        final PathCounters child = this.lookup(index);
+
+        try {
+            return this.delegate.getBoolean(index);
+        } catch (final RuntimeException exception) {
+            child.failures.increment();
+            throw exception;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getString(final int index) {
+        final PathCounters child = this.lookup(index);
+
+        try {
+            return this.delegate.getString(index);
+        } catch (final RuntimeException exception) {
+            child.failures.increment();
+            throw exception;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long[] toLongArray() {
+        return this.bulk(this.delegate::toLongArray);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int[] toIntArray() {
+        return this.bulk(this.delegate::toIntArray);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] toDoubleArray() {
+        return this.bulk(this.delegate::toDoubleArray);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String[] toStringArray() {
+        return this.bulk(this.delegate::toStringArray);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ConfigNode> toList() {
+        final List<ConfigNode> delegateList = this.delegate.toList();
+        final List<ConfigNode> list = new ArrayList<>(delegateList.size());
+
+        for (int i = 0; i < delegateList.size(); ++i) {
+            list.add(NodeMetrics.wrap(delegateList.get(i), this.counters.child(i)));
+        }
+
+        return Collections.unmodifiableList(list);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ObjectNode toObject() {
+        this.counters.failures.increment();
+
+        return ArrayNode.super.toObject();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ValueNode toValue() {
+        this.counters.failures.increment();
+
+        return ArrayNode.super.toValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<PathSegment> key() {
+        return this.delegate.key();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodePath path() {
+        return this.delegate.path();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return this.delegate.hashCode();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || this.delegate.equals(NodeMetrics.unwrap(other));
+    }
+
+    @Override
+    public String toString() {
+        return this.delegate.toString();
+    }
+
+    private PathCounters lookup(final int index) {
+        final PathCounters child = this.counters.child(index);
+        child.lookups.increment();
+
+        return child;
+    }
+
+    private <T> T bulk(final Supplier<T> conversion) {
+        this.counters.lookups.increment();
+
+        try {
+            return conversion.get();
+        } catch (final RuntimeException exception) {
+            this.counters.failures.increment();
+            throw exception;
+        }
+    }
+}
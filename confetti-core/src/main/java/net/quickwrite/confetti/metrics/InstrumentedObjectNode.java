@@ -0,0 +1,264 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.metrics;
+
+import net.quickwrite.confetti.ArrayNode;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.ObjectNode;
+import net.quickwrite.confetti.ValueNode;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * An {@link ObjectNode} that updates the {@link NodeMetrics} of its entries.
+ */
+final class InstrumentedObjectNode implements ObjectNode {
+    final ObjectNode delegate;
+    private final PathCounters counters;
+
+    InstrumentedObjectNode(final ObjectNode delegate, final PathCounters counters) {
+        this.delegate = delegate;
+        this.counters = counters;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<ConfigNode> get(final String key) {
+        return Optional.ofNullable(this.getNodeOrNull(key));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConfigNode getNodeOrNull(final String key) {
+        if (key == null) {
+            return null;
+        }
+
+        final PathCounters child = this.counters.child(key);
+        child.lookups.increment();
+
+        return NodeMetrics.wrap(this.delegate.getNodeOrNull(key), child);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLong(final String key, final long defaultValue) {
+        if (key == null) {
+            return this.delegate.getLong(null, defaultValue);
+        }
+
+        final PathCounters child = this.lookup(key);
+
+        try {
+            return this.delegate.getLong(key, defaultValue);
+        } catch (final RuntimeException exception) {
+            child.failures.increment();
+            throw exception;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDouble(final String key, final double defaultValue) {
+        if (key == null) {
+            return this.delegate.getDouble(null, defaultValue);
+        }
+
+        final PathCounters child = this.lookup(key);
+
+        try {
+            return this.delegate.getDouble(key, defaultValue);
+        } catch (final RuntimeException exception) {
+            child.failures.increment();
+            throw exception;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean getBoolean(final String key, final boolean defaultValue) {
+        if (key == null) {
+            return this.delegate.getBoolean(null, defaultValue);
+        }
+
+        final PathCounters child = this.lookup(key);
+
+        try {
+            return this.delegate.getBoolean(key, defaultValue);
+        } catch (final RuntimeException exception) {
+            child.failures.increment();
+            throw exception;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getString(final String key, final String defaultValue) {
+        if (key == null) {
+            return this.delegate.getString(null, defaultValue);
+        }
+
+        final PathCounters child = this.lookup(key);
+
+        try {
+            return this.delegate.getString(key, defaultValue);
+        } catch (final RuntimeException exception) {
+            child.failures.increment();
+            throw exception;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<String> keys() {
+        return this.delegate.keys();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned collection is a lazy view that wraps every value while it is iterated.
+     */
+    @Override
+    public Collection<ConfigNode> values() {
+        return this.toMap().values();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEachEntry(final BiConsumer<? super String, ? super ConfigNode> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+
+        this.delegate.forEachEntry((key, value) -> action.accept(key, NodeMetrics.wrap(value, this.counters.child(key))));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned map is an unmodifiable, lazy view of the map of the decorated node. Its
+     * {@link Map#get(Object)} is counted like {@link #getNodeOrNull(String)}, and iterating
+     * it wraps every value on access.
+     */
+    @Override
+    public Map<String, ConfigNode> toMap() {
+        final Map<String, ConfigNode> map = this.delegate.toMap();
+
+        return new AbstractMap<>() {
+            @Override
+            public int size() {
+                return map.size();
+            }
+
+            @Override
+            public boolean containsKey(final Object key) {
+                return map.containsKey(key);
+            }
+
+            @Override
+            public ConfigNode get(final Object key) {
+                return key instanceof String string ? getNodeOrNull(string) : null;
+            }
+
+            @Override
+            public Set<String> keySet() {
+                return Collections.unmodifiableSet(map.keySet());
+            }
+
+            @Override
+            public Set<Entry<String, ConfigNode>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public int size() {
+                        return map.size();
+                    }
+
+                    @Override
+                    public Iterator<Entry<String, ConfigNode>> iterator() {
+                        final Iterator<Entry<String, ConfigNode>> entries = map.entrySet().iterator();
+
+                        return new Iterator<>() {
+                            @Override
+                            public boolean hasNext() {
+                                return entries.hasNext();
+                            }
+
+                            @Override
+                            public Entry<String, ConfigNode> next() {
+                                final Entry<String, ConfigNode> entry = entries.next();
+                                final ConfigNode value = NodeMetrics.wrap(entry.getValue(), counters.child(entry.getKey()));
+
+                                return new SimpleImmutableEntry<>(entry.getKey(), value);
+                            }
+                        };
+                    }
+                };
+            }
+
+            @Override
+            public void forEach(final BiConsumer<? super String, ? super ConfigNode> action) {
+                forEachEntry(action);
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ArrayNode toArray() {
+        this.counters.failures.increment();
+
+        return ObjectNode.super.toArray();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ValueNode toValue() {
+        this.counters.failures.increment();
+
+        return ObjectNode.super.toValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<PathSegment> key() {
+        return this.delegate.key();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodePath path() {
+        return this.delegate.path();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return this.delegate.hashCode();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || this.delegate.equals(NodeMetrics.unwrap(other));
+    }
+
+    @Override
+    public String toString() {
+        return this.delegate.toString();
+    }
+
+    private PathCounters lookup(final String key) {
+        final PathCounters child = this.counters.child(key);
+        child.lookups.increment();
+
+        return child;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.metrics;
+
+import net.quickwrite.confetti.ArrayNode;
+import net.quickwrite.confetti.ObjectNode;
+import net.quickwrite.confetti.ValueNode;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ValueNode} that counts its failed conversions in the {@link NodeMetrics}.
+ */
+final class InstrumentedValueNode implements ValueNode {
+    final ValueNode delegate;
+    private final PathCounters counters;
+
+    InstrumentedValueNode(final ValueNode delegate, final PathCounters counters) {
+        this.delegate = delegate;
+        this.counters = counters;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String asString() {
+        return this.convert(this.delegate::asString);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long asLong() {
+        try {
+            return this.delegate.asLong();
+        } catch (final RuntimeException exception) {
+            this.counters.failures.increment();
+            throw exception;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double asDouble() {
+        try {
+            return this.delegate.asDouble();
+        } catch (final RuntimeException exception) {
+            this.counters.failures.increment();
+            throw exception;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean asBoolean() {
+        try {
+            return this.delegate.asBoolean();
+        } catch (final RuntimeException exception) {
+            this.counters.failures.increment();
+            throw exception;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object value() {
+        return this.convert(this.delegate::value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ObjectNode toObject() {
+        this.counters.failures.increment();
+
+        return ValueNode.super.toObject();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ArrayNode toArray() {
+        this.counters.failures.increment();
+
+        return ValueNode.super.toArray();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<PathSegment> key() {
+        return this.delegate.key();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodePath path() {
+        return this.delegate.path();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return this.delegate.hashCode();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || this.delegate.equals(NodeMetrics.unwrap(other));
+    }
+
+    @Override
+    public String toString() {
+        return this.delegate.toString();
+    }
+
+    private <T> T convert(final Supplier<T> conversion) {
+        try {
+            return conversion.get();
+        } catch (final RuntimeException exception) {
+            this.counters.failures.increment();
+            throw exception;
+        }
+    }
+}
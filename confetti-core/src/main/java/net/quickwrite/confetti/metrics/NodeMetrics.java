@@ -0,0 +1,216 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.metrics;
+
+import net.quickwrite.confetti.ArrayNode;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.ObjectNode;
+import net.quickwrite.confetti.ValueNode;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Counts the lookups, created nodes and conversion failures of configuration trees per path.
+ *
+ * <p>
+ * {@link #instrument(ConfigNode)} decorates a tree. Every node handed out by the decorated
+ * tree is decorated as well and updates the counters of its path:
+ * <ul>
+ *   <li><b>lookups</b>: a child was requested by key or index, including the typed getters</li>
+ *   <li><b>wrappers</b>: a node was handed out, either by a lookup or by an iteration</li>
+ *   <li><b>failures</b>: a typed getter or a conversion like {@link ConfigNode#toObject()} threw</li>
+ * </ul>
+ * {@snippet :
+ * final NodeMetrics metrics = new NodeMetrics();
+ * final ConfigNode config = metrics.instrument(factory.parse(path));
+ *
+ * // ... run the application ...
+ *
+ * metrics.top(10, PathStatistics::lookups).forEach(System.out::println);
+ * }
+ *
+ * <h2>Overhead</h2>
+ * The counters are {@link java.util.concurrent.atomic.LongAdder}s in a trie along the segments
+ * of the paths, so concurrent lookups of the same path do not contend and a lookup does not
+ * create a path object. Every handed out node is still an additional wrapper, so the
+ * instrumentation is meant to find hot paths and not to stay enabled permanently.
+ *
+ * <h2>Management</h2>
+ * The metrics implement {@link NodeMetricsMXBean} and can be registered at an MBean server:
+ * {@snippet :
+ * ManagementFactory.getPlatformMBeanServer()
+ *         .registerMBean(metrics, new ObjectName("net.quickwrite.confetti:type=NodeMetrics"));
+ * }
+ */
+public final class NodeMetrics implements NodeMetricsMXBean {
+    private final PathCounters root = new PathCounters();
+
+    /**
+     * Decorates the tree so that it updates these metrics.
+     *
+     * <p>
+     * The root is counted at the empty path; trees that are instrumented with the same
+     * metrics share their counters.
+     *
+     * @param node The root of the tree
+     * @return The decorated root
+     */
+    public ConfigNode instrument(final ConfigNode node) {
+        Objects.requireNonNull(node, "node cannot be null");
+
+        return wrap(node, this.root);
+    }
+
+    /**
+     * Returns the counters of all paths that were used.
+     *
+     * @return The counters in no particular order
+     */
+    public List<PathStatistics> snapshot() {
+        final List<PathStatistics> result = new ArrayList<>();
+        this.forEachCounters(counters -> {
+            if (!counters.isUnused()) {
+                result.add(counters.snapshot());
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Returns the paths with the highest values of the metric.
+     *
+     * @param limit The maximum number of paths
+     * @param metric The metric, for example {@link PathStatistics#lookups()}
+     * @return The paths ordered from the highest value to the lowest, without paths whose value is zero
+     */
+    public List<PathStatistics> top(final int limit, final ToLongFunction<PathStatistics> metric) {
+        Objects.requireNonNull(metric, "metric cannot be null");
+
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit cannot be negative: " + limit);
+        }
+
+        final Comparator<PathStatistics> order = Comparator.comparingLong(metric);
+        final PriorityQueue<PathStatistics> best = new PriorityQueue<>(order);
+
+        for (final PathStatistics statistics : this.snapshot()) {
+            if (metric.applyAsLong(statistics) == 0) {
+                continue;
+            }
+
+            if (best.size() < limit) {
+                best.add(statistics);
+            } else if (limit > 0 && order.compare(statistics, best.peek()) > 0) {
+                best.poll();
+                best.add(statistics);
+            }
+        }
+
+        final List<PathStatistics> result = new ArrayList<>(best);
+        result.sort(order.reversed());
+
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getTrackedPathCount() {
+        final int[] count = new int[1];
+        this.forEachCounters(counters -> ++count[0]);
+
+        return count[0];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String[] topLookups(final int limit) {
+        return report(this.top(limit, PathStatistics::lookups));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String[] topWrappers(final int limit) {
+        return report(this.top(limit, PathStatistics::wrappers));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String[] topFailures(final int limit) {
+        return report(this.top(limit, PathStatistics::failures));
+    }
+
+    /**
+     * Sets all counters to zero. Nodes that were already handed out keep counting.
+     */
+    @Override
+    public void reset() {
+        this.forEachCounters(PathCounters::reset);
+    }
+
+    private void forEachCounters(final Consumer<PathCounters> action) {
+        final Deque<PathCounters> pending = new ArrayDeque<>();
+        pending.push(this.root);
+
+        while (!pending.isEmpty()) {
+            final PathCounters counters = pending.pop();
+            action.accept(counters);
+
+            for (final PathCounters child : counters.children()) {
+                pending.push(child);
+            }
+        }
+    }
+
+    private static String[] report(final List<PathStatistics> statistics) {
+        return statistics.stream().map(PathStatistics::toString).toArray(String[]::new);
+    }
+
+    /**
+     * Decorates the node and counts it as a handed out wrapper.
+     *
+     * <p>
+     * {@code null} and {@link net.quickwrite.confetti.NullNode null nodes} are returned as
+     * they are. Their lookup is already counted by the parent, and a null node has no getters
+     * whose use or failure could be counted, so a decorator would only add an allocation.
+     */
+    static ConfigNode wrap(final ConfigNode node, final PathCounters counters) {
+        if (node == null) {
+            return null;
+        }
+
+        return switch (node) {
+            case ObjectNode object -> {
+                counters.wrappers.increment();
+                yield new InstrumentedObjectNode(object, counters);
+            }
+            case ArrayNode array -> {
+                counters.wrappers.increment();
+                yield new InstrumentedArrayNode(array, counters);
+            }
+            case ValueNode value -> {
+                counters.wrappers.increment();
+                yield new InstrumentedValueNode(value, counters);
+            }
+            default -> node;
+        };
+    }
+
+    /**
+     * Returns the node behind a decorator or the object itself.
+     */
+    static Object unwrap(final Object node) {
+        return switch (node) {
+            case InstrumentedObjectNode object -> object.delegate;
+            case InstrumentedArrayNode array -> array.delegate;
+            case InstrumentedValueNode value -> value.delegate;
+            case null, default -> node;
+        };
+    }
+}
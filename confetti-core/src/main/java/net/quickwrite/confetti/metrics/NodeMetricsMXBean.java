@@ -0,0 +1,52 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.metrics;
+
+/**
+ * Management interface of {@link NodeMetrics}.
+ *
+ * <p>
+ * The reports describe every path on its own line in the format of
+ * {@link PathStatistics#toString()}, ordered from the highest count to the lowest.
+ */
+public interface NodeMetricsMXBean {
+    /**
+     * Returns the number of paths that have counters.
+     *
+     * @return The number of paths
+     */
+    int getTrackedPathCount();
+
+    /**
+     * Returns the paths with the most lookups.
+     *
+     * @param limit The maximum number of paths
+     * @return The report lines
+     */
+    String[] topLookups(int limit);
+
+    /**
+     * Returns the paths with the most created wrappers.
+     *
+     * @param limit The maximum number of paths
+     * @return The report lines
+     */
+    String[] topWrappers(int limit);
+
+    /**
+     * Returns the paths with the most conversion failures.
+     *
+     * @param limit The maximum number of paths
+     * @return The report lines
+     */
+    String[] topFailures(int limit);
+
+    /**
+     * Sets all counters to zero.
+     */
+    void reset();
+}
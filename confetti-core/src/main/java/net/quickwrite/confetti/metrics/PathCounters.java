@@ -0,0 +1,89 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.metrics;
+
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of a single path, arranged as a trie along the segments of the paths.
+ *
+ * <p>
+ * The children are keyed by the {@link String} key or the {@link Integer} index of
+ * their segment, so looking up the counters of a child does not create a path.
+ * The path of a node is only built when a snapshot is taken.
+ */
+final class PathCounters {
+    final LongAdder lookups = new LongAdder();
+    final LongAdder wrappers = new LongAdder();
+    final LongAdder failures = new LongAdder();
+
+    private final PathCounters parent;
+    /** The key or index of this node within its parent or {@code null} for the root. */
+    private final Object segment;
+    private final Map<Object, PathCounters> children = new ConcurrentHashMap<>();
+
+    PathCounters() {
+        this(null, null);
+    }
+
+    private PathCounters(final PathCounters parent, final Object segment) {
+        this.parent = parent;
+        this.segment = segment;
+    }
+
+    PathCounters child(final String key) {
+        final PathCounters child = this.children.get(key);
+
+        return child != null ? child : this.children.computeIfAbsent(key, ignored -> new PathCounters(this, key));
+    }
+
+    PathCounters child(final int index) {
+        final Integer boxed = index;
+        final PathCounters child = this.children.get(boxed);
+
+        return child != null ? child : this.children.computeIfAbsent(boxed, ignored -> new PathCounters(this, boxed));
+    }
+
+    Iterable<PathCounters> children() {
+        return this.children.values();
+    }
+
+    boolean isUnused() {
+        return this.lookups.sum() == 0 && this.wrappers.sum() == 0 && this.failures.sum() == 0;
+    }
+
+    void reset() {
+        this.lookups.reset();
+        this.wrappers.reset();
+        this.failures.reset();
+    }
+
+    NodePath path() {
+        int depth = 0;
+        for (PathCounters node = this; node.parent != null; node = node.parent) {
+            ++depth;
+        }
+
+        final PathSegment[] segments = new PathSegment[depth];
+        for (PathCounters node = this; node.parent != null; node = node.parent) {
+            segments[--depth] = node.segment instanceof Integer index
+                    ? PathSegment.index(index)
+                    : PathSegment.key((String) node.segment);
+        }
+
+        return NodePath.of(segments);
+    }
+
+    PathStatistics snapshot() {
+        return new PathStatistics(this.path(), this.lookups.sum(), this.wrappers.sum(), this.failures.sum());
+    }
+}
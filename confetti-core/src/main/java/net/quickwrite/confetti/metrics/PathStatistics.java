@@ -0,0 +1,24 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.metrics;
+
+import net.quickwrite.confetti.path.NodePath;
+
+/**
+ * The counters of a path at the time a snapshot was taken.
+ *
+ * @param path     the path of the nodes
+ * @param lookups  the number of times a node at the path was looked up by key or index
+ * @param wrappers the number of nodes at the path that were handed out by the instrumented tree
+ * @param failures the number of conversions of a node at the path that threw an exception
+ */
+public record PathStatistics(NodePath path, long lookups, long wrappers, long failures) {
+    @Override
+    public String toString() {
+        return this.path + " lookups=" + this.lookups + " wrappers=" + this.wrappers + " failures=" + this.failures;
+    }
+}
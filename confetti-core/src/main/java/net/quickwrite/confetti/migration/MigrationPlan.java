@@ -0,0 +1,221 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.migration;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.event.ConfigMigrationEvent;
+import net.quickwrite.confetti.path.NodePath;
+
+import java.util.*;
+
+/**
+ * An ordered chain of {@link MigrationStep}s that upgrades a configuration to
+ * its current version.
+ *
+ * <p>
+ * Plans are usually generated by the annotation processor from the
+ * {@code @ConfigMigration} declarations of a config, which also validates the
+ * version chain at compile time. The chain is validated again on construction:
+ * the steps have to be contiguous ({@code to} of one step is {@code from} of the
+ * next) and the last step has to end at the current version.
+ *
+ * <h2>Fused migrations</h2>
+ * <p>
+ * Consecutive {@link ScopedConfigMigrator}s are applied in a single pass: each
+ * touched subtree is looked up once, every migrator of the run is applied to it
+ * in version order, and the results are spliced into the configuration at once.
+ * Subtrees that are not touched are shared with the input. A run is split when a
+ * migrator touches a path that is nested inside (or contains) the path of another
+ * migrator of the run, as the order of those migrations matters.
+ * Unscoped {@link ConfigMigrator}s are applied to the whole configuration.
+ *
+ * {@snippet :
+ * ConfigNode config = MyAwesomeConfigMigrations.plan().migrate(loaded, storedVersion);
+ * }
+ */
+public final class MigrationPlan {
+    private final int currentVersion;
+    private final List<MigrationStep> steps;
+
+    /**
+     * Creates a new plan and validates the version chain.
+     *
+     * @param currentVersion The version that every migration ends at
+     * @param steps The steps of the plan in any order
+     * @throws IllegalArgumentException if the steps do not form a contiguous chain
+     *                                  to {@code currentVersion}
+     * @throws NullPointerException if {@code steps} is {@code null}
+     */
+    public MigrationPlan(final int currentVersion, final List<MigrationStep> steps) {
+        Objects.requireNonNull(steps, "steps cannot be null");
+
+        final List<MigrationStep> sorted = new ArrayList<>(steps);
+        sorted.sort(Comparator.comparingInt(MigrationStep::from));
+
+        for (int i = 1; i < sorted.size(); ++i) {
+            final MigrationStep previous = sorted.get(i - 1);
+            final MigrationStep current = sorted.get(i);
+
+            if (previous.to() != current.from()) {
+                throw new IllegalArgumentException(
+                        "The migration " + previous.from() + " -> " + previous.to() +
+                        " is not followed by a migration from version " + previous.to()
+                );
+            }
+        }
+
+        if (!sorted.isEmpty() && sorted.get(sorted.size() - 1).to() != currentVersion) {
+            throw new IllegalArgumentException(
+                    "The migrations end at version " + sorted.get(sorted.size() - 1).to() +
+                    " instead of the current version " + currentVersion
+            );
+        }
+
+        this.currentVersion = currentVersion;
+        this.steps = List.copyOf(sorted);
+    }
+
+    /**
+     * Returns the version that every migration ends at.
+     *
+     * @return The current version
+     */
+    public int currentVersion() {
+        return this.currentVersion;
+    }
+
+    /**
+     * Returns the steps of this plan ordered by their {@code from} version.
+     *
+     * @return An immutable list of the steps
+     */
+    public List<MigrationStep> steps() {
+        return this.steps;
+    }
+
+    /**
+     * Migrates the configuration from the given version to the {@link #currentVersion()}.
+     *
+     * <p>
+     * The caller must use the returned node, which may share subtrees with {@code config}.
+     *
+     * @param config The configuration that should be migrated
+     * @param version The version of the configuration
+     * @return The configuration in the current version
+     * @throws IllegalArgumentException if the version is newer than the current version
+     *                                  or no migration starts at the version
+     */
+    public ConfigNode migrate(final ConfigNode config, final int version) {
+        Objects.requireNonNull(config, "config cannot be null");
+
+        if (version == this.currentVersion) {
+            return config;
+        }
+
+        if (version > this.currentVersion) {
+            throw new IllegalArgumentException(
+                    "The version " + version + " is newer than the current version " + this.currentVersion
+            );
+        }
+
+        final int start = this.indexOf(version);
+        final ConfigMigrationEvent event = ConfigMigrationEvent.start(version, this.currentVersion);
+
+        try {
+            final ConfigNode migrated = this.migrateFrom(config, start);
+            event.finish(this.steps.size() - start, null);
+
+            return migrated;
+        } catch (final RuntimeException exception) {
+            event.finish(this.steps.size() - start, exception);
+            throw exception;
+        }
+    }
+
+    private ConfigNode migrateFrom(final ConfigNode config, final int start) {
+        int index = start;
+        ConfigNode current = config;
+
+        while (index < this.steps.size()) {
+            final MigrationStep step = this.steps.get(index);
+
+            if (!(step.migrator() instanceof ScopedConfigMigrator)) {
+                current = step.migrator().migrate(current);
+                ++index;
+
+                continue;
+            }
+
+            // Collect the longest run of scoped migrators that can be applied in a single pass
+            final Map<NodePath, List<ScopedConfigMigrator>> pass = new LinkedHashMap<>();
+            while (index < this.steps.size()
+                    && this.steps.get(index).migrator() instanceof ScopedConfigMigrator scoped
+                    && fitsIntoPass(pass.keySet(), scoped.path())) {
+                pass.computeIfAbsent(scoped.path(), path -> new ArrayList<>()).add(scoped);
+                ++index;
+            }
+
+            current = applyPass(current, pass);
+        }
+
+        return current;
+    }
+
+    private int indexOf(final int version) {
+        for (int i = 0; i < this.steps.size(); ++i) {
+            if (this.steps.get(i).from() == version) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException("There is no migration starting at version " + version);
+    }
+
+    private static ConfigNode applyPass(final ConfigNode config, final Map<NodePath, List<ScopedConfigMigrator>> pass) {
+        final Map<NodePath, ConfigNode> replacements = new LinkedHashMap<>();
+
+        for (final Map.Entry<NodePath, List<ScopedConfigMigrator>> entry : pass.entrySet()) {
+            ConfigNode node = NodeSplicer.find(config, entry.getKey());
+
+            if (node == null) {
+                continue;
+            }
+
+            for (final ScopedConfigMigrator migrator : entry.getValue()) {
+                node = NodeSplicer.migrate(migrator, node);
+            }
+
+            replacements.put(entry.getKey(), node);
+        }
+
+        return NodeSplicer.splice(config, replacements);
+    }
+
+    /**
+     * Checks if a migrator of the given path can join the current pass. This is the case
+     * if the path is already part of the pass or is independent of every other path.
+     */
+    private static boolean fitsIntoPass(final Set<NodePath> paths, final NodePath path) {
+        if (paths.contains(path)) {
+            return true;
+        }
+
+        for (final NodePath other : paths) {
+            if (isPrefix(other, path) || isPrefix(path, other)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isPrefix(final NodePath prefix, final NodePath path) {
+        final int length = prefix.segments().size();
+
+        return length <= path.segments().size() && path.segments().subList(0, length).equals(prefix.segments());
+    }
+}
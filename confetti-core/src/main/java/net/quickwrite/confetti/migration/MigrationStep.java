@@ -0,0 +1,33 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.migration;
+
+import java.util.Objects;
+
+/**
+ * A single step of a {@link MigrationPlan} that migrates a configuration
+ * from one version to a newer one.
+ *
+ * @param from The version that is being migrated from
+ * @param to The version that is being migrated to
+ * @param migrator The migrator performing the step
+ */
+public record MigrationStep(int from, int to, ConfigMigrator migrator) {
+    /**
+     * Constructs a new step and checks its values.
+     *
+     * @throws NullPointerException if {@code migrator} is {@code null}
+     * @throws IllegalArgumentException if {@code from >= to}
+     */
+    public MigrationStep {
+        Objects.requireNonNull(migrator, "migrator cannot be null");
+
+        if (from >= to) {
+            throw new IllegalArgumentException("The migration step must satisfy from < to but was " + from + " -> " + to);
+        }
+    }
+}
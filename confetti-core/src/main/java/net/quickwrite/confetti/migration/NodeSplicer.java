@@ -0,0 +1,337 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.migration;
+
+import net.quickwrite.confetti.*;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.util.*;
+
+/**
+ * Looks up and replaces subtrees of a configuration without copying it.
+ *
+ * <p>
+ * Replacing subtrees creates lightweight overlay nodes for every ancestor of a
+ * replaced subtree. All other nodes are shared with the original configuration.
+ *
+ * <hr>
+ *
+ * This class is intentionally non-instantiable and exposes only static
+ * utility methods.
+ */
+final class NodeSplicer {
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private NodeSplicer() {}
+
+    /**
+     * Returns the node at the given path.
+     *
+     * @param root The node the path starts at
+     * @param path The path relative to {@code root}
+     * @return The node at the path or {@code null} if there is no such node
+     */
+    static ConfigNode find(final ConfigNode root, final NodePath path) {
+        ConfigNode current = root;
+
+        for (final PathSegment segment : path) {
+            if (segment.isKey()) {
+                if (!current.isObject()) {
+                    return null;
+                }
+
+                current = current.toObject().get(segment.key()).orElse(null);
+            } else {
+                if (!current.isArray() || segment.index() < 0 || segment.index() >= current.toArray().size()) {
+                    return null;
+                }
+
+                current = current.toArray().get(segment.index());
+            }
+
+            if (current == null) {
+                return null;
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * Migrates the node at the path of the migrator.
+     *
+     * @param migrator The migrator
+     * @param node The node that is currently at {@link ScopedConfigMigrator#path()}
+     * @return The node that replaces the subtree
+     * @throws NullPointerException if the migrator returns {@code null}
+     */
+    static ConfigNode migrate(final ScopedConfigMigrator migrator, final ConfigNode node) {
+        final ConfigNode migrated = migrator.migrateNode(node);
+
+        if (migrated == null) {
+            throw new NullPointerException(
+                    "The migration " + migrator.getClass().getName() + " returned null for the node at " + migrator.path()
+            );
+        }
+
+        return migrated;
+    }
+
+    /**
+     * Replaces the nodes at the given paths.
+     *
+     * <p>
+     * Every path has to exist in {@code root} and no path may be nested inside
+     * another one.
+     *
+     * @param root The configuration
+     * @param replacements The new nodes keyed by the path relative to {@code root}
+     * @return The configuration with the replaced nodes
+     */
+    static ConfigNode splice(final ConfigNode root, final Map<NodePath, ConfigNode> replacements) {
+        if (replacements.isEmpty()) {
+            return root;
+        }
+
+        final Patch patch = new Patch();
+        for (final Map.Entry<NodePath, ConfigNode> entry : replacements.entrySet()) {
+            Patch current = patch;
+
+            for (final PathSegment segment : entry.getKey()) {
+                current = current.children.computeIfAbsent(segment, ignored -> new Patch());
+            }
+
+            current.replacement = entry.getValue();
+        }
+
+        return apply(root, null, null, patch);
+    }
+
+    private static ConfigNode apply(final ConfigNode node, final ConfigNode parent, final PathSegment key, final Patch patch) {
+        if (patch.replacement != null) {
+            return patch.replacement;
+        }
+
+        if (node.isObject()) {
+            final PatchedObjectNode patched = new PatchedObjectNode(node.toObject(), parent, key);
+
+            for (final Map.Entry<PathSegment, Patch> entry : patch.children.entrySet()) {
+                final String childKey = entry.getKey().key();
+                final ConfigNode child = node.toObject().get(childKey).orElseThrow();
+
+                patched.patches.put(childKey, apply(child, patched, entry.getKey(), entry.getValue()));
+            }
+
+            return patched;
+        }
+
+        final PatchedArrayNode patched = new PatchedArrayNode(node.toArray(), parent, key);
+
+        for (final Map.Entry<PathSegment, Patch> entry : patch.children.entrySet()) {
+            final int index = entry.getKey().index();
+
+            patched.patches.put(index, apply(node.toArray().get(index), patched, entry.getKey(), entry.getValue()));
+        }
+
+        return patched;
+    }
+
+    /** A trie of the replaced paths. */
+    private static final class Patch {
+        private final Map<PathSegment, Patch> children = new LinkedHashMap<>();
+        private ConfigNode replacement;
+    }
+
+    /**
+     * An {@link ObjectNode} that returns the original children except for the patched keys.
+     *
+     * <p>
+     * Without a parent the node takes the place of the original node, including its path.
+     */
+    private static final class PatchedObjectNode implements ObjectNode {
+        private final ObjectNode original;
+        private final ConfigNode parent;
+        private final PathSegment key;
+        private final Map<String, ConfigNode> patches = new HashMap<>();
+
+        /** The cached structural hash code or {@code 0} if it has not been computed yet. */
+        private int hash;
+
+        PatchedObjectNode(final ObjectNode original, final ConfigNode parent, final PathSegment key) {
+            this.original = original;
+            this.parent = parent;
+            this.key = key;
+        }
+
+        @Override
+        public Optional<PathSegment> key() {
+            return this.parent == null ? this.original.key() : Optional.of(this.key);
+        }
+
+        @Override
+        public NodePath path() {
+            return this.parent == null ? this.original.path() : this.parent.path().appendPathSegment(this.key);
+        }
+
+        @Override
+        public Optional<ConfigNode> get(final String key) {
+            final ConfigNode patched = this.patches.get(key);
+
+            return patched != null ? Optional.of(patched) : this.original.get(key);
+        }
+
+        @Override
+        public ConfigNode getNodeOrNull(final String key) {
+            final ConfigNode patched = this.patches.get(key);
+
+            return patched != null ? patched : this.original.getNodeOrNull(key);
+        }
+
+        @Override
+        public Set<String> keys() {
+            return this.original.keys();
+        }
+
+        @Override
+        public Collection<ConfigNode> values() {
+            final List<ConfigNode> values = new ArrayList<>();
+
+            for (final String key : this.keys()) {
+                values.add(this.get(key).orElseThrow());
+            }
+
+            return values;
+        }
+
+        @Override
+        public Map<String, ConfigNode> toMap() {
+            final Map<String, ConfigNode> map = new LinkedHashMap<>();
+
+            for (final String key : this.keys()) {
+                map.put(key, this.get(key).orElseThrow());
+            }
+
+            return Collections.unmodifiableMap(map);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>
+         * Nodes are compared structurally as defined by {@link NodeEquality}.
+         */
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>
+         * The structural hash code is computed on first use and cached.
+         */
+        @Override
+        public int hashCode() {
+            int hash = this.hash;
+
+            if (hash == 0) {
+                hash = NodeEquality.hash(this);
+                this.hash = hash;
+            }
+
+            return hash;
+        }
+    }
+
+    /**
+     * An {@link ArrayNode} that returns the original elements except for the patched indices.
+     */
+    private static final class PatchedArrayNode implements ArrayNode {
+        private final ArrayNode original;
+        private final ConfigNode parent;
+        private final PathSegment key;
+        private final Map<Integer, ConfigNode> patches = new HashMap<>();
+
+        /** The cached structural hash code or {@code 0} if it has not been computed yet. */
+        private int hash;
+
+        PatchedArrayNode(final ArrayNode original, final ConfigNode parent, final PathSegment key) {
+            this.original = original;
+            this.parent = parent;
+            this.key = key;
+        }
+
+        @Override
+        public Optional<PathSegment> key() {
+            return this.parent == null ? this.original.key() : Optional.of(this.key);
+        }
+
+        @Override
+        public NodePath path() {
+            return this.parent == null ? this.original.path() : this.parent.path().appendPathSegment(this.key);
+        }
+
+        @Override
+        public ConfigNode get(final int index) {
+            final ConfigNode patched = this.patches.get(index);
+
+            return patched != null ? patched : this.original.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.original.size();
+        }
+
+        @Override
+        public List<ConfigNode> toList() {
+            return new AbstractList<>() {
+                @Override
+                public ConfigNode get(final int index) {
+                    return PatchedArrayNode.this.get(index);
+                }
+
+                @Override
+                public int size() {
+                    return PatchedArrayNode.this.size();
+                }
+            };
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>
+         * Nodes are compared structurally as defined by {@link NodeEquality}.
+         */
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>
+         * The structural hash code is computed on first use and cached.
+         */
+        @Override
+        public int hashCode() {
+            int hash = this.hash;
+
+            if (hash == 0) {
+                hash = NodeEquality.hash(this);
+                this.hash = hash;
+            }
+
+            return hash;
+        }
+    }
+}
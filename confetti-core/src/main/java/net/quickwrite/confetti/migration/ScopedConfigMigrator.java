@@ -0,0 +1,80 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.migration;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.path.NodePath;
+
+import java.util.Map;
+
+/**
+ * A {@link ConfigMigrator} that declares the single subtree it touches.
+ *
+ * <p>
+ * Instead of rewriting the whole configuration, a scoped migrator only receives
+ * the node at {@link #path()} and returns its replacement. Everything outside of
+ * that subtree is guaranteed to be left untouched, which allows a
+ * {@link MigrationPlan} to apply several consecutive scoped migrators in a single
+ * pass over the configuration instead of one full rewrite per version.
+ *
+ * {@snippet :
+ * @ConfigMigration(target = MyAwesomeConfig.class, from = 1, to = 2)
+ * class RenameHostMigration implements ScopedConfigMigrator {
+ *     @Override
+ *     public NodePath path() {
+ *         return NodePath.of(PathSegment.key("server"));
+ *     }
+ *
+ *     @Override
+ *     public ConfigNode migrateNode(final ConfigNode server) {
+ *         // rename "host" to "address"
+ *     }
+ * }
+ * }
+ *
+ * <p>
+ * If the configuration does not contain a node at {@link #path()}, the migrator
+ * is not invoked and the configuration stays unchanged.
+ */
+public interface ScopedConfigMigrator extends ConfigMigrator {
+    /**
+     * Returns the path of the subtree that is read and replaced by this migrator.
+     *
+     * <p>
+     * The path has to be the same on every invocation.
+     *
+     * @return The absolute path of the migrated subtree
+     */
+    NodePath path();
+
+    /**
+     * Migrates the subtree at {@link #path()}.
+     *
+     * @param node The node that is currently at {@link #path()}
+     * @return The node that replaces the subtree; never {@code null}
+     */
+    ConfigNode migrateNode(final ConfigNode node);
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The default implementation migrates the subtree at {@link #path()} via
+     * {@link #migrateNode(ConfigNode)} and returns a configuration that shares
+     * every other subtree with {@code config}.
+     */
+    @Override
+    default ConfigNode migrate(final ConfigNode config) {
+        final ConfigNode node = NodeSplicer.find(config, this.path());
+
+        if (node == null) {
+            return config;
+        }
+
+        return NodeSplicer.splice(config, Map.of(this.path(), NodeSplicer.migrate(this, node)));
+    }
+}
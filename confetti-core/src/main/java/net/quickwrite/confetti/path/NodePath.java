@@ -42,6 +42,21 @@ public interface NodePath extends Iterable<PathSegment> {
         return SimpleNodePath.empty();
     }
 
+    /**
+     * Returns a {@link NodePath} consisting of the given segments in order.
+     *
+     * @param segments the non-null segments of the path
+     * @return a NodePath containing the segments
+     * @throws NullPointerException if {@code segments} or any segment is {@code null}
+     */
+    static NodePath of(final PathSegment... segments) {
+        if (segments.length == 0) {
+            return empty();
+        }
+
+        return new SimpleNodePath(List.of(segments));
+    }
+
     /**
      * Returns a new {@link NodePath} with the given segment appended to the end.
      * <p>
@@ -0,0 +1,363 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.query;
+
+import net.quickwrite.confetti.ArrayNode;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.EntryCursor;
+import net.quickwrite.confetti.ObjectNode;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A compiled query that selects the nodes of a configuration tree by their path.
+ *
+ * <p>
+ * A query is a sequence of segments separated by dots or written in brackets:
+ * <table>
+ *   <caption>Query syntax</caption>
+ *   <tr><th>Segment</th><th>Matches</th></tr>
+ *   <tr><td>{@code name}, {@code ["a.b"]}, {@code ."a.b"}</td><td>the key</td></tr>
+ *   <tr><td>{@code *}</td><td>any key of an object</td></tr>
+ *   <tr><td>{@code [2]}</td><td>the index of an array</td></tr>
+ *   <tr><td>{@code [1:3]}, {@code [2:]}, {@code [:5]}</td><td>the indices of the range; the end is exclusive</td></tr>
+ *   <tr><td>{@code [*]}</td><td>any index of an array</td></tr>
+ *   <tr><td>{@code **}</td><td>any number of keys and indices, including none</td></tr>
+ * </table>
+ * The empty query selects the root.
+ * {@snippet :
+ * final PathQuery ports = PathQuery.compile("servers[*].port");
+ * final PathQuery timeouts = PathQuery.compile("**.timeout");
+ *
+ * for (final ConfigNode port : ports.select(root)) {
+ *     System.out.println(port.path() + " = " + port.toValue().asLong());
+ * }
+ * }
+ *
+ * <h2>Evaluation</h2>
+ * The query is compiled once into a nondeterministic automaton whose states are the
+ * positions in the query. The set of active states is kept as a bit mask, so a single
+ * transition takes a few bit operations. The tree is evaluated in a single pass
+ * without recursion. Only children that keep at least one state active are
+ * visited, so subtrees that cannot contain a match are never read. Outside of a {@code **}
+ * step, a specific key is looked up directly and an index range only reads its own
+ * elements, instead of iterating all children of the container.
+ *
+ * <p>
+ * Matches are reported in document order. A node is reported once even if it is matched
+ * in more than one way. Queries are immutable and can be shared between threads.
+ */
+public final class PathQuery {
+    /** The maximum number of steps; the states of a query must fit into a {@code long}. */
+    private static final int MAX_STEPS = Long.SIZE - 1;
+
+    private final String expression;
+    private final Step[] steps;
+
+    /** The state in which all steps have been matched. */
+    private final long acceptMask;
+    /** The states of {@code **} steps. */
+    private final long descentMask;
+    /** The states of {@code *} steps. */
+    private final long anyKeyMask;
+    /** The states of {@code [*]} steps. */
+    private final long anyIndexMask;
+    /** The states of index range steps. */
+    private final long rangeMask;
+    /** The states of the steps that match each key. */
+    private final Map<String, Long> keyMasks;
+    /** The initial states. */
+    private final long initial;
+
+    private PathQuery(final String expression, final List<Step> steps) {
+        if (steps.size() > MAX_STEPS) {
+            throw new IllegalArgumentException("A query cannot have more than " + MAX_STEPS + " segments");
+        }
+
+        this.expression = expression;
+        this.steps = steps.toArray(new Step[0]);
+        this.acceptMask = 1L << this.steps.length;
+
+        long descent = 0;
+        long anyKey = 0;
+        long anyIndex = 0;
+        long range = 0;
+        final Map<String, Long> keys = new HashMap<>();
+
+        for (int i = 0; i < this.steps.length; ++i) {
+            final long bit = 1L << i;
+
+            switch (this.steps[i].kind()) {
+                case KEY -> keys.merge(this.steps[i].key(), bit, (first, second) -> first | second);
+                case ANY_KEY -> anyKey |= bit;
+                case INDEX_RANGE -> range |= bit;
+                case ANY_INDEX -> anyIndex |= bit;
+                case DESCENT -> descent |= bit;
+            }
+        }
+
+        this.descentMask = descent;
+        this.anyKeyMask = anyKey;
+        this.anyIndexMask = anyIndex;
+        this.rangeMask = range;
+        this.keyMasks = Map.copyOf(keys);
+        this.initial = this.closure(1L);
+    }
+
+    /**
+     * Compiles a query.
+     *
+     * @param expression The query expression
+     * @return The compiled query
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    public static PathQuery compile(final String expression) {
+        Objects.requireNonNull(expression, "expression cannot be null");
+
+        return new PathQuery(expression, QueryParser.parse(expression));
+    }
+
+    /**
+     * Checks if the query matches the path.
+     *
+     * @param path The path relative to the root the query is evaluated at
+     * @return {@code true} if the node at the path would be selected
+     */
+    public boolean matches(final NodePath path) {
+        Objects.requireNonNull(path, "path cannot be null");
+
+        long states = this.initial;
+        for (final PathSegment segment : path) {
+            states = segment.isKey() ? this.onKey(states, segment.key()) : this.onIndex(states, segment.index());
+
+            if (states == 0) {
+                return false;
+            }
+        }
+
+        return (states & this.acceptMask) != 0;
+    }
+
+    /**
+     * Performs the action for every selected node in document order.
+     *
+     * @param root The node the query is evaluated at
+     * @param action The action that receives the selected nodes
+     */
+    public void forEach(final ConfigNode root, final Consumer<? super ConfigNode> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+
+        this.evaluate(root, node -> {
+            action.accept(node);
+            return true;
+        });
+    }
+
+    /**
+     * Returns all selected nodes in document order.
+     *
+     * @param root The node the query is evaluated at
+     * @return The selected nodes
+     */
+    public List<ConfigNode> select(final ConfigNode root) {
+        final List<ConfigNode> result = new ArrayList<>();
+        this.evaluate(root, result::add);
+
+        return result;
+    }
+
+    /**
+     * Returns the first selected node in document order. The evaluation stops at the first match.
+     *
+     * @param root The node the query is evaluated at
+     * @return The first selected node or {@link Optional#empty()} if nothing matches
+     */
+    public Optional<ConfigNode> findFirst(final ConfigNode root) {
+        final ConfigNode[] first = new ConfigNode[1];
+        this.evaluate(root, node -> {
+            first[0] = node;
+            return false;
+        });
+
+        return Optional.ofNullable(first[0]);
+    }
+
+    /**
+     * Evaluates the query with an explicit stack of nodes and their active states.
+     *
+     * @param root The node the query is evaluated at
+     * @param sink Receives the matches; returns {@code false} to stop the evaluation
+     */
+    private void evaluate(final ConfigNode root, final Predicate<ConfigNode> sink) {
+        Objects.requireNonNull(root, "root cannot be null");
+
+        final Pending stack = new Pending();
+        final Pending children = new Pending();
+        stack.add(root, this.initial);
+
+        while (stack.size > 0) {
+            --stack.size;
+            final ConfigNode node = stack.nodes[stack.size];
+            final long active = stack.states[stack.size];
+            stack.nodes[stack.size] = null;
+
+            if ((active & this.acceptMask) != 0 && !sink.test(node)) {
+                return;
+            }
+
+            if ((active & ~this.acceptMask) == 0) {
+                continue;
+            }
+
+            children.size = 0;
+            if (node.isObject()) {
+                this.expandObject(node.toObject(), active, children);
+            } else if (node.isArray()) {
+                this.expandArray(node.toArray(), active, children);
+            }
+
+            // Reversed, so the first child is evaluated first
+            for (int i = children.size - 1; i >= 0; --i) {
+                stack.add(children.nodes[i], children.states[i]);
+                children.nodes[i] = null;
+            }
+        }
+    }
+
+    private void expandObject(final ObjectNode object, final long active, final Pending children) {
+        if ((active & (this.descentMask | this.anyKeyMask)) == 0) {
+            // Without an active ** step only a single step is active. If it expects a key,
+            // the key is looked up instead of iterating all keys.
+            final String key = this.steps[Long.numberOfTrailingZeros(active & ~this.acceptMask)].key();
+
+            if (key != null) {
+                final ConfigNode child = object.getNodeOrNull(key);
+
+                if (child != null) {
+                    children.add(child, this.onKey(active, key));
+                }
+            }
+
+            return;
+        }
+
+        final EntryCursor cursor = object.entryCursor();
+        while (cursor.next()) {
+            final long next = this.onKey(active, cursor.key());
+
+            if (next != 0) {
+                children.add(cursor.value(), next);
+            }
+        }
+    }
+
+    private void expandArray(final ArrayNode array, final long active, final Pending children) {
+        final int size = array.size();
+        int from = 0;
+        int to = size;
+
+        if ((active & (this.descentMask | this.anyIndexMask)) == 0) {
+            if ((active & this.rangeMask) == 0) {
+                return;
+            }
+
+            // Only the indices of the active range are visited
+            final Step step = this.steps[Long.numberOfTrailingZeros(active & this.rangeMask)];
+            from = Math.min(step.from(), size);
+            to = Math.min(step.to(), size);
+        }
+
+        for (int i = from; i < to; ++i) {
+            final long next = this.onIndex(active, i);
+
+            if (next != 0) {
+                children.add(array.get(i), next);
+            }
+        }
+    }
+
+    /**
+     * Moves the active states over a key segment.
+     */
+    private long onKey(final long active, final String key) {
+        final long matching = this.keyMasks.getOrDefault(key, 0L) | this.anyKeyMask;
+
+        return this.step(active, matching);
+    }
+
+    /**
+     * Moves the active states over an index segment.
+     */
+    private long onIndex(final long active, final int index) {
+        long matching = this.anyIndexMask;
+
+        for (long remaining = active & this.rangeMask; remaining != 0; remaining &= remaining - 1) {
+            final int state = Long.numberOfTrailingZeros(remaining);
+            final Step step = this.steps[state];
+
+            if (index >= step.from() && index < step.to()) {
+                matching |= 1L << state;
+            }
+        }
+
+        return this.step(active, matching);
+    }
+
+    private long step(final long active, final long matching) {
+        // A ** step stays active; every other matching step advances to the next state
+        return this.closure((active & this.descentMask) | ((active & matching & ~this.descentMask) << 1));
+    }
+
+    /**
+     * Adds the states that are reachable without consuming a segment: a {@code **} step
+     * may match no segment at all.
+     */
+    private long closure(long states) {
+        long previous;
+
+        do {
+            previous = states;
+            states |= (states & this.descentMask) << 1;
+        } while (states != previous);
+
+        return states;
+    }
+
+    /**
+     * A growable list of nodes and their active states.
+     */
+    private static final class Pending {
+        private ConfigNode[] nodes = new ConfigNode[16];
+        private long[] states = new long[16];
+        private int size;
+
+        private void add(final ConfigNode node, final long active) {
+            if (this.size == this.nodes.length) {
+                this.nodes = Arrays.copyOf(this.nodes, 2 * this.size);
+                this.states = Arrays.copyOf(this.states, 2 * this.size);
+            }
+
+            this.nodes[this.size] = node;
+            this.states[this.size] = active;
+            ++this.size;
+        }
+    }
+
+    /**
+     * Returns the expression of the query.
+     *
+     * @return The expression
+     */
+    @Override
+    public String toString() {
+        return this.expression;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the expression of a {@link PathQuery} into its {@link Step steps}.
+ */
+final class QueryParser {
+    private final String expression;
+    private int position;
+
+    private QueryParser(final String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Parses the expression.
+     *
+     * @param expression the query expression
+     * @return the steps of the query
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    static List<Step> parse(final String expression) {
+        return new QueryParser(expression).parse();
+    }
+
+    private List<Step> parse() {
+        final List<Step> steps = new ArrayList<>();
+
+        if (this.expression.isEmpty()) {
+            return steps;
+        }
+
+        if (this.peek() != '[') {
+            steps.add(this.member());
+        }
+
+        while (this.position < this.expression.length()) {
+            switch (this.peek()) {
+                case '.' -> {
+                    ++this.position;
+                    steps.add(this.member());
+                }
+                case '[' -> {
+                    ++this.position;
+                    steps.add(this.bracket());
+                    this.expect(']');
+                }
+                default -> throw this.error("Expected '.' or '['");
+            }
+        }
+
+        return steps;
+    }
+
+    /**
+     * Parses a segment after a dot: {@code **}, {@code *}, a quoted or a plain key.
+     */
+    private Step member() {
+        if (this.expression.startsWith("**", this.position)) {
+            this.position += 2;
+            return Step.of(Step.Kind.DESCENT);
+        }
+
+        if (this.position < this.expression.length() && this.peek() == '*') {
+            ++this.position;
+            return Step.of(Step.Kind.ANY_KEY);
+        }
+
+        if (this.position < this.expression.length() && this.peek() == '"') {
+            return Step.key(this.quoted());
+        }
+
+        final int start = this.position;
+        while (this.position < this.expression.length()) {
+            final char c = this.peek();
+
+            if (c == '.' || c == '[' || c == ']' || c == '*' || c == '"') {
+                break;
+            }
+
+            ++this.position;
+        }
+
+        if (start == this.position) {
+            throw this.error("Expected a key");
+        }
+
+        return Step.key(this.expression.substring(start, this.position));
+    }
+
+    /**
+     * Parses the content of brackets: {@code *}, a quoted key, an index or an index range.
+     */
+    private Step bracket() {
+        if (this.position < this.expression.length() && this.peek() == '*') {
+            ++this.position;
+            return Step.of(Step.Kind.ANY_INDEX);
+        }
+
+        if (this.position < this.expression.length() && this.peek() == '"') {
+            return Step.key(this.quoted());
+        }
+
+        final int start = this.position;
+        final int from = this.number(0);
+
+        if (this.position < this.expression.length() && this.peek() == ':') {
+            ++this.position;
+            final int to = this.number(Integer.MAX_VALUE);
+
+            if (to < from) {
+                throw this.error("The end of the range is before its start");
+            }
+
+            return Step.range(from, to);
+        }
+
+        if (start == this.position) {
+            throw this.error("Expected an index");
+        }
+
+        return Step.range(from, from + 1);
+    }
+
+    private int number(final int absent) {
+        final int start = this.position;
+        while (this.position < this.expression.length() && Character.isDigit(this.peek())) {
+            ++this.position;
+        }
+
+        if (start == this.position) {
+            return absent;
+        }
+
+        try {
+            return Integer.parseInt(this.expression, start, this.position, 10);
+        } catch (final NumberFormatException exception) {
+            throw this.error("The index is too large");
+        }
+    }
+
+    private String quoted() {
+        final StringBuilder builder = new StringBuilder();
+        ++this.position;
+
+        while (this.position < this.expression.length()) {
+            final char c = this.expression.charAt(this.position++);
+
+            if (c == '"') {
+                return builder.toString();
+            }
+
+            if (c == '\\' && this.position < this.expression.length()) {
+                builder.append(this.expression.charAt(this.position++));
+            } else {
+                builder.append(c);
+            }
+        }
+
+        throw this.error("Unterminated quoted key");
+    }
+
+    private void expect(final char expected) {
+        if (this.position >= this.expression.length() || this.peek() != expected) {
+            throw this.error("Expected '" + expected + "'");
+        }
+
+        ++this.position;
+    }
+
+    private char peek() {
+        return this.expression.charAt(this.position);
+    }
+
+    private IllegalArgumentException error(final String message) {
+        return new IllegalArgumentException(
+                message + " at position " + this.position + " of query '" + this.expression + "'"
+        );
+    }
+}
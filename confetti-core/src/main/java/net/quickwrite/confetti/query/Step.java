@@ -0,0 +1,45 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.query;
+
+/**
+ * A single step of a compiled {@link PathQuery}.
+ *
+ * @param kind The kind of the step
+ * @param key  The key of a {@link Kind#KEY} step, otherwise {@code null}
+ * @param from The first index of an {@link Kind#INDEX_RANGE} step (inclusive)
+ * @param to   The last index of an {@link Kind#INDEX_RANGE} step (exclusive)
+ */
+record Step(Kind kind, String key, int from, int to) {
+    /**
+     * The kind of a {@link Step}.
+     */
+    enum Kind {
+        /** Matches a single key. */
+        KEY,
+        /** Matches any key ({@code *}). */
+        ANY_KEY,
+        /** Matches an index within a range ({@code [1]}, {@code [1:3]}). */
+        INDEX_RANGE,
+        /** Matches any index ({@code [*]}). */
+        ANY_INDEX,
+        /** Matches any number of segments including none ({@code **}). */
+        DESCENT
+    }
+
+    static Step key(final String key) {
+        return new Step(Kind.KEY, key, 0, 0);
+    }
+
+    static Step range(final int from, final int to) {
+        return new Step(Kind.INDEX_RANGE, null, from, to);
+    }
+
+    static Step of(final Kind kind) {
+        return new Step(kind, null, 0, 0);
+    }
+}
@@ -7,6 +7,7 @@
 package net.quickwrite.confetti.resolver;
 
 import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.event.TypeConversionEvent;
 import net.quickwrite.confetti.exception.ConversionException;
 
 import java.lang.reflect.Type;
@@ -67,6 +68,33 @@ public interface TypeResolver<T> {
      */
     T fromNode(final ConfigNode node, final Type type) throws ConversionException;
 
+    /**
+     * Converts the node with {@link #fromNode(ConfigNode, Type)} and records a
+     * {@link TypeConversionEvent} for the flight recorder.
+     *
+     * <p>
+     * Callers should prefer this method over {@link #fromNode(ConfigNode, Type)}.
+     * Implementations should not override it.
+     *
+     * @param node non null configuration node to convert
+     * @param type non-null target type to produce; may include generic information
+     * @return an instance of {@code T} representing the node content
+     * @throws ConversionException when conversion cannot be performed
+     */
+    default T convert(final ConfigNode node, final Type type) throws ConversionException {
+        final TypeConversionEvent event = TypeConversionEvent.start();
+
+        try {
+            final T value = this.fromNode(node, type);
+            event.finish(this, type, null);
+
+            return value;
+        } catch (final ConversionException | RuntimeException exception) {
+            event.finish(this, type, exception);
+            throw exception;
+        }
+    }
+
     /**
      * Returns the concrete Java types this resolver supports.
      *
@@ -0,0 +1,71 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.schema;
+
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.util.Arrays;
+
+/**
+ * The mutable path of the node that is currently validated.
+ *
+ * <p>
+ * Keys and indices are kept in two parallel arrays, so pushing an index does not box it.
+ * A {@link NodePath} is only created for nodes with a violation.
+ */
+final class PathStack {
+    private String[] keys;
+    private int[] indices;
+    private int depth;
+
+    PathStack() {
+        this.keys = new String[16];
+        this.indices = new int[16];
+    }
+
+    /**
+     * Creates a copy of the stack for a task that validates a part of a container.
+     */
+    PathStack(final PathStack other) {
+        this.keys = Arrays.copyOf(other.keys, Math.max(16, other.keys.length));
+        this.indices = Arrays.copyOf(other.indices, this.keys.length);
+        this.depth = other.depth;
+    }
+
+    void pushKey(final String key) {
+        this.ensureCapacity();
+        this.keys[this.depth++] = key;
+    }
+
+    void pushIndex(final int index) {
+        this.ensureCapacity();
+        this.keys[this.depth] = null;
+        this.indices[this.depth++] = index;
+    }
+
+    void pop() {
+        this.keys[--this.depth] = null;
+    }
+
+    NodePath toNodePath() {
+        final PathSegment[] segments = new PathSegment[this.depth];
+
+        for (int i = 0; i < this.depth; ++i) {
+            segments[i] = this.keys[i] != null ? PathSegment.key(this.keys[i]) : PathSegment.index(this.indices[i]);
+        }
+
+        return NodePath.of(segments);
+    }
+
+    private void ensureCapacity() {
+        if (this.depth == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, 2 * this.depth);
+            this.indices = Arrays.copyOf(this.indices, 2 * this.depth);
+        }
+    }
+}
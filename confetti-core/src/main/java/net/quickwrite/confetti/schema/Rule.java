@@ -0,0 +1,53 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.schema;
+
+import java.util.Map;
+
+/**
+ * A schema compiled into a flat instruction of a validator program.
+ *
+ * <p>
+ * Rules refer to the rules of their children by their index in the program, so equal
+ * schemas are compiled into a single rule. Only the fields of the opcode are used.
+ */
+final class Rule {
+    static final int ANY = 0;
+    static final int STRING = 1;
+    static final int INTEGER = 2;
+    static final int NUMBER = 3;
+    static final int BOOLEAN = 4;
+    static final int ARRAY = 5;
+    static final int OBJECT = 6;
+
+    final int opcode;
+
+    /** The range of {@link #INTEGER}s. */
+    long minimumLong;
+    long maximumLong;
+
+    /** The range of {@link #NUMBER}s. */
+    double minimumDouble;
+    double maximumDouble;
+
+    /** The size range and the element rule of {@link #ARRAY}s. */
+    int minimumSize;
+    int maximumSize;
+    int element;
+
+    /** The keys of {@link #OBJECT}s in declaration order with their rules and whether they are required. */
+    String[] keys;
+    int[] rules;
+    boolean[] required;
+    /** The position of every key in {@link #keys}, only used by closed objects. */
+    Map<String, Integer> positions;
+    boolean closed;
+
+    Rule(final int opcode) {
+        this.opcode = opcode;
+    }
+}
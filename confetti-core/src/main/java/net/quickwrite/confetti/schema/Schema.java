@@ -0,0 +1,313 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.schema;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The expected shape of a configuration tree.
+ *
+ * <p>
+ * Schemas are immutable descriptions that are created with the static factories of this
+ * interface and compiled into a {@link SchemaValidator}:
+ * {@snippet :
+ * final ObjectSchema server = Schema.object()
+ *         .required("host", Schema.string())
+ *         .required("port", Schema.integer(1, 65535))
+ *         .optional("aliases", Schema.arrayOf(Schema.string()))
+ *         .build();
+ *
+ * final SchemaValidator validator = SchemaValidator.compile(server);
+ * }
+ * The annotation processor generates the schema of every {@code @ConfettiConfig} interface
+ * into a class with the suffix {@code Schema}.
+ */
+public sealed interface Schema {
+    /**
+     * Returns a schema that accepts every node.
+     *
+     * @return The schema
+     */
+    static Schema any() {
+        return AnySchema.INSTANCE;
+    }
+
+    /**
+     * Returns a schema that accepts string values.
+     *
+     * @return The schema
+     */
+    static Schema string() {
+        return StringSchema.INSTANCE;
+    }
+
+    /**
+     * Returns a schema that accepts integral values.
+     *
+     * @return The schema
+     */
+    static Schema integer() {
+        return integer(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns a schema that accepts integral values in the range.
+     *
+     * @param minimum The smallest accepted value
+     * @param maximum The largest accepted value
+     * @return The schema
+     */
+    static Schema integer(final long minimum, final long maximum) {
+        return new IntegerSchema(minimum, maximum);
+    }
+
+    /**
+     * Returns a schema that accepts all numeric values.
+     *
+     * @return The schema
+     */
+    static Schema number() {
+        return number(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Returns a schema that accepts numeric values in the range.
+     *
+     * @param minimum The smallest accepted value
+     * @param maximum The largest accepted value
+     * @return The schema
+     */
+    static Schema number(final double minimum, final double maximum) {
+        return new NumberSchema(minimum, maximum);
+    }
+
+    /**
+     * Returns a schema that accepts boolean values.
+     *
+     * @return The schema
+     */
+    static Schema bool() {
+        return BooleanSchema.INSTANCE;
+    }
+
+    /**
+     * Returns a schema that accepts arrays whose elements match the element schema.
+     *
+     * @param element The schema of every element
+     * @return The schema
+     */
+    static Schema arrayOf(final Schema element) {
+        return arrayOf(element, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a schema that accepts arrays of a size in the range whose
+     * elements match the element schema.
+     *
+     * @param element The schema of every element
+     * @param minimumSize The smallest accepted number of elements
+     * @param maximumSize The largest accepted number of elements
+     * @return The schema
+     */
+    static Schema arrayOf(final Schema element, final int minimumSize, final int maximumSize) {
+        return new ArraySchema(element, minimumSize, maximumSize);
+    }
+
+    /**
+     * Creates a builder for a schema of objects.
+     *
+     * @return The builder
+     */
+    static ObjectSchema.Builder object() {
+        return new ObjectSchema.Builder();
+    }
+
+    /**
+     * Accepts every node.
+     */
+    record AnySchema() implements Schema {
+        private static final AnySchema INSTANCE = new AnySchema();
+    }
+
+    /**
+     * Accepts string values.
+     */
+    record StringSchema() implements Schema {
+        private static final StringSchema INSTANCE = new StringSchema();
+    }
+
+    /**
+     * Accepts boolean values.
+     */
+    record BooleanSchema() implements Schema {
+        private static final BooleanSchema INSTANCE = new BooleanSchema();
+    }
+
+    /**
+     * Accepts integral values in a range.
+     *
+     * @param minimum The smallest accepted value
+     * @param maximum The largest accepted value
+     */
+    record IntegerSchema(long minimum, long maximum) implements Schema {
+        /**
+         * Checks that the range is not empty.
+         *
+         * @throws IllegalArgumentException if the minimum is greater than the maximum
+         */
+        public IntegerSchema {
+            if (minimum > maximum) {
+                throw new IllegalArgumentException("The minimum " + minimum + " is greater than the maximum " + maximum);
+            }
+        }
+    }
+
+    /**
+     * Accepts numeric values in a range.
+     *
+     * @param minimum The smallest accepted value
+     * @param maximum The largest accepted value
+     */
+    record NumberSchema(double minimum, double maximum) implements Schema {
+        /**
+         * Checks that the range is not empty.
+         *
+         * @throws IllegalArgumentException if the minimum is greater than the maximum or a bound is NaN
+         */
+        public NumberSchema {
+            if (!(minimum <= maximum)) {
+                throw new IllegalArgumentException("The range from " + minimum + " to " + maximum + " is empty");
+            }
+        }
+    }
+
+    /**
+     * Accepts arrays whose size is in a range and whose elements match a schema.
+     *
+     * @param element The schema of every element
+     * @param minimumSize The smallest accepted number of elements
+     * @param maximumSize The largest accepted number of elements
+     */
+    record ArraySchema(Schema element, int minimumSize, int maximumSize) implements Schema {
+        /**
+         * Checks the element schema and the size range.
+         *
+         * @throws NullPointerException if the element schema is {@code null}
+         * @throws IllegalArgumentException if the size range is empty or negative
+         */
+        public ArraySchema {
+            Objects.requireNonNull(element, "element cannot be null");
+
+            if (minimumSize < 0 || minimumSize > maximumSize) {
+                throw new IllegalArgumentException("The size range from " + minimumSize + " to " + maximumSize + " is invalid");
+            }
+        }
+    }
+
+    /**
+     * Accepts objects whose entries match the schemas of their keys.
+     *
+     * <p>
+     * A {@code null} node is treated like a missing key. Keys that are not part of the
+     * schema are accepted unless the schema is {@link #closed()}.
+     *
+     * @param properties The schemas of the keys in declaration order
+     * @param closed {@code true} if keys that are not part of the schema are rejected
+     */
+    record ObjectSchema(Map<String, Property> properties, boolean closed) implements Schema {
+        /**
+         * Creates a schema with an unmodifiable copy of the properties.
+         *
+         * @throws NullPointerException if the properties are {@code null}
+         */
+        public ObjectSchema {
+            properties = Collections.unmodifiableMap(new LinkedHashMap<>(properties));
+        }
+
+        /**
+         * The schema of a key of an object.
+         *
+         * @param schema The schema of the value
+         * @param required {@code true} if the key has to be present
+         */
+        public record Property(Schema schema, boolean required) {
+            /**
+             * Checks that the schema is not {@code null}.
+             *
+             * @throws NullPointerException if the schema is {@code null}
+             */
+            public Property {
+                Objects.requireNonNull(schema, "schema cannot be null");
+            }
+        }
+
+        /**
+         * Collects the properties of an {@link ObjectSchema}.
+         */
+        public static final class Builder {
+            private final Map<String, Property> properties = new LinkedHashMap<>();
+            private boolean closed;
+
+            private Builder() {}
+
+            /**
+             * Adds a key that has to be present.
+             *
+             * @param key The key
+             * @param schema The schema of the value
+             * @return This builder
+             */
+            public Builder required(final String key, final Schema schema) {
+                return this.property(key, new Property(schema, true));
+            }
+
+            /**
+             * Adds a key that may be missing.
+             *
+             * @param key The key
+             * @param schema The schema of the value if it is present
+             * @return This builder
+             */
+            public Builder optional(final String key, final Schema schema) {
+                return this.property(key, new Property(schema, false));
+            }
+
+            /**
+             * Rejects keys that are not part of the schema.
+             *
+             * @return This builder
+             */
+            public Builder closed() {
+                this.closed = true;
+
+                return this;
+            }
+
+            /**
+             * Creates the schema.
+             *
+             * @return The schema
+             */
+            public ObjectSchema build() {
+                return new ObjectSchema(this.properties, this.closed);
+            }
+
+            private Builder property(final String key, final Property property) {
+                Objects.requireNonNull(key, "key cannot be null");
+
+                if (this.properties.putIfAbsent(key, property) != null) {
+                    throw new IllegalArgumentException("The key '" + key + "' is already part of the schema");
+                }
+
+                return this;
+            }
+        }
+    }
+}
@@ -0,0 +1,451 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.schema;
+
+import net.quickwrite.confetti.ArrayNode;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.NodeType;
+import net.quickwrite.confetti.ObjectNode;
+import net.quickwrite.confetti.exception.ConfigValidationException;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Validates configuration trees against a {@link Schema}.
+ *
+ * <p>
+ * {@link #compile(Schema)} translates the schema once into a flat program of rules: the keys
+ * of every object are resolved into arrays, required keys are counted and equal schemas share
+ * a single rule. Validating a tree then runs the program in a single traversal that only
+ * visits the nodes the schema describes and collects every violation with its path.
+ * {@snippet :
+ * final SchemaValidator validator = SchemaValidator.compile(AppConfigSchema.SCHEMA);
+ *
+ * for (final Violation violation : validator.validate(config)) {
+ *     System.err.println(violation);
+ * }
+ * }
+ *
+ * <h2>Parallelism</h2>
+ * The elements of arrays with at least {@link #DEFAULT_THRESHOLD} elements are split into
+ * ranges that are validated in the {@linkplain ForkJoinPool#commonPool() common pool}.
+ * The violations are reported in document order nevertheless. {@link #sequential()} and
+ * {@link #parallel(ForkJoinPool, int)} return validators with the same program and a
+ * different strategy.
+ *
+ * <p>
+ * Validators are immutable and can be shared between threads. The traversal recurses along
+ * the schema, so its depth is bounded by the depth of the schema and not by the depth of the tree.
+ */
+public final class SchemaValidator {
+    /** The default minimum number of elements of an array that is validated in parallel. */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    private final Rule[] program;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    private SchemaValidator(final Rule[] program, final ForkJoinPool pool, final int threshold) {
+        this.program = program;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Compiles the schema into a validator that validates large arrays in the common pool.
+     *
+     * @param schema The schema of the root node
+     * @return The validator
+     */
+    public static SchemaValidator compile(final Schema schema) {
+        Objects.requireNonNull(schema, "schema cannot be null");
+
+        return new SchemaValidator(new Compiler().compile(schema), ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Returns a validator with the same program that validates every node on the calling thread.
+     *
+     * @return The sequential validator
+     */
+    public SchemaValidator sequential() {
+        return new SchemaValidator(this.program, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a validator with the same program that splits arrays with at least
+     * {@code threshold} elements into tasks of the given pool.
+     *
+     * @param pool The pool that runs the tasks
+     * @param threshold The minimum number of elements of an array that is validated in parallel
+     * @return The parallel validator
+     * @throws IllegalArgumentException if the threshold is smaller than {@code 2}
+     */
+    public SchemaValidator parallel(final ForkJoinPool pool, final int threshold) {
+        Objects.requireNonNull(pool, "pool cannot be null");
+
+        if (threshold < 2) {
+            throw new IllegalArgumentException("The threshold has to be at least 2 but was " + threshold);
+        }
+
+        return new SchemaValidator(this.program, pool, threshold);
+    }
+
+    /**
+     * Validates the tree.
+     *
+     * @param root The root of the tree
+     * @return The violations in document order; empty if the tree matches the schema
+     */
+    public List<Violation> validate(final ConfigNode root) {
+        Objects.requireNonNull(root, "root cannot be null");
+
+        final List<Violation> violations = new ArrayList<>();
+
+        if (this.pool == null || ForkJoinTask.getPool() == this.pool) {
+            this.validate(root, 0, new PathStack(), violations);
+        } else {
+            violations.addAll(this.pool.invoke(new RecursiveTask<List<Violation>>() {
+                @Override
+                protected List<Violation> compute() {
+                    final List<Violation> violations = new ArrayList<>();
+                    SchemaValidator.this.validate(root, 0, new PathStack(), violations);
+
+                    return violations;
+                }
+            }));
+        }
+
+        return violations;
+    }
+
+    /**
+     * Validates the tree and throws if it does not match the schema.
+     *
+     * @param root The root of the tree
+     * @throws ConfigValidationException if the tree has violations
+     */
+    public void requireValid(final ConfigNode root) {
+        final List<Violation> violations = this.validate(root);
+
+        if (!violations.isEmpty()) {
+            throw new ConfigValidationException(violations);
+        }
+    }
+
+    private void validate(final ConfigNode node, final int ruleIndex, final PathStack path, final List<Violation> sink) {
+        final Rule rule = this.program[ruleIndex];
+
+        switch (rule.opcode) {
+            case Rule.ANY -> {}
+            case Rule.STRING -> {
+                if (this.value(node, "a string", path, sink) instanceof Object value && !(value instanceof String)) {
+                    mismatch("a string", value, path, sink);
+                }
+            }
+            case Rule.BOOLEAN -> {
+                if (this.value(node, "a boolean", path, sink) instanceof Object value && !(value instanceof Boolean)) {
+                    mismatch("a boolean", value, path, sink);
+                }
+            }
+            case Rule.INTEGER -> {
+                final Object value = this.value(node, "an integer", path, sink);
+
+                if (value == null) {
+                    return;
+                }
+
+                if (!(value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+                    mismatch("an integer", value, path, sink);
+                } else {
+                    final long number = ((Number) value).longValue();
+                    range(number < rule.minimumLong, number > rule.maximumLong, value, rule.minimumLong, rule.maximumLong, path, sink);
+                }
+            }
+            case Rule.NUMBER -> {
+                final Object value = this.value(node, "a number", path, sink);
+
+                if (value == null) {
+                    return;
+                }
+
+                if (!(value instanceof Number number)) {
+                    mismatch("a number", value, path, sink);
+                } else {
+                    final double decimal = number.doubleValue();
+                    range(decimal < rule.minimumDouble, decimal > rule.maximumDouble, value, rule.minimumDouble, rule.maximumDouble, path, sink);
+                }
+            }
+            case Rule.ARRAY -> this.validateArray(node, rule, path, sink);
+            case Rule.OBJECT -> this.validateObject(node, rule, path, sink);
+            default -> throw new IllegalStateException("Unknown opcode " + rule.opcode);
+        }
+    }
+
+    /**
+     * Returns the value of a value node or reports the node.
+     *
+     * @return The value or {@code null} if the node is no value node
+     */
+    private Object value(final ConfigNode node, final String expected, final PathStack path, final List<Violation> sink) {
+        if (node.type() != NodeType.VALUE) {
+            sink.add(new Violation(path.toNodePath(), "Expected " + expected + " but found " + describe(node.type())));
+            return null;
+        }
+
+        return node.toValue().value();
+    }
+
+    private void validateArray(final ConfigNode node, final Rule rule, final PathStack path, final List<Violation> sink) {
+        if (node.type() != NodeType.ARRAY) {
+            sink.add(new Violation(path.toNodePath(), "Expected an array but found " + describe(node.type())));
+            return;
+        }
+
+        final ArrayNode array = node.toArray();
+        final int size = array.size();
+
+        if (size < rule.minimumSize) {
+            sink.add(new Violation(path.toNodePath(), "Expected at least " + rule.minimumSize + " elements but found " + size));
+        } else if (size > rule.maximumSize) {
+            sink.add(new Violation(path.toNodePath(), "Expected at most " + rule.maximumSize + " elements but found " + size));
+        }
+
+        if (this.program[rule.element].opcode == Rule.ANY) {
+            return;
+        }
+
+        if (size >= this.threshold) {
+            sink.addAll(new ElementsTask(array, rule.element, path, 0, size).invoke());
+            return;
+        }
+
+        this.validateElements(array, rule.element, path, 0, size, sink);
+    }
+
+    private void validateElements(
+            final ArrayNode array,
+            final int element,
+            final PathStack path,
+            final int from,
+            final int to,
+            final List<Violation> sink
+    ) {
+        for (int i = from; i < to; ++i) {
+            path.pushIndex(i);
+            this.validate(array.get(i), element, path, sink);
+            path.pop();
+        }
+    }
+
+    private void validateObject(final ConfigNode node, final Rule rule, final PathStack path, final List<Violation> sink) {
+        if (node.type() != NodeType.OBJECT) {
+            sink.add(new Violation(path.toNodePath(), "Expected an object but found " + describe(node.type())));
+            return;
+        }
+
+        final ObjectNode object = node.toObject();
+
+        if (!rule.closed) {
+            // Only the declared keys are looked up, the rest of the object is never touched
+            for (int i = 0; i < rule.keys.length; ++i) {
+                this.validateEntry(rule, i, object.getNodeOrNull(rule.keys[i]), path, sink);
+            }
+
+            return;
+        }
+
+        // A closed object is iterated once; the declared keys that were not seen are missing
+        final boolean[] seen = new boolean[rule.keys.length];
+
+        object.forEachEntry((key, value) -> {
+            final Integer position = rule.positions.get(key);
+
+            if (position == null) {
+                path.pushKey(key);
+                sink.add(new Violation(path.toNodePath(), "The key is not part of the schema"));
+                path.pop();
+
+                return;
+            }
+
+            seen[position] = true;
+            this.validateEntry(rule, position, value, path, sink);
+        });
+
+        for (int i = 0; i < seen.length; ++i) {
+            if (!seen[i]) {
+                this.validateEntry(rule, i, null, path, sink);
+            }
+        }
+    }
+
+    private void validateEntry(final Rule rule, final int position, final ConfigNode value, final PathStack path, final List<Violation> sink) {
+        path.pushKey(rule.keys[position]);
+
+        if (value == null || value.isNull()) {
+            if (rule.required[position]) {
+                sink.add(new Violation(path.toNodePath(), "The required key is missing"));
+            }
+        } else {
+            this.validate(value, rule.rules[position], path, sink);
+        }
+
+        path.pop();
+    }
+
+    private static void mismatch(final String expected, final Object value, final PathStack path, final List<Violation> sink) {
+        sink.add(new Violation(path.toNodePath(),
+                "Expected " + expected + " but found the " + value.getClass().getSimpleName().toLowerCase(Locale.ROOT) + " " + value));
+    }
+
+    private static void range(
+            final boolean tooSmall,
+            final boolean tooLarge,
+            final Object value,
+            final Object minimum,
+            final Object maximum,
+            final PathStack path,
+            final List<Violation> sink
+    ) {
+        if (tooSmall) {
+            sink.add(new Violation(path.toNodePath(), "The value " + value + " is smaller than the minimum " + minimum));
+        } else if (tooLarge) {
+            sink.add(new Violation(path.toNodePath(), "The value " + value + " is greater than the maximum " + maximum));
+        }
+    }
+
+    private static String describe(final NodeType type) {
+        return switch (type) {
+            case OBJECT -> "an object";
+            case ARRAY -> "an array";
+            case VALUE -> "a value";
+            case NULL -> "null";
+        };
+    }
+
+    /**
+     * Validates a range of the elements of an array, splitting it while it is larger than the threshold.
+     */
+    private final class ElementsTask extends RecursiveTask<List<Violation>> {
+        private final ArrayNode array;
+        private final int element;
+        private final PathStack parentPath;
+        private final int from;
+        private final int to;
+
+        private ElementsTask(final ArrayNode array, final int element, final PathStack parentPath, final int from, final int to) {
+            this.array = array;
+            this.element = element;
+            this.parentPath = parentPath;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Violation> compute() {
+            if (this.to - this.from > threshold) {
+                final int middle = (this.from + this.to) >>> 1;
+                final ElementsTask right = new ElementsTask(this.array, this.element, this.parentPath, middle, this.to);
+                right.fork();
+
+                final List<Violation> violations = new ElementsTask(this.array, this.element, this.parentPath, this.from, middle).compute();
+                violations.addAll(right.join());
+
+                return violations;
+            }
+
+            final List<Violation> violations = new ArrayList<>();
+            validateElements(this.array, this.element, new PathStack(this.parentPath), this.from, this.to, violations);
+
+            return violations;
+        }
+    }
+
+    /**
+     * Translates a schema into rules. A schema that is used several times is compiled into
+     * a single rule. Schemas are looked up by identity, as the hash code of a record schema
+     * hashes all of its nested schemas again on every lookup.
+     */
+    private static final class Compiler {
+        private final List<Rule> rules = new ArrayList<>();
+        private final Map<Schema, Integer> compiled = new IdentityHashMap<>();
+
+        private Rule[] compile(final Schema root) {
+            this.ruleOf(root);
+
+            return this.rules.toArray(Rule[]::new);
+        }
+
+        private int ruleOf(final Schema schema) {
+            final Integer existing = this.compiled.get(schema);
+            if (existing != null) {
+                return existing;
+            }
+
+            final Rule rule = switch (schema) {
+                case Schema.AnySchema ignored -> new Rule(Rule.ANY);
+                case Schema.StringSchema ignored -> new Rule(Rule.STRING);
+                case Schema.BooleanSchema ignored -> new Rule(Rule.BOOLEAN);
+                case Schema.IntegerSchema integer -> {
+                    final Rule result = new Rule(Rule.INTEGER);
+                    result.minimumLong = integer.minimum();
+                    result.maximumLong = integer.maximum();
+                    yield result;
+                }
+                case Schema.NumberSchema number -> {
+                    final Rule result = new Rule(Rule.NUMBER);
+                    result.minimumDouble = number.minimum();
+                    result.maximumDouble = number.maximum();
+                    yield result;
+                }
+                case Schema.ArraySchema array -> new Rule(Rule.ARRAY);
+                case Schema.ObjectSchema object -> new Rule(Rule.OBJECT);
+            };
+
+            // The index is reserved before the children are compiled, so the root is always rule 0
+            final int index = this.rules.size();
+            this.rules.add(rule);
+            this.compiled.put(schema, index);
+
+            if (schema instanceof Schema.ArraySchema array) {
+                rule.minimumSize = array.minimumSize();
+                rule.maximumSize = array.maximumSize();
+                rule.element = this.ruleOf(array.element());
+            } else if (schema instanceof Schema.ObjectSchema object) {
+                this.compileObject(object, rule);
+            }
+
+            return index;
+        }
+
+        private void compileObject(final Schema.ObjectSchema object, final Rule rule) {
+            final int size = object.properties().size();
+            rule.keys = new String[size];
+            rule.rules = new int[size];
+            rule.required = new boolean[size];
+            rule.closed = object.closed();
+            rule.positions = rule.closed ? new HashMap<>() : null;
+
+            int position = 0;
+            for (final Map.Entry<String, Schema.ObjectSchema.Property> entry : object.properties().entrySet()) {
+                rule.keys[position] = entry.getKey();
+                rule.rules[position] = this.ruleOf(entry.getValue().schema());
+                rule.required[position] = entry.getValue().required();
+
+                if (rule.closed) {
+                    rule.positions.put(entry.getKey(), position);
+                }
+
+                ++position;
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.schema;
+
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.util.Objects;
+
+/**
+ * A node that does not match its schema.
+ *
+ * @param path The path of the node
+ * @param message The description of the mismatch
+ */
+public record Violation(NodePath path, String message) {
+    /**
+     * Checks that none of the values is {@code null}.
+     *
+     * @throws NullPointerException if any of the values is {@code null}
+     */
+    public Violation {
+        Objects.requireNonNull(path, "path cannot be null");
+        Objects.requireNonNull(message, "message cannot be null");
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+
+        for (final PathSegment segment : this.path) {
+            if (segment.isKey()) {
+                if (!builder.isEmpty()) {
+                    builder.append('.');
+                }
+                builder.append(segment.key());
+            } else {
+                builder.append('[').append(segment.index()).append(']');
+            }
+        }
+
+        return (builder.isEmpty() ? "<root>" : builder) + ": " + this.message;
+    }
+}
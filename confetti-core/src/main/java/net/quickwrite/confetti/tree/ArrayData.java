@@ -0,0 +1,348 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.NodeType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * An immutable ordered list of an immutable configuration tree.
+ * {@snippet :
+ * final ArrayData ports = ArrayData.builder()
+ *         .add(ScalarData.ofLong(80))
+ *         .add(ScalarData.ofLong(443))
+ *         .build();
+ * }
+ *
+ * <h2>Updates</h2>
+ * The elements are stored in chunks of {@value #CHUNK_SIZE} which are the leaves of a
+ * trie with {@value #CHUNK_SIZE} children per node. {@link #set(int, ConfigData)} and
+ * {@link #append(ConfigData)} copy the chunks on the path to the index and share all other
+ * chunks with this array, so they cost {@code O(log n)}. {@link #without(int)} moves all
+ * following elements and therefore rebuilds the chunks after the index.
+ */
+public final class ArrayData implements ConfigData {
+    private static final int BITS = 5;
+    private static final int CHUNK_SIZE = 1 << BITS;
+    private static final int MASK = CHUNK_SIZE - 1;
+
+    private static final ArrayData EMPTY = new ArrayData(new Object[0], 0, 0, 1);
+
+    /** The root of the trie; the leaves contain the elements. */
+    private final Object[] root;
+    /** The number of bits of an index that are resolved below the root. */
+    private final int shift;
+    private final int size;
+    private final int hash;
+
+    private ArrayData(final Object[] root, final int shift, final int size, final int hash) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns the array without elements.
+     *
+     * @return The empty array
+     */
+    public static ArrayData empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a new builder for an array.
+     *
+     * @return The new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return The number of elements
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the element at the index.
+     *
+     * @param index The index
+     * @return The element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public ConfigData get(final int index) {
+        Objects.checkIndex(index, this.size);
+
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+
+        return (ConfigData) node[index & MASK];
+    }
+
+    /**
+     * Returns an array in which the element at the index is replaced.
+     *
+     * @param index The index of the element
+     * @param element The new element
+     * @return The updated array or this array if the element is already at the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public ArrayData set(final int index, final ConfigData element) {
+        Objects.requireNonNull(element, "element cannot be null");
+
+        final ConfigData previous = this.get(index);
+
+        if (previous == element) {
+            return this;
+        }
+
+        final int hash = this.hash + (element.hashCode() - previous.hashCode()) * power31(this.size - 1 - index);
+
+        return new ArrayData(set(this.root, this.shift, index, element), this.shift, this.size, hash);
+    }
+
+    /**
+     * Returns an array with the element appended.
+     *
+     * @param element The new last element
+     * @return The updated array
+     */
+    public ArrayData append(final ConfigData element) {
+        Objects.requireNonNull(element, "element cannot be null");
+
+        final int hash = 31 * this.hash + element.hashCode();
+
+        if (this.size == 0) {
+            return new ArrayData(new Object[] { element }, 0, 1, hash);
+        }
+
+        if (this.size == 1 << (this.shift + BITS)) {
+            // The trie is full, so it gets a new root level
+            final Object[] root = { this.root, path(this.shift, element) };
+
+            return new ArrayData(root, this.shift + BITS, this.size + 1, hash);
+        }
+
+        return new ArrayData(append(this.root, this.shift, this.size, element), this.shift, this.size + 1, hash);
+    }
+
+    /**
+     * Returns an array without the element at the index.
+     *
+     * @param index The index of the element
+     * @return The updated array
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public ArrayData without(final int index) {
+        Objects.checkIndex(index, this.size);
+
+        final Builder builder = new Builder();
+        for (int i = 0; i < this.size; ++i) {
+            if (i != index) {
+                builder.add(this.get(i));
+            }
+        }
+
+        return builder.build();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeType type() {
+        return NodeType.ARRAY;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof ArrayData array) || this.hash != array.hash || this.size != array.size) {
+            return false;
+        }
+
+        for (int i = 0; i < this.size; ++i) {
+            final ConfigData element = this.get(i);
+            final ConfigData otherElement = array.get(i);
+
+            if (element != otherElement && !element.equals(otherElement)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+        for (int i = 0; i < this.size; ++i) {
+            joiner.add(String.valueOf(this.get(i)));
+        }
+
+        return joiner.toString();
+    }
+
+    private static Object[] set(final Object[] node, final int level, final int index, final ConfigData element) {
+        final Object[] copy = node.clone();
+
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            final int slot = (index >>> level) & MASK;
+            copy[slot] = set((Object[]) node[slot], level - BITS, index, element);
+        }
+
+        return copy;
+    }
+
+    private static Object[] append(final Object[] node, final int level, final int index, final ConfigData element) {
+        final int slot = (index >>> level) & MASK;
+
+        if (level == 0) {
+            final Object[] copy = new Object[slot + 1];
+            System.arraycopy(node, 0, copy, 0, node.length);
+            copy[slot] = element;
+
+            return copy;
+        }
+
+        if (slot < node.length) {
+            final Object[] copy = node.clone();
+            copy[slot] = append((Object[]) node[slot], level - BITS, index, element);
+
+            return copy;
+        }
+
+        final Object[] copy = new Object[slot + 1];
+        System.arraycopy(node, 0, copy, 0, node.length);
+        copy[slot] = path(level - BITS, element);
+
+        return copy;
+    }
+
+    /**
+     * Creates the nodes from the given level down to a chunk containing only the element.
+     */
+    private static Object[] path(final int level, final ConfigData element) {
+        Object[] node = { element };
+
+        for (int current = 0; current < level; current += BITS) {
+            node = new Object[] { node };
+        }
+
+        return node;
+    }
+
+    /**
+     * Computes {@code 31^exponent} with the overflow of {@code int} arithmetic.
+     */
+    private static int power31(int exponent) {
+        int result = 1;
+        int base = 31;
+
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result *= base;
+            }
+
+            base *= base;
+            exponent >>>= 1;
+        }
+
+        return result;
+    }
+
+    /**
+     * Collects the elements of an {@link ArrayData}.
+     */
+    public static final class Builder {
+        private final List<ConfigData> elements = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Appends an element.
+         *
+         * @param element The element
+         * @return This builder
+         */
+        public Builder add(final ConfigData element) {
+            Objects.requireNonNull(element, "element cannot be null");
+            this.elements.add(element);
+
+            return this;
+        }
+
+        /**
+         * Creates the array with the collected elements.
+         *
+         * @return The array
+         */
+        public ArrayData build() {
+            final int size = this.elements.size();
+
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            int hash = 1;
+            Object[] level = new Object[(size + MASK) >>> BITS];
+            for (int chunk = 0; chunk < level.length; ++chunk) {
+                final int from = chunk << BITS;
+                final Object[] elements = new Object[Math.min(CHUNK_SIZE, size - from)];
+
+                for (int i = 0; i < elements.length; ++i) {
+                    final ConfigData element = this.elements.get(from + i);
+                    elements[i] = element;
+                    hash = 31 * hash + element.hashCode();
+                }
+
+                level[chunk] = elements;
+            }
+
+            // Group the nodes of each level until a single root is left
+            int shift = 0;
+            while (level.length > 1) {
+                final Object[] parents = new Object[(level.length + MASK) >>> BITS];
+
+                for (int parent = 0; parent < parents.length; ++parent) {
+                    final int from = parent << BITS;
+                    final Object[] children = new Object[Math.min(CHUNK_SIZE, level.length - from)];
+                    System.arraycopy(level, from, children, 0, children.length);
+                    parents[parent] = children;
+                }
+
+                level = parents;
+                shift += BITS;
+            }
+
+            return new ArrayData((Object[]) level[0], shift, size, hash);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.NodeType;
+
+/**
+ * Immutable, path-less content of a configuration tree.
+ *
+ * <p>
+ * {@code ConfigData} is to the immutable tree what a {@code ConfigValue} is to the HOCON backend:
+ * it only stores the content, while the {@link net.quickwrite.confetti.ConfigNode ConfigNode}
+ * wrappers created by {@link ConfigTree#root(ConfigData)} add the parent and the path on access.
+ * Because the data does not know where it is located, equal subtrees can be shared between
+ * several parents (see {@link ConfigInterner}).
+ *
+ * <p>
+ * Every implementation computes its structural hash code once on construction.
+ * {@link #equals(Object)} compares the content: objects are equal if they contain equal
+ * values for the same keys (in any order), arrays are equal if they contain equal elements
+ * in the same order and scalars are equal if they have the same kind and value.
+ * Equality checks return early on reference identity and on different hash codes.
+ */
+public sealed interface ConfigData permits ObjectData, ArrayData, ScalarData, NullData {
+    /**
+     * Returns the {@link NodeType} of the node that represents this data.
+     *
+     * @return The node type
+     */
+    NodeType type();
+
+    /**
+     * Returns the structural hash code of this data.
+     *
+     * @return The cached structural hash code
+     */
+    @Override
+    int hashCode();
+
+    /**
+     * Compares the content of this data with the given object.
+     *
+     * @param other The object to compare with
+     * @return {@code true} if the other object is {@code ConfigData} with the same content
+     */
+    @Override
+    boolean equals(Object other);
+}
@@ -0,0 +1,87 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Deduplicates strings and hash-conses structurally equal {@link ConfigData}.
+ *
+ * <p>
+ * The interner keeps one canonical instance per distinct string and per distinct subtree.
+ * Trees are interned bottom-up by {@link ConfigTree#copyOf(net.quickwrite.confetti.ConfigNode, ConfigInterner)}:
+ * the children of a container are already canonical when the container itself is interned,
+ * so comparing two candidates only compares their cached hash codes and the identity of
+ * their children. The memory of the resulting trees scales with the distinct content
+ * instead of the raw document size.
+ * {@snippet :
+ * final ConfigInterner interner = new ConfigInterner();
+ * final ConfigData first = ConfigTree.copyOf(firstTenant, interner);
+ * final ConfigData second = ConfigTree.copyOf(secondTenant, interner);
+ *
+ * System.out.println(interner.stats().nodeDedupRatio());
+ * }
+ *
+ * <p>
+ * An interner can be shared by any number of trees but it is not thread-safe.
+ * It retains every distinct instance it has seen; drop it once the trees are built.
+ */
+public final class ConfigInterner {
+    private final Map<ConfigData, ConfigData> nodes = new HashMap<>();
+    private final Map<String, String> strings = new HashMap<>();
+
+    private long internedNodes;
+    private long internedStrings;
+
+    /**
+     * Returns the canonical instance of the string.
+     *
+     * @param string the string
+     * @return the first interned string that is equal to {@code string}
+     */
+    public String intern(final String string) {
+        Objects.requireNonNull(string, "string cannot be null");
+
+        ++this.internedStrings;
+
+        final String existing = this.strings.putIfAbsent(string, string);
+
+        return existing != null ? existing : string;
+    }
+
+    /**
+     * Returns the canonical instance of the data.
+     *
+     * <p>
+     * Only the data itself is looked up; its children are expected to be canonical already.
+     *
+     * @param data the data whose children are already interned
+     * @param <T> the type of the data
+     * @return the first interned data that is structurally equal to {@code data}
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ConfigData> T intern(final T data) {
+        Objects.requireNonNull(data, "data cannot be null");
+
+        ++this.internedNodes;
+
+        final ConfigData existing = this.nodes.putIfAbsent(data, data);
+
+        return existing != null ? (T) existing : data;
+    }
+
+    /**
+     * Returns the current counters.
+     *
+     * @return a snapshot of the counters
+     */
+    public InternStats stats() {
+        return new InternStats(this.internedNodes, this.nodes.size(), this.internedStrings, this.strings.size());
+    }
+}
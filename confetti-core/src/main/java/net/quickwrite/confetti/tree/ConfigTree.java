@@ -0,0 +1,388 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.NullNode;
+import net.quickwrite.confetti.exception.InvalidNodeTypeException;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.visitor.ConfigVisitor;
+import net.quickwrite.confetti.visitor.ConfigWalker;
+import net.quickwrite.confetti.visitor.PathCursor;
+import net.quickwrite.confetti.visitor.VisitResult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Utility class to create immutable configuration trees.
+ *
+ * <p>
+ * Any {@link ConfigNode}, for example one that is backed by a parsed file, can be copied into
+ * immutable {@link ConfigData}. The copy can optionally be interned, so equal strings and equal
+ * subtrees are only stored once:
+ * {@snippet :
+ * final ConfigInterner interner = new ConfigInterner();
+ * final ConfigNode config = ConfigTree.root(ConfigTree.copyOf(parsed, interner));
+ * }
+ *
+ * <h2>Persistent updates</h2>
+ * {@link #with(ConfigData, NodePath, ConfigData)}, {@link #without(ConfigData, NodePath)} and
+ * {@link #merge(ConfigData, ConfigData)} never modify a tree. They return a new root that
+ * shares every subtree that is not on the updated path with the old root, so an update costs
+ * {@code O(depth)} and readers holding the old root keep seeing a consistent snapshot:
+ * {@snippet :
+ * final ConfigData updated = ConfigTree.with(current, NodePath.of(PathSegment.key("feature"), PathSegment.key("enabled")),
+ *         ScalarData.ofBoolean(true));
+ * }
+ *
+ * <hr>
+ *
+ * This class is intentionally non-instantiable and exposes only static
+ * utility methods.
+ */
+public final class ConfigTree {
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ConfigTree() {}
+
+    /**
+     * Wraps the data into a root-level node.
+     *
+     * @param data The data of the root
+     * @return The root node
+     */
+    public static ConfigNode root(final ConfigData data) {
+        Objects.requireNonNull(data, "data cannot be null");
+
+        return switch (data) {
+            case ObjectData object -> new TreeObjectNode(object);
+            case ArrayData array -> new TreeArrayNode(array);
+            case ScalarData scalar -> new TreeValueNode(scalar);
+            case NullData ignored -> new NullNode();
+        };
+    }
+
+    /**
+     * Copies the tree below (and including) the node into immutable data.
+     *
+     * @param node The node to copy
+     * @return The immutable copy
+     */
+    public static ConfigData copyOf(final ConfigNode node) {
+        return copyOf(node, null);
+    }
+
+    /**
+     * Copies the tree below (and including) the node into immutable data and interns every
+     * string and subtree of the copy.
+     *
+     * <p>
+     * The tree is walked once without recursion; every subtree is interned as soon as
+     * it is complete.
+     *
+     * @param node The node to copy
+     * @param interner The interner or {@code null} to create a plain copy
+     * @return The immutable copy
+     */
+    public static ConfigData copyOf(final ConfigNode node, final ConfigInterner interner) {
+        Objects.requireNonNull(node, "node cannot be null");
+
+        if (node instanceof TreeObjectNode tree && interner == null) {
+            return tree.data();
+        }
+
+        if (node instanceof TreeArrayNode tree && interner == null) {
+            return tree.data();
+        }
+
+        final CopyVisitor visitor = new CopyVisitor(interner);
+        ConfigWalker.sequential().walk(node, visitor);
+
+        return visitor.result;
+    }
+
+    /**
+     * Returns a tree in which the node at the path is replaced by the value.
+     *
+     * <p>
+     * Missing objects along the path are created. An index segment may address an existing
+     * element or the position right after the last element, which appends the value.
+     *
+     * @param root The root of the tree
+     * @param path The path of the node to set
+     * @param value The new node
+     * @return The new root or {@code root} if the value is already at the path
+     * @throws InvalidNodeTypeException if a node along the path is not the container the segment requires
+     * @throws IndexOutOfBoundsException if an index segment is out of range
+     */
+    public static ConfigData with(final ConfigData root, final NodePath path, final ConfigData value) {
+        Objects.requireNonNull(root, "root cannot be null");
+        Objects.requireNonNull(path, "path cannot be null");
+        Objects.requireNonNull(value, "value cannot be null");
+
+        final List<PathSegment> segments = path.segments();
+        final ConfigData[] containers = new ConfigData[segments.size()];
+
+        ConfigData current = root;
+        for (int i = 0; i < segments.size(); ++i) {
+            containers[i] = current;
+            current = current == null ? null : child(current, segments, i, true);
+        }
+
+        ConfigData updated = value;
+        for (int i = segments.size() - 1; i >= 0; --i) {
+            final PathSegment segment = segments.get(i);
+            final ConfigData container = containers[i];
+
+            if (segment.isKey()) {
+                final ObjectData object = container == null ? ObjectData.empty() : (ObjectData) container;
+                updated = object.with(segment.key(), updated);
+            } else {
+                final ArrayData array = container == null ? ArrayData.empty() : (ArrayData) container;
+                Objects.checkIndex(segment.index(), array.size() + 1);
+                updated = segment.index() == array.size() ? array.append(updated) : array.set(segment.index(), updated);
+            }
+        }
+
+        return updated;
+    }
+
+    /**
+     * Returns a tree without the node at the path.
+     *
+     * <p>
+     * Removing an array element moves all following elements to the front.
+     *
+     * @param root The root of the tree
+     * @param path The path of the node to remove
+     * @return The new root or {@code root} if there is no node at the path
+     * @throws IllegalArgumentException if the path is empty
+     */
+    public static ConfigData without(final ConfigData root, final NodePath path) {
+        Objects.requireNonNull(root, "root cannot be null");
+        Objects.requireNonNull(path, "path cannot be null");
+
+        final List<PathSegment> segments = path.segments();
+
+        if (segments.isEmpty()) {
+            throw new IllegalArgumentException("The root of a tree cannot be removed");
+        }
+
+        final ConfigData[] containers = new ConfigData[segments.size()];
+
+        ConfigData current = root;
+        for (int i = 0; i < segments.size(); ++i) {
+            containers[i] = current;
+            current = child(current, segments, i, false);
+
+            if (current == null) {
+                return root;
+            }
+        }
+
+        final PathSegment last = segments.get(segments.size() - 1);
+        ConfigData updated = last.isKey()
+                ? ((ObjectData) containers[segments.size() - 1]).without(last.key())
+                : ((ArrayData) containers[segments.size() - 1]).without(last.index());
+
+        for (int i = segments.size() - 2; i >= 0; --i) {
+            final PathSegment segment = segments.get(i);
+
+            updated = segment.isKey()
+                    ? ((ObjectData) containers[i]).with(segment.key(), updated)
+                    : ((ArrayData) containers[i]).set(segment.index(), updated);
+        }
+
+        return updated;
+    }
+
+    /**
+     * Merges the overlay into the base tree.
+     *
+     * <p>
+     * If both nodes are objects, the result contains the keys of both; keys that are present in
+     * both objects are merged recursively. In every other case the overlay replaces the base.
+     * Subtrees of the base that the overlay does not touch are shared with the result.
+     *
+     * @param base The tree that provides the defaults
+     * @param overlay The tree whose nodes take precedence
+     * @return The merged tree
+     */
+    public static ConfigData merge(final ConfigData base, final ConfigData overlay) {
+        Objects.requireNonNull(base, "base cannot be null");
+        Objects.requireNonNull(overlay, "overlay cannot be null");
+
+        if (!(base instanceof ObjectData baseObject) || !(overlay instanceof ObjectData overlayObject)) {
+            return overlay;
+        }
+
+        ObjectData merged = baseObject;
+        final ObjectData.Cursor cursor = overlayObject.cursor();
+
+        while (cursor.next()) {
+            final ConfigData existing = baseObject.get(cursor.key());
+
+            merged = merged.with(cursor.key(), existing == null ? cursor.value() : merge(existing, cursor.value()));
+        }
+
+        return merged;
+    }
+
+    /**
+     * Returns a tree in which the node at the path is replaced by the value.
+     *
+     * <p>
+     * Nodes of the immutable tree are used as they are; all other nodes are copied first.
+     *
+     * @param root The root of the tree
+     * @param path The path of the node to set
+     * @param value The new node
+     * @return The root node of the new tree
+     * @see #with(ConfigData, NodePath, ConfigData)
+     */
+    public static ConfigNode with(final ConfigNode root, final NodePath path, final ConfigNode value) {
+        return root(with(copyOf(root), path, copyOf(value)));
+    }
+
+    /**
+     * Returns a tree without the node at the path.
+     *
+     * @param root The root of the tree
+     * @param path The path of the node to remove
+     * @return The root node of the new tree
+     * @see #without(ConfigData, NodePath)
+     */
+    public static ConfigNode without(final ConfigNode root, final NodePath path) {
+        return root(without(copyOf(root), path));
+    }
+
+    /**
+     * Merges the overlay into the base tree.
+     *
+     * @param base The tree that provides the defaults
+     * @param overlay The tree whose nodes take precedence
+     * @return The root node of the merged tree
+     * @see #merge(ConfigData, ConfigData)
+     */
+    public static ConfigNode merge(final ConfigNode base, final ConfigNode overlay) {
+        return root(merge(copyOf(base), copyOf(overlay)));
+    }
+
+    /**
+     * Returns the child of the container that the segment at the position addresses.
+     *
+     * @param strict {@code true} to fail on containers of the wrong type, {@code false} to return {@code null}
+     * @return The child or {@code null} if it does not exist
+     */
+    private static ConfigData child(final ConfigData container, final List<PathSegment> segments, final int position, final boolean strict) {
+        final PathSegment segment = segments.get(position);
+
+        if (segment.isKey()) {
+            if (container instanceof ObjectData object) {
+                return object.get(segment.key());
+            }
+        } else if (container instanceof ArrayData array) {
+            if (strict) {
+                Objects.checkIndex(segment.index(), array.size() + 1);
+            }
+
+            return segment.index() >= 0 && segment.index() < array.size() ? array.get(segment.index()) : null;
+        }
+
+        if (!strict) {
+            return null;
+        }
+
+        throw new InvalidNodeTypeException(
+                "The node at '" + describe(segments, position) + "' is not " + (segment.isKey() ? "an object" : "an array")
+        );
+    }
+
+    private static String describe(final List<PathSegment> segments, final int length) {
+        final StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < length; ++i) {
+            final PathSegment segment = segments.get(i);
+
+            if (segment.isKey()) {
+                if (!builder.isEmpty()) {
+                    builder.append('.');
+                }
+                builder.append(segment.key());
+            } else {
+                builder.append('[').append(segment.index()).append(']');
+            }
+        }
+
+        return builder.isEmpty() ? "<root>" : builder.toString();
+    }
+
+    /**
+     * Builds the data bottom-up: containers push a builder when they are entered
+     * and add themselves to the parent builder when they are left.
+     */
+    private static final class CopyVisitor implements ConfigVisitor {
+        private final ConfigInterner interner;
+        private final Deque<Object> builders = new ArrayDeque<>();
+        private ConfigData result;
+
+        private CopyVisitor(final ConfigInterner interner) {
+            this.interner = interner;
+        }
+
+        @Override
+        public VisitResult enter(final ConfigNode node, final PathCursor path) {
+            switch (node.type()) {
+                case OBJECT -> this.builders.push(ObjectData.builder());
+                case ARRAY -> this.builders.push(ArrayData.builder());
+                case VALUE, NULL -> {
+                    // Created when the node is left
+                }
+            }
+
+            return VisitResult.CONTINUE;
+        }
+
+        @Override
+        public VisitResult leave(final ConfigNode node, final PathCursor path) {
+            ConfigData data = switch (node.type()) {
+                case OBJECT -> ((ObjectData.Builder) this.builders.pop()).build();
+                case ARRAY -> ((ArrayData.Builder) this.builders.pop()).build();
+                case VALUE -> this.scalar(node.toValue().value());
+                case NULL -> NullData.INSTANCE;
+            };
+
+            if (this.interner != null) {
+                data = this.interner.intern(data);
+            }
+
+            if (this.builders.isEmpty()) {
+                this.result = data;
+            } else if (this.builders.peek() instanceof ObjectData.Builder builder) {
+                final String key = path.key(path.depth() - 1);
+                builder.put(this.interner != null ? this.interner.intern(key) : key, data);
+            } else {
+                ((ArrayData.Builder) this.builders.peek()).add(data);
+            }
+
+            return VisitResult.CONTINUE;
+        }
+
+        private ScalarData scalar(final Object value) {
+            if (this.interner != null && value instanceof String string) {
+                return ScalarData.ofString(this.interner.intern(string));
+            }
+
+            return ScalarData.of(value);
+        }
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * A node of a persistent hash array mapped trie from keys to {@link ConfigData}.
+ *
+ * <p>
+ * Every level consumes five bits of the (spread) hash code of the key. A node stores its
+ * entries inline as key–value pairs at the front of {@link #content} and its child nodes
+ * in reverse order at the end; {@link #dataMap} and {@link #nodeMap} tell which hash
+ * fragments are occupied by which. Once all 32 bits are consumed the node is a collision
+ * node which stores its pairs in a plain list.
+ *
+ * <p>
+ * Nodes are never modified. Updates copy the nodes on the path to the changed entry and
+ * share all other nodes with the original trie; an update that does not change anything
+ * returns the same node.
+ */
+final class HamtNode {
+    static final HamtNode EMPTY = new HamtNode(0, 0, new Object[0]);
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_BITS = 32;
+
+    /** The maximum number of nested nodes including the collision level. */
+    static final int MAX_DEPTH = (HASH_BITS + BITS - 1) / BITS + 1;
+
+    private final int dataMap;
+    private final int nodeMap;
+    private final Object[] content;
+
+    private HamtNode(final int dataMap, final int nodeMap, final Object[] content) {
+        this.dataMap = dataMap;
+        this.nodeMap = nodeMap;
+        this.content = content;
+    }
+
+    /**
+     * Receives the value that was replaced or removed by an update.
+     */
+    static final class Change {
+        ConfigData previous;
+    }
+
+    static int hash(final String key) {
+        return ObjectData.mix(key.hashCode());
+    }
+
+    /**
+     * Creates the trie of distinct keys in a single pass instead of one {@link #put} per entry.
+     */
+    static HamtNode of(final String[] keys, final ConfigData[] values) {
+        final int[] hashes = new int[keys.length];
+
+        for (int i = 0; i < keys.length; ++i) {
+            hashes[i] = hash(keys[i]);
+        }
+
+        return of(keys, hashes, values, 0, keys.length, 0);
+    }
+
+    private static HamtNode of(
+            final String[] keys, final int[] hashes, final ConfigData[] values,
+            final int from, final int to, final int shift
+    ) {
+        if (shift >= HASH_BITS) {
+            final Object[] content = new Object[2 * (to - from)];
+
+            for (int i = from; i < to; ++i) {
+                content[2 * (i - from)] = keys[i];
+                content[2 * (i - from) + 1] = values[i];
+            }
+
+            return new HamtNode(0, 0, content);
+        }
+
+        // Sorts the range by fragment, so every fragment becomes a contiguous run
+        final int[] starts = new int[MASK + 2];
+        for (int i = from; i < to; ++i) {
+            ++starts[((hashes[i] >>> shift) & MASK) + 1];
+        }
+
+        int dataMap = 0;
+        int nodeMap = 0;
+
+        for (int fragment = 0; fragment <= MASK; ++fragment) {
+            final int count = starts[fragment + 1];
+
+            if (count == 1) {
+                dataMap |= 1 << fragment;
+            } else if (count > 1) {
+                nodeMap |= 1 << fragment;
+            }
+
+            starts[fragment + 1] += starts[fragment];
+        }
+
+        final int length = to - from;
+        final String[] sortedKeys = new String[length];
+        final int[] sortedHashes = new int[length];
+        final ConfigData[] sortedValues = new ConfigData[length];
+        final int[] next = Arrays.copyOf(starts, MASK + 1);
+
+        for (int i = from; i < to; ++i) {
+            final int position = next[(hashes[i] >>> shift) & MASK]++;
+            sortedKeys[position] = keys[i];
+            sortedHashes[position] = hashes[i];
+            sortedValues[position] = values[i];
+        }
+
+        final Object[] content = new Object[2 * Integer.bitCount(dataMap) + Integer.bitCount(nodeMap)];
+
+        for (int fragment = 0; fragment <= MASK; ++fragment) {
+            final int bit = 1 << fragment;
+            final int start = starts[fragment];
+
+            if ((dataMap & bit) != 0) {
+                final int index = 2 * index(dataMap, bit);
+                content[index] = sortedKeys[start];
+                content[index + 1] = sortedValues[start];
+            } else if ((nodeMap & bit) != 0) {
+                content[content.length - 1 - index(nodeMap, bit)] = of(
+                        sortedKeys, sortedHashes, sortedValues,
+                        start, starts[fragment + 1], shift + BITS
+                );
+            }
+        }
+
+        return new HamtNode(dataMap, nodeMap, content);
+    }
+
+    ConfigData get(final String key, final int hash, final int shift) {
+        if (shift >= HASH_BITS) {
+            for (int i = 0; i < this.content.length; i += 2) {
+                if (key.equals(this.content[i])) {
+                    return (ConfigData) this.content[i + 1];
+                }
+            }
+
+            return null;
+        }
+
+        final int bit = bit(hash, shift);
+
+        if ((this.dataMap & bit) != 0) {
+            final int index = 2 * index(this.dataMap, bit);
+
+            return key.equals(this.content[index]) ? (ConfigData) this.content[index + 1] : null;
+        }
+
+        if ((this.nodeMap & bit) != 0) {
+            return this.nodeAt(bit).get(key, hash, shift + BITS);
+        }
+
+        return null;
+    }
+
+    HamtNode put(final String key, final int hash, final ConfigData value, final int shift, final Change change) {
+        if (shift >= HASH_BITS) {
+            for (int i = 0; i < this.content.length; i += 2) {
+                if (key.equals(this.content[i])) {
+                    return this.replaceValue(i + 1, value, change);
+                }
+            }
+
+            final Object[] content = Arrays.copyOf(this.content, this.content.length + 2);
+            content[this.content.length] = key;
+            content[this.content.length + 1] = value;
+
+            return new HamtNode(0, 0, content);
+        }
+
+        final int bit = bit(hash, shift);
+
+        if ((this.dataMap & bit) != 0) {
+            final int index = 2 * index(this.dataMap, bit);
+            final String existingKey = (String) this.content[index];
+
+            if (key.equals(existingKey)) {
+                return this.replaceValue(index + 1, value, change);
+            }
+
+            final HamtNode child = pair(
+                    existingKey, hash(existingKey), (ConfigData) this.content[index + 1],
+                    key, hash, value,
+                    shift + BITS
+            );
+
+            return this.dataToNode(bit, child);
+        }
+
+        if ((this.nodeMap & bit) != 0) {
+            final HamtNode child = this.nodeAt(bit);
+            final HamtNode updated = child.put(key, hash, value, shift + BITS, change);
+
+            return updated == child ? this : this.replaceNode(bit, updated);
+        }
+
+        final int index = 2 * index(this.dataMap, bit);
+        final Object[] content = new Object[this.content.length + 2];
+        System.arraycopy(this.content, 0, content, 0, index);
+        content[index] = key;
+        content[index + 1] = value;
+        System.arraycopy(this.content, index, content, index + 2, this.content.length - index);
+
+        return new HamtNode(this.dataMap | bit, this.nodeMap, content);
+    }
+
+    HamtNode remove(final String key, final int hash, final int shift, final Change change) {
+        if (shift >= HASH_BITS) {
+            for (int i = 0; i < this.content.length; i += 2) {
+                if (key.equals(this.content[i])) {
+                    change.previous = (ConfigData) this.content[i + 1];
+
+                    final Object[] content = new Object[this.content.length - 2];
+                    System.arraycopy(this.content, 0, content, 0, i);
+                    System.arraycopy(this.content, i + 2, content, i, this.content.length - i - 2);
+
+                    return new HamtNode(0, 0, content);
+                }
+            }
+
+            return this;
+        }
+
+        final int bit = bit(hash, shift);
+
+        if ((this.dataMap & bit) != 0) {
+            final int index = 2 * index(this.dataMap, bit);
+
+            if (!key.equals(this.content[index])) {
+                return this;
+            }
+
+            change.previous = (ConfigData) this.content[index + 1];
+
+            final Object[] content = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, content, 0, index);
+            System.arraycopy(this.content, index + 2, content, index, this.content.length - index - 2);
+
+            return new HamtNode(this.dataMap ^ bit, this.nodeMap, content);
+        }
+
+        if ((this.nodeMap & bit) != 0) {
+            final HamtNode child = this.nodeAt(bit);
+            final HamtNode updated = child.remove(key, hash, shift + BITS, change);
+
+            if (updated == child) {
+                return this;
+            }
+
+            if (updated.nodeMap == 0 && updated.content.length == 2) {
+                // A single remaining entry moves up, so the trie stays as flat as possible
+                return this.nodeToData(bit, (String) updated.content[0], (ConfigData) updated.content[1]);
+            }
+
+            return this.replaceNode(bit, updated);
+        }
+
+        return this;
+    }
+
+    /**
+     * Performs the action for every entry of the trie.
+     */
+    void forEach(final BiConsumer<? super String, ? super ConfigData> action) {
+        final int nodes = Integer.bitCount(this.nodeMap);
+        final int dataEnd = this.content.length - nodes;
+
+        for (int i = 0; i < dataEnd; i += 2) {
+            action.accept((String) this.content[i], (ConfigData) this.content[i + 1]);
+        }
+
+        for (int i = this.content.length - 1; i >= dataEnd; --i) {
+            ((HamtNode) this.content[i]).forEach(action);
+        }
+    }
+
+    /**
+     * Returns the number of key–value pairs stored directly in this node.
+     */
+    int payloadCount() {
+        return (this.content.length - Integer.bitCount(this.nodeMap)) / 2;
+    }
+
+    /**
+     * Returns the number of child nodes.
+     */
+    int nodeCount() {
+        return Integer.bitCount(this.nodeMap);
+    }
+
+    String keyAt(final int index) {
+        return (String) this.content[2 * index];
+    }
+
+    ConfigData valueAt(final int index) {
+        return (ConfigData) this.content[2 * index + 1];
+    }
+
+    HamtNode childAt(final int index) {
+        return (HamtNode) this.content[this.content.length - 1 - index];
+    }
+
+    private HamtNode nodeAt(final int bit) {
+        return this.childAt(index(this.nodeMap, bit));
+    }
+
+    private HamtNode replaceValue(final int valueIndex, final ConfigData value, final Change change) {
+        final ConfigData previous = (ConfigData) this.content[valueIndex];
+        change.previous = previous;
+
+        if (previous == value) {
+            return this;
+        }
+
+        final Object[] content = this.content.clone();
+        content[valueIndex] = value;
+
+        return new HamtNode(this.dataMap, this.nodeMap, content);
+    }
+
+    private HamtNode replaceNode(final int bit, final HamtNode node) {
+        final Object[] content = this.content.clone();
+        content[this.content.length - 1 - index(this.nodeMap, bit)] = node;
+
+        return new HamtNode(this.dataMap, this.nodeMap, content);
+    }
+
+    /**
+     * Replaces the inline entry of the fragment with a child node.
+     */
+    private HamtNode dataToNode(final int bit, final HamtNode node) {
+        final int dataIndex = 2 * index(this.dataMap, bit);
+        final int nodeIndex = this.content.length - 2 - index(this.nodeMap, bit);
+
+        final Object[] content = new Object[this.content.length - 1];
+        System.arraycopy(this.content, 0, content, 0, dataIndex);
+        System.arraycopy(this.content, dataIndex + 2, content, dataIndex, nodeIndex - dataIndex);
+        content[nodeIndex] = node;
+        System.arraycopy(this.content, nodeIndex + 2, content, nodeIndex + 1, this.content.length - nodeIndex - 2);
+
+        return new HamtNode(this.dataMap ^ bit, this.nodeMap | bit, content);
+    }
+
+    /**
+     * Replaces the child node of the fragment with an inline entry.
+     */
+    private HamtNode nodeToData(final int bit, final String key, final ConfigData value) {
+        final int nodeIndex = this.content.length - 1 - index(this.nodeMap, bit);
+        final int dataIndex = 2 * index(this.dataMap, bit);
+
+        final Object[] content = new Object[this.content.length + 1];
+        System.arraycopy(this.content, 0, content, 0, dataIndex);
+        content[dataIndex] = key;
+        content[dataIndex + 1] = value;
+        System.arraycopy(this.content, dataIndex, content, dataIndex + 2, nodeIndex - dataIndex);
+        System.arraycopy(this.content, nodeIndex + 1, content, nodeIndex + 2, this.content.length - nodeIndex - 1);
+
+        return new HamtNode(this.dataMap | bit, this.nodeMap ^ bit, content);
+    }
+
+    private static HamtNode pair(
+            final String firstKey, final int firstHash, final ConfigData firstValue,
+            final String secondKey, final int secondHash, final ConfigData secondValue,
+            final int shift
+    ) {
+        if (shift >= HASH_BITS) {
+            return new HamtNode(0, 0, new Object[] { firstKey, firstValue, secondKey, secondValue });
+        }
+
+        final int firstFragment = (firstHash >>> shift) & MASK;
+        final int secondFragment = (secondHash >>> shift) & MASK;
+
+        if (firstFragment == secondFragment) {
+            final HamtNode child = pair(firstKey, firstHash, firstValue, secondKey, secondHash, secondValue, shift + BITS);
+
+            return new HamtNode(0, 1 << firstFragment, new Object[] { child });
+        }
+
+        final Object[] content = firstFragment < secondFragment
+                ? new Object[] { firstKey, firstValue, secondKey, secondValue }
+                : new Object[] { secondKey, secondValue, firstKey, firstValue };
+
+        return new HamtNode((1 << firstFragment) | (1 << secondFragment), 0, content);
+    }
+
+    private static int bit(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static int index(final int bitmap, final int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+/**
+ * Counters of a {@link ConfigInterner}.
+ *
+ * @param nodes the number of nodes that were interned
+ * @param distinctNodes the number of distinct nodes the interner retains
+ * @param strings the number of keys and string values that were interned
+ * @param distinctStrings the number of distinct strings the interner retains
+ */
+public record InternStats(long nodes, long distinctNodes, long strings, long distinctStrings) {
+    /**
+     * Returns the share of interned nodes that were replaced by an existing equal node.
+     *
+     * @return a value between {@code 0} (nothing shared) and {@code 1}
+     */
+    public double nodeDedupRatio() {
+        return ratio(this.nodes, this.distinctNodes);
+    }
+
+    /**
+     * Returns the share of interned strings that were replaced by an existing equal string.
+     *
+     * @return a value between {@code 0} (nothing shared) and {@code 1}
+     */
+    public double stringDedupRatio() {
+        return ratio(this.strings, this.distinctStrings);
+    }
+
+    private static double ratio(final long total, final long distinct) {
+        return total == 0 ? 0.0 : 1.0 - (double) distinct / total;
+    }
+}
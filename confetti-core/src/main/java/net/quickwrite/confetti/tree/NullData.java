@@ -0,0 +1,46 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.NodeType;
+
+/**
+ * The explicit {@code null} value of an immutable configuration tree.
+ *
+ * <p>
+ * There is exactly one instance which is represented by a
+ * {@link net.quickwrite.confetti.NullNode NullNode}.
+ */
+public final class NullData implements ConfigData {
+    /** The only instance. */
+    public static final NullData INSTANCE = new NullData();
+
+    private NullData() {}
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeType type() {
+        return NodeType.NULL;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object other) {
+        return other == this;
+    }
+
+    @Override
+    public String toString() {
+        return "null";
+    }
+}
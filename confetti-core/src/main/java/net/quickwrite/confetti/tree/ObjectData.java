@@ -0,0 +1,527 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.NodeEquality;
+import net.quickwrite.confetti.NodeType;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable key–value mapping of an immutable configuration tree.
+ *
+ * <p>
+ * Objects with up to {@value #SMALL_LIMIT} entries store their keys and values in two arrays
+ * and keep the order in which the entries were added. Larger objects are stored in a
+ * persistent hash array mapped trie and iterate in hash order.
+ * {@snippet :
+ * final ObjectData server = ObjectData.builder()
+ *         .put("host", ScalarData.ofString("localhost"))
+ *         .put("port", ScalarData.ofLong(8080))
+ *         .build();
+ * }
+ *
+ * <h2>Updates</h2>
+ * {@link #with(String, ConfigData)} and {@link #without(String)} return a new object and leave
+ * this one untouched. The new object shares all unchanged values, and for large objects also
+ * all trie nodes that are not on the path to the changed key, so an update costs
+ * {@code O(log n)} instead of a full copy.
+ */
+public final class ObjectData implements ConfigData {
+    /** Objects up to this size are stored as plain arrays. */
+    private static final int SMALL_LIMIT = 8;
+
+    private static final ObjectData EMPTY = new ObjectData(new String[0], new ConfigData[0], 0);
+
+    /** The keys of a small object or {@code null}. */
+    private final String[] keys;
+    /** The values of a small object or {@code null}. */
+    private final ConfigData[] values;
+    /** The trie of a large object or {@code null}. */
+    private final HamtNode root;
+    private final int size;
+    private final int hash;
+
+    private ObjectData(final String[] keys, final ConfigData[] values, final int hash) {
+        this.keys = keys;
+        this.values = values;
+        this.root = null;
+        this.size = keys.length;
+        this.hash = hash;
+    }
+
+    private ObjectData(final HamtNode root, final int size, final int hash) {
+        this.keys = null;
+        this.values = null;
+        this.root = root;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns the object without entries.
+     *
+     * @return The empty object
+     */
+    public static ObjectData empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a new builder for an object.
+     *
+     * @return The new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return The number of entries
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the value of the key.
+     *
+     * @param key The key
+     * @return The value or {@code null} if the key is not present
+     */
+    public ConfigData get(final String key) {
+        if (key == null) {
+            return null;
+        }
+
+        if (this.root != null) {
+            return this.root.get(key, HamtNode.hash(key), 0);
+        }
+
+        final int index = this.indexOf(key);
+
+        return index < 0 ? null : this.values[index];
+    }
+
+    /**
+     * Checks if the key is present.
+     *
+     * @param key The key
+     * @return {@code true} if the object contains the key
+     */
+    public boolean containsKey(final String key) {
+        return this.get(key) != null;
+    }
+
+    /**
+     * Returns an unmodifiable view of the keys.
+     *
+     * @return The keys
+     */
+    public Set<String> keys() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(final Object key) {
+                return key instanceof String string && containsKey(string);
+            }
+
+            @Override
+            public Iterator<String> iterator() {
+                final Cursor cursor = cursor();
+
+                return new Iterator<>() {
+                    private boolean advanced;
+                    private boolean available;
+
+                    @Override
+                    public boolean hasNext() {
+                        if (!this.advanced) {
+                            this.available = cursor.next();
+                            this.advanced = true;
+                        }
+
+                        return this.available;
+                    }
+
+                    @Override
+                    public String next() {
+                        if (!this.hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+
+                        this.advanced = false;
+
+                        return cursor.key();
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Performs the action for every entry.
+     *
+     * @param action The action that receives every key and value
+     */
+    public void forEach(final BiConsumer<? super String, ? super ConfigData> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+
+        if (this.root != null) {
+            this.root.forEach(action);
+            return;
+        }
+
+        for (int i = 0; i < this.keys.length; ++i) {
+            action.accept(this.keys[i], this.values[i]);
+        }
+    }
+
+    /**
+     * Returns an object in which the key has the value.
+     *
+     * @param key The key
+     * @param value The new value of the key
+     * @return The updated object or this object if the key already has the same value
+     */
+    public ObjectData with(final String key, final ConfigData value) {
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(value, "value cannot be null");
+
+        if (this.root != null) {
+            final HamtNode.Change change = new HamtNode.Change();
+            final HamtNode root = this.root.put(key, HamtNode.hash(key), value, 0, change);
+
+            if (root == this.root) {
+                return this;
+            }
+
+            return change.previous == null
+                    ? new ObjectData(root, this.size + 1, this.hash + entryHash(key, value))
+                    : new ObjectData(root, this.size, this.hash - entryHash(key, change.previous) + entryHash(key, value));
+        }
+
+        final int index = this.indexOf(key);
+
+        if (index >= 0) {
+            if (this.values[index] == value) {
+                return this;
+            }
+
+            final ConfigData[] values = this.values.clone();
+            values[index] = value;
+
+            return new ObjectData(this.keys, values, this.hash - entryHash(key, this.values[index]) + entryHash(key, value));
+        }
+
+        if (this.keys.length == SMALL_LIMIT) {
+            return this.toTrie().with(key, value);
+        }
+
+        final String[] keys = Arrays.copyOf(this.keys, this.keys.length + 1);
+        final ConfigData[] values = Arrays.copyOf(this.values, this.values.length + 1);
+        keys[this.keys.length] = key;
+        values[this.values.length] = value;
+
+        return new ObjectData(keys, values, this.hash + entryHash(key, value));
+    }
+
+    /**
+     * Returns an object without the key.
+     *
+     * @param key The key
+     * @return The updated object or this object if the key is not present
+     */
+    public ObjectData without(final String key) {
+        Objects.requireNonNull(key, "key cannot be null");
+
+        if (this.root != null) {
+            final HamtNode.Change change = new HamtNode.Change();
+            final HamtNode root = this.root.remove(key, HamtNode.hash(key), 0, change);
+
+            if (change.previous == null) {
+                return this;
+            }
+
+            return this.size == 1 ? EMPTY : new ObjectData(root, this.size - 1, this.hash - entryHash(key, change.previous));
+        }
+
+        final int index = this.indexOf(key);
+
+        if (index < 0) {
+            return this;
+        }
+
+        if (this.keys.length == 1) {
+            return EMPTY;
+        }
+
+        final String[] keys = new String[this.keys.length - 1];
+        final ConfigData[] values = new ConfigData[this.values.length - 1];
+        System.arraycopy(this.keys, 0, keys, 0, index);
+        System.arraycopy(this.keys, index + 1, keys, index, keys.length - index);
+        System.arraycopy(this.values, 0, values, 0, index);
+        System.arraycopy(this.values, index + 1, values, index, values.length - index);
+
+        return new ObjectData(keys, values, this.hash - entryHash(key, this.values[index]));
+    }
+
+    /**
+     * Creates a cursor over the entries.
+     */
+    Cursor cursor() {
+        return this.root != null ? new TrieCursor(this.root) : new ArrayCursor(this.keys, this.values);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeType type() {
+        return NodeType.OBJECT;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof ObjectData object) || this.hash != object.hash || this.size != object.size) {
+            return false;
+        }
+
+        final Cursor cursor = this.cursor();
+        while (cursor.next()) {
+            final ConfigData value = cursor.value();
+            final ConfigData otherValue = object.get(cursor.key());
+
+            if (value != otherValue && (otherValue == null || !value.equals(otherValue))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        this.forEach((key, value) -> joiner.add(key + "=" + value));
+
+        return joiner.toString();
+    }
+
+    private int indexOf(final String key) {
+        for (int i = 0; i < this.keys.length; ++i) {
+            final String candidate = this.keys[i];
+
+            if (candidate == key || candidate.equals(key)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private ObjectData toTrie() {
+        final HamtNode.Change change = new HamtNode.Change();
+        HamtNode root = HamtNode.EMPTY;
+
+        for (int i = 0; i < this.keys.length; ++i) {
+            root = root.put(this.keys[i], HamtNode.hash(this.keys[i]), this.values[i], 0, change);
+        }
+
+        return new ObjectData(root, this.keys.length, this.hash);
+    }
+
+    private static int entryHash(final String key, final ConfigData value) {
+        return NodeEquality.entryHash(key, value.hashCode());
+    }
+
+    /**
+     * Spreads the bits of a hash code (the finalizer of MurmurHash3).
+     */
+    static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+
+        return hash;
+    }
+
+    /**
+     * A cursor over the entries of an object that starts before the first entry.
+     */
+    abstract static sealed class Cursor permits ArrayCursor, TrieCursor {
+        /**
+         * Moves to the next entry.
+         *
+         * @return {@code false} if there are no more entries
+         */
+        abstract boolean next();
+
+        abstract String key();
+
+        abstract ConfigData value();
+    }
+
+    private static final class ArrayCursor extends Cursor {
+        private final String[] keys;
+        private final ConfigData[] values;
+        private int index = -1;
+
+        private ArrayCursor(final String[] keys, final ConfigData[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        boolean next() {
+            return ++this.index < this.keys.length;
+        }
+
+        @Override
+        String key() {
+            return this.keys[this.index];
+        }
+
+        @Override
+        ConfigData value() {
+            return this.values[this.index];
+        }
+    }
+
+    /**
+     * Walks the trie depth-first with an explicit stack: the entries of a node
+     * are visited before its children.
+     */
+    private static final class TrieCursor extends Cursor {
+        private final HamtNode[] nodes = new HamtNode[HamtNode.MAX_DEPTH + 1];
+        /** The next entry of every node on the stack; entries are followed by the children. */
+        private final int[] positions = new int[HamtNode.MAX_DEPTH + 1];
+        private int depth;
+
+        private HamtNode node;
+        private int index;
+
+        private TrieCursor(final HamtNode root) {
+            this.nodes[0] = root;
+        }
+
+        @Override
+        boolean next() {
+            while (this.depth >= 0) {
+                final HamtNode current = this.nodes[this.depth];
+                final int position = this.positions[this.depth]++;
+                final int payload = current.payloadCount();
+
+                if (position < payload) {
+                    this.node = current;
+                    this.index = position;
+                    return true;
+                }
+
+                if (position - payload < current.nodeCount()) {
+                    ++this.depth;
+                    this.nodes[this.depth] = current.childAt(position - payload);
+                    this.positions[this.depth] = 0;
+                    continue;
+                }
+
+                this.nodes[this.depth--] = null;
+            }
+
+            this.node = null;
+            return false;
+        }
+
+        @Override
+        String key() {
+            return this.node.keyAt(this.index);
+        }
+
+        @Override
+        ConfigData value() {
+            return this.node.valueAt(this.index);
+        }
+    }
+
+    /**
+     * Collects the entries of an {@link ObjectData}.
+     *
+     * <p>
+     * Putting a key that is already present replaces its value. Small objects
+     * keep the position of the first put.
+     */
+    public static final class Builder {
+        private final Map<String, ConfigData> entries = new LinkedHashMap<>();
+
+        private Builder() {}
+
+        /**
+         * Adds an entry.
+         *
+         * @param key The key
+         * @param value The value
+         * @return This builder
+         */
+        public Builder put(final String key, final ConfigData value) {
+            Objects.requireNonNull(key, "key cannot be null");
+            Objects.requireNonNull(value, "value cannot be null");
+
+            this.entries.put(key, value);
+
+            return this;
+        }
+
+        /**
+         * Creates the object with the collected entries.
+         *
+         * @return The object
+         */
+        public ObjectData build() {
+            final int size = this.entries.size();
+
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            final String[] keys = new String[size];
+            final ConfigData[] values = new ConfigData[size];
+            int hash = 0;
+            int index = 0;
+
+            for (final Map.Entry<String, ConfigData> entry : this.entries.entrySet()) {
+                keys[index] = entry.getKey();
+                values[index] = entry.getValue();
+                hash += entryHash(keys[index], values[index]);
+                ++index;
+            }
+
+            if (size <= SMALL_LIMIT) {
+                return new ObjectData(keys, values, hash);
+            }
+
+            return new ObjectData(HamtNode.of(keys, values), size, hash);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.NodeType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * A string, number or boolean of an immutable configuration tree.
+ *
+ * <p>
+ * Numbers and booleans are stored in a single {@code long} field, so they do not
+ * need a boxed object. Integral numbers are stored as {@link Kind#LONG}, all other
+ * numbers as {@link Kind#DOUBLE}.
+ * {@snippet :
+ * final ScalarData port = ScalarData.ofLong(8080);
+ * final ScalarData host = ScalarData.ofString("localhost");
+ * }
+ */
+public final class ScalarData implements ConfigData {
+    /**
+     * The kind of value a {@link ScalarData} holds.
+     */
+    public enum Kind {
+        STRING,
+        LONG,
+        DOUBLE,
+        BOOLEAN
+    }
+
+    private static final ScalarData TRUE = new ScalarData(Kind.BOOLEAN, 1L, null);
+    private static final ScalarData FALSE = new ScalarData(Kind.BOOLEAN, 0L, null);
+
+    private final Kind kind;
+    /** The value of numbers and booleans; the raw bits for doubles. */
+    private final long bits;
+    private final String string;
+    private final int hash;
+
+    private ScalarData(final Kind kind, final long bits, final String string) {
+        this.kind = kind;
+        this.bits = bits;
+        this.string = string;
+        this.hash = 31 * kind.ordinal() + (string != null ? string.hashCode() : Long.hashCode(bits));
+    }
+
+    /**
+     * Creates a string scalar.
+     *
+     * @param value The string
+     * @return The scalar
+     */
+    public static ScalarData ofString(final String value) {
+        Objects.requireNonNull(value, "value cannot be null");
+
+        return new ScalarData(Kind.STRING, 0L, value);
+    }
+
+    /**
+     * Creates an integral number scalar.
+     *
+     * @param value The number
+     * @return The scalar
+     */
+    public static ScalarData ofLong(final long value) {
+        return new ScalarData(Kind.LONG, value, null);
+    }
+
+    /**
+     * Creates a floating point number scalar.
+     *
+     * @param value The number
+     * @return The scalar
+     */
+    public static ScalarData ofDouble(final double value) {
+        return new ScalarData(Kind.DOUBLE, Double.doubleToLongBits(value), null);
+    }
+
+    /**
+     * Returns the boolean scalar.
+     *
+     * @param value The boolean
+     * @return The shared scalar for the value
+     */
+    public static ScalarData ofBoolean(final boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * Creates a scalar from a boxed value as returned by {@link net.quickwrite.confetti.ValueNode#value()}.
+     *
+     * <p>
+     * {@link Byte}, {@link Short}, {@link Integer} and {@link Long} values become {@link Kind#LONG},
+     * all other {@link Number numbers} become {@link Kind#DOUBLE}. A {@link BigInteger} becomes
+     * {@link Kind#LONG} and a {@link BigDecimal} {@link Kind#DOUBLE} only if the conversion is
+     * exact. Any other object is stored as its string representation.
+     *
+     * @param value The boxed value
+     * @return The scalar
+     * @throws IllegalArgumentException if a {@link BigInteger} or {@link BigDecimal} cannot be
+     *                                  stored without losing precision
+     */
+    public static ScalarData of(final Object value) {
+        Objects.requireNonNull(value, "value cannot be null");
+
+        return switch (value) {
+            case String string -> ofString(string);
+            case Boolean bool -> ofBoolean(bool);
+            case Byte number -> ofLong(number);
+            case Short number -> ofLong(number);
+            case Integer number -> ofLong(number);
+            case Long number -> ofLong(number);
+            case BigInteger number -> ofBigInteger(number);
+            case BigDecimal number -> ofBigDecimal(number);
+            case Number number -> ofDouble(number.doubleValue());
+            default -> ofString(value.toString());
+        };
+    }
+
+    private static ScalarData ofBigInteger(final BigInteger value) {
+        if (value.bitLength() >= Long.SIZE) {
+            throw new IllegalArgumentException("The number " + value + " is out of the range of a long");
+        }
+
+        return ofLong(value.longValue());
+    }
+
+    private static ScalarData ofBigDecimal(final BigDecimal value) {
+        final double converted = value.doubleValue();
+
+        if (!Double.isFinite(converted) || BigDecimal.valueOf(converted).compareTo(value) != 0) {
+            throw new IllegalArgumentException("The number " + value + " cannot be stored as a double without losing precision");
+        }
+
+        return ofDouble(converted);
+    }
+
+    /**
+     * Returns the kind of this scalar.
+     *
+     * @return The kind
+     */
+    public Kind kind() {
+        return this.kind;
+    }
+
+    /**
+     * Returns the string of a {@link Kind#STRING} scalar.
+     *
+     * @return The string
+     * @throws ClassCastException if the scalar is not a string
+     */
+    public String asString() {
+        if (this.kind != Kind.STRING) {
+            throw new ClassCastException("A " + this.kind + " scalar cannot be used as a string");
+        }
+
+        return this.string;
+    }
+
+    /**
+     * Returns the value of a number scalar as a long.
+     *
+     * @return The number
+     * @throws ClassCastException if the scalar is not a number
+     */
+    public long asLong() {
+        return switch (this.kind) {
+            case LONG -> this.bits;
+            case DOUBLE -> (long) Double.longBitsToDouble(this.bits);
+            default -> throw new ClassCastException("A " + this.kind + " scalar cannot be used as a number");
+        };
+    }
+
+    /**
+     * Returns the value of a number scalar as a double.
+     *
+     * @return The number
+     * @throws ClassCastException if the scalar is not a number
+     */
+    public double asDouble() {
+        return switch (this.kind) {
+            case LONG -> this.bits;
+            case DOUBLE -> Double.longBitsToDouble(this.bits);
+            default -> throw new ClassCastException("A " + this.kind + " scalar cannot be used as a number");
+        };
+    }
+
+    /**
+     * Returns the value of a {@link Kind#BOOLEAN} scalar.
+     *
+     * @return The boolean
+     * @throws ClassCastException if the scalar is not a boolean
+     */
+    public boolean asBoolean() {
+        if (this.kind != Kind.BOOLEAN) {
+            throw new ClassCastException("A " + this.kind + " scalar cannot be used as a boolean");
+        }
+
+        return this.bits != 0L;
+    }
+
+    /**
+     * Returns the value boxed into a {@link String}, {@link Long}, {@link Double} or {@link Boolean}.
+     *
+     * @return The boxed value
+     */
+    public Object value() {
+        return switch (this.kind) {
+            case STRING -> this.string;
+            case LONG -> this.bits;
+            case DOUBLE -> Double.longBitsToDouble(this.bits);
+            case BOOLEAN -> this.bits != 0L;
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeType type() {
+        return NodeType.VALUE;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        return other instanceof ScalarData scalar
+                && this.hash == scalar.hash
+                && this.kind == scalar.kind
+                && this.bits == scalar.bits
+                && Objects.equals(this.string, scalar.string);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(this.value());
+    }
+}
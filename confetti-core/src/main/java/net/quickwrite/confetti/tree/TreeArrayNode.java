@@ -0,0 +1,166 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.AbstractConfigNode;
+import net.quickwrite.confetti.ArrayNode;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.NodeEquality;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link ArrayNode} implementation that wraps an {@link ArrayData}.
+ *
+ * <p>
+ * The wrapped data is immutable, so the list returned by {@link #toList()} is an
+ * unmodifiable view. Element nodes are created on access.
+ */
+public final class TreeArrayNode extends AbstractConfigNode implements ArrayNode {
+    private final ArrayData data;
+
+    /**
+     * Creates a root-level node for the array.
+     *
+     * @param data the non-null array to wrap
+     */
+    public TreeArrayNode(final ArrayData data) {
+        super();
+
+        this.data = Objects.requireNonNull(data, "data cannot be null");
+    }
+
+    /**
+     * Creates a child node for the array.
+     *
+     * @param data   the non-null array to wrap
+     * @param parent the non-null parent {@link ConfigNode}
+     * @param key    the non-null {@link PathSegment} that identifies this node in the parent
+     */
+    public TreeArrayNode(final ArrayData data, final ConfigNode parent, final PathSegment key) {
+        super(parent, key);
+
+        this.data = Objects.requireNonNull(data, "data cannot be null");
+    }
+
+    /**
+     * Returns the wrapped array.
+     *
+     * @return the array
+     */
+    public ArrayData data() {
+        return this.data;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConfigNode get(final int index) {
+        return TreeNodeAdapter.toConfigNode(this.data.get(index), this, PathSegment.index(index));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return this.data.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the wrapped data without creating a {@link ConfigNode}.
+     */
+    @Override
+    public long getLong(final int index) {
+        return TreeNodeAdapter.requireScalar(this.data.get(index)).asLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the wrapped data without creating a {@link ConfigNode}.
+     */
+    @Override
+    public double getDouble(final int index) {
+        return TreeNodeAdapter.requireScalar(this.data.get(index)).asDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the wrapped data without creating a {@link ConfigNode}.
+     */
+    @Override
+    public boolean getBoolean(final int index) {
+        return TreeNodeAdapter.requireScalar(this.data.get(index)).asBoolean();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the wrapped data without creating a {@link ConfigNode}.
+     */
+    @Override
+    public String getString(final int index) {
+        return TreeNodeAdapter.requireScalar(this.data.get(index)).asString();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <hr>
+     * <p>
+     * The returned list is an unmodifiable, lazy view that wraps the elements on access.
+     */
+    @Override
+    public List<ConfigNode> toList() {
+        return new AbstractList<>() {
+            @Override
+            public ConfigNode get(final int index) {
+                return TreeArrayNode.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return data.size();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Nodes are compared structurally as defined by {@link NodeEquality}. Two tree nodes are equal
+     * if their {@link #data() data} is equal, which usually takes constant time.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other instanceof TreeArrayNode node) {
+            return this.data.equals(node.data);
+        }
+
+        return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The hash code is the {@link ConfigData#hashCode() hash code} of the {@link #data() data},
+     * which is computed once when the data is created.
+     */
+    @Override
+    public int hashCode() {
+        return this.data.hashCode();
+    }
+}
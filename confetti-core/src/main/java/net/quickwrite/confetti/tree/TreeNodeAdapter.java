@@ -0,0 +1,80 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.NullNode;
+import net.quickwrite.confetti.exception.InvalidNodeTypeException;
+import net.quickwrite.confetti.path.PathSegment;
+
+/**
+ * Utility class that wraps {@link ConfigData} into the corresponding {@link ConfigNode}.
+ *
+ * <hr>
+ *
+ * This class is intentionally non-instantiable and exposes only static
+ * utility methods.
+ */
+final class TreeNodeAdapter {
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private TreeNodeAdapter() {}
+
+    /**
+     * Wraps the data into a child node.
+     *
+     * @param data    the data to wrap; may be {@code null}
+     * @param parent  the non-null parent of the resulting node
+     * @param segment the non-null segment identifying the node within its parent
+     * @return the node or {@code null} if {@code data} is {@code null}
+     */
+    static ConfigNode toConfigNode(final ConfigData data, final ConfigNode parent, final PathSegment segment) {
+        if (data == null) {
+            return null;
+        }
+
+        return switch (data) {
+            case ObjectData object -> new TreeObjectNode(object, parent, segment);
+            case ArrayData array -> new TreeArrayNode(array, parent, segment);
+            case ScalarData scalar -> new TreeValueNode(scalar, parent, segment);
+            case NullData ignored -> new NullNode(parent, segment);
+        };
+    }
+
+    /**
+     * Returns the data if it is a scalar.
+     *
+     * @param data the data of a key or index; may be {@code null}
+     * @return the scalar or {@code null} if the data is absent or {@link NullData}
+     * @throws InvalidNodeTypeException if the data is an object or an array
+     */
+    static ScalarData scalarOrNull(final ConfigData data) {
+        return switch (data) {
+            case null -> null;
+            case NullData ignored -> null;
+            case ScalarData scalar -> scalar;
+            case ObjectData ignored -> throw new InvalidNodeTypeException("The node cannot be used as a value node.");
+            case ArrayData ignored -> throw new InvalidNodeTypeException("The node cannot be used as a value node.");
+        };
+    }
+
+    /**
+     * Returns the data if it is a scalar.
+     *
+     * @param data the data of an index
+     * @return the scalar
+     * @throws InvalidNodeTypeException if the data is not a scalar
+     */
+    static ScalarData requireScalar(final ConfigData data) {
+        if (data instanceof ScalarData scalar) {
+            return scalar;
+        }
+
+        throw new InvalidNodeTypeException("The node cannot be used as a value node.");
+    }
+}
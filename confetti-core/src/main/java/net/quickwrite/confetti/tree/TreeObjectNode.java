@@ -0,0 +1,323 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.AbstractConfigNode;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.NodeEquality;
+import net.quickwrite.confetti.EntryCursor;
+import net.quickwrite.confetti.ObjectNode;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link ObjectNode} implementation that wraps an {@link ObjectData}.
+ *
+ * <p>
+ * The wrapped data is immutable, so every collection returned by this class is an
+ * unmodifiable view. Child nodes are created on access, so the same data can be
+ * shared by several parents.
+ */
+public final class TreeObjectNode extends AbstractConfigNode implements ObjectNode {
+    private final ObjectData data;
+
+    /**
+     * Creates a root-level node for the object.
+     *
+     * @param data the non-null object to wrap
+     */
+    public TreeObjectNode(final ObjectData data) {
+        super();
+
+        this.data = Objects.requireNonNull(data, "data cannot be null");
+    }
+
+    /**
+     * Creates a child node for the object.
+     *
+     * @param data   the non-null object to wrap
+     * @param parent the non-null parent {@link ConfigNode}
+     * @param key    the non-null {@link PathSegment} that identifies this node in the parent
+     */
+    public TreeObjectNode(final ObjectData data, final ConfigNode parent, final PathSegment key) {
+        super(parent, key);
+
+        this.data = Objects.requireNonNull(data, "data cannot be null");
+    }
+
+    /**
+     * Returns the wrapped object.
+     *
+     * @return the object
+     */
+    public ObjectData data() {
+        return this.data;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<ConfigNode> get(final String key) {
+        return Optional.ofNullable(this.getNodeOrNull(key));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConfigNode getNodeOrNull(final String key) {
+        return TreeNodeAdapter.toConfigNode(this.data.get(key), this, PathSegment.key(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the wrapped data without creating a {@link ConfigNode}.
+     */
+    @Override
+    public long getLong(final String key, final long defaultValue) {
+        final ScalarData scalar = TreeNodeAdapter.scalarOrNull(this.data.get(key));
+
+        return scalar == null ? defaultValue : scalar.asLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the wrapped data without creating a {@link ConfigNode}.
+     */
+    @Override
+    public double getDouble(final String key, final double defaultValue) {
+        final ScalarData scalar = TreeNodeAdapter.scalarOrNull(this.data.get(key));
+
+        return scalar == null ? defaultValue : scalar.asDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the wrapped data without creating a {@link ConfigNode}.
+     */
+    @Override
+    public boolean getBoolean(final String key, final boolean defaultValue) {
+        final ScalarData scalar = TreeNodeAdapter.scalarOrNull(this.data.get(key));
+
+        return scalar == null ? defaultValue : scalar.asBoolean();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the wrapped data without creating a {@link ConfigNode}.
+     */
+    @Override
+    public String getString(final String key, final String defaultValue) {
+        final ScalarData scalar = TreeNodeAdapter.scalarOrNull(this.data.get(key));
+
+        return scalar == null ? defaultValue : scalar.asString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<String> keys() {
+        return this.data.keys();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<ConfigNode> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public int size() {
+                return data.size();
+            }
+
+            @Override
+            public Iterator<ConfigNode> iterator() {
+                final Iterator<Map.Entry<String, ConfigNode>> entries = entryIterator();
+
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public ConfigNode next() {
+                        return entries.next().getValue();
+                    }
+                };
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEachEntry(final BiConsumer<? super String, ? super ConfigNode> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+
+        this.data.forEach((key, value) -> action.accept(key, this.wrap(key, value)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <hr>
+     * <p>
+     * The returned map is an unmodifiable, lazy view that wraps the values on access.
+     */
+    @Override
+    public Map<String, ConfigNode> toMap() {
+        return new AbstractMap<>() {
+            @Override
+            public int size() {
+                return data.size();
+            }
+
+            @Override
+            public ConfigNode get(final Object key) {
+                return key instanceof String string ? getNodeOrNull(string) : null;
+            }
+
+            @Override
+            public boolean containsKey(final Object key) {
+                return key instanceof String string && data.containsKey(string);
+            }
+
+            @Override
+            public Set<String> keySet() {
+                return data.keys();
+            }
+
+            @Override
+            public Set<Entry<String, ConfigNode>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public int size() {
+                        return data.size();
+                    }
+
+                    @Override
+                    public Iterator<Entry<String, ConfigNode>> iterator() {
+                        return entryIterator();
+                    }
+                };
+            }
+
+            @Override
+            public void forEach(final BiConsumer<? super String, ? super ConfigNode> action) {
+                forEachEntry(action);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The node of the current entry is wrapped once {@link EntryCursor#value()} is called.
+     */
+    @Override
+    public EntryCursor entryCursor() {
+        final ObjectData.Cursor cursor = this.data.cursor();
+
+        return new EntryCursor() {
+            private boolean valid;
+            private ConfigNode value;
+
+            @Override
+            public boolean next() {
+                this.value = null;
+                this.valid = cursor.next();
+
+                return this.valid;
+            }
+
+            @Override
+            public String key() {
+                if (!this.valid) {
+                    throw new IllegalStateException("The cursor does not point at an entry");
+                }
+
+                return cursor.key();
+            }
+
+            @Override
+            public ConfigNode value() {
+                if (this.value == null) {
+                    this.value = wrap(this.key(), cursor.value());
+                }
+
+                return this.value;
+            }
+        };
+    }
+
+    private Iterator<Map.Entry<String, ConfigNode>> entryIterator() {
+        final ObjectData.Cursor cursor = this.data.cursor();
+
+        return new Iterator<>() {
+            private boolean advanced;
+            private boolean available;
+
+            @Override
+            public boolean hasNext() {
+                if (!this.advanced) {
+                    this.available = cursor.next();
+                    this.advanced = true;
+                }
+
+                return this.available;
+            }
+
+            @Override
+            public Map.Entry<String, ConfigNode> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                this.advanced = false;
+
+                return new AbstractMap.SimpleImmutableEntry<>(cursor.key(), wrap(cursor.key(), cursor.value()));
+            }
+        };
+    }
+
+    private ConfigNode wrap(final String key, final ConfigData value) {
+        return TreeNodeAdapter.toConfigNode(value, this, PathSegment.key(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Nodes are compared structurally as defined by {@link NodeEquality}. Two tree nodes are equal
+     * if their {@link #data() data} is equal, which usually takes constant time.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other instanceof TreeObjectNode node) {
+            return this.data.equals(node.data);
+        }
+
+        return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The hash code is the {@link ConfigData#hashCode() hash code} of the {@link #data() data},
+     * which is computed once when the data is created.
+     */
+    @Override
+    public int hashCode() {
+        return this.data.hashCode();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.AbstractConfigNode;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.NodeEquality;
+import net.quickwrite.confetti.ValueNode;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.util.Objects;
+
+/**
+ * {@link ValueNode} implementation that wraps a {@link ScalarData}.
+ */
+public final class TreeValueNode extends AbstractConfigNode implements ValueNode {
+    private final ScalarData data;
+
+    /**
+     * Creates a root-level node for the scalar.
+     *
+     * @param data the non-null scalar to wrap
+     */
+    public TreeValueNode(final ScalarData data) {
+        super();
+
+        this.data = Objects.requireNonNull(data, "data cannot be null");
+    }
+
+    /**
+     * Creates a child node for the scalar.
+     *
+     * @param data   the non-null scalar to wrap
+     * @param parent the non-null parent {@link ConfigNode}
+     * @param key    the non-null {@link PathSegment} that identifies this node in the parent
+     */
+    public TreeValueNode(final ScalarData data, final ConfigNode parent, final PathSegment key) {
+        super(parent, key);
+
+        this.data = Objects.requireNonNull(data, "data cannot be null");
+    }
+
+    /**
+     * Returns the wrapped scalar.
+     *
+     * @return the scalar
+     */
+    public ScalarData data() {
+        return this.data;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String asString() {
+        return this.data.asString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long asLong() {
+        return this.data.asLong();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double asDouble() {
+        return this.data.asDouble();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean asBoolean() {
+        return this.data.asBoolean();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object value() {
+        return this.data.value();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Nodes are compared structurally as defined by {@link NodeEquality}. Two tree nodes are equal
+     * if their {@link #data() data} is equal, which usually takes constant time.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other instanceof TreeValueNode node) {
+            return this.data.equals(node.data);
+        }
+
+        return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The hash code is the {@link ConfigData#hashCode() hash code} of the {@link #data() data},
+     * which is computed once when the data is created.
+     */
+    @Override
+    public int hashCode() {
+        return this.data.hashCode();
+    }
+}
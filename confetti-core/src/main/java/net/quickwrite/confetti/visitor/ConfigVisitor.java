@@ -0,0 +1,61 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.visitor;
+
+import net.quickwrite.confetti.ConfigNode;
+
+/**
+ * Receives the nodes of a configuration tree from a {@link ConfigWalker}.
+ *
+ * <p>
+ * Every node is first {@linkplain #enter entered}. If the callback returns {@link VisitResult#CONTINUE},
+ * the children of an object or array are visited and the node is {@linkplain #leave left} afterwards.
+ * Values and {@code null}-nodes are left directly after they have been entered.
+ * {@snippet :
+ * ConfigWalker.sequential().walk(root, new ConfigVisitor() {
+ *     @Override
+ *     public VisitResult enter(final ConfigNode node, final PathCursor path) {
+ *         if (path.depth() > 0 && path.isKey(path.depth() - 1) && path.key(path.depth() - 1).equals("secrets")) {
+ *             return VisitResult.SKIP_SUBTREE;
+ *         }
+ *
+ *         return VisitResult.CONTINUE;
+ *     }
+ * });
+ * }
+ *
+ * <p>
+ * The {@link PathCursor} is reused for every callback and only valid while the callback runs.
+ * Use {@link PathCursor#toNodePath()} to keep a path.
+ *
+ * <p>
+ * When the walker runs in parallel mode the callbacks are made from multiple threads,
+ * so the visitor has to be thread-safe.
+ */
+public interface ConfigVisitor {
+    /**
+     * Called before the children of the node are visited.
+     *
+     * @param node The node that is being visited
+     * @param path The path of the node, only valid during this call
+     * @return How the walk should continue
+     */
+    default VisitResult enter(final ConfigNode node, final PathCursor path) {
+        return VisitResult.CONTINUE;
+    }
+
+    /**
+     * Called after all children of the node have been visited.
+     *
+     * @param node The node that has been visited
+     * @param path The path of the node, only valid during this call
+     * @return {@link VisitResult#TERMINATE} to stop the walk, any other value continues it
+     */
+    default VisitResult leave(final ConfigNode node, final PathCursor path) {
+        return VisitResult.CONTINUE;
+    }
+}
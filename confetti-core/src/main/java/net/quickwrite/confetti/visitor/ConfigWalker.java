@@ -0,0 +1,349 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.visitor;
+
+import net.quickwrite.confetti.ArrayNode;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.ObjectNode;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Walks a configuration tree depth-first and reports every node to a {@link ConfigVisitor}.
+ *
+ * <p>
+ * The walker does not recurse: the containers that are currently open are kept on an
+ * explicit stack, so arbitrarily deep documents can be walked without a
+ * {@link StackOverflowError}. Children are read with {@link ObjectNode#keys()},
+ * {@link ObjectNode#getNodeOrNull(String)}, {@link ArrayNode#size()} and
+ * {@link ArrayNode#get(int)}, so no intermediate collections are created.
+ * {@snippet :
+ * final boolean completed = ConfigWalker.sequential().walk(root, visitor);
+ * }
+ *
+ * <h2>Parallel mode</h2>
+ * A walker created with {@link #parallel(int)} splits the children of every container that has
+ * at least {@code threshold} children into fork-join tasks. The children of such a container are
+ * visited concurrently and in no particular order; {@link ConfigVisitor#leave} of the container is
+ * called once all of its children have been visited. Smaller containers are walked sequentially by
+ * the task that found them.
+ */
+public final class ConfigWalker {
+    private static final ConfigWalker SEQUENTIAL = new ConfigWalker(null, Integer.MAX_VALUE);
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    private ConfigWalker(final ForkJoinPool pool, final int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns a walker that visits every node on the calling thread in document order.
+     *
+     * @return The sequential walker
+     */
+    public static ConfigWalker sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Returns a walker that forks at containers with at least {@code threshold} children
+     * and runs in the {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     * @param threshold The minimum number of children of a container that are visited in parallel
+     * @return The parallel walker
+     * @throws IllegalArgumentException if the threshold is smaller than {@code 2}
+     */
+    public static ConfigWalker parallel(final int threshold) {
+        return parallel(ForkJoinPool.commonPool(), threshold);
+    }
+
+    /**
+     * Returns a walker that forks at containers with at least {@code threshold} children
+     * and runs in the given pool.
+     *
+     * @param pool The pool that runs the tasks
+     * @param threshold The minimum number of children of a container that are visited in parallel
+     * @return The parallel walker
+     * @throws IllegalArgumentException if the threshold is smaller than {@code 2}
+     */
+    public static ConfigWalker parallel(final ForkJoinPool pool, final int threshold) {
+        Objects.requireNonNull(pool, "pool cannot be null");
+
+        if (threshold < 2) {
+            throw new IllegalArgumentException("The threshold has to be at least 2 but was " + threshold);
+        }
+
+        return new ConfigWalker(pool, threshold);
+    }
+
+    /**
+     * Walks the tree below (and including) the given node.
+     *
+     * <p>
+     * The paths reported to the visitor are relative to {@code root}.
+     *
+     * @param root The node the walk starts at
+     * @param visitor The visitor that receives the nodes
+     * @return {@code false} if the visitor terminated the walk, otherwise {@code true}
+     */
+    public boolean walk(final ConfigNode root, final ConfigVisitor visitor) {
+        Objects.requireNonNull(root, "root cannot be null");
+        Objects.requireNonNull(visitor, "visitor cannot be null");
+
+        final Walk walk = new Walk(visitor);
+
+        if (this.pool == null || ForkJoinTask.getPool() == this.pool) {
+            walk.walk(root, new PathCursor());
+        } else {
+            this.pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    walk.walk(root, new PathCursor());
+                }
+            });
+        }
+
+        return !walk.terminated;
+    }
+
+    /**
+     * The state of a single walk.
+     */
+    private final class Walk {
+        private final ConfigVisitor visitor;
+
+        /** Set as soon as the visitor returns {@link VisitResult#TERMINATE} on any thread. */
+        private volatile boolean terminated;
+
+        private Walk(final ConfigVisitor visitor) {
+            this.visitor = visitor;
+        }
+
+        /**
+         * Walks the subtree of the node with an explicit stack.
+         *
+         * @param start The node the walk starts at
+         * @param cursor The cursor pointing at {@code start}; it points at {@code start} again afterwards
+         */
+        private void walk(final ConfigNode start, final PathCursor cursor) {
+            final int baseDepth = cursor.depth();
+            Frame[] stack = new Frame[8];
+            int size = 0;
+
+            if (this.open(start, cursor)) {
+                stack[size++] = new Frame(start);
+            }
+
+            while (size > 0 && !this.terminated) {
+                final Frame frame = stack[size - 1];
+                final ConfigNode child = frame.next(cursor);
+
+                if (child == null) {
+                    // All children are visited
+                    stack[--size] = null;
+                    this.leave(frame.node, cursor);
+
+                    if (cursor.depth() > baseDepth) {
+                        cursor.pop();
+                    }
+
+                    continue;
+                }
+
+                if (!this.open(child, cursor)) {
+                    cursor.pop();
+                    continue;
+                }
+
+                if (size == stack.length) {
+                    stack = Arrays.copyOf(stack, size * 2);
+                }
+                stack[size++] = new Frame(child);
+            }
+        }
+
+        /**
+         * Enters the node and decides if its children have to be visited by the caller.
+         * Nodes without children to visit are left immediately.
+         *
+         * @return {@code true} if a frame has to be pushed for the node
+         */
+        private boolean open(final ConfigNode node, final PathCursor cursor) {
+            if (this.terminated) {
+                return false;
+            }
+
+            final VisitResult result = this.visitor.enter(node, cursor);
+
+            if (result == VisitResult.TERMINATE) {
+                this.terminated = true;
+                return false;
+            }
+
+            if (result == VisitResult.SKIP_SUBTREE) {
+                return false;
+            }
+
+            final int children = switch (node.type()) {
+                case OBJECT -> node.toObject().keys().size();
+                case ARRAY -> node.toArray().size();
+                case VALUE, NULL -> 0;
+            };
+
+            if (children >= threshold) {
+                this.fork(node, cursor, children);
+                this.leave(node, cursor);
+
+                return false;
+            }
+
+            if (children == 0) {
+                this.leave(node, cursor);
+
+                return false;
+            }
+
+            return true;
+        }
+
+        private void leave(final ConfigNode node, final PathCursor cursor) {
+            if (!this.terminated && this.visitor.leave(node, cursor) == VisitResult.TERMINATE) {
+                this.terminated = true;
+            }
+        }
+
+        /**
+         * Visits the children of a large container in parallel and waits for them.
+         */
+        private void fork(final ConfigNode container, final PathCursor cursor, final int children) {
+            final String[] keys = container.isObject() ? container.toObject().keys().toArray(String[]::new) : null;
+
+            new ChildrenTask(this, container, keys, cursor, 0, keys != null ? keys.length : children).invoke();
+        }
+    }
+
+    /**
+     * Visits a range of the children of a container, splitting it while it is larger than the threshold.
+     */
+    private final class ChildrenTask extends RecursiveAction {
+        private final Walk walk;
+        private final ConfigNode container;
+        private final String[] keys;
+        private final PathCursor parentCursor;
+        private final int from;
+        private final int to;
+
+        private ChildrenTask(
+                final Walk walk,
+                final ConfigNode container,
+                final String[] keys,
+                final PathCursor parentCursor,
+                final int from,
+                final int to
+        ) {
+            this.walk = walk;
+            this.container = container;
+            this.keys = keys;
+            this.parentCursor = parentCursor;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > threshold) {
+                final int middle = (this.from + this.to) >>> 1;
+
+                invokeAll(
+                        new ChildrenTask(this.walk, this.container, this.keys, this.parentCursor, this.from, middle),
+                        new ChildrenTask(this.walk, this.container, this.keys, this.parentCursor, middle, this.to)
+                );
+
+                return;
+            }
+
+            final PathCursor cursor = new PathCursor(this.parentCursor);
+
+            for (int i = this.from; i < this.to && !this.walk.terminated; ++i) {
+                final ConfigNode child;
+
+                if (this.keys != null) {
+                    child = this.container.toObject().getNodeOrNull(this.keys[i]);
+                    cursor.pushKey(this.keys[i]);
+                } else {
+                    child = this.container.toArray().get(i);
+                    cursor.pushIndex(i);
+                }
+
+                if (child != null) {
+                    this.walk.walk(child, cursor);
+                }
+
+                cursor.pop();
+            }
+        }
+    }
+
+    /**
+     * A container whose children are currently being visited.
+     */
+    private static final class Frame {
+        private final ConfigNode node;
+        private final Iterator<String> keys;
+        private final int size;
+        private int index;
+
+        private Frame(final ConfigNode node) {
+            this.node = node;
+
+            if (node.isObject()) {
+                this.keys = node.toObject().keys().iterator();
+                this.size = 0;
+            } else {
+                this.keys = null;
+                this.size = node.toArray().size();
+            }
+        }
+
+        /**
+         * Returns the next child and moves the cursor to it.
+         *
+         * @return The next child or {@code null} if all children have been visited
+         */
+        private ConfigNode next(final PathCursor cursor) {
+            if (this.keys != null) {
+                while (this.keys.hasNext()) {
+                    final String key = this.keys.next();
+                    final ConfigNode child = this.node.toObject().getNodeOrNull(key);
+
+                    if (child != null) {
+                        cursor.pushKey(key);
+                        return child;
+                    }
+                }
+
+                return null;
+            }
+
+            if (this.index >= this.size) {
+                return null;
+            }
+
+            cursor.pushIndex(this.index);
+
+            return this.node.toArray().get(this.index++);
+        }
+    }
+}
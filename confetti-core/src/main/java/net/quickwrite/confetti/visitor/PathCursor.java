@@ -0,0 +1,189 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.visitor;
+
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A mutable view of the path of the node that is currently visited by a {@link ConfigWalker}.
+ *
+ * <p>
+ * The walker updates the cursor in place when it descends into or returns from a container,
+ * so reading the current path does not allocate. The cursor is only valid during a
+ * {@link ConfigVisitor} callback; {@link #toNodePath()} creates an immutable copy.
+ *
+ * <p>
+ * The root node has the depth {@code 0}. Every level below it is either a key (in an object)
+ * or an index (in an array).
+ */
+public final class PathCursor {
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** The keys of the levels, {@code null} for index levels. */
+    private String[] keys;
+
+    /** The indices of the levels, only valid if the key is {@code null}. */
+    private int[] indices;
+
+    private int depth;
+
+    PathCursor() {
+        this.keys = new String[INITIAL_CAPACITY];
+        this.indices = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Creates a copy of the given cursor that can be moved independently.
+     *
+     * @param other The cursor that should be copied
+     */
+    PathCursor(final PathCursor other) {
+        final int capacity = Math.max(INITIAL_CAPACITY, other.depth * 2);
+
+        this.keys = Arrays.copyOf(other.keys, capacity);
+        this.indices = Arrays.copyOf(other.indices, capacity);
+        this.depth = other.depth;
+    }
+
+    /**
+     * Returns the number of segments of the current path.
+     *
+     * @return {@code 0} for the root node
+     */
+    public int depth() {
+        return this.depth;
+    }
+
+    /**
+     * Checks if the segment at the given level is a key.
+     *
+     * @param level The level between {@code 0} and {@link #depth()} (exclusive)
+     * @return {@code true} if the segment is a key of an object
+     * @throws IndexOutOfBoundsException if the level is out of range
+     */
+    public boolean isKey(final int level) {
+        return this.keys[this.checkLevel(level)] != null;
+    }
+
+    /**
+     * Checks if the segment at the given level is an index.
+     *
+     * @param level The level between {@code 0} and {@link #depth()} (exclusive)
+     * @return {@code true} if the segment is an index of an array
+     * @throws IndexOutOfBoundsException if the level is out of range
+     */
+    public boolean isIndex(final int level) {
+        return !this.isKey(level);
+    }
+
+    /**
+     * Returns the key of the segment at the given level.
+     *
+     * @param level The level between {@code 0} and {@link #depth()} (exclusive)
+     * @return The key of the segment
+     * @throws IndexOutOfBoundsException if the level is out of range
+     * @throws IllegalStateException if the segment is an index
+     */
+    public String key(final int level) {
+        final String key = this.keys[this.checkLevel(level)];
+
+        if (key == null) {
+            throw new IllegalStateException("The PathSegment is an index");
+        }
+
+        return key;
+    }
+
+    /**
+     * Returns the index of the segment at the given level.
+     *
+     * @param level The level between {@code 0} and {@link #depth()} (exclusive)
+     * @return The index of the segment
+     * @throws IndexOutOfBoundsException if the level is out of range
+     * @throws IllegalStateException if the segment is a key
+     */
+    public int index(final int level) {
+        if (this.keys[this.checkLevel(level)] != null) {
+            throw new IllegalStateException("The PathSegment is a key.");
+        }
+
+        return this.indices[level];
+    }
+
+    /**
+     * Creates an immutable {@link NodePath} of the current path.
+     *
+     * @return The current path
+     */
+    public NodePath toNodePath() {
+        final PathSegment[] segments = new PathSegment[this.depth];
+
+        for (int i = 0; i < this.depth; ++i) {
+            segments[i] = this.keys[i] != null ? PathSegment.key(this.keys[i]) : PathSegment.index(this.indices[i]);
+        }
+
+        return NodePath.of(segments);
+    }
+
+    /**
+     * Returns the current path in the form {@code a.b[0].c}.
+     *
+     * @return The readable representation of the current path
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < this.depth; ++i) {
+            if (this.keys[i] == null) {
+                builder.append('[').append(this.indices[i]).append(']');
+                continue;
+            }
+
+            if (i > 0) {
+                builder.append('.');
+            }
+            builder.append(this.keys[i]);
+        }
+
+        return builder.toString();
+    }
+
+    void pushKey(final String key) {
+        this.ensureCapacity();
+
+        this.keys[this.depth] = key;
+        this.depth++;
+    }
+
+    void pushIndex(final int index) {
+        this.ensureCapacity();
+
+        this.keys[this.depth] = null;
+        this.indices[this.depth] = index;
+        this.depth++;
+    }
+
+    void pop() {
+        this.keys[--this.depth] = null;
+    }
+
+    private void ensureCapacity() {
+        if (this.depth == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.depth * 2);
+            this.indices = Arrays.copyOf(this.indices, this.depth * 2);
+        }
+    }
+
+    private int checkLevel(final int level) {
+        return Objects.checkIndex(level, this.depth);
+    }
+}
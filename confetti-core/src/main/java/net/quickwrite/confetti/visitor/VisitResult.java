@@ -0,0 +1,31 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.visitor;
+
+/**
+ * The result of a {@link ConfigVisitor} callback that controls how the {@link ConfigWalker} continues.
+ */
+public enum VisitResult {
+    /**
+     * Continue the walk. If returned when entering a container, its children are visited.
+     */
+    CONTINUE,
+
+    /**
+     * Do not visit the children of the container that was just entered.
+     * {@link ConfigVisitor#leave} is not called for this node.
+     *
+     * <p>
+     * When returned from a leaf or from {@link ConfigVisitor#leave} this is the same as {@link #CONTINUE}.
+     */
+    SKIP_SUBTREE,
+
+    /**
+     * Stop the walk immediately. No further callbacks are made.
+     */
+    TERMINATE
+}
@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -232,4 +233,99 @@ public class ArrayNodeTest {
 
         assertFalse(node.isNull());
     }
+
+    private record SimpleValueNode(Object value) implements ValueNode {
+        @Override public String asString() { return (String) value; }
+        @Override public long asLong() { return ((Number) value).longValue(); }
+        @Override public double asDouble() { return ((Number) value).doubleValue(); }
+        @Override public boolean asBoolean() { return (Boolean) value; }
+        @Override public Optional<PathSegment> key() { return Optional.empty(); }
+        @Override public NodePath path() { return null; }
+    }
+
+    @Test
+    public void returnTypedElements() {
+        SimpleArrayNode node = new SimpleArrayNode(List.of(
+                new SimpleValueNode(42L),
+                new SimpleValueNode(0.5),
+                new SimpleValueNode(true),
+                new SimpleValueNode("text")
+        ));
+
+        assertEquals(42L, node.getLong(0));
+        assertEquals(0.5, node.getDouble(1));
+        assertTrue(node.getBoolean(2));
+        assertEquals("text", node.getString(3));
+    }
+
+    @Test
+    public void throwTypedElementOfNonValueNode() {
+        SimpleArrayNode node = new SimpleArrayNode(List.of(new NullNode(), new SimpleArrayNode(List.of())));
+
+        assertThrowsExactly(InvalidNodeTypeException.class, () -> node.getLong(0));
+        assertThrowsExactly(InvalidNodeTypeException.class, () -> node.getString(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> node.getDouble(2));
+    }
+
+    @Test
+    public void copyElementsIntoPrimitiveArrays() {
+        SimpleArrayNode numbers = new SimpleArrayNode(List.of(
+                new SimpleValueNode(1L),
+                new SimpleValueNode(2L),
+                new SimpleValueNode(3L)
+        ));
+        SimpleArrayNode strings = new SimpleArrayNode(List.of(new SimpleValueNode("a"), new SimpleValueNode("b")));
+
+        assertArrayEquals(new long[] { 1L, 2L, 3L }, numbers.toLongArray());
+        assertArrayEquals(new int[] { 1, 2, 3 }, numbers.toIntArray());
+        assertArrayEquals(new double[] { 1.0, 2.0, 3.0 }, numbers.toDoubleArray());
+        assertArrayEquals(new String[] { "a", "b" }, strings.toStringArray());
+        assertArrayEquals(new long[0], new SimpleArrayNode(List.of()).toLongArray());
+    }
+
+    @Test
+    public void throwIfElementDoesNotFitIntoInt() {
+        SimpleArrayNode node = new SimpleArrayNode(List.of(new SimpleValueNode(Long.MAX_VALUE)));
+
+        assertThrows(ArithmeticException.class, node::toIntArray);
+    }
+
+    @Test
+    public void throwIfElementIsNoValue() {
+        SimpleArrayNode node = new SimpleArrayNode(List.of(new SimpleValueNode(1L), new NullNode()));
+
+        assertThrowsExactly(InvalidNodeTypeException.class, node::toLongArray);
+    }
+
+    @Test
+    public void reportSpliteratorCharacteristics() {
+        Spliterator<ConfigNode> spliterator = new SimpleArrayNode(List.of(new NullNode(), new NullNode())).spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        assertEquals(2, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void streamElementsInOrder() {
+        ConfigNode a = new NullNode();
+        ConfigNode b = new NullNode();
+
+        assertEquals(List.of(a, b), new SimpleArrayNode(List.of(a, b)).stream().toList());
+    }
+
+    @Test
+    public void streamLargeArrayInParallel() {
+        List<ConfigNode> elements = new ArrayList<>(1_000_000);
+        for (long i = 0; i < 1_000_000; ++i) {
+            elements.add(new SimpleValueNode(i));
+        }
+
+        SimpleArrayNode node = new SimpleArrayNode(elements);
+
+        assertEquals(499_999_500_000L, node.stream().parallel().mapToLong(element -> element.toValue().asLong()).sum());
+        assertEquals(elements, node.stream().parallel().toList());
+    }
 }
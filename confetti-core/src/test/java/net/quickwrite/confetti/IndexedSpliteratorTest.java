@@ -0,0 +1,76 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedSpliteratorTest {
+    @Test
+    public void addSizedCharacteristics() {
+        Spliterator<Integer> spliterator = new IndexedSpliterator<>(Integer::valueOf, 0, 10, Spliterator.ORDERED);
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(10, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void splitInHalves() {
+        Spliterator<Integer> spliterator = new IndexedSpliterator<>(Integer::valueOf, 0, 1_000_001, 0);
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(500_000, prefix.estimateSize());
+        assertEquals(500_001, spliterator.estimateSize());
+        assertTrue(prefix.hasCharacteristics(Spliterator.SUBSIZED));
+    }
+
+    @Test
+    public void stopSplittingSingleElements() {
+        Spliterator<Integer> spliterator = new IndexedSpliterator<>(Integer::valueOf, 0, 1, 0);
+
+        assertNull(spliterator.trySplit());
+        assertNull(new IndexedSpliterator<>(Integer::valueOf, 3, 3, 0).trySplit());
+    }
+
+    @Test
+    public void traverseEveryIndexOnce() {
+        Spliterator<Integer> spliterator = new IndexedSpliterator<>(Integer::valueOf, 0, 6, 0);
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        List<Integer> visited = new ArrayList<>();
+
+        assertTrue(prefix.tryAdvance(visited::add));
+        prefix.forEachRemaining(visited::add);
+        assertFalse(prefix.tryAdvance(visited::add));
+        spliterator.forEachRemaining(visited::add);
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), visited);
+        assertEquals(0, spliterator.estimateSize());
+    }
+
+    @Test
+    public void callAccessorLazily() {
+        List<Integer> accessed = new ArrayList<>();
+        Spliterator<Integer> spliterator = new IndexedSpliterator<>(index -> {
+            accessed.add(index);
+            return index;
+        }, 0, 100, 0);
+
+        spliterator.trySplit();
+        spliterator.tryAdvance(ignored -> {});
+
+        assertEquals(List.of(50), accessed);
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import net.quickwrite.confetti.migration.ScopedConfigMigrator;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.tree.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NodeEqualityTest {
+    private record MapObjectNode(Map<String, ConfigNode> delegate) implements ObjectNode {
+        @Override
+        public Optional<ConfigNode> get(final String key) {
+            return Optional.ofNullable(this.delegate.get(key));
+        }
+
+        @Override
+        public Set<String> keys() {
+            return this.delegate.keySet();
+        }
+
+        @Override
+        public Collection<ConfigNode> values() {
+            return this.delegate.values();
+        }
+
+        @Override
+        public Map<String, ConfigNode> toMap() {
+            return this.delegate;
+        }
+
+        @Override
+        public Optional<PathSegment> key() {
+            return Optional.empty();
+        }
+
+        @Override
+        public NodePath path() {
+            return NodePath.empty();
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+        }
+
+        @Override
+        public int hashCode() {
+            return NodeEquality.hash(this);
+        }
+    }
+
+    private record ListArrayNode(List<ConfigNode> delegate) implements ArrayNode {
+        @Override
+        public ConfigNode get(final int index) {
+            return this.delegate.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.delegate.size();
+        }
+
+        @Override
+        public List<ConfigNode> toList() {
+            return this.delegate;
+        }
+
+        @Override
+        public Optional<PathSegment> key() {
+            return Optional.empty();
+        }
+
+        @Override
+        public NodePath path() {
+            return NodePath.empty();
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+        }
+
+        @Override
+        public int hashCode() {
+            return NodeEquality.hash(this);
+        }
+    }
+
+    private record RawValueNode(Object value) implements ValueNode {
+        @Override
+        public String asString() {
+            return (String) this.value;
+        }
+
+        @Override
+        public long asLong() {
+            return ((Number) this.value).longValue();
+        }
+
+        @Override
+        public double asDouble() {
+            return ((Number) this.value).doubleValue();
+        }
+
+        @Override
+        public boolean asBoolean() {
+            return (Boolean) this.value;
+        }
+
+        @Override
+        public Optional<PathSegment> key() {
+            return Optional.empty();
+        }
+
+        @Override
+        public NodePath path() {
+            return NodePath.empty();
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+        }
+
+        @Override
+        public int hashCode() {
+            return NodeEquality.hash(this);
+        }
+    }
+
+    private static ObjectData data() {
+        return ObjectData.builder()
+                .put("name", ScalarData.ofString("gateway"))
+                .put("port", ScalarData.ofLong(8080))
+                .put("ratio", ScalarData.ofDouble(0.5))
+                .put("enabled", ScalarData.ofBoolean(true))
+                .put("proxy", NullData.INSTANCE)
+                .put("tags", ArrayData.builder().add(ScalarData.ofString("a")).add(ScalarData.ofLong(1)).build())
+                .build();
+    }
+
+    private static ObjectNode plain() {
+        return new MapObjectNode(Map.of(
+                "tags", new ListArrayNode(List.of(new RawValueNode("a"), new RawValueNode(1))),
+                "proxy", new NullNode(),
+                "enabled", new RawValueNode(true),
+                "ratio", new RawValueNode(0.5f),
+                "port", new RawValueNode((short) 8080),
+                "name", new RawValueNode("gateway")
+        ));
+    }
+
+    @Test
+    void hashMatchesConfigData() {
+        assertEquals(data().hashCode(), NodeEquality.hash(plain()));
+        assertEquals(data().hashCode(), NodeEquality.hash(ConfigTree.root(data())));
+        assertEquals(ObjectData.empty().hashCode(), NodeEquality.hash(new MapObjectNode(Map.of())));
+        assertEquals(ArrayData.empty().hashCode(), NodeEquality.hash(new ListArrayNode(List.of())));
+        assertEquals(0, NodeEquality.hash(new NullNode()));
+    }
+
+    @Test
+    void valueHashMatchesScalarData() {
+        assertEquals(ScalarData.ofString("x").hashCode(), NodeEquality.valueHash("x"));
+        assertEquals(ScalarData.ofLong(-3).hashCode(), NodeEquality.valueHash(-3));
+        assertEquals(ScalarData.ofLong(7).hashCode(), NodeEquality.valueHash((byte) 7));
+        assertEquals(ScalarData.ofDouble(2.5).hashCode(), NodeEquality.valueHash(2.5));
+        assertEquals(ScalarData.ofBoolean(true).hashCode(), NodeEquality.valueHash(true));
+        assertEquals(ScalarData.ofBoolean(false).hashCode(), NodeEquality.valueHash(false));
+    }
+
+    @Test
+    void equalsAcrossImplementations() {
+        ConfigNode tree = ConfigTree.root(data());
+
+        assertTrue(NodeEquality.equals(plain(), tree));
+        assertTrue(NodeEquality.equals(tree, plain()));
+        assertEquals(tree, plain());
+    }
+
+    @Test
+    void equalsDetectsDifferences() {
+        ConfigNode tree = ConfigTree.root(data());
+
+        assertFalse(NodeEquality.equals(tree, ConfigTree.root(data().with("port", ScalarData.ofLong(8081)))));
+        assertFalse(NodeEquality.equals(tree, ConfigTree.root(data().without("proxy"))));
+        assertFalse(NodeEquality.equals(tree, ConfigTree.root(data().with("extra", NullData.INSTANCE))));
+        assertFalse(NodeEquality.equals(tree, null));
+        assertFalse(NodeEquality.equals(tree, new NullNode()));
+    }
+
+    @Test
+    void equalsSplicedTrees() {
+        ConfigNode root = ConfigTree.root(ObjectData.builder()
+                .put("server", ObjectData.builder()
+                        .put("host", ScalarData.ofString("a"))
+                        .put("port", ScalarData.ofLong(1))
+                        .put("tags", ArrayData.builder().add(ScalarData.ofString("x")).build())
+                        .build())
+                .put("other", ScalarData.ofLong(2))
+                .build());
+
+        ConfigNode object = identity(NodePath.of(PathSegment.key("server"), PathSegment.key("host"))).migrate(root);
+        ConfigNode array = identity(NodePath.of(PathSegment.key("server"), PathSegment.key("tags"), PathSegment.index(0))).migrate(root);
+
+        for (ConfigNode migrated : List.of(object, array)) {
+            assertNotSame(root, migrated);
+            assertEquals(root.hashCode(), migrated.hashCode());
+            assertEquals(root, migrated);
+            assertEquals(migrated, root);
+            assertTrue(NodeEquality.equals(root, migrated));
+        }
+
+        ConfigNode tags = array.toObject().get("server").orElseThrow().toObject().get("tags").orElseThrow();
+        assertEquals(root.toObject().get("server").orElseThrow().toObject().get("tags").orElseThrow(), tags);
+        assertNotEquals(root, migrator(NodePath.of(PathSegment.key("other")), node -> new RawValueNode(3)).migrate(root));
+    }
+
+    private static ScopedConfigMigrator identity(final NodePath path) {
+        return migrator(path, node -> node);
+    }
+
+    private static ScopedConfigMigrator migrator(final NodePath path, final UnaryOperator<ConfigNode> migration) {
+        return new ScopedConfigMigrator() {
+            @Override
+            public NodePath path() {
+                return path;
+            }
+
+            @Override
+            public ConfigNode migrateNode(final ConfigNode node) {
+                return migration.apply(node);
+            }
+        };
+    }
+
+    @Test
+    void valuesCompareByKind() {
+        assertTrue(NodeEquality.equals(new RawValueNode(1), new RawValueNode(1L)));
+        assertTrue(NodeEquality.equals(new RawValueNode(0.5f), new RawValueNode(0.5)));
+        assertFalse(NodeEquality.equals(new RawValueNode(1), new RawValueNode(1.0)));
+        assertFalse(NodeEquality.equals(new RawValueNode(1), new RawValueNode("1")));
+        assertFalse(NodeEquality.equals(new RawValueNode(true), new RawValueNode("true")));
+    }
+
+    @Test
+    void arrayOrderMatters() {
+        ConfigNode first = new ListArrayNode(List.of(new RawValueNode(1), new RawValueNode(2)));
+        ConfigNode second = new ListArrayNode(List.of(new RawValueNode(2), new RawValueNode(1)));
+
+        assertNotEquals(NodeEquality.hash(first), NodeEquality.hash(second));
+        assertFalse(NodeEquality.equals(first, second));
+    }
+
+    @Test
+    void deepTreesDoNotOverflow() {
+        ConfigData first = ScalarData.ofLong(1);
+        ConfigData second = ScalarData.ofLong(1);
+        for (int i = 0; i < 50_000; ++i) {
+            first = ObjectData.builder().put("child", first).build();
+            second = ObjectData.builder().put("child", second).build();
+        }
+
+        ConfigNode left = ConfigTree.root(first);
+        assertEquals(first.hashCode(), NodeEquality.hash(left));
+        assertTrue(NodeEquality.equals(left, ConfigTree.root(second)));
+    }
+}
@@ -124,5 +124,15 @@ public class NullNodeTest {
         assertThrows(UnsupportedOperationException.class, () -> path.segments().add(PathSegment.key("x")),
                 "Returned segments list should be unmodifiable");
     }
-}
 
+    @Test
+    void allNullNodesAreEqual() {
+        NullNode root = new NullNode();
+        NullNode child = new NullNode(new SimpleParentNode(NodePath.empty()), PathSegment.index(3));
+
+        assertEquals(root, child);
+        assertEquals(0, root.hashCode());
+        assertEquals(root.hashCode(), child.hashCode());
+        assertNotEquals(root, null);
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -243,5 +244,144 @@ public class ObjectNodeTest {
 
         assertFalse(node.isNull());
     }
-}
 
+    private record SimpleValueNode(Object value) implements ValueNode {
+        @Override public String asString() { return (String) value; }
+        @Override public long asLong() { return ((Number) value).longValue(); }
+        @Override public double asDouble() { return ((Number) value).doubleValue(); }
+        @Override public boolean asBoolean() { return (Boolean) value; }
+        @Override public Optional<PathSegment> key() { return Optional.empty(); }
+        @Override public NodePath path() { return null; }
+    }
+
+    @Test
+    public void returnNodeOrNull() {
+        ConfigNode value = new SimpleValueNode(1L);
+        SimpleObjectNode node = new SimpleObjectNode(Map.of("a", value));
+
+        assertSame(value, node.getNodeOrNull("a"));
+        assertNull(node.getNodeOrNull("missing"));
+    }
+
+    @Test
+    public void returnTypedValues() {
+        SimpleObjectNode node = new SimpleObjectNode(Map.of(
+                "long", new SimpleValueNode(42L),
+                "double", new SimpleValueNode(0.5),
+                "boolean", new SimpleValueNode(true),
+                "string", new SimpleValueNode("text")
+        ));
+
+        assertEquals(42L, node.getLong("long", -1L));
+        assertEquals(0.5, node.getDouble("double", -1.0));
+        assertTrue(node.getBoolean("boolean", false));
+        assertEquals("text", node.getString("string", "default"));
+    }
+
+    @Test
+    public void returnDefaultForMissingAndNullValues() {
+        SimpleObjectNode node = new SimpleObjectNode(Map.of("null", new NullNode()));
+
+        assertEquals(7L, node.getLong("missing", 7L));
+        assertEquals(7L, node.getLong("null", 7L));
+        assertEquals(1.5, node.getDouble("missing", 1.5));
+        assertTrue(node.getBoolean("null", true));
+        assertEquals("default", node.getString("missing", "default"));
+        assertNull(node.getString("null", null));
+    }
+
+    @Test
+    public void throwTypedValueOfNonValueNode() {
+        SimpleObjectNode node = new SimpleObjectNode(Map.of("object", new SimpleObjectNode(Map.of())));
+
+        assertThrowsExactly(InvalidNodeTypeException.class, () -> node.getLong("object", 0L));
+        assertThrowsExactly(InvalidNodeTypeException.class, () -> node.getString("object", null));
+    }
+
+    @Test
+    public void streamEntries() {
+        ConfigNode a = new SimpleValueNode(1L);
+        ConfigNode b = new SimpleValueNode(2L);
+
+        Map<String, ConfigNode> map = new LinkedHashMap<>();
+        map.put("a", a);
+        map.put("b", b);
+
+        SimpleObjectNode node = new SimpleObjectNode(map);
+
+        assertEquals(List.of(Map.entry("a", a), Map.entry("b", b)), node.stream().toList());
+    }
+
+    @Test
+    public void reportEntrySpliteratorCharacteristics() {
+        Spliterator<Map.Entry<String, ConfigNode>> spliterator = new SimpleObjectNode(Map.of("a", new NullNode())).entrySpliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(1, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void streamLargeObjectInParallel() {
+        Map<String, ConfigNode> map = new HashMap<>();
+        for (long i = 0; i < 100_000; ++i) {
+            map.put("key" + i, new SimpleValueNode(i));
+        }
+
+        SimpleObjectNode node = new SimpleObjectNode(map);
+
+        assertEquals(4_999_950_000L, node.stream().parallel().mapToLong(entry -> entry.getValue().toValue().asLong()).sum());
+        assertEquals(map.keySet(), node.stream().parallel().map(Map.Entry::getKey).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void forEachEntryInKeyOrder() {
+        ConfigNode a = new SimpleObjectNode(Map.of());
+        ConfigNode b = new SimpleObjectNode(Map.of());
+
+        Map<String, ConfigNode> map = new LinkedHashMap<>();
+        map.put("k1", a);
+        map.put("k2", b);
+
+        List<String> keys = new ArrayList<>();
+        List<ConfigNode> nodes = new ArrayList<>();
+
+        new SimpleObjectNode(map).forEachEntry((key, node) -> {
+            keys.add(key);
+            nodes.add(node);
+        });
+
+        assertEquals(List.of("k1", "k2"), keys);
+        assertSame(a, nodes.get(0));
+        assertSame(b, nodes.get(1));
+    }
+
+    @Test
+    public void iterateEntriesWithCursor() {
+        ConfigNode a = new SimpleObjectNode(Map.of());
+
+        Map<String, ConfigNode> map = new LinkedHashMap<>();
+        map.put("k1", a);
+        map.put("k2", a);
+
+        CountingObjectNode node = new CountingObjectNode(map);
+        EntryCursor cursor = node.entryCursor();
+
+        assertThrows(IllegalStateException.class, cursor::key);
+
+        assertTrue(cursor.next());
+        assertEquals("k1", cursor.key());
+        assertSame(a, cursor.value());
+        assertSame(a, cursor.value());
+
+        // The value of the second entry is never requested
+        assertTrue(cursor.next());
+        assertEquals("k2", cursor.key());
+
+        assertFalse(cursor.next());
+        assertThrows(IllegalStateException.class, cursor::value);
+        assertEquals(1, node.getCalls.get());
+    }
+}
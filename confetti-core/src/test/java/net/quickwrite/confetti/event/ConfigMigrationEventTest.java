@@ -0,0 +1,70 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.event;
+
+import jdk.jfr.consumer.RecordedEvent;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.migration.ConfigMigrator;
+import net.quickwrite.confetti.migration.MigrationPlan;
+import net.quickwrite.confetti.migration.MigrationStep;
+import net.quickwrite.confetti.tree.ConfigTree;
+import net.quickwrite.confetti.tree.ObjectData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigMigrationEventTest {
+    private static final ConfigMigrator IDENTITY = config -> config;
+
+    private static final MigrationPlan PLAN = new MigrationPlan(4, List.of(
+            new MigrationStep(1, 2, IDENTITY),
+            new MigrationStep(2, 3, IDENTITY),
+            new MigrationStep(3, 4, IDENTITY)
+    ));
+
+    private static final ConfigNode CONFIG = ConfigTree.root(ObjectData.empty());
+
+    @Test
+    void recordsMigration() throws Exception {
+        final List<RecordedEvent> events = Recordings.record(ConfigMigrationEvent.NAME, () -> PLAN.migrate(CONFIG, 2));
+
+        assertEquals(1, events.size());
+        assertEquals(2, events.getFirst().getInt("fromVersion"));
+        assertEquals(4, events.getFirst().getInt("toVersion"));
+        assertEquals(2, events.getFirst().getInt("stepCount"));
+        assertNull(events.getFirst().getString("failure"));
+    }
+
+    @Test
+    void currentVersionIsNotRecorded() throws Exception {
+        final List<RecordedEvent> events = Recordings.record(ConfigMigrationEvent.NAME, () -> PLAN.migrate(CONFIG, 4));
+
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void recordsFailure() throws Exception {
+        final MigrationPlan failing = new MigrationPlan(2, List.of(new MigrationStep(1, 2, config -> {
+            throw new IllegalStateException("broken migration");
+        })));
+
+        final List<RecordedEvent> events = Recordings.record(ConfigMigrationEvent.NAME, () ->
+                assertThrows(IllegalStateException.class, () -> failing.migrate(CONFIG, 1)));
+
+        assertEquals(1, events.size());
+        assertTrue(events.getFirst().getString("failure").contains("broken migration"));
+    }
+
+    @Test
+    void disabledByDefault() throws Exception {
+        final List<RecordedEvent> events = Recordings.recordDisabled(ConfigMigrationEvent.NAME, () -> PLAN.migrate(CONFIG, 1));
+
+        assertTrue(events.isEmpty());
+    }
+}
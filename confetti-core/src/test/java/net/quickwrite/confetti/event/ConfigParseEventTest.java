@@ -0,0 +1,99 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.event;
+
+import jdk.jfr.consumer.RecordedEvent;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.factory.ConfigFactory;
+import net.quickwrite.confetti.tree.ArrayData;
+import net.quickwrite.confetti.tree.ConfigTree;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigParseEventTest {
+    /** Ignores the input and returns an object with a two element array. */
+    private static final ConfigFactory FACTORY = reader -> {
+        final StringWriter content = new StringWriter();
+        reader.transferTo(content);
+
+        if (content.toString().equals("invalid")) {
+            throw new ConfigParseException("invalid input");
+        }
+
+        return ConfigTree.root(ObjectData.builder()
+                .put("ports", ArrayData.builder().add(ScalarData.ofLong(80)).add(ScalarData.ofLong(443)).build())
+                .build());
+    };
+
+    @Test
+    void recordsParsedString() throws Exception {
+        final List<RecordedEvent> events = Recordings.record(ConfigParseEvent.NAME, () -> FACTORY.parse("ports = [80, 443]"));
+
+        assertEquals(1, events.size());
+        assertEquals("string", events.getFirst().getString("source"));
+        assertEquals(17, events.getFirst().getLong("byteSize"));
+        assertEquals(4, events.getFirst().getLong("nodeCount"));
+        assertNull(events.getFirst().getString("failure"));
+    }
+
+    @Test
+    void recordsParsedFile() throws Exception {
+        final Path file = Files.createTempFile("confetti", ".conf");
+
+        try {
+            Files.writeString(file, "ports = [80, 443]\n");
+            final List<RecordedEvent> events = Recordings.record(ConfigParseEvent.NAME, () -> FACTORY.parse(file));
+
+            assertEquals(1, events.size());
+            assertEquals(file.toString(), events.getFirst().getString("source"));
+            assertEquals(18, events.getFirst().getLong("byteSize"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void recordsFailure() throws Exception {
+        final List<RecordedEvent> events = Recordings.record(
+                ConfigParseEvent.NAME,
+                () -> assertThrows(ConfigParseException.class, () -> FACTORY.parse("invalid"))
+        );
+
+        assertEquals(1, events.size());
+        assertTrue(events.getFirst().getString("failure").contains("invalid input"));
+    }
+
+    @Test
+    void disabledByDefault() throws Exception {
+        final List<RecordedEvent> events = Recordings.recordDisabled(ConfigParseEvent.NAME, () -> FACTORY.parse("a = 1"));
+
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void directReaderCallsAreNotRecorded() throws Exception {
+        final List<RecordedEvent> events = Recordings.record(ConfigParseEvent.NAME, () -> {
+            try (final Reader reader = new StringReader("a = 1")) {
+                final ConfigNode node = FACTORY.parse(reader);
+                assertTrue(node.isObject());
+            }
+        });
+
+        assertTrue(events.isEmpty());
+    }
+}
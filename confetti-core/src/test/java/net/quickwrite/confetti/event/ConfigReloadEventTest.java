@@ -0,0 +1,63 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.event;
+
+import jdk.jfr.consumer.RecordedEvent;
+import net.quickwrite.confetti.holder.ConfigHolder;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.tree.ConfigTree;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigReloadEventTest {
+    private static ConfigHolder holder() {
+        final ConfigHolder holder = new ConfigHolder(ConfigTree.root(ObjectData.empty()), Runnable::run);
+        final NodePath port = NodePath.of(PathSegment.key("port"));
+
+        holder.subscribe(port, change -> {});
+        holder.subscribe(port, change -> {
+            throw new IllegalStateException("listener failure");
+        });
+        holder.subscribe(NodePath.of(PathSegment.key("host")), change -> {});
+
+        return holder;
+    }
+
+    @Test
+    void recordsReload() throws Exception {
+        final ConfigHolder holder = holder();
+        final Thread.UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, exception) -> {});
+
+        try {
+            final List<RecordedEvent> events = Recordings.record(ConfigReloadEvent.NAME, () ->
+                    holder.publish(ConfigTree.root(ObjectData.builder().put("port", ScalarData.ofLong(80)).build())));
+
+            assertEquals(1, events.size());
+            assertEquals(2, events.getFirst().getInt("notifiedListeners"));
+            assertEquals(1, events.getFirst().getInt("failedListeners"));
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(handler);
+        }
+    }
+
+    @Test
+    void disabledByDefault() throws Exception {
+        final ConfigHolder holder = holder();
+
+        final List<RecordedEvent> events = Recordings.recordDisabled(ConfigReloadEvent.NAME, () ->
+                holder.publish(ConfigTree.root(ObjectData.builder().put("host", ScalarData.ofString("localhost")).build())));
+
+        assertTrue(events.isEmpty());
+    }
+}
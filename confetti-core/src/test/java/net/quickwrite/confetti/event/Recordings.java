@@ -0,0 +1,61 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.event;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Records the events of a single type while an action runs.
+ */
+final class Recordings {
+    private Recordings() {}
+
+    interface Action {
+        void run() throws Exception;
+    }
+
+    /**
+     * Records the events while the action runs with the event enabled.
+     */
+    static List<RecordedEvent> record(final String eventName, final Action action) throws Exception {
+        return record(eventName, true, action);
+    }
+
+    /**
+     * Records the events while the action runs with the default settings.
+     */
+    static List<RecordedEvent> recordDisabled(final String eventName, final Action action) throws Exception {
+        return record(eventName, false, action);
+    }
+
+    private static List<RecordedEvent> record(final String eventName, final boolean enable, final Action action) throws Exception {
+        final Path file = Files.createTempFile("confetti", ".jfr");
+
+        try (final Recording recording = new Recording()) {
+            if (enable) {
+                recording.enable(eventName).withoutThreshold();
+            }
+
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
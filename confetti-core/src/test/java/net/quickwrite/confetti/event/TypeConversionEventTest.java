@@ -0,0 +1,64 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.event;
+
+import jdk.jfr.consumer.RecordedEvent;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.exception.ConversionException;
+import net.quickwrite.confetti.resolver.TypeResolver;
+import net.quickwrite.confetti.tree.ConfigTree;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TypeConversionEventTest {
+    private static final class IntegerResolver implements TypeResolver<Integer> {
+        @Override
+        public Integer fromNode(final ConfigNode node, final Type type) throws ConversionException {
+            if (!node.isValue()) {
+                throw new ConversionException("not a value");
+            }
+
+            return (int) node.toValue().asLong();
+        }
+    }
+
+    private static final TypeResolver<Integer> RESOLVER = new IntegerResolver();
+
+    @Test
+    void recordsConversion() throws Exception {
+        final List<RecordedEvent> events = Recordings.record(TypeConversionEvent.NAME, () ->
+                assertEquals(42, RESOLVER.convert(ConfigTree.root(ScalarData.ofLong(42)), Integer.class)));
+
+        assertEquals(1, events.size());
+        assertEquals(Integer.class.getName(), events.getFirst().getString("targetType"));
+        assertEquals(IntegerResolver.class.getName(), events.getFirst().getClass("resolver").getName());
+        assertNull(events.getFirst().getString("failure"));
+    }
+
+    @Test
+    void recordsFailure() throws Exception {
+        final List<RecordedEvent> events = Recordings.record(TypeConversionEvent.NAME, () ->
+                assertThrows(ConversionException.class, () -> RESOLVER.convert(ConfigTree.root(ObjectData.empty()), Integer.class)));
+
+        assertEquals(1, events.size());
+        assertTrue(events.getFirst().getString("failure").contains("not a value"));
+    }
+
+    @Test
+    void disabledByDefault() throws Exception {
+        final List<RecordedEvent> events = Recordings.recordDisabled(TypeConversionEvent.NAME, () ->
+                RESOLVER.convert(ConfigTree.root(ScalarData.ofLong(1)), Integer.class));
+
+        assertTrue(events.isEmpty());
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigResolveExceptionTest {
+
+    @Test
+    void messageIsPreservedAndCauseIsNullWhenOnlyMessageProvided() {
+        ConfigResolveException ex = new ConfigResolveException("cannot resolve ${a}");
+
+        assertEquals("cannot resolve ${a}", ex.getMessage());
+        assertNull(ex.getCause());
+        assertInstanceOf(RuntimeException.class, ex);
+    }
+
+    @Test
+    void messageAndCauseArePreservedWhenBothProvided() {
+        Throwable cause = new IllegalStateException("cycle");
+
+        ConfigResolveException ex = new ConfigResolveException("cannot resolve ${a}", cause);
+
+        assertEquals("cannot resolve ${a}", ex.getMessage());
+        assertSame(cause, ex.getCause());
+    }
+}
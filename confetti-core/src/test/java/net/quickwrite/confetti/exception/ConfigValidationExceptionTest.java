@@ -0,0 +1,51 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.exception;
+
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.schema.Violation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigValidationExceptionTest {
+    @Test
+    public void messageListsViolations() {
+        ConfigValidationException ex = new ConfigValidationException(List.of(
+                new Violation(NodePath.of(PathSegment.key("host")), "missing"),
+                new Violation(NodePath.of(PathSegment.key("port")), "too large")
+        ));
+
+        assertEquals("The configuration has 2 violations:\n - host: missing\n - port: too large", ex.getMessage());
+    }
+
+    @Test
+    public void singleViolation() {
+        ConfigValidationException ex = new ConfigValidationException(List.of(new Violation(NodePath.empty(), "wrong")));
+
+        assertEquals("The configuration has 1 violation:\n - <root>: wrong", ex.getMessage());
+    }
+
+    @Test
+    public void violationsAreCopied() {
+        List<Violation> violations = new ArrayList<>(List.of(new Violation(NodePath.empty(), "wrong")));
+        ConfigValidationException ex = new ConfigValidationException(violations);
+        violations.clear();
+
+        assertEquals(1, ex.violations().size());
+        assertThrows(UnsupportedOperationException.class, () -> ex.violations().clear());
+    }
+
+    @Test
+    public void exceptionIsRuntimeException() {
+        assertInstanceOf(RuntimeException.class, new ConfigValidationException(List.of()));
+    }
+}
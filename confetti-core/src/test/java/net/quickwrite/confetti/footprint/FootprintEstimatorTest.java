@@ -0,0 +1,142 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.footprint;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.NodeType;
+import net.quickwrite.confetti.ValueNode;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.tree.ArrayData;
+import net.quickwrite.confetti.tree.ConfigTree;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FootprintEstimatorTest {
+    private static final ObjectLayout LAYOUT = new ObjectLayout(true, true, 8);
+
+    /** A value node that keeps a buffer alive. */
+    private record BufferValueNode(ByteBuffer buffer) implements ValueNode {
+        @Override public String asString() { return ""; }
+        @Override public long asLong() { return 0; }
+        @Override public double asDouble() { return 0; }
+        @Override public boolean asBoolean() { return false; }
+        @Override public Object value() { return ""; }
+        @Override public Optional<PathSegment> key() { return Optional.empty(); }
+        @Override public NodePath path() { return NodePath.empty(); }
+    }
+
+    /** A value node that keeps a JDK map alive, whose fields cannot be read. */
+    private record MapValueNode(Map<String, String> map) implements ValueNode {
+        @Override public String asString() { return ""; }
+        @Override public long asLong() { return 0; }
+        @Override public double asDouble() { return 0; }
+        @Override public boolean asBoolean() { return false; }
+        @Override public Object value() { return ""; }
+        @Override public Optional<PathSegment> key() { return Optional.empty(); }
+        @Override public NodePath path() { return NodePath.empty(); }
+    }
+
+    private static FootprintReport estimate(final ConfigNode root) {
+        return FootprintEstimator.estimate(root, LAYOUT);
+    }
+
+    private static ConfigNode server(final String host) {
+        return ConfigTree.root(ObjectData.builder()
+                .put("host", ScalarData.ofString(host))
+                .put("ports", ArrayData.builder().add(ScalarData.ofLong(80)).add(ScalarData.ofLong(443)).build())
+                .build());
+    }
+
+    @Test
+    void countsLogicalNodes() {
+        final FootprintReport report = estimate(server("localhost"));
+
+        assertEquals(1, report.nodeCounts().get(NodeType.OBJECT));
+        assertEquals(1, report.nodeCounts().get(NodeType.ARRAY));
+        assertEquals(3, report.nodeCounts().get(NodeType.VALUE));
+        assertEquals(0, report.nodeCounts().get(NodeType.NULL));
+        assertEquals(5, report.nodeCount());
+    }
+
+    @Test
+    void categoriesSumToHeapBytes() {
+        final FootprintReport report = estimate(server("localhost"));
+
+        assertEquals(report.heapBytes(), report.bytes().values().stream().mapToLong(Long::longValue).sum());
+        assertTrue(report.bytes().get(FootprintCategory.OBJECT_NODES) > 0);
+        assertTrue(report.bytes().get(FootprintCategory.STRINGS) > 0);
+        assertTrue(report.bytes().get(FootprintCategory.BACKEND) > 0);
+        assertEquals(1, report.objects().get(FootprintCategory.OBJECT_NODES));
+    }
+
+    @Test
+    void measuresStringLength() {
+        final long small = estimate(server("a")).bytes().get(FootprintCategory.STRINGS);
+        final long large = estimate(server("a".repeat(1001))).bytes().get(FootprintCategory.STRINGS);
+
+        assertEquals(1000, large - small);
+    }
+
+    @Test
+    void measuresNonLatinStringsWithTwoBytesPerChar() {
+        final long latin = estimate(server("é".repeat(1000))).bytes().get(FootprintCategory.STRINGS);
+        final long utf16 = estimate(server("一".repeat(1000))).bytes().get(FootprintCategory.STRINGS);
+
+        assertEquals(1000, utf16 - latin);
+    }
+
+    @Test
+    void countsSharedObjectsOnce() {
+        final ObjectData shared = ObjectData.builder().put("value", ScalarData.ofString("x".repeat(1000))).build();
+        final ObjectData twice = ObjectData.builder().put("a", shared).put("b", shared).build();
+        final ObjectData once = ObjectData.builder().put("a", shared).build();
+
+        final long difference = estimate(ConfigTree.root(twice)).heapBytes() - estimate(ConfigTree.root(once)).heapBytes();
+
+        assertTrue(difference < 100, "difference " + difference);
+    }
+
+    @Test
+    void reportsDirectBuffersOffHeap() {
+        final FootprintReport direct = estimate(new BufferValueNode(ByteBuffer.allocateDirect(4096)));
+        final FootprintReport heap = estimate(new BufferValueNode(ByteBuffer.allocate(4096)));
+
+        assertEquals(4096, direct.offHeapBytes());
+        assertTrue(direct.heapBytes() < 4096);
+        assertEquals(0, heap.offHeapBytes());
+        assertTrue(heap.heapBytes() > 4096);
+    }
+
+    @Test
+    void modelsJdkMaps() {
+        final Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < 100; ++i) {
+            map.put("key" + i, "value" + i);
+        }
+
+        final FootprintReport report = estimate(new MapValueNode(map));
+
+        assertEquals(200, report.objects().get(FootprintCategory.STRINGS));
+        // The table of 256 references and 100 nodes of 32 bytes
+        assertTrue(report.bytes().get(FootprintCategory.BACKEND) >= 16 + 256 * 4 + 100 * 32);
+    }
+
+    @Test
+    void estimatesWithCurrentLayout() {
+        assertTrue(FootprintEstimator.estimate(server("localhost")).heapBytes() > 0);
+        assertThrows(NullPointerException.class, () -> FootprintEstimator.estimate(null));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.footprint;
+
+import net.quickwrite.confetti.NodeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FootprintReportTest {
+    private static FootprintReport report() {
+        final Map<FootprintCategory, Long> bytes = new EnumMap<>(FootprintCategory.class);
+        final Map<FootprintCategory, Long> objects = new EnumMap<>(FootprintCategory.class);
+        for (final FootprintCategory category : FootprintCategory.values()) {
+            bytes.put(category, 10L);
+            objects.put(category, 1L);
+        }
+
+        final Map<NodeType, Long> nodeCounts = new EnumMap<>(NodeType.class);
+        for (final NodeType type : NodeType.values()) {
+            nodeCounts.put(type, 5L);
+        }
+
+        return new FootprintReport(70, 0, bytes, objects, nodeCounts);
+    }
+
+    @Test
+    void summarizesNodes() {
+        final FootprintReport report = report();
+
+        assertEquals(20, report.nodeCount());
+        assertEquals(3.5, report.bytesPerNode());
+    }
+
+    @Test
+    void mapsAreUnmodifiable() {
+        final FootprintReport report = report();
+
+        assertThrows(UnsupportedOperationException.class, () -> report.bytes().put(FootprintCategory.PATHS, 0L));
+        assertThrows(UnsupportedOperationException.class, () -> report.nodeCounts().clear());
+    }
+
+    @Test
+    void formatsTable() {
+        final String text = report().toString();
+
+        assertTrue(text.contains("object_nodes"));
+        assertTrue(text.contains("backend"));
+        assertTrue(text.contains("3.5 bytes per node"));
+        assertEquals(FootprintCategory.values().length + 4, text.lines().count());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.footprint;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectLayoutTest {
+    @SuppressWarnings("unused")
+    private static final class Fields {
+        private long a;
+        private int b;
+        private Object c;
+        private static Object ignored;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Subclass extends Object {
+        private byte d;
+    }
+
+    @Test
+    void compressedLayout() {
+        final ObjectLayout layout = new ObjectLayout(true, true, 8);
+
+        assertEquals(32, layout.classLayout(Fields.class).shallowSize());
+        assertEquals(1, layout.classLayout(Fields.class).references().length);
+        assertEquals(16, layout.classLayout(Subclass.class).shallowSize());
+        assertEquals(32, layout.arraySize(byte.class, 10));
+        assertEquals(56, layout.arraySize(Object.class, 10));
+    }
+
+    @Test
+    void uncompressedLayout() {
+        final ObjectLayout layout = new ObjectLayout(false, false, 8);
+
+        assertEquals(40, layout.classLayout(Fields.class).shallowSize());
+        assertEquals(104, layout.arraySize(Object.class, 10));
+    }
+
+    @Test
+    void unreadableClassesHaveNoReferences() {
+        final ObjectLayout layout = new ObjectLayout(true, true, 8);
+
+        assertNull(layout.classLayout(java.util.HashMap.class).references());
+        assertTrue(layout.classLayout(java.util.HashMap.class).shallowSize() > 0);
+    }
+
+    @Test
+    void alignsToAlignment() {
+        final ObjectLayout layout = new ObjectLayout(true, true, 16);
+
+        assertEquals(16, layout.align(1));
+        assertEquals(32, layout.align(17));
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.holder;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.tree.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigHolderTest {
+    private static final Executor DIRECT = Runnable::run;
+
+    private static ObjectData services(final int count) {
+        ObjectData.Builder builder = ObjectData.builder();
+        for (int i = 0; i < count; ++i) {
+            builder.put("service" + i, ObjectData.builder()
+                    .put("enabled", ScalarData.ofBoolean(false))
+                    .put("port", ScalarData.ofLong(8000 + i))
+                    .build());
+        }
+
+        return builder.build();
+    }
+
+    private static NodePath path(final Object... segments) {
+        PathSegment[] result = new PathSegment[segments.length];
+        for (int i = 0; i < segments.length; ++i) {
+            result[i] = segments[i] instanceof Integer index ? PathSegment.index(index) : PathSegment.key((String) segments[i]);
+        }
+
+        return NodePath.of(result);
+    }
+
+    @Test
+    void getReturnsPublishedRoot() {
+        ConfigNode first = ConfigTree.root(services(1));
+        ConfigNode second = ConfigTree.root(services(2));
+        ConfigHolder holder = new ConfigHolder(first, DIRECT);
+
+        assertSame(first, holder.get());
+        assertSame(first, holder.publish(second));
+        assertSame(second, holder.get());
+    }
+
+    @Test
+    void compareAndPublishRequiresExpectedRoot() {
+        ConfigNode first = ConfigTree.root(services(1));
+        ConfigHolder holder = new ConfigHolder(first, DIRECT);
+
+        assertFalse(holder.compareAndPublish(ConfigTree.root(services(1)), ConfigTree.root(services(2))));
+        assertSame(first, holder.get());
+        assertTrue(holder.compareAndPublish(first, ConfigTree.root(services(2))));
+    }
+
+    @Test
+    void updateAppliesFunction() {
+        ConfigHolder holder = new ConfigHolder(ConfigTree.root(services(3)), DIRECT);
+
+        holder.update(root -> ConfigTree.with(root, path("service1", "enabled"), ConfigTree.root(ScalarData.ofBoolean(true))));
+
+        assertTrue(holder.get().toObject().getNodeOrNull("service1").toObject().getBoolean("enabled", false));
+    }
+
+    @Test
+    void onlyListenersOfChangedPathsAreNotified() {
+        ConfigHolder holder = new ConfigHolder(ConfigTree.root(services(5000)), DIRECT);
+        AtomicInteger notified = new AtomicInteger();
+        List<ConfigChange> changes = new ArrayList<>();
+
+        for (int i = 0; i < 5000; ++i) {
+            holder.subscribe(path("service" + i, "enabled"), change -> notified.incrementAndGet());
+        }
+        holder.subscribe(path("service42"), changes::add);
+        holder.subscribe(path("service43"), changes::add);
+
+        holder.update(root -> ConfigTree.with(root, path("service42", "enabled"), ConfigTree.root(ScalarData.ofBoolean(true))));
+
+        assertEquals(1, notified.get());
+        assertEquals(1, changes.size());
+        assertEquals(path("service42"), changes.getFirst().path());
+        assertFalse(changes.getFirst().previous().toObject().getBoolean("enabled", true));
+        assertTrue(changes.getFirst().current().toObject().getBoolean("enabled", false));
+    }
+
+    @Test
+    void equalRootDoesNotNotify() {
+        ConfigHolder holder = new ConfigHolder(ConfigTree.root(services(10)), DIRECT);
+        AtomicInteger notified = new AtomicInteger();
+        holder.subscribe(NodePath.empty(), change -> notified.incrementAndGet());
+
+        holder.publish(ConfigTree.root(services(10)));
+
+        assertEquals(0, notified.get());
+    }
+
+    @Test
+    void addedAndRemovedSubtrees() {
+        ConfigHolder holder = new ConfigHolder(ConfigTree.root(services(1)), DIRECT);
+        List<ConfigChange> changes = new ArrayList<>();
+        holder.subscribe(path("service1"), changes::add);
+
+        holder.publish(ConfigTree.root(services(2)));
+        holder.publish(ConfigTree.root(services(1)));
+
+        assertEquals(2, changes.size());
+        assertTrue(changes.get(0).isAdded());
+        assertTrue(changes.get(1).isRemoved());
+    }
+
+    @Test
+    void closedSubscriptionIsNotNotified() {
+        ConfigHolder holder = new ConfigHolder(ConfigTree.root(services(1)), DIRECT);
+        AtomicInteger notified = new AtomicInteger();
+        Subscription subscription = holder.subscribe(path("service0"), change -> notified.incrementAndGet());
+
+        holder.publish(ConfigTree.root(ObjectData.empty()));
+        subscription.close();
+        subscription.close();
+        holder.publish(ConfigTree.root(services(1)));
+
+        assertEquals(1, notified.get());
+    }
+
+    @Test
+    void rejectedDispatchIsRetriedOnNextPublish() {
+        AtomicInteger rejections = new AtomicInteger(1);
+        Executor executor = runnable -> {
+            if (rejections.getAndDecrement() > 0) {
+                throw new RejectedExecutionException("saturated");
+            }
+
+            runnable.run();
+        };
+        ConfigHolder holder = new ConfigHolder(ConfigTree.root(services(1)), executor);
+        List<ConfigChange> changes = new ArrayList<>();
+        holder.subscribe(path("service1"), changes::add);
+
+        ConfigNode added = ConfigTree.root(services(2));
+        assertThrows(RejectedExecutionException.class, () -> holder.publish(added));
+        assertSame(added, holder.get());
+        assertTrue(changes.isEmpty());
+
+        holder.publish(ConfigTree.root(services(1)));
+
+        assertEquals(2, changes.size());
+        assertTrue(changes.get(0).isAdded());
+        assertTrue(changes.get(1).isRemoved());
+    }
+
+    @Test
+    void failingListenerDoesNotStopOthers() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setUncaughtExceptionHandler((t, e) -> {});
+            return thread;
+        });
+
+        try {
+            ConfigHolder holder = new ConfigHolder(ConfigTree.root(services(1)), executor);
+            CountDownLatch latch = new CountDownLatch(1);
+            holder.subscribe(path("service0"), change -> {
+                throw new IllegalStateException("listener failure");
+            });
+            holder.subscribe(path("service0"), change -> latch.countDown());
+
+            holder.publish(ConfigTree.root(services(2).without("service0")));
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void notificationsRunOffThePublishingThreadInOrder() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            ConfigHolder holder = new ConfigHolder(ConfigTree.root(services(1)), executor);
+            List<Long> ports = new CopyOnWriteArrayList<>();
+            List<Thread> threads = new CopyOnWriteArrayList<>();
+            CountDownLatch latch = new CountDownLatch(100);
+
+            holder.subscribe(path("service0", "port"), change -> {
+                threads.add(Thread.currentThread());
+                ports.add(change.current().toValue().asLong());
+                latch.countDown();
+            });
+
+            for (int i = 1; i <= 100; ++i) {
+                final long port = i;
+                holder.update(root -> ConfigTree.with(root, path("service0", "port"), ConfigTree.root(ScalarData.ofLong(port))));
+            }
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertFalse(threads.contains(Thread.currentThread()));
+
+            List<Long> expected = new ArrayList<>();
+            for (long i = 1; i <= 100; ++i) {
+                expected.add(i);
+            }
+            assertEquals(expected, ports);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsNull() {
+        assertThrows(NullPointerException.class, () -> new ConfigHolder(null));
+        ConfigHolder holder = new ConfigHolder(ConfigTree.root(services(1)), DIRECT);
+        assertThrows(NullPointerException.class, () -> holder.publish(null));
+        assertThrows(NullPointerException.class, () -> holder.subscribe(null, change -> {}));
+        assertThrows(NullPointerException.class, () -> holder.subscribe(NodePath.empty(), null));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.metrics;
+
+import net.quickwrite.confetti.ArrayNode;
+import org.junit.jupiter.api.Test;
+
+import static net.quickwrite.confetti.metrics.NodeMetricsTest.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InstrumentedArrayNodeTest {
+    @Test
+    void countsElementLookups() {
+        final NodeMetrics metrics = new NodeMetrics();
+        final ArrayNode ports = metrics.instrument(config()).toObject().getNodeOrNull("ports").toArray();
+
+        assertEquals(80, ports.get(0).toValue().asLong());
+        assertEquals(80, ports.getLong(0));
+        assertEquals("https", ports.getString(1));
+
+        assertEquals(new PathStatistics(path("ports", 0), 2, 1, 0), statistics(metrics, path("ports", 0)));
+        assertEquals(new PathStatistics(path("ports", 1), 1, 0, 0), statistics(metrics, path("ports", 1)));
+    }
+
+    @Test
+    void countsFailures() {
+        final NodeMetrics metrics = new NodeMetrics();
+        final ArrayNode ports = metrics.instrument(config()).toObject().getNodeOrNull("ports").toArray();
+
+        assertThrows(RuntimeException.class, () -> ports.getLong(1));
+        assertThrows(RuntimeException.class, ports::toLongArray);
+
+        assertEquals(1, statistics(metrics, path("ports", 1)).failures());
+        assertEquals(1, statistics(metrics, path("ports")).failures());
+    }
+
+    @Test
+    void iterationWrapsElements() {
+        final NodeMetrics metrics = new NodeMetrics();
+        final ArrayNode ports = metrics.instrument(config()).toObject().getNodeOrNull("ports").toArray();
+
+        assertEquals(2, ports.toList().size());
+        ports.toList().forEach(element -> assertInstanceOf(InstrumentedValueNode.class, element));
+        assertEquals(2, statistics(metrics, path("ports", 1)).wrappers());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.metrics;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.ObjectNode;
+import net.quickwrite.confetti.exception.InvalidNodeTypeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static net.quickwrite.confetti.metrics.NodeMetricsTest.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InstrumentedObjectNodeTest {
+    @Test
+    void countsLookupsAndWrappers() {
+        final NodeMetrics metrics = new NodeMetrics();
+        final ObjectNode root = metrics.instrument(config()).toObject();
+
+        final ConfigNode server = root.getNodeOrNull("server");
+        root.get("server");
+        server.toObject().getString("host", null);
+
+        assertEquals(new PathStatistics(path("server"), 2, 2, 0), statistics(metrics, path("server")));
+        assertEquals(new PathStatistics(path("server", "host"), 1, 0, 0), statistics(metrics, path("server", "host")));
+    }
+
+    @Test
+    void countsMissingKeysAsLookups() {
+        final NodeMetrics metrics = new NodeMetrics();
+        final ObjectNode root = metrics.instrument(config()).toObject();
+
+        assertNull(root.getNodeOrNull("missing"));
+        assertEquals(new PathStatistics(path("missing"), 1, 0, 0), statistics(metrics, path("missing")));
+    }
+
+    @Test
+    void countsFailedTypedGetters() {
+        final NodeMetrics metrics = new NodeMetrics();
+        final ObjectNode server = metrics.instrument(config()).toObject().getNodeOrNull("server").toObject();
+
+        assertThrows(RuntimeException.class, () -> server.getLong("host", 0));
+        assertThrows(InvalidNodeTypeException.class, server::toArray);
+
+        assertEquals(1, statistics(metrics, path("server", "host")).failures());
+        assertEquals(1, statistics(metrics, path("server")).failures());
+    }
+
+    @Test
+    void iterationCountsWrappersOnly() {
+        final NodeMetrics metrics = new NodeMetrics();
+        final ObjectNode server = metrics.instrument(config()).toObject().getNodeOrNull("server").toObject();
+        final List<String> keys = new ArrayList<>();
+
+        server.forEachEntry((key, value) -> {
+            keys.add(key);
+            assertInstanceOf(InstrumentedValueNode.class, value);
+        });
+
+        assertEquals(List.of("host", "port"), keys);
+        assertEquals(new PathStatistics(path("server", "port"), 0, 1, 0), statistics(metrics, path("server", "port")));
+        assertEquals(2, server.toMap().size());
+        assertEquals(server.keys(), config().toObject().getNodeOrNull("server").toObject().keys());
+    }
+
+    @Test
+    void mapViewsWrapOnAccess() {
+        final NodeMetrics metrics = new NodeMetrics();
+        final ObjectNode server = metrics.instrument(config()).toObject().getNodeOrNull("server").toObject();
+
+        final Map<String, ConfigNode> map = server.toMap();
+        server.values();
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey("port"));
+        assertTrue(metrics.snapshot().stream().noneMatch(statistics -> statistics.path().equals(path("server", "port"))));
+
+        assertInstanceOf(InstrumentedValueNode.class, map.get("port"));
+        assertEquals(new PathStatistics(path("server", "port"), 1, 1, 0), statistics(metrics, path("server", "port")));
+
+        server.values().forEach(value -> assertInstanceOf(InstrumentedValueNode.class, value));
+        assertEquals(new PathStatistics(path("server", "port"), 1, 2, 0), statistics(metrics, path("server", "port")));
+    }
+
+    @Test
+    void nullKeysReturnTheDefault() {
+        final ObjectNode server = new NodeMetrics().instrument(config()).toObject().getNodeOrNull("server").toObject();
+
+        assertEquals(7, server.getLong(null, 7));
+        assertEquals(0.5, server.getDouble(null, 0.5));
+        assertTrue(server.getBoolean(null, true));
+        assertEquals("fallback", server.getString(null, "fallback"));
+    }
+
+    @Test
+    void equalsDelegate() {
+        final ConfigNode plain = config();
+        final ConfigNode instrumented = new NodeMetrics().instrument(config());
+
+        assertEquals(instrumented, plain);
+        assertEquals(plain, instrumented);
+        assertEquals(plain.hashCode(), instrumented.hashCode());
+        assertEquals(plain.path(), instrumented.path());
+    }
+}
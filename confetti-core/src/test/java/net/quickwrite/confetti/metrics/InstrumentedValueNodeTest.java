@@ -0,0 +1,39 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.metrics;
+
+import net.quickwrite.confetti.ValueNode;
+import net.quickwrite.confetti.exception.InvalidNodeTypeException;
+import org.junit.jupiter.api.Test;
+
+import static net.quickwrite.confetti.metrics.NodeMetricsTest.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InstrumentedValueNodeTest {
+    @Test
+    void delegatesConversions() {
+        final NodeMetrics metrics = new NodeMetrics();
+        final ValueNode port = metrics.instrument(config()).toObject().getNodeOrNull("server").toObject().getNodeOrNull("port").toValue();
+
+        assertEquals(8080, port.asLong());
+        assertEquals(8080.0, port.asDouble());
+        assertEquals(8080L, port.value());
+        assertEquals(0, statistics(metrics, path("server", "port")).failures());
+    }
+
+    @Test
+    void countsFailedConversions() {
+        final NodeMetrics metrics = new NodeMetrics();
+        final ValueNode host = metrics.instrument(config()).toObject().getNodeOrNull("server").toObject().getNodeOrNull("host").toValue();
+
+        assertThrows(RuntimeException.class, host::asLong);
+        assertThrows(RuntimeException.class, host::asBoolean);
+        assertThrows(InvalidNodeTypeException.class, host::toObject);
+
+        assertEquals(3, statistics(metrics, path("server", "host")).failures());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.metrics;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.tree.ArrayData;
+import net.quickwrite.confetti.tree.ConfigTree;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NodeMetricsTest {
+    static ConfigNode config() {
+        return ConfigTree.root(ObjectData.builder()
+                .put("server", ObjectData.builder()
+                        .put("host", ScalarData.ofString("localhost"))
+                        .put("port", ScalarData.ofLong(8080))
+                        .build())
+                .put("ports", ArrayData.builder().add(ScalarData.ofLong(80)).add(ScalarData.ofString("https")).build())
+                .build());
+    }
+
+    static NodePath path(final Object... segments) {
+        final PathSegment[] result = new PathSegment[segments.length];
+        for (int i = 0; i < segments.length; ++i) {
+            result[i] = segments[i] instanceof Integer index ? PathSegment.index(index) : PathSegment.key((String) segments[i]);
+        }
+
+        return NodePath.of(result);
+    }
+
+    static PathStatistics statistics(final NodeMetrics metrics, final NodePath path) {
+        return metrics.snapshot().stream()
+                .filter(statistics -> statistics.path().equals(path))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void countsRootAsWrapper() {
+        final NodeMetrics metrics = new NodeMetrics();
+        metrics.instrument(config());
+
+        assertEquals(new PathStatistics(NodePath.empty(), 0, 1, 0), statistics(metrics, NodePath.empty()));
+    }
+
+    @Test
+    void topOrdersByMetric() {
+        final NodeMetrics metrics = new NodeMetrics();
+        final ConfigNode root = metrics.instrument(config());
+
+        for (int i = 0; i < 10; ++i) {
+            root.toObject().getNodeOrNull("server").toObject().getLong("port", 0);
+        }
+        for (int i = 0; i < 3; ++i) {
+            root.toObject().getNodeOrNull("ports");
+        }
+
+        final List<PathStatistics> top = metrics.top(2, PathStatistics::lookups);
+
+        assertEquals(List.of(path("server"), path("server", "port")), top.stream().map(PathStatistics::path).toList());
+        assertEquals(10, top.get(0).lookups());
+        assertEquals(path("ports"), metrics.top(3, PathStatistics::lookups).get(2).path());
+        assertTrue(metrics.top(0, PathStatistics::lookups).isEmpty());
+        assertTrue(metrics.top(5, PathStatistics::failures).isEmpty());
+    }
+
+    @Test
+    void resetKeepsCountingExistingNodes() {
+        final NodeMetrics metrics = new NodeMetrics();
+        final ConfigNode root = metrics.instrument(config());
+
+        root.toObject().getNodeOrNull("server");
+        metrics.reset();
+        assertTrue(metrics.snapshot().isEmpty());
+
+        root.toObject().getNodeOrNull("server");
+        assertEquals(1, statistics(metrics, path("server")).lookups());
+    }
+
+    @Test
+    void sharesCountersBetweenTrees() {
+        final NodeMetrics metrics = new NodeMetrics();
+
+        metrics.instrument(config()).toObject().getNodeOrNull("server");
+        metrics.instrument(config()).toObject().getNodeOrNull("server");
+
+        assertEquals(2, statistics(metrics, path("server")).lookups());
+    }
+
+    @Test
+    void registersAsMXBean() throws Exception {
+        final NodeMetrics metrics = new NodeMetrics();
+        metrics.instrument(config()).toObject().getLong("missing", 0);
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName("net.quickwrite.confetti:type=NodeMetrics,name=test");
+        server.registerMBean(metrics, name);
+
+        try {
+            assertEquals(2, server.getAttribute(name, "TrackedPathCount"));
+
+            final String[] report = (String[]) server.invoke(name, "topLookups", new Object[] { 5 }, new String[] { "int" });
+            assertArrayEquals(new String[] { path("missing") + " lookups=1 wrappers=0 failures=0" }, report);
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        final NodeMetrics metrics = new NodeMetrics();
+
+        assertThrows(NullPointerException.class, () -> metrics.instrument(null));
+        assertThrows(NullPointerException.class, () -> metrics.top(1, null));
+        assertThrows(IllegalArgumentException.class, () -> metrics.top(-1, PathStatistics::lookups));
+    }
+}
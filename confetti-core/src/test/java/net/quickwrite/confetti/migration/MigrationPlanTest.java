@@ -0,0 +1,251 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.migration;
+
+import net.quickwrite.confetti.*;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MigrationPlanTest {
+    private static final class MapObjectNode implements ObjectNode {
+        private final Map<String, ConfigNode> delegate;
+
+        MapObjectNode(final Map<String, ConfigNode> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<ConfigNode> get(final String key) {
+            return Optional.ofNullable(delegate.get(key));
+        }
+
+        @Override
+        public Set<String> keys() {
+            return delegate.keySet();
+        }
+
+        @Override
+        public Collection<ConfigNode> values() {
+            return delegate.values();
+        }
+
+        @Override
+        public Map<String, ConfigNode> toMap() {
+            return Map.copyOf(delegate);
+        }
+
+        @Override
+        public Optional<PathSegment> key() {
+            return Optional.empty();
+        }
+
+        @Override
+        public NodePath path() {
+            return NodePath.empty();
+        }
+    }
+
+    private record TextNode(String text) implements ValueNode {
+        @Override public String asString() { return text; }
+        @Override public long asLong() { return Long.parseLong(text); }
+        @Override public double asDouble() { return Double.parseDouble(text); }
+        @Override public boolean asBoolean() { return Boolean.parseBoolean(text); }
+        @Override public Object value() { return text; }
+        @Override public Optional<PathSegment> key() { return Optional.empty(); }
+        @Override public NodePath path() { return NodePath.empty(); }
+    }
+
+    /** Appends a suffix to the text node at the given key. */
+    private record AppendMigrator(NodePath path, String suffix, List<String> log) implements ScopedConfigMigrator {
+        @Override
+        public ConfigNode migrateNode(final ConfigNode node) {
+            log.add(path.segments().get(path.segments().size() - 1).key() + suffix);
+            return new TextNode(node.toValue().asString() + suffix);
+        }
+    }
+
+    private static NodePath path(final String... keys) {
+        return NodePath.of(Arrays.stream(keys).map(PathSegment::key).toArray(PathSegment[]::new));
+    }
+
+    private static MapObjectNode config() {
+        final Map<String, ConfigNode> nested = new LinkedHashMap<>();
+        nested.put("x", new TextNode("x"));
+
+        final Map<String, ConfigNode> root = new LinkedHashMap<>();
+        root.put("a", new TextNode("a"));
+        root.put("b", new TextNode("b"));
+        root.put("c", new MapObjectNode(nested));
+
+        return new MapObjectNode(root);
+    }
+
+    @Test
+    public void rejectGapsInChain() {
+        final ConfigMigrator identity = config -> config;
+
+        assertThrows(IllegalArgumentException.class, () -> new MigrationPlan(4, List.of(
+                new MigrationStep(1, 2, identity),
+                new MigrationStep(3, 4, identity)
+        )));
+    }
+
+    @Test
+    public void rejectChainEndingBeforeCurrentVersion() {
+        final ConfigMigrator identity = config -> config;
+
+        assertThrows(IllegalArgumentException.class, () -> new MigrationPlan(3, List.of(new MigrationStep(1, 2, identity))));
+    }
+
+    @Test
+    public void rejectInvalidStep() {
+        assertThrows(IllegalArgumentException.class, () -> new MigrationStep(2, 2, config -> config));
+    }
+
+    @Test
+    public void orderStepsByVersion() {
+        final ConfigMigrator identity = config -> config;
+        final MigrationPlan plan = new MigrationPlan(3, List.of(
+                new MigrationStep(2, 3, identity),
+                new MigrationStep(1, 2, identity)
+        ));
+
+        assertEquals(List.of(1, 2), plan.steps().stream().map(MigrationStep::from).toList());
+    }
+
+    @Test
+    public void returnSameConfigForCurrentVersion() {
+        final MigrationPlan plan = new MigrationPlan(2, List.of(new MigrationStep(1, 2, config -> null)));
+        final ConfigNode config = config();
+
+        assertSame(config, plan.migrate(config, 2));
+        assertThrows(IllegalArgumentException.class, () -> plan.migrate(config, 3));
+        assertThrows(IllegalArgumentException.class, () -> plan.migrate(config, 0));
+    }
+
+    @Test
+    public void applyScopedMigratorsInSinglePass() {
+        final List<String> log = new ArrayList<>();
+        final MigrationPlan plan = new MigrationPlan(4, List.of(
+                new MigrationStep(1, 2, new AppendMigrator(path("a"), "1", log)),
+                new MigrationStep(2, 3, new AppendMigrator(path("b"), "2", log)),
+                new MigrationStep(3, 4, new AppendMigrator(path("a"), "3", log))
+        ));
+
+        final MapObjectNode config = config();
+        final ObjectNode migrated = plan.migrate(config, 1).toObject();
+
+        assertEquals("a13", migrated.get("a").orElseThrow().toValue().asString());
+        assertEquals("b2", migrated.get("b").orElseThrow().toValue().asString());
+        assertEquals(List.of("a1", "a3", "b2"), log, "both migrations of 'a' run together in one pass");
+
+        // Untouched subtrees are shared
+        assertSame(config.toMap().get("c"), migrated.get("c").orElseThrow());
+        assertEquals(config.keys(), migrated.keys());
+
+        // The original configuration is not modified
+        assertEquals("a", config.toMap().get("a").toValue().asString());
+    }
+
+    @Test
+    public void keepOrderOfNestedPaths() {
+        final List<String> log = new ArrayList<>();
+        final ScopedConfigMigrator replaceC = new ScopedConfigMigrator() {
+            @Override
+            public NodePath path() {
+                return MigrationPlanTest.path("c");
+            }
+
+            @Override
+            public ConfigNode migrateNode(final ConfigNode node) {
+                log.add("c");
+                return new MapObjectNode(Map.of("x", new TextNode("new")));
+            }
+        };
+
+        final MigrationPlan plan = new MigrationPlan(3, List.of(
+                new MigrationStep(1, 2, replaceC),
+                new MigrationStep(2, 3, new AppendMigrator(path("c", "x"), "!", log))
+        ));
+
+        final ConfigNode migrated = plan.migrate(config(), 1);
+
+        assertEquals(List.of("c", "x!"), log);
+        assertEquals("new!", migrated.toObject().get("c").orElseThrow().toObject().get("x").orElseThrow().toValue().asString());
+    }
+
+    @Test
+    public void rejectMigrationsReturningNull() {
+        final ScopedConfigMigrator broken = new NullMigrator();
+        final MigrationPlan plan = new MigrationPlan(2, List.of(new MigrationStep(1, 2, broken)));
+
+        final NullPointerException planException = assertThrows(NullPointerException.class, () -> plan.migrate(config(), 1));
+        assertTrue(planException.getMessage().contains(NullMigrator.class.getName()), planException.getMessage());
+
+        final NullPointerException migratorException = assertThrows(NullPointerException.class, () -> broken.migrate(config()));
+        assertTrue(migratorException.getMessage().contains(NullMigrator.class.getName()), migratorException.getMessage());
+    }
+
+    private static final class NullMigrator implements ScopedConfigMigrator {
+        @Override
+        public NodePath path() {
+            return MigrationPlanTest.path("a");
+        }
+
+        @Override
+        public ConfigNode migrateNode(final ConfigNode node) {
+            return null;
+        }
+    }
+
+    @Test
+    public void skipMissingPaths() {
+        final List<String> log = new ArrayList<>();
+        final MigrationPlan plan = new MigrationPlan(2, List.of(
+                new MigrationStep(1, 2, new AppendMigrator(path("missing"), "1", log))
+        ));
+
+        final ConfigNode config = config();
+
+        assertSame(config, plan.migrate(config, 1));
+        assertEquals(List.of(), log);
+    }
+
+    @Test
+    public void applyUnscopedMigratorsToWholeConfig() {
+        final List<String> log = new ArrayList<>();
+        final ConfigNode replacement = new MapObjectNode(Map.of("a", new TextNode("z")));
+
+        final MigrationPlan plan = new MigrationPlan(3, List.of(
+                new MigrationStep(1, 2, config -> replacement),
+                new MigrationStep(2, 3, new AppendMigrator(path("a"), "1", log))
+        ));
+
+        final ConfigNode migrated = plan.migrate(config(), 1);
+
+        assertEquals("z1", migrated.toObject().get("a").orElseThrow().toValue().asString());
+    }
+
+    @Test
+    public void keepPathsOfPatchedNodes() {
+        final MigrationPlan plan = new MigrationPlan(2, List.of(
+                new MigrationStep(1, 2, new AppendMigrator(path("c", "x"), "1", new ArrayList<>()))
+        ));
+
+        final ConfigNode migrated = plan.migrate(config(), 1);
+        final ConfigNode c = migrated.toObject().get("c").orElseThrow();
+
+        assertEquals(NodePath.empty(), migrated.path());
+        assertEquals(path("c"), c.path());
+        assertEquals(Optional.of(PathSegment.key("c")), c.key());
+    }
+}
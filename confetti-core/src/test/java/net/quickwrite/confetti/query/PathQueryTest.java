@@ -0,0 +1,152 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.query;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.tree.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PathQueryTest {
+    private static ObjectData server(final String host, final long port, final long timeout) {
+        return ObjectData.builder()
+                .put("host", ScalarData.ofString(host))
+                .put("port", ScalarData.ofLong(port))
+                .put("http", ObjectData.builder().put("timeout", ScalarData.ofLong(timeout)).build())
+                .build();
+    }
+
+    private static ConfigNode root() {
+        return ConfigTree.root(ObjectData.builder()
+                .put("servers", ArrayData.builder()
+                        .add(server("a", 80, 1))
+                        .add(server("b", 81, 2))
+                        .add(server("c", 82, 3))
+                        .add(server("d", 83, 4))
+                        .build())
+                .put("timeout", ScalarData.ofLong(30))
+                .put("a.b", ScalarData.ofString("dotted"))
+                .build());
+    }
+
+    private static List<Object> values(final String query) {
+        List<Object> values = new ArrayList<>();
+        PathQuery.compile(query).forEach(root(), node -> values.add(node.toValue().value()));
+
+        return values;
+    }
+
+    @Test
+    void literalPath() {
+        assertEquals(List.of(30L), values("timeout"));
+        assertEquals(List.of("b"), values("servers[1].host"));
+        assertEquals(List.of(), values("servers[9].host"));
+        assertEquals(List.of(), values("unknown.path"));
+    }
+
+    @Test
+    void wildcards() {
+        assertEquals(List.of(80L, 81L, 82L, 83L), values("servers[*].port"));
+        assertEquals(3, PathQuery.compile("servers[0].*").select(root()).size());
+        assertEquals(List.of(1L, 2L, 3L, 4L), values("servers[*].*.timeout"));
+        assertEquals(List.of(80L), values("*[0].port"));
+        assertEquals(List.of(), values("timeout[*]"));
+    }
+
+    @Test
+    void indexRanges() {
+        assertEquals(List.of(81L, 82L), values("servers[1:3].port"));
+        assertEquals(List.of(82L, 83L), values("servers[2:].port"));
+        assertEquals(List.of(80L), values("servers[:1].port"));
+        assertEquals(List.of(83L), values("servers[3:100].port"));
+    }
+
+    @Test
+    void recursiveDescent() {
+        assertEquals(List.of(1L, 2L, 3L, 4L, 30L), values("**.timeout"));
+        assertEquals(List.of(1L, 2L, 3L, 4L), values("servers.**.timeout"));
+        assertEquals(List.of(1L, 2L, 3L, 4L), values("**.http.**.timeout"));
+        assertEquals(14, PathQuery.compile("**.**").select(root()).stream().filter(ConfigNode::isValue).count());
+    }
+
+    @Test
+    void quotedKeys() {
+        assertEquals(List.of("dotted"), values("\"a.b\""));
+        assertEquals(List.of("dotted"), values("[\"a.b\"]"));
+    }
+
+    @Test
+    void emptyQuerySelectsRoot() {
+        ConfigNode root = root();
+
+        assertEquals(List.of(root), PathQuery.compile("").select(root));
+    }
+
+    @Test
+    void selectedNodesKeepTheirPath() {
+        List<ConfigNode> ports = PathQuery.compile("servers[*].port").select(root());
+
+        assertEquals(
+                NodePath.of(PathSegment.key("servers"), PathSegment.index(2), PathSegment.key("port")),
+                ports.get(2).path()
+        );
+    }
+
+    @Test
+    void findFirstStopsAtFirstMatch() {
+        assertEquals(80L, PathQuery.compile("**.port").findFirst(root()).orElseThrow().toValue().asLong());
+        assertTrue(PathQuery.compile("**.missing").findFirst(root()).isEmpty());
+    }
+
+    @Test
+    void matchesPath() {
+        PathQuery query = PathQuery.compile("servers[1:3].**.timeout");
+
+        assertTrue(query.matches(NodePath.of(PathSegment.key("servers"), PathSegment.index(1), PathSegment.key("timeout"))));
+        assertTrue(query.matches(NodePath.of(
+                PathSegment.key("servers"), PathSegment.index(2), PathSegment.key("http"), PathSegment.key("timeout")
+        )));
+        assertFalse(query.matches(NodePath.of(PathSegment.key("servers"), PathSegment.index(3), PathSegment.key("timeout"))));
+        assertFalse(query.matches(NodePath.of(PathSegment.key("servers"), PathSegment.key("1"), PathSegment.key("timeout"))));
+        assertFalse(query.matches(NodePath.empty()));
+        assertTrue(PathQuery.compile("").matches(NodePath.empty()));
+    }
+
+    @Test
+    void deepTrees() {
+        ConfigData data = ScalarData.ofLong(7);
+        for (int i = 0; i < 10_000; ++i) {
+            data = ObjectData.builder().put("child", data).put("sibling", ScalarData.ofLong(i)).build();
+        }
+
+        assertEquals(7L, PathQuery.compile("**.child").select(ConfigTree.root(data)).getLast().toValue().asLong());
+    }
+
+    @Test
+    void malformedQueries() {
+        assertThrows(IllegalArgumentException.class, () -> PathQuery.compile("servers["));
+        assertThrows(IllegalArgumentException.class, () -> PathQuery.compile("servers[]"));
+        assertThrows(IllegalArgumentException.class, () -> PathQuery.compile("servers[3:1]"));
+        assertThrows(IllegalArgumentException.class, () -> PathQuery.compile("servers..port"));
+        assertThrows(IllegalArgumentException.class, () -> PathQuery.compile(".port"));
+        assertThrows(IllegalArgumentException.class, () -> PathQuery.compile("\"open"));
+        assertThrows(IllegalArgumentException.class, () -> PathQuery.compile("a]"));
+        assertThrows(IllegalArgumentException.class, () -> PathQuery.compile("a" + ".a".repeat(63)));
+        assertThrows(NullPointerException.class, () -> PathQuery.compile(null));
+    }
+
+    @Test
+    void toStringReturnsExpression() {
+        assertEquals("servers[*].port", PathQuery.compile("servers[*].port").toString());
+    }
+}
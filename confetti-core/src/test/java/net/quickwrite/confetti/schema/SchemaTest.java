@@ -0,0 +1,63 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.schema;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchemaTest {
+    @Test
+    void builderKeepsDeclarationOrder() {
+        Schema.ObjectSchema schema = Schema.object()
+                .required("b", Schema.string())
+                .optional("a", Schema.integer())
+                .required("c", Schema.bool())
+                .build();
+
+        assertEquals(List.of("b", "a", "c"), List.copyOf(schema.properties().keySet()));
+        assertTrue(schema.properties().get("b").required());
+        assertFalse(schema.properties().get("a").required());
+        assertFalse(schema.closed());
+    }
+
+    @Test
+    void builderRejectsDuplicateKeys() {
+        Schema.ObjectSchema.Builder builder = Schema.object().required("a", Schema.string());
+
+        assertThrows(IllegalArgumentException.class, () -> builder.optional("a", Schema.integer()));
+    }
+
+    @Test
+    void propertiesAreUnmodifiable() {
+        Schema.ObjectSchema schema = Schema.object().required("a", Schema.string()).build();
+
+        assertThrows(UnsupportedOperationException.class, () -> schema.properties().remove("a"));
+    }
+
+    @Test
+    void rangesHaveToBeValid() {
+        assertThrows(IllegalArgumentException.class, () -> Schema.integer(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> Schema.number(Double.NaN, 1));
+        assertThrows(IllegalArgumentException.class, () -> Schema.arrayOf(Schema.any(), -1, 3));
+        assertThrows(IllegalArgumentException.class, () -> Schema.arrayOf(Schema.any(), 4, 3));
+        assertThrows(NullPointerException.class, () -> Schema.arrayOf(null));
+    }
+
+    @Test
+    void equalSchemasAreEqual() {
+        assertEquals(Schema.integer(0, 10), Schema.integer(0, 10));
+        assertEquals(Schema.arrayOf(Schema.string()), Schema.arrayOf(Schema.string()));
+        assertSame(Schema.string(), Schema.string());
+        assertEquals(
+                Schema.object().required("a", Schema.bool()).build(),
+                Schema.object().required("a", Schema.bool()).build()
+        );
+    }
+}
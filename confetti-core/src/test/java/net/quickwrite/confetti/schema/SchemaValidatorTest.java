@@ -0,0 +1,298 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.schema;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.ValueNode;
+import net.quickwrite.confetti.exception.ConfigValidationException;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.tree.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchemaValidatorTest {
+    private static final Schema.ObjectSchema SERVER = Schema.object()
+            .required("host", Schema.string())
+            .required("port", Schema.integer(1, 65535))
+            .optional("secure", Schema.bool())
+            .build();
+
+    private static final Schema.ObjectSchema APPLICATION = Schema.object()
+            .required("name", Schema.string())
+            .required("servers", Schema.arrayOf(SERVER, 1, Integer.MAX_VALUE))
+            .optional("ratio", Schema.number(0, 1))
+            .build();
+
+    private static ObjectData server(final String host, final long port) {
+        return ObjectData.builder()
+                .put("host", ScalarData.ofString(host))
+                .put("port", ScalarData.ofLong(port))
+                .build();
+    }
+
+    private static ConfigNode application(final ConfigData... servers) {
+        ArrayData.Builder array = ArrayData.builder();
+        for (ConfigData server : servers) {
+            array.add(server);
+        }
+
+        return ConfigTree.root(ObjectData.builder()
+                .put("name", ScalarData.ofString("app"))
+                .put("servers", array.build())
+                .build());
+    }
+
+    private static NodePath path(final Object... segments) {
+        PathSegment[] result = new PathSegment[segments.length];
+        for (int i = 0; i < segments.length; ++i) {
+            result[i] = segments[i] instanceof Integer index ? PathSegment.index(index) : PathSegment.key((String) segments[i]);
+        }
+
+        return NodePath.of(result);
+    }
+
+    private static List<NodePath> paths(final List<Violation> violations) {
+        return violations.stream().map(Violation::path).toList();
+    }
+
+    @Test
+    void validTreeHasNoViolations() {
+        SchemaValidator validator = SchemaValidator.compile(APPLICATION);
+
+        assertEquals(List.of(), validator.validate(application(server("a", 80), server("b", 443))));
+    }
+
+    @Test
+    void reportsAllViolationsWithPaths() {
+        ConfigNode root = application(
+                server("a", 0),
+                ObjectData.builder().put("port", ScalarData.ofString("80")).build(),
+                ScalarData.ofLong(3)
+        );
+
+        List<Violation> violations = SchemaValidator.compile(APPLICATION).validate(root);
+
+        assertEquals(List.of(
+                path("servers", 0, "port"),
+                path("servers", 1, "host"),
+                path("servers", 1, "port"),
+                path("servers", 2)
+        ), paths(violations));
+        assertEquals("servers[1].host: The required key is missing", violations.get(1).toString());
+    }
+
+    @Test
+    void nullValueCountsAsMissing() {
+        ConfigNode root = ConfigTree.root(ObjectData.builder()
+                .put("host", NullData.INSTANCE)
+                .put("port", ScalarData.ofLong(1))
+                .put("secure", NullData.INSTANCE)
+                .build());
+
+        assertEquals(List.of(path("host")), paths(SchemaValidator.compile(SERVER).validate(root)));
+    }
+
+    @Test
+    void checksRanges() {
+        Schema.ObjectSchema schema = Schema.object()
+                .required("integer", Schema.integer(0, 10))
+                .required("number", Schema.number(0, 1))
+                .required("array", Schema.arrayOf(Schema.any(), 0, 1))
+                .build();
+        ConfigNode root = ConfigTree.root(ObjectData.builder()
+                .put("integer", ScalarData.ofLong(11))
+                .put("number", ScalarData.ofDouble(-0.5))
+                .put("array", ArrayData.builder().add(NullData.INSTANCE).add(NullData.INSTANCE).build())
+                .build());
+
+        List<Violation> violations = SchemaValidator.compile(schema).validate(root);
+
+        assertEquals(List.of(path("integer"), path("number"), path("array")), paths(violations));
+        assertEquals("The value 11 is greater than the maximum 10", violations.get(0).message());
+        assertEquals("The value -0.5 is smaller than the minimum 0.0", violations.get(1).message());
+        assertEquals("Expected at most 1 elements but found 2", violations.get(2).message());
+    }
+
+    @Test
+    void integersAreNumbersButNotViceVersa() {
+        Schema.ObjectSchema schema = Schema.object()
+                .required("number", Schema.number())
+                .required("integer", Schema.integer())
+                .build();
+        ConfigNode root = ConfigTree.root(ObjectData.builder()
+                .put("number", ScalarData.ofLong(1))
+                .put("integer", ScalarData.ofDouble(1.5))
+                .build());
+
+        assertEquals(List.of(path("integer")), paths(SchemaValidator.compile(schema).validate(root)));
+    }
+
+    @Test
+    void reportsTypeMismatches() {
+        Schema.ObjectSchema schema = Schema.object()
+                .required("object", Schema.object().build())
+                .required("array", Schema.arrayOf(Schema.any()))
+                .required("string", Schema.string())
+                .required("bool", Schema.bool())
+                .build();
+        ConfigNode root = ConfigTree.root(ObjectData.builder()
+                .put("object", ArrayData.empty())
+                .put("array", ScalarData.ofString("x"))
+                .put("string", ObjectData.empty())
+                .put("bool", ScalarData.ofString("true"))
+                .build());
+
+        List<Violation> violations = SchemaValidator.compile(schema).validate(root);
+
+        assertEquals(List.of(
+                "Expected an object but found an array",
+                "Expected an array but found a value",
+                "Expected a string but found an object",
+                "Expected a boolean but found the string true"
+        ), violations.stream().map(Violation::message).toList());
+    }
+
+    @Test
+    void mismatchMessageIgnoresDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+
+        try {
+            List<Violation> violations = SchemaValidator.compile(Schema.string())
+                    .validate(new IntegerNode(42));
+
+            assertEquals("Expected a string but found the integer 42", violations.get(0).message());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    /**
+     * A value node that returns its value as an {@link Integer}, like the nodes of some formats do.
+     */
+    private record IntegerNode(Integer value) implements ValueNode {
+        @Override
+        public String asString() {
+            return this.value.toString();
+        }
+
+        @Override
+        public long asLong() {
+            return this.value;
+        }
+
+        @Override
+        public double asDouble() {
+            return this.value;
+        }
+
+        @Override
+        public boolean asBoolean() {
+            throw new IllegalStateException("Not a boolean");
+        }
+
+        @Override
+        public Optional<PathSegment> key() {
+            return Optional.empty();
+        }
+
+        @Override
+        public NodePath path() {
+            return NodePath.empty();
+        }
+    }
+
+    @Test
+    void closedObjectRejectsUnknownKeys() {
+        Schema.ObjectSchema schema = Schema.object()
+                .required("a", Schema.integer())
+                .required("b", Schema.integer())
+                .closed()
+                .build();
+        ConfigNode root = ConfigTree.root(ObjectData.builder()
+                .put("a", ScalarData.ofLong(1))
+                .put("unknown", ScalarData.ofLong(2))
+                .build());
+
+        List<Violation> violations = SchemaValidator.compile(schema).validate(root);
+
+        assertEquals(List.of(path("unknown"), path("b")), paths(violations));
+    }
+
+    @Test
+    void openObjectAcceptsUnknownKeys() {
+        ConfigNode root = ConfigTree.root(server("a", 1).with("unknown", ScalarData.ofLong(2)));
+
+        assertEquals(List.of(), SchemaValidator.compile(SERVER).validate(root));
+    }
+
+    @Test
+    void parallelValidationKeepsDocumentOrder() {
+        ConfigData[] servers = new ConfigData[5000];
+        for (int i = 0; i < servers.length; ++i) {
+            servers[i] = server("host" + i, i % 7 == 0 ? 0 : 80);
+        }
+        ConfigNode root = application(servers);
+
+        SchemaValidator validator = SchemaValidator.compile(APPLICATION);
+        List<Violation> sequential = validator.sequential().validate(root);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Violation> parallel = validator.parallel(pool, 16).validate(root);
+
+            assertEquals(715, sequential.size());
+            assertEquals(sequential, parallel);
+            assertEquals(path("servers", 7, "port"), parallel.get(1).path());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parallelRejectsSmallThreshold() {
+        SchemaValidator validator = SchemaValidator.compile(Schema.any());
+
+        assertThrows(IllegalArgumentException.class, () -> validator.parallel(ForkJoinPool.commonPool(), 1));
+    }
+
+    @Test
+    void recursiveSchemasAreSharedRules() {
+        Schema.ObjectSchema schema = Schema.object()
+                .required("primary", SERVER)
+                .optional("fallback", Schema.object()
+                        .required("host", Schema.string())
+                        .required("port", Schema.integer(1, 65535))
+                        .optional("secure", Schema.bool())
+                        .build())
+                .build();
+        ConfigNode root = ConfigTree.root(ObjectData.builder()
+                .put("primary", server("a", 1))
+                .put("fallback", server("b", 70000))
+                .build());
+
+        assertEquals(List.of(path("fallback", "port")), paths(SchemaValidator.compile(schema).validate(root)));
+    }
+
+    @Test
+    void requireValidThrowsWithViolations() {
+        SchemaValidator validator = SchemaValidator.compile(APPLICATION);
+
+        ConfigValidationException exception = assertThrows(ConfigValidationException.class,
+                () -> validator.requireValid(application()));
+
+        assertEquals(List.of(path("servers")), paths(exception.violations()));
+        assertTrue(exception.getMessage().contains("servers: Expected at least 1 elements but found 0"));
+        assertDoesNotThrow(() -> validator.requireValid(application(server("a", 1))));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.schema;
+
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ViolationTest {
+    @Test
+    void toStringContainsPath() {
+        Violation violation = new Violation(
+                NodePath.of(PathSegment.key("servers"), PathSegment.index(2), PathSegment.key("port")),
+                "message"
+        );
+
+        assertEquals("servers[2].port: message", violation.toString());
+    }
+
+    @Test
+    void toStringOfRoot() {
+        assertEquals("<root>: message", new Violation(NodePath.empty(), "message").toString());
+    }
+
+    @Test
+    void toStringOfLeadingIndex() {
+        assertEquals("[0].a: message", new Violation(NodePath.of(PathSegment.index(0), PathSegment.key("a")), "message").toString());
+    }
+
+    @Test
+    void rejectsNull() {
+        assertThrows(NullPointerException.class, () -> new Violation(null, "message"));
+        assertThrows(NullPointerException.class, () -> new Violation(NodePath.empty(), null));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayDataTest {
+    @Test
+    public void keepElementOrder() {
+        ArrayData array = ArrayData.builder()
+                .add(ScalarData.ofLong(1))
+                .add(NullData.INSTANCE)
+                .add(ScalarData.ofString("x"))
+                .build();
+
+        assertEquals(3, array.size());
+        assertEquals(ScalarData.ofLong(1), array.get(0));
+        assertSame(NullData.INSTANCE, array.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(-1));
+    }
+
+    @Test
+    public void compareInOrder() {
+        ArrayData first = ArrayData.builder().add(ScalarData.ofLong(1)).add(ScalarData.ofLong(2)).build();
+        ArrayData second = ArrayData.builder().add(ScalarData.ofLong(1)).add(ScalarData.ofLong(2)).build();
+        ArrayData reversed = ArrayData.builder().add(ScalarData.ofLong(2)).add(ScalarData.ofLong(1)).build();
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, reversed);
+        assertNotEquals(first, ArrayData.empty());
+        assertSame(ArrayData.empty(), ArrayData.builder().build());
+    }
+
+    @Test
+    public void appendAcrossChunks() {
+        List<ConfigData> expected = new ArrayList<>();
+        ArrayData array = ArrayData.empty();
+
+        for (int i = 0; i < 33 * 32 + 5; ++i) {
+            expected.add(ScalarData.ofLong(i));
+            array = array.append(ScalarData.ofLong(i));
+        }
+
+        assertContent(expected, array);
+    }
+
+    @Test
+    public void buildLargeArrays() {
+        for (int size : new int[] { 1, 31, 32, 33, 1024, 1025, 40_000 }) {
+            List<ConfigData> expected = new ArrayList<>();
+            ArrayData.Builder builder = ArrayData.builder();
+
+            for (int i = 0; i < size; ++i) {
+                expected.add(ScalarData.ofLong(i));
+                builder.add(ScalarData.ofLong(i));
+            }
+
+            assertContent(expected, builder.build());
+        }
+    }
+
+    @Test
+    public void setAndRemoveElements() {
+        Random random = new Random(7);
+        List<ConfigData> expected = new ArrayList<>();
+        ArrayData.Builder builder = ArrayData.builder();
+        for (int i = 0; i < 2_000; ++i) {
+            expected.add(ScalarData.ofLong(i));
+            builder.add(ScalarData.ofLong(i));
+        }
+
+        ArrayData original = builder.build();
+        ArrayData array = original;
+
+        for (int i = 0; i < 500; ++i) {
+            int index = random.nextInt(expected.size());
+            expected.set(index, ScalarData.ofString("x" + i));
+            array = array.set(index, ScalarData.ofString("x" + i));
+        }
+        assertContent(expected, array);
+
+        expected.remove(1000);
+        assertContent(expected, array.without(1000));
+
+        assertEquals(ScalarData.ofLong(3), original.get(3));
+        assertSame(original, original.set(5, original.get(5)));
+        assertThrows(IndexOutOfBoundsException.class, () -> original.set(2_000, NullData.INSTANCE));
+    }
+
+    private static void assertContent(List<ConfigData> expected, ArrayData array) {
+        assertEquals(expected.size(), array.size());
+
+        ArrayData.Builder rebuilt = ArrayData.builder();
+        for (int i = 0; i < expected.size(); ++i) {
+            assertEquals(expected.get(i), array.get(i));
+            rebuilt.add(expected.get(i));
+        }
+
+        assertEquals(rebuilt.build().hashCode(), array.hashCode());
+        assertEquals(rebuilt.build(), array);
+    }
+}
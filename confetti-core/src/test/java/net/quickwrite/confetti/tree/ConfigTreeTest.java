@@ -0,0 +1,213 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.NodeType;
+import net.quickwrite.confetti.exception.InvalidNodeTypeException;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigTreeTest {
+    private static ObjectData service(final String host, final long port) {
+        ObjectData.Builder settings = ObjectData.builder();
+        for (int i = 0; i < 200; ++i) {
+            settings.put("setting" + i, ScalarData.ofString("value" + i));
+        }
+
+        return ObjectData.builder()
+                .put("host", ScalarData.ofString(host))
+                .put("port", ScalarData.ofLong(port))
+                .put("region", ScalarData.ofString("eu-west-1"))
+                .put("settings", settings.build())
+                .put("tags", ArrayData.builder().add(ScalarData.ofString("a")).add(NullData.INSTANCE).build())
+                .build();
+    }
+
+    private static ObjectData tenants(final int count) {
+        ObjectData.Builder builder = ObjectData.builder();
+        for (int i = 0; i < count; ++i) {
+            builder.put("tenant" + i, service("host" + (i % 10), 8000 + (i % 2)));
+        }
+
+        return builder.build();
+    }
+
+    @Test
+    public void wrapRootData() {
+        assertEquals(NodeType.OBJECT, ConfigTree.root(ObjectData.empty()).type());
+        assertEquals(NodeType.ARRAY, ConfigTree.root(ArrayData.empty()).type());
+        assertEquals(1L, ConfigTree.root(ScalarData.ofLong(1)).toValue().asLong());
+        assertTrue(ConfigTree.root(NullData.INSTANCE).isNull());
+    }
+
+    @Test
+    public void copyRoundTrip() {
+        ObjectData data = tenants(3);
+        ConfigNode node = ConfigTree.root(data);
+
+        assertSame(data, ConfigTree.copyOf(node));
+
+        ConfigData copy = ConfigTree.copyOf(node, new ConfigInterner());
+        assertEquals(data, copy);
+        assertNotSame(data, copy);
+        assertEquals(ScalarData.ofLong(1), ConfigTree.copyOf(ConfigTree.root(ScalarData.ofLong(1))));
+    }
+
+    @Test
+    public void shareEqualSubtreesAndStrings() {
+        ConfigInterner interner = new ConfigInterner();
+        ObjectData copy = (ObjectData) ConfigTree.copyOf(ConfigTree.root(tenants(1000)), interner);
+
+        ObjectData first = (ObjectData) copy.get("tenant0");
+        ObjectData sameVariant = (ObjectData) copy.get("tenant10");
+        ObjectData otherVariant = (ObjectData) copy.get("tenant1");
+
+        assertSame(first, sameVariant);
+        assertNotSame(first, otherVariant);
+        assertSame(first.get("settings"), otherVariant.get("settings"));
+        assertSame(first.get("region"), otherVariant.get("region"));
+        assertSame(((ScalarData) first.get("region")).asString(), ((ScalarData) otherVariant.get("region")).asString());
+
+        InternStats stats = interner.stats();
+        assertTrue(stats.nodeDedupRatio() > 0.99, "node dedup ratio was " + stats.nodeDedupRatio());
+        assertTrue(stats.stringDedupRatio() > 0.99, "string dedup ratio was " + stats.stringDedupRatio());
+        assertTrue(stats.distinctNodes() < 500, "distinct nodes: " + stats.distinctNodes());
+    }
+
+    @Test
+    public void shareSubtreesAcrossTrees() {
+        ConfigInterner interner = new ConfigInterner();
+
+        ConfigData first = ConfigTree.copyOf(ConfigTree.root(service("a", 1)), interner);
+        ConfigData second = ConfigTree.copyOf(ConfigTree.root(service("a", 1)), interner);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void copyDeepTreesWithoutRecursion() {
+        ConfigData data = ScalarData.ofLong(0);
+        for (int i = 0; i < 50_000; ++i) {
+            data = i % 2 == 0
+                    ? ObjectData.builder().put("child", data).build()
+                    : ArrayData.builder().add(data).build();
+        }
+
+        ConfigData copy = ConfigTree.copyOf(ConfigTree.root(data), new ConfigInterner());
+
+        assertEquals(data.hashCode(), copy.hashCode());
+        assertEquals(NodeType.ARRAY, copy.type());
+    }
+
+    @Test
+    public void reportEmptyStats() {
+        InternStats stats = new ConfigInterner().stats();
+
+        assertEquals(0.0, stats.nodeDedupRatio());
+        assertEquals(0.0, stats.stringDedupRatio());
+    }
+
+    private static NodePath path(Object... segments) {
+        PathSegment[] result = new PathSegment[segments.length];
+        for (int i = 0; i < segments.length; ++i) {
+            result[i] = segments[i] instanceof Integer index ? PathSegment.index(index) : PathSegment.key((String) segments[i]);
+        }
+
+        return NodePath.of(result);
+    }
+
+    @Test
+    public void setValuesAndShareUntouchedSubtrees() {
+        ObjectData root = tenants(100);
+
+        ObjectData updated = (ObjectData) ConfigTree.with(root, path("tenant3", "port"), ScalarData.ofLong(1));
+
+        assertEquals(ScalarData.ofLong(1), ((ObjectData) updated.get("tenant3")).get("port"));
+        assertEquals(ScalarData.ofLong(8001), ((ObjectData) root.get("tenant3")).get("port"));
+        assertSame(root.get("tenant4"), updated.get("tenant4"));
+        assertSame(((ObjectData) root.get("tenant3")).get("settings"), ((ObjectData) updated.get("tenant3")).get("settings"));
+
+        assertSame(root, ConfigTree.with(root, path("tenant3", "port"), ((ObjectData) root.get("tenant3")).get("port")));
+
+        ScalarData replacement = ScalarData.ofLong(5);
+        assertSame(replacement, ConfigTree.with(root, path(), replacement));
+    }
+
+    @Test
+    public void createMissingContainersAndAppend() {
+        ConfigData root = ConfigTree.with(ObjectData.empty(), path("a", "b", 0), ScalarData.ofString("x"));
+        root = ConfigTree.with(root, path("a", "b", 1), ScalarData.ofString("y"));
+        root = ConfigTree.with(root, path("a", "b", 0), ScalarData.ofString("z"));
+
+        ConfigNode node = ConfigTree.root(root);
+        assertArrayEquals(new String[] { "z", "y" }, node.toObject().getNodeOrNull("a").toObject().getNodeOrNull("b").toArray().toStringArray());
+
+        ConfigData finalRoot = root;
+        assertThrows(IndexOutOfBoundsException.class, () -> ConfigTree.with(finalRoot, path("a", "b", 5), NullData.INSTANCE));
+        assertThrows(InvalidNodeTypeException.class, () -> ConfigTree.with(finalRoot, path("a", "b", "c"), NullData.INSTANCE));
+        assertThrows(InvalidNodeTypeException.class, () -> ConfigTree.with(finalRoot, path("a", 0), NullData.INSTANCE));
+    }
+
+    @Test
+    public void removeNodes() {
+        ConfigData root = ConfigTree.with(ObjectData.empty(), path("a", "list", 0), ScalarData.ofLong(1));
+        root = ConfigTree.with(root, path("a", "list", 1), ScalarData.ofLong(2));
+        root = ConfigTree.with(root, path("a", "flag"), ScalarData.ofBoolean(true));
+
+        ConfigData withoutFlag = ConfigTree.without(root, path("a", "flag"));
+        assertNull(((ObjectData) ((ObjectData) withoutFlag).get("a")).get("flag"));
+
+        ConfigData withoutElement = ConfigTree.without(root, path("a", "list", 0));
+        assertEquals(ScalarData.ofLong(2), ((ArrayData) ((ObjectData) ((ObjectData) withoutElement).get("a")).get("list")).get(0));
+
+        assertSame(root, ConfigTree.without(root, path("a", "missing", "deeper")));
+        assertSame(root, ConfigTree.without(root, path("a", "list", 7)));
+        assertSame(root, ConfigTree.without(root, path("a", "flag", "x")));
+
+        ConfigData finalRoot = root;
+        assertThrows(IllegalArgumentException.class, () -> ConfigTree.without(finalRoot, path()));
+    }
+
+    @Test
+    public void mergeObjectsRecursively() {
+        ObjectData base = service("a", 1);
+        ObjectData overlay = ObjectData.builder()
+                .put("port", ScalarData.ofLong(2))
+                .put("settings", ObjectData.builder().put("setting1", ScalarData.ofString("changed")).build())
+                .put("tags", ArrayData.empty())
+                .build();
+
+        ObjectData merged = (ObjectData) ConfigTree.merge(base, overlay);
+
+        assertEquals(ScalarData.ofLong(2), merged.get("port"));
+        assertSame(base.get("host"), merged.get("host"));
+        assertEquals(ArrayData.empty(), merged.get("tags"));
+
+        ObjectData settings = (ObjectData) merged.get("settings");
+        assertEquals(200, settings.size());
+        assertEquals(ScalarData.ofString("changed"), settings.get("setting1"));
+        assertSame(((ObjectData) base.get("settings")).get("setting2"), settings.get("setting2"));
+
+        assertSame(overlay, ConfigTree.merge(ScalarData.ofLong(1), overlay));
+    }
+
+    @Test
+    public void updateNodes() {
+        ConfigNode root = ConfigTree.root(service("a", 1));
+
+        ConfigNode updated = ConfigTree.with(root, path("port"), ConfigTree.root(ScalarData.ofLong(9)));
+        assertEquals(9L, updated.toObject().getLong("port", 0L));
+        assertEquals(1L, root.toObject().getLong("port", 0L));
+
+        assertFalse(ConfigTree.without(updated, path("port")).toObject().keys().contains("port"));
+        assertEquals(9L, ConfigTree.merge(root, updated).toObject().getLong("port", 0L));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectDataTest {
+    private static ObjectData sized(final int size) {
+        ObjectData.Builder builder = ObjectData.builder();
+        for (int i = 0; i < size; ++i) {
+            builder.put("key" + i, ScalarData.ofLong(i));
+        }
+
+        return builder.build();
+    }
+
+    @Test
+    public void keepInsertionOrder() {
+        ObjectData object = ObjectData.builder()
+                .put("b", ScalarData.ofLong(1))
+                .put("a", ScalarData.ofLong(2))
+                .put("b", ScalarData.ofLong(3))
+                .build();
+
+        assertEquals(2, object.size());
+        assertEquals(List.of("b", "a"), new ArrayList<>(object.keys()));
+        assertEquals(ScalarData.ofLong(3), object.get("b"));
+
+        List<String> visited = new ArrayList<>();
+        object.forEach((key, value) -> visited.add(key + "=" + value));
+        assertEquals(List.of("b=3", "a=2"), visited);
+    }
+
+    @Test
+    public void lookUpSmallAndLargeObjects() {
+        for (int size : new int[] { 1, 8, 9, 100, 1000 }) {
+            ObjectData object = sized(size);
+
+            for (int i = 0; i < size; ++i) {
+                assertEquals(ScalarData.ofLong(i), object.get("key" + i));
+                assertTrue(object.keys().contains("key" + i));
+            }
+
+            assertNull(object.get("missing"));
+            assertNull(object.get(null));
+            assertFalse(object.keys().contains("missing"));
+        }
+    }
+
+    @Test
+    public void returnSharedEmptyObject() {
+        assertSame(ObjectData.empty(), ObjectData.builder().build());
+        assertEquals(0, ObjectData.empty().size());
+    }
+
+    @Test
+    public void compareIndependentOfOrder() {
+        ObjectData first = ObjectData.builder()
+                .put("a", ScalarData.ofLong(1))
+                .put("b", ScalarData.ofString("x"))
+                .build();
+        ObjectData second = ObjectData.builder()
+                .put("b", ScalarData.ofString("x"))
+                .put("a", ScalarData.ofLong(1))
+                .build();
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+
+        assertNotEquals(first, ObjectData.builder().put("a", ScalarData.ofLong(1)).build());
+        assertNotEquals(first, ObjectData.builder().put("a", ScalarData.ofLong(1)).put("c", ScalarData.ofString("x")).build());
+        assertNotEquals(first, ObjectData.builder().put("a", ScalarData.ofLong(2)).put("b", ScalarData.ofString("x")).build());
+        assertEquals(sized(500), sized(500));
+    }
+
+    @Test
+    public void updateLikeAMap() {
+        Random random = new Random(42);
+        Map<String, ConfigData> expected = new HashMap<>();
+        ObjectData object = ObjectData.empty();
+
+        for (int i = 0; i < 20_000; ++i) {
+            String key = "key" + random.nextInt(2_000);
+
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                object = object.without(key);
+            } else {
+                ConfigData value = ScalarData.ofLong(random.nextInt(10));
+                expected.put(key, value);
+                object = object.with(key, value);
+            }
+
+            if (i % 1000 == 0) {
+                assertContent(expected, object);
+            }
+        }
+
+        assertContent(expected, object);
+    }
+
+    @Test
+    public void handleHashCollisions() {
+        // "Aa" and "BB" have the same hash code, and so do all concatenations of them
+        List<String> keys = List.of("AaAa", "AaBB", "BBAa", "BBBB");
+        assertEquals(1, keys.stream().mapToInt(String::hashCode).distinct().count());
+
+        Map<String, ConfigData> expected = new HashMap<>();
+        ObjectData object = sized(20);
+        sized(20).forEach(expected::put);
+
+        for (String key : keys) {
+            object = object.with(key, ScalarData.ofString(key));
+            expected.put(key, ScalarData.ofString(key));
+        }
+        assertContent(expected, object);
+
+        object = object.without("AaBB").without("BBBB").without("AaAa");
+        expected.remove("AaBB");
+        expected.remove("BBBB");
+        expected.remove("AaAa");
+        assertContent(expected, object);
+    }
+
+    @Test
+    public void buildTheSameTrieAsUpdates() {
+        for (int size : new int[] { 9, 33, 1000 }) {
+            ObjectData.Builder builder = ObjectData.builder();
+            ObjectData updated = ObjectData.empty();
+
+            for (int i = 0; i < size; ++i) {
+                builder.put("key" + i, ScalarData.ofLong(i));
+                updated = updated.with("key" + i, ScalarData.ofLong(i));
+            }
+
+            for (String key : List.of("AaAa", "AaBB", "BBAa", "BBBB")) {
+                builder.put(key, ScalarData.ofString(key));
+                updated = updated.with(key, ScalarData.ofString(key));
+            }
+            builder.put("key0", ScalarData.ofLong(-1));
+            updated = updated.with("key0", ScalarData.ofLong(-1));
+
+            ObjectData built = builder.build();
+            assertEquals(updated, built);
+            assertEquals(updated.hashCode(), built.hashCode());
+            assertEquals(new ArrayList<>(updated.keys()), new ArrayList<>(built.keys()));
+        }
+    }
+
+    @Test
+    public void shareUnchangedState() {
+        ObjectData small = ObjectData.builder().put("a", ScalarData.ofLong(1)).build();
+        ObjectData large = sized(1000);
+        ConfigData value = large.get("key5");
+
+        assertSame(small, small.with("a", small.get("a")));
+        assertSame(large, large.with("key5", value));
+        assertSame(large, large.without("missing"));
+        assertSame(ObjectData.empty(), small.without("a"));
+
+        ObjectData updated = large.with("key5", ScalarData.ofLong(-1));
+        assertEquals(ScalarData.ofLong(-1), updated.get("key5"));
+        assertEquals(value, large.get("key5"));
+        assertEquals(large, updated.with("key5", value));
+        assertEquals(large.hashCode(), updated.with("key5", value).hashCode());
+    }
+
+    private static void assertContent(Map<String, ConfigData> expected, ObjectData object) {
+        assertEquals(expected.size(), object.size());
+        assertEquals(expected.keySet(), new HashSet<>(object.keys()));
+
+        for (Map.Entry<String, ConfigData> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), object.get(entry.getKey()));
+        }
+
+        Map<String, ConfigData> visited = new HashMap<>();
+        object.forEach(visited::put);
+        assertEquals(expected, visited);
+
+        ObjectData.Builder rebuilt = ObjectData.builder();
+        expected.forEach(rebuilt::put);
+        assertEquals(rebuilt.build(), object);
+        assertEquals(rebuilt.build().hashCode(), object.hashCode());
+    }
+}
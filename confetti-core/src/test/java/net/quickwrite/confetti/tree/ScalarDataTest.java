@@ -0,0 +1,70 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.NodeType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScalarDataTest {
+    @Test
+    public void convertBoxedValues() {
+        assertEquals(ScalarData.Kind.STRING, ScalarData.of("a").kind());
+        assertEquals(ScalarData.Kind.LONG, ScalarData.of(1).kind());
+        assertEquals(ScalarData.Kind.LONG, ScalarData.of(1L).kind());
+        assertEquals(ScalarData.Kind.DOUBLE, ScalarData.of(1.5).kind());
+        assertEquals(ScalarData.Kind.DOUBLE, ScalarData.of(new BigDecimal("2.5")).kind());
+        assertSame(ScalarData.ofBoolean(true), ScalarData.of(true));
+    }
+
+    @Test
+    public void keepBigNumbersExact() {
+        assertEquals(ScalarData.ofLong(Long.MAX_VALUE), ScalarData.of(BigInteger.valueOf(Long.MAX_VALUE)));
+        assertEquals(ScalarData.ofLong(Long.MIN_VALUE), ScalarData.of(BigInteger.valueOf(Long.MIN_VALUE)));
+        assertEquals(ScalarData.ofDouble(0.1), ScalarData.of(new BigDecimal("0.1")));
+
+        assertThrows(IllegalArgumentException.class, () -> ScalarData.of(BigInteger.ONE.shiftLeft(63)));
+        assertThrows(IllegalArgumentException.class, () -> ScalarData.of(new BigDecimal("0.10000000000000000001")));
+        assertThrows(IllegalArgumentException.class, () -> ScalarData.of(new BigDecimal("1e400")));
+    }
+
+    @Test
+    public void readValues() {
+        assertEquals("host", ScalarData.ofString("host").asString());
+        assertEquals(8080L, ScalarData.ofLong(8080).asLong());
+        assertEquals(8080.0, ScalarData.ofLong(8080).asDouble());
+        assertEquals(0.75, ScalarData.ofDouble(0.75).asDouble());
+        assertEquals(2L, ScalarData.ofDouble(2.9).asLong());
+        assertTrue(ScalarData.ofBoolean(true).asBoolean());
+
+        assertEquals(8080L, ScalarData.ofLong(8080).value());
+        assertEquals(0.75, ScalarData.ofDouble(0.75).value());
+        assertEquals(NodeType.VALUE, ScalarData.ofLong(1).type());
+    }
+
+    @Test
+    public void throwOnWrongKind() {
+        assertThrows(ClassCastException.class, () -> ScalarData.ofLong(1).asString());
+        assertThrows(ClassCastException.class, () -> ScalarData.ofString("1").asLong());
+        assertThrows(ClassCastException.class, () -> ScalarData.ofString("true").asBoolean());
+    }
+
+    @Test
+    public void compareKindAndValue() {
+        assertEquals(ScalarData.ofString("a"), ScalarData.ofString("a"));
+        assertEquals(ScalarData.ofString("a").hashCode(), ScalarData.ofString("a").hashCode());
+        assertEquals(ScalarData.ofDouble(0.5), ScalarData.ofDouble(0.5));
+
+        assertNotEquals(ScalarData.ofLong(1), ScalarData.ofDouble(1.0));
+        assertNotEquals(ScalarData.ofLong(1), ScalarData.ofString("1"));
+        assertNotEquals(ScalarData.ofLong(1), ScalarData.ofBoolean(true));
+    }
+}
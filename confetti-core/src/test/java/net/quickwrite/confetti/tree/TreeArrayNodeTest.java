@@ -0,0 +1,74 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.NodeType;
+import net.quickwrite.confetti.exception.InvalidNodeTypeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TreeArrayNodeTest {
+    private static TreeArrayNode numbers() {
+        return new TreeArrayNode(ArrayData.builder()
+                .add(ScalarData.ofLong(1))
+                .add(ScalarData.ofLong(2))
+                .add(ScalarData.ofLong(3))
+                .build());
+    }
+
+    @Test
+    public void wrapElementsWithIndices() {
+        TreeArrayNode node = numbers();
+
+        assertEquals(NodeType.ARRAY, node.type());
+        assertEquals(3, node.size());
+
+        ConfigNode second = node.get(1);
+        assertEquals(2L, second.toValue().asLong());
+        assertEquals(1, second.key().orElseThrow().index());
+        assertThrows(IndexOutOfBoundsException.class, () -> node.get(3));
+    }
+
+    @Test
+    public void readTypedValues() {
+        TreeArrayNode node = numbers();
+
+        assertEquals(2L, node.getLong(1));
+        assertEquals(3.0, node.getDouble(2));
+        assertArrayEquals(new long[] { 1, 2, 3 }, node.toLongArray());
+
+        TreeArrayNode mixed = new TreeArrayNode(ArrayData.builder()
+                .add(NullData.INSTANCE)
+                .add(ObjectData.empty())
+                .build());
+        assertThrows(InvalidNodeTypeException.class, () -> mixed.getLong(0));
+        assertThrows(InvalidNodeTypeException.class, () -> mixed.getString(1));
+    }
+
+    @Test
+    public void provideUnmodifiableList() {
+        List<ConfigNode> list = numbers().toList();
+
+        assertEquals(3, list.size());
+        assertEquals(3L, list.get(2).toValue().asLong());
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertEquals(6L, numbers().stream().mapToLong(node -> node.toValue().asLong()).sum());
+    }
+
+    @Test
+    void equalityDelegatesToData() {
+        ArrayData data = ArrayData.builder().add(ScalarData.ofString("x")).add(ArrayData.empty()).build();
+
+        assertEquals(ConfigTree.root(data), ConfigTree.root(ArrayData.empty().append(ScalarData.ofString("x")).append(ArrayData.empty())));
+        assertEquals(data.hashCode(), ConfigTree.root(data).hashCode());
+        assertNotEquals(ConfigTree.root(data), ConfigTree.root(data.set(0, ScalarData.ofString("y"))));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.tree;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.EntryCursor;
+import net.quickwrite.confetti.NodeType;
+import net.quickwrite.confetti.exception.InvalidNodeTypeException;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TreeObjectNodeTest {
+    private static TreeObjectNode sample() {
+        return new TreeObjectNode(ObjectData.builder()
+                .put("port", ScalarData.ofLong(8080))
+                .put("ratio", ScalarData.ofDouble(0.5))
+                .put("enabled", ScalarData.ofBoolean(true))
+                .put("name", ScalarData.ofString("confetti"))
+                .put("nothing", NullData.INSTANCE)
+                .put("server", ObjectData.builder().put("host", ScalarData.ofString("localhost")).build())
+                .build());
+    }
+
+    @Test
+    public void wrapChildrenWithPaths() {
+        TreeObjectNode node = sample();
+
+        assertEquals(NodeType.OBJECT, node.type());
+        assertEquals(NodePath.empty(), node.path());
+
+        ConfigNode host = node.getNodeOrNull("server").toObject().getNodeOrNull("host");
+        assertEquals("localhost", host.toValue().asString());
+        assertEquals(List.of("server", "host"), host.path().segments().stream().map(PathSegment::key).toList());
+
+        assertTrue(node.getNodeOrNull("nothing").isNull());
+        assertNull(node.getNodeOrNull("missing"));
+        assertEquals(Optional.empty(), node.get("missing"));
+    }
+
+    @Test
+    public void readTypedValues() {
+        TreeObjectNode node = sample();
+
+        assertEquals(8080L, node.getLong("port", 0L));
+        assertEquals(0.5, node.getDouble("ratio", 0.0));
+        assertTrue(node.getBoolean("enabled", false));
+        assertEquals("confetti", node.getString("name", null));
+
+        assertEquals(1L, node.getLong("missing", 1L));
+        assertEquals(1L, node.getLong("nothing", 1L));
+        assertThrows(InvalidNodeTypeException.class, () -> node.getLong("server", 0L));
+    }
+
+    @Test
+    public void provideUnmodifiableViews() {
+        TreeObjectNode node = sample();
+
+        assertEquals(6, node.values().size());
+        assertEquals(6, node.toMap().size());
+        assertEquals(new ArrayList<>(node.keys()), new ArrayList<>(node.toMap().keySet()));
+        assertTrue(node.toMap().containsKey("port"));
+        assertFalse(node.toMap().containsKey(1));
+        assertThrows(UnsupportedOperationException.class, () -> node.toMap().remove("port"));
+
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<String, ConfigNode> entry : node.toMap().entrySet()) {
+            keys.add(entry.getKey());
+            assertEquals(entry.getKey(), entry.getValue().key().orElseThrow().key());
+        }
+        assertEquals(new ArrayList<>(node.keys()), keys);
+    }
+
+    @Test
+    public void iterateEntries() {
+        TreeObjectNode node = sample();
+
+        List<String> keys = new ArrayList<>();
+        node.forEachEntry((key, value) -> keys.add(key));
+        assertEquals(new ArrayList<>(node.keys()), keys);
+
+        EntryCursor cursor = node.entryCursor();
+        assertTrue(cursor.next());
+        assertEquals("port", cursor.key());
+        assertEquals(8080L, cursor.value().toValue().asLong());
+    }
+
+    @Test
+    void equalityDelegatesToData() {
+        ObjectData data = ObjectData.builder().put("a", ScalarData.ofLong(1)).put("b", NullData.INSTANCE).build();
+        ObjectData same = ObjectData.builder().put("b", NullData.INSTANCE).put("a", ScalarData.ofLong(1)).build();
+
+        assertEquals(ConfigTree.root(data), ConfigTree.root(same));
+        assertEquals(data.hashCode(), ConfigTree.root(data).hashCode());
+        assertNotEquals(ConfigTree.root(data), ConfigTree.root(data.with("a", ScalarData.ofLong(2))));
+        assertEquals(ConfigTree.root(data).toObject().getNodeOrNull("a"), ConfigTree.root(ScalarData.ofLong(1)));
+    }
+}
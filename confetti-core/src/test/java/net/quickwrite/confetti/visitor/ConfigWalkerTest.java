@@ -0,0 +1,261 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.visitor;
+
+import net.quickwrite.confetti.*;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigWalkerTest {
+    private record MapObjectNode(Map<String, ConfigNode> delegate) implements ObjectNode {
+        @Override public Optional<ConfigNode> get(final String key) { return Optional.ofNullable(delegate.get(key)); }
+        @Override public Set<String> keys() { return delegate.keySet(); }
+        @Override public Collection<ConfigNode> values() { throw new AssertionError("values() should not be used"); }
+        @Override public Map<String, ConfigNode> toMap() { throw new AssertionError("toMap() should not be used"); }
+        @Override public Optional<PathSegment> key() { return Optional.empty(); }
+        @Override public NodePath path() { return NodePath.empty(); }
+    }
+
+    private record ListArrayNode(List<ConfigNode> delegate) implements ArrayNode {
+        @Override public ConfigNode get(final int index) { return delegate.get(index); }
+        @Override public int size() { return delegate.size(); }
+        @Override public List<ConfigNode> toList() { throw new AssertionError("toList() should not be used"); }
+        @Override public Optional<PathSegment> key() { return Optional.empty(); }
+        @Override public NodePath path() { return NodePath.empty(); }
+    }
+
+    private record LongNode(long number) implements ValueNode {
+        @Override public String asString() { return Long.toString(number); }
+        @Override public long asLong() { return number; }
+        @Override public double asDouble() { return number; }
+        @Override public boolean asBoolean() { return number != 0; }
+        @Override public Object value() { return number; }
+        @Override public Optional<PathSegment> key() { return Optional.empty(); }
+        @Override public NodePath path() { return NodePath.empty(); }
+    }
+
+    private static ObjectNode object(Object... entries) {
+        Map<String, ConfigNode> map = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            map.put((String) entries[i], (ConfigNode) entries[i + 1]);
+        }
+
+        return new MapObjectNode(map);
+    }
+
+    private static ConfigNode sample() {
+        return object(
+                "name", new LongNode(1),
+                "servers", new ListArrayNode(List.of(
+                        object("port", new LongNode(80)),
+                        object("port", new LongNode(443))
+                )),
+                "secrets", object("token", new LongNode(42)),
+                "nothing", new NullNode()
+        );
+    }
+
+    private static final class RecordingVisitor implements ConfigVisitor {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public VisitResult enter(final ConfigNode node, final PathCursor path) {
+            events.add("enter " + path);
+            return VisitResult.CONTINUE;
+        }
+
+        @Override
+        public VisitResult leave(final ConfigNode node, final PathCursor path) {
+            events.add("leave " + path);
+            return VisitResult.CONTINUE;
+        }
+    }
+
+    @Test
+    public void visitNodesInDocumentOrder() {
+        RecordingVisitor visitor = new RecordingVisitor();
+
+        assertTrue(ConfigWalker.sequential().walk(sample(), visitor));
+        assertEquals(List.of(
+                "enter ", "enter name", "leave name",
+                "enter servers",
+                "enter servers[0]", "enter servers[0].port", "leave servers[0].port", "leave servers[0]",
+                "enter servers[1]", "enter servers[1].port", "leave servers[1].port", "leave servers[1]",
+                "leave servers",
+                "enter secrets", "enter secrets.token", "leave secrets.token", "leave secrets",
+                "enter nothing", "leave nothing",
+                "leave "
+        ), visitor.events);
+    }
+
+    @Test
+    public void skipSubtree() {
+        List<String> entered = new ArrayList<>();
+        List<String> left = new ArrayList<>();
+
+        ConfigWalker.sequential().walk(sample(), new ConfigVisitor() {
+            @Override
+            public VisitResult enter(final ConfigNode node, final PathCursor path) {
+                entered.add(path.toString());
+                return path.depth() == 1 && path.key(0).equals("secrets") ? VisitResult.SKIP_SUBTREE : VisitResult.CONTINUE;
+            }
+
+            @Override
+            public VisitResult leave(final ConfigNode node, final PathCursor path) {
+                left.add(path.toString());
+                return VisitResult.CONTINUE;
+            }
+        });
+
+        assertTrue(entered.contains("secrets"));
+        assertFalse(entered.contains("secrets.token"));
+        assertFalse(left.contains("secrets"));
+        assertTrue(entered.contains("nothing"));
+    }
+
+    @Test
+    public void terminateWalk() {
+        RecordingVisitor recording = new RecordingVisitor();
+
+        boolean completed = ConfigWalker.sequential().walk(sample(), new ConfigVisitor() {
+            @Override
+            public VisitResult enter(final ConfigNode node, final PathCursor path) {
+                recording.enter(node, path);
+                return node.isValue() && node.toValue().asLong() == 80 ? VisitResult.TERMINATE : VisitResult.CONTINUE;
+            }
+
+            @Override
+            public VisitResult leave(final ConfigNode node, final PathCursor path) {
+                return recording.leave(node, path);
+            }
+        });
+
+        assertFalse(completed);
+        assertEquals("enter servers[0].port", recording.events.get(recording.events.size() - 1));
+    }
+
+    @Test
+    public void terminateFromLeave() {
+        AtomicInteger entered = new AtomicInteger();
+
+        boolean completed = ConfigWalker.sequential().walk(sample(), new ConfigVisitor() {
+            @Override
+            public VisitResult enter(final ConfigNode node, final PathCursor path) {
+                entered.incrementAndGet();
+                return VisitResult.CONTINUE;
+            }
+
+            @Override
+            public VisitResult leave(final ConfigNode node, final PathCursor path) {
+                return VisitResult.TERMINATE;
+            }
+        });
+
+        assertFalse(completed);
+        assertEquals(2, entered.get());
+    }
+
+    @Test
+    public void walkDeepDocumentsWithoutRecursion() {
+        final int depth = 100_000;
+        ConfigNode node = new LongNode(depth);
+        for (int i = 0; i < depth; ++i) {
+            node = i % 2 == 0 ? object("child", node) : new ListArrayNode(List.of(node));
+        }
+
+        AtomicInteger maxDepth = new AtomicInteger();
+        AtomicLong leafValue = new AtomicLong();
+
+        assertTrue(ConfigWalker.sequential().walk(node, new ConfigVisitor() {
+            @Override
+            public VisitResult enter(final ConfigNode node, final PathCursor path) {
+                maxDepth.set(Math.max(maxDepth.get(), path.depth()));
+                if (node.isValue()) {
+                    leafValue.set(node.toValue().asLong());
+                }
+
+                return VisitResult.CONTINUE;
+            }
+        }));
+
+        assertEquals(depth, maxDepth.get());
+        assertEquals(depth, leafValue.get());
+    }
+
+    @Test
+    public void walkLargeContainersInParallel() {
+        final int size = 100_000;
+        List<ConfigNode> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            elements.add(object("value", new LongNode(i)));
+        }
+
+        ConfigNode root = object("items", new ListArrayNode(elements));
+        Set<String> paths = ConcurrentHashMap.newKeySet();
+        AtomicLong sum = new AtomicLong();
+        AtomicLong sumAtLeave = new AtomicLong(-1);
+
+        assertTrue(ConfigWalker.parallel(1_000).walk(root, new ConfigVisitor() {
+            @Override
+            public VisitResult enter(final ConfigNode node, final PathCursor path) {
+                if (node.isValue()) {
+                    paths.add(path.toString());
+                    sum.addAndGet(node.toValue().asLong());
+                }
+
+                return VisitResult.CONTINUE;
+            }
+
+            @Override
+            public VisitResult leave(final ConfigNode node, final PathCursor path) {
+                if (path.depth() == 1) {
+                    sumAtLeave.set(sum.get());
+                }
+
+                return VisitResult.CONTINUE;
+            }
+        }));
+
+        assertEquals(size, paths.size());
+        assertTrue(paths.contains("items[99999].value"));
+        assertEquals((long) size * (size - 1) / 2, sum.get());
+        assertEquals(sum.get(), sumAtLeave.get(), "the container is left after all of its children");
+    }
+
+    @Test
+    public void terminateParallelWalk() {
+        List<ConfigNode> elements = new ArrayList<>();
+        for (int i = 0; i < 10_000; ++i) {
+            elements.add(new LongNode(i));
+        }
+
+        AtomicInteger visited = new AtomicInteger();
+
+        boolean completed = ConfigWalker.parallel(16).walk(new ListArrayNode(elements), new ConfigVisitor() {
+            @Override
+            public VisitResult enter(final ConfigNode node, final PathCursor path) {
+                return visited.incrementAndGet() > 100 ? VisitResult.TERMINATE : VisitResult.CONTINUE;
+            }
+        });
+
+        assertFalse(completed);
+        assertTrue(visited.get() < 10_000);
+    }
+
+    @Test
+    public void rejectInvalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> ConfigWalker.parallel(1));
+    }
+}
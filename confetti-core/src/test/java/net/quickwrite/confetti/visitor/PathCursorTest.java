@@ -0,0 +1,78 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.visitor;
+
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PathCursorTest {
+    @Test
+    public void startAtRoot() {
+        PathCursor cursor = new PathCursor();
+
+        assertEquals(0, cursor.depth());
+        assertEquals(NodePath.empty(), cursor.toNodePath());
+        assertEquals("", cursor.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> cursor.isKey(0));
+    }
+
+    @Test
+    public void trackPushedSegments() {
+        PathCursor cursor = new PathCursor();
+        cursor.pushKey("servers");
+        cursor.pushIndex(2);
+        cursor.pushKey("port");
+
+        assertEquals(3, cursor.depth());
+        assertTrue(cursor.isKey(0));
+        assertTrue(cursor.isIndex(1));
+        assertEquals("servers", cursor.key(0));
+        assertEquals(2, cursor.index(1));
+        assertEquals("servers[2].port", cursor.toString());
+        assertEquals(
+                NodePath.of(PathSegment.key("servers"), PathSegment.index(2), PathSegment.key("port")),
+                cursor.toNodePath()
+        );
+
+        assertThrows(IllegalStateException.class, () -> cursor.index(0));
+        assertThrows(IllegalStateException.class, () -> cursor.key(1));
+
+        cursor.pop();
+        cursor.pop();
+
+        assertEquals(1, cursor.depth());
+        assertEquals("servers", cursor.toString());
+    }
+
+    @Test
+    public void growBeyondInitialCapacity() {
+        PathCursor cursor = new PathCursor();
+
+        for (int i = 0; i < 100; ++i) {
+            cursor.pushIndex(i);
+        }
+
+        assertEquals(100, cursor.depth());
+        assertEquals(99, cursor.index(99));
+    }
+
+    @Test
+    public void copyIndependently() {
+        PathCursor cursor = new PathCursor();
+        cursor.pushKey("a");
+
+        PathCursor copy = new PathCursor(cursor);
+        copy.pushKey("b");
+        cursor.pop();
+
+        assertEquals("a.b", copy.toString());
+        assertEquals(0, cursor.depth());
+    }
+}
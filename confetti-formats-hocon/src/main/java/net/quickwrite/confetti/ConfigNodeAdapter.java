@@ -10,6 +10,7 @@ import com.typesafe.config.ConfigList;
 import com.typesafe.config.ConfigObject;
 import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueType;
+import net.quickwrite.confetti.exception.InvalidNodeTypeException;
 import net.quickwrite.confetti.path.PathSegment;
 
 /**
@@ -82,4 +83,76 @@ final class ConfigNodeAdapter {
             case NULL -> new NullNode(parent, segment);
         };
     }
+
+    /**
+     * Checks if the HOCON value is absent or an explicit {@code null}.
+     *
+     * @param configValue the HOCON value; may be {@code null}
+     * @return {@code true} if there is no value that can be converted
+     */
+    public static boolean isAbsent(final ConfigValue configValue) {
+        return configValue == null || configValue.valueType() == ConfigValueType.NULL;
+    }
+
+    /**
+     * Ensures that the HOCON value would be converted into a {@link HoconValueNode}.
+     *
+     * <p>
+     * This mirrors {@link ConfigNode#toValue()} for accessors that read the value
+     * directly without creating a node first.
+     *
+     * @param configValue the non-null HOCON value
+     * @return the provided value
+     * @throws InvalidNodeTypeException if the value is an object, a list or {@code null}
+     */
+    public static ConfigValue requireValue(final ConfigValue configValue) {
+        return switch (configValue.valueType()) {
+            case BOOLEAN, NUMBER, STRING -> configValue;
+            case OBJECT, LIST, NULL -> throw new InvalidNodeTypeException("The node cannot be used as a value node.");
+        };
+    }
+
+    /**
+     * Interprets a scalar HOCON value as a string.
+     *
+     * @param configValue the non-null HOCON value
+     * @return the string value
+     * @throws ClassCastException if the value is not a string
+     */
+    public static String asString(final ConfigValue configValue) {
+        return (String) configValue.unwrapped();
+    }
+
+    /**
+     * Interprets a scalar HOCON value as a long.
+     *
+     * @param configValue the non-null HOCON value
+     * @return the long value
+     * @throws ClassCastException if the value is not a number
+     */
+    public static long asLong(final ConfigValue configValue) {
+        return ((Number) configValue.unwrapped()).longValue();
+    }
+
+    /**
+     * Interprets a scalar HOCON value as a double.
+     *
+     * @param configValue the non-null HOCON value
+     * @return the double value
+     * @throws ClassCastException if the value is not a number
+     */
+    public static double asDouble(final ConfigValue configValue) {
+        return ((Number) configValue.unwrapped()).doubleValue();
+    }
+
+    /**
+     * Interprets a scalar HOCON value as a boolean.
+     *
+     * @param configValue the non-null HOCON value
+     * @return the boolean value
+     * @throws ClassCastException if the value is not a boolean
+     */
+    public static boolean asBoolean(final ConfigValue configValue) {
+        return (Boolean) configValue.unwrapped();
+    }
 }
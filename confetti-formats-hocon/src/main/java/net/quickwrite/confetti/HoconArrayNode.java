@@ -31,6 +31,9 @@ import java.util.Objects;
 public class HoconArrayNode extends AbstractConfigNode implements ArrayNode {
     private final ConfigList configList;
 
+    /** The cached structural hash code or {@code 0} if it has not been computed yet. */
+    private int hash;
+
     /**
      * Creates a root-level {@code HoconArrayNode} wrapping {@code configList}.
      *
@@ -66,6 +69,54 @@ public class HoconArrayNode extends AbstractConfigNode implements ArrayNode {
         return ConfigNodeAdapter.toConfigNode(this.configList.get(index), this, new IndexPathSegment(index));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the underlying {@code ConfigList} without
+     * creating a {@link ConfigNode}.
+     */
+    @Override
+    public long getLong(final int index) {
+        return ConfigNodeAdapter.asLong(ConfigNodeAdapter.requireValue(this.configList.get(index)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the underlying {@code ConfigList} without
+     * creating a {@link ConfigNode}.
+     */
+    @Override
+    public double getDouble(final int index) {
+        return ConfigNodeAdapter.asDouble(ConfigNodeAdapter.requireValue(this.configList.get(index)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the underlying {@code ConfigList} without
+     * creating a {@link ConfigNode}.
+     */
+    @Override
+    public boolean getBoolean(final int index) {
+        return ConfigNodeAdapter.asBoolean(ConfigNodeAdapter.requireValue(this.configList.get(index)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the underlying {@code ConfigList} without
+     * creating a {@link ConfigNode}.
+     */
+    @Override
+    public String getString(final int index) {
+        return ConfigNodeAdapter.asString(ConfigNodeAdapter.requireValue(this.configList.get(index)));
+    }
+
     /** {@inheritDoc} */
     @Override
     public int size() {
@@ -94,4 +145,38 @@ public class HoconArrayNode extends AbstractConfigNode implements ArrayNode {
             }
         };
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Nodes are compared structurally as defined by {@link NodeEquality}. Nodes that wrap the same
+     * {@code ConfigList} are equal without comparing their content.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other instanceof HoconArrayNode node && node.configList == this.configList) {
+            return true;
+        }
+
+        return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The structural hash code is computed on first use and cached.
+     */
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+
+        if (hash == 0) {
+            hash = NodeEquality.hash(this);
+            this.hash = hash;
+        }
+
+        return hash;
+    }
 }
@@ -12,6 +12,7 @@ import net.quickwrite.confetti.path.PathSegment;
 import net.quickwrite.confetti.path.impl.KeyPathSegment;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 /**
  * {@link ObjectNode} implementation that wraps a HOCON {@code ConfigObject}.
@@ -27,10 +28,21 @@ import java.util.*;
  * {@link UnsupportedOperationException}) but it will reflect the current state of
  * the {@code ConfigObject} at the time methods are invoked because conversion
  * is performed on access.
+ *
+ * <p><b>Substitutions.</b> The nodes created by a {@link HoconResolver} wrap unresolved
+ * objects and resolve the value of a key through the resolver when it is accessed.
  */
 public final class HoconObjectNode extends AbstractConfigNode implements ObjectNode {
     private final ConfigObject configObject;
 
+    /** The resolver of an unresolved object or {@code null}. */
+    private final HoconResolver resolver;
+    /** The keys of the path of an unresolved object or {@code null}. */
+    private final String[] keys;
+
+    /** The cached structural hash code or {@code 0} if it has not been computed yet. */
+    private int hash;
+
     /**
      * Creates a root-level {@code HoconObjectNode} that wraps the given
      * {@code ConfigObject}.
@@ -43,6 +55,19 @@ public final class HoconObjectNode extends AbstractConfigNode implements ObjectN
 
         Objects.requireNonNull(configObject);
         this.configObject = configObject;
+        this.resolver = null;
+        this.keys = null;
+    }
+
+    /**
+     * Creates a root-level node of an unresolved object.
+     */
+    HoconObjectNode(final ConfigObject configObject, final HoconResolver resolver, final String[] keys) {
+        super();
+
+        this.configObject = configObject;
+        this.resolver = resolver;
+        this.keys = keys;
     }
 
     /**
@@ -64,6 +89,29 @@ public final class HoconObjectNode extends AbstractConfigNode implements ObjectN
 
         Objects.requireNonNull(configObject);
         this.configObject = configObject;
+        this.resolver = null;
+        this.keys = null;
+    }
+
+    /**
+     * Creates a child node of an unresolved object.
+     */
+    private HoconObjectNode(final ConfigObject configObject, final ConfigNode parent, final PathSegment key,
+                            final HoconResolver resolver, final String[] keys) {
+        super(parent, key);
+
+        this.configObject = configObject;
+        this.resolver = resolver;
+        this.keys = keys;
+    }
+
+    /**
+     * Checks if this object was created without substitutions or with all of them resolved.
+     *
+     * @return {@code false} if the substitutions of this object are resolved on access by a {@link HoconResolver}
+     */
+    public boolean isResolved() {
+        return this.resolver == null;
     }
 
     /** {@inheritDoc} */
@@ -72,22 +120,122 @@ public final class HoconObjectNode extends AbstractConfigNode implements ObjectN
         return Optional.ofNullable(getNode(key));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ConfigNode getNodeOrNull(final String key) {
+        return getNode(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the underlying {@code ConfigObject} without
+     * creating a {@link ConfigNode}.
+     */
+    @Override
+    public long getLong(final String key, final long defaultValue) {
+        final ConfigValue value = this.value(key);
+
+        return ConfigNodeAdapter.isAbsent(value) ? defaultValue : ConfigNodeAdapter.asLong(ConfigNodeAdapter.requireValue(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the underlying {@code ConfigObject} without
+     * creating a {@link ConfigNode}.
+     */
+    @Override
+    public double getDouble(final String key, final double defaultValue) {
+        final ConfigValue value = this.value(key);
+
+        return ConfigNodeAdapter.isAbsent(value) ? defaultValue : ConfigNodeAdapter.asDouble(ConfigNodeAdapter.requireValue(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the underlying {@code ConfigObject} without
+     * creating a {@link ConfigNode}.
+     */
+    @Override
+    public boolean getBoolean(final String key, final boolean defaultValue) {
+        final ConfigValue value = this.value(key);
+
+        return ConfigNodeAdapter.isAbsent(value) ? defaultValue : ConfigNodeAdapter.asBoolean(ConfigNodeAdapter.requireValue(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is read directly from the underlying {@code ConfigObject} without
+     * creating a {@link ConfigNode}.
+     */
+    @Override
+    public String getString(final String key, final String defaultValue) {
+        final ConfigValue value = this.value(key);
+
+        return ConfigNodeAdapter.isAbsent(value) ? defaultValue : ConfigNodeAdapter.asString(ConfigNodeAdapter.requireValue(value));
+    }
+
     /** {@inheritDoc} */
     @Override
     public Set<String> keys() {
         return configObject.keySet();
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     * <hr>
+     * <p>
+     * The returned collection is an unmodifiable, lazy view: every node is converted
+     * while the collection is iterated, so no intermediate list is created.
+     */
     @Override
     public Collection<ConfigNode> values() {
-        final List<ConfigNode> values = new ArrayList<>();
+        return new AbstractCollection<>() {
+            @Override
+            public int size() {
+                return configObject.size();
+            }
+
+            @Override
+            public Iterator<ConfigNode> iterator() {
+                final Iterator<String> keys = configObject.keySet().iterator();
+
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public ConfigNode next() {
+                        return getNode(keys.next());
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The underlying {@code ConfigObject} is read in a single pass over its keys and every
+     * node is converted right before it is passed to the action.
+     */
+    @Override
+    public void forEachEntry(final BiConsumer<? super String, ? super ConfigNode> action) {
+        Objects.requireNonNull(action, "action cannot be null");
 
         for (final String key : this.configObject.keySet()) {
-            values.add(getNode(key));
+            action.accept(key, getNode(key));
         }
-
-        return values;
     }
 
     /**
@@ -104,8 +252,9 @@ public final class HoconObjectNode extends AbstractConfigNode implements ObjectN
      *   <li>The map's {@link Map#get(Object)} accepts only {@link String} keys; other key types return {@code null}.</li>
      *   <li>{@link Map#containsKey(Object)} delegates to the underlying {@code ConfigObject}.</li>
      *   <li>{@link Map#keySet()} delegates directly to the underlying {@code ConfigObject}'s key set.</li>
-     *   <li>{@link Map#entrySet()} constructs a new {@link Set} of immutable entries on each invocation; these entries contain
-     *       {@link ConfigNode} values converted via {@link #getNode(String)}.</li>
+     *   <li>{@link Map#entrySet()} is a lazy view; its iterator creates one immutable entry per key while iterating,
+     *       containing the {@link ConfigNode} value converted via {@link #getNode(String)}.</li>
+     *   <li>{@link Map#forEach(BiConsumer)} delegates to {@link #forEachEntry(BiConsumer)} and creates no entries.</li>
      *   <li>The map does not support modification operations (the default {@link Map} mutation methods will throw
      *       {@link UnsupportedOperationException}).</li>
      * </ul>
@@ -140,17 +289,74 @@ public final class HoconObjectNode extends AbstractConfigNode implements ObjectN
 
             @Override
             public Set<Entry<String, ConfigNode>> entrySet() {
-                final Set<Entry<String, ConfigNode>> entrySet = new HashSet<>();
+                return new AbstractSet<>() {
+                    @Override
+                    public int size() {
+                        return configObject.size();
+                    }
 
-                for (final Entry<String, ConfigValue> entry : configObject.entrySet()) {
-                    entrySet.add(new SimpleImmutableEntry<>(entry.getKey(), getNode(entry.getKey())));
-                }
+                    @Override
+                    public Iterator<Entry<String, ConfigNode>> iterator() {
+                        final Iterator<String> keys = configObject.keySet().iterator();
+
+                        return new Iterator<>() {
+                            @Override
+                            public boolean hasNext() {
+                                return keys.hasNext();
+                            }
 
-                return entrySet;
+                            @Override
+                            public Entry<String, ConfigNode> next() {
+                                final String key = keys.next();
+
+                                return new SimpleImmutableEntry<>(key, getNode(key));
+                            }
+                        };
+                    }
+                };
+            }
+
+            @Override
+            public void forEach(final BiConsumer<? super String, ? super ConfigNode> action) {
+                forEachEntry(action);
             }
         };
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Nodes are compared structurally as defined by {@link NodeEquality}. Nodes that wrap the same
+     * {@code ConfigObject} are equal without comparing their content.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other instanceof HoconObjectNode node && node.configObject == this.configObject) {
+            return true;
+        }
+
+        return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The structural hash code is computed on first use and cached.
+     */
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+
+        if (hash == 0) {
+            hash = NodeEquality.hash(this);
+            this.hash = hash;
+        }
+
+        return hash;
+    }
+
     /**
      * Converts the underlying HOCON value for {@code key} into a {@link ConfigNode}.
      *
@@ -166,6 +372,21 @@ public final class HoconObjectNode extends AbstractConfigNode implements ObjectN
      *           repeated conversions should cache results externally or the converter may provide its own cache.
      */
     private ConfigNode getNode(final String key) {
-        return ConfigNodeAdapter.toConfigNode(this.configObject.get(key), this, new KeyPathSegment(key));
+        final ConfigValue value = this.value(key);
+
+        if (this.resolver != null && value instanceof ConfigObject object && !this.resolver.isResolved(object)) {
+            return new HoconObjectNode(object, this, new KeyPathSegment(key), this.resolver, HoconResolver.append(this.keys, key));
+        }
+
+        return ConfigNodeAdapter.toConfigNode(value, this, new KeyPathSegment(key));
+    }
+
+    /**
+     * Returns the value of the key, resolved by the resolver of an unresolved object.
+     */
+    private ConfigValue value(final String key) {
+        final ConfigValue value = this.configObject.get(key);
+
+        return this.resolver == null ? value : this.resolver.resolve(this.keys, key, value);
     }
 }
@@ -0,0 +1,245 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import com.typesafe.config.*;
+import net.quickwrite.confetti.exception.ConfigResolveException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the substitutions of a HOCON configuration lazily, one value at a time.
+ *
+ * <p>
+ * The {@link #root() root} of a resolver is a {@link HoconObjectNode} over the unresolved
+ * configuration. Objects are walked without resolving anything. A value that contains
+ * substitutions, like {@code url = "http://"${host}}, is resolved when its node is first
+ * accessed, and the result is remembered for every later access through any node of the
+ * tree. Lists and objects that are merged with a substitution, like
+ * {@code server = ${defaults} { port = 80 }}, are resolved as a whole. A large configuration
+ * of which only a few substituted values are read only pays for those.
+ * {@snippet :
+ * final Config config = ConfigFactory.parseFile(file);
+ * final ObjectNode root = new HoconResolver(config, environment).root();
+ * }
+ *
+ * <p>
+ * Substitutions are looked up in the configuration first and in the fallback second;
+ * the environment variables of the process are not consulted. An optional substitution
+ * like {@code ${?undefined}} that is defined nowhere resolves to {@code null}. A missing
+ * substitution or a cycle of substitutions throws a {@link ConfigResolveException} on
+ * access of the node; failures are not remembered.
+ *
+ * <p>
+ * A resolver is thread-safe, and so are the nodes of its tree.
+ */
+public final class HoconResolver {
+    private static final ConfigResolveOptions OPTIONS = ConfigResolveOptions.noSystem();
+    private static final String[] ROOT = new String[0];
+
+    private final Config config;
+    private final ObjectNode fallback;
+
+    /** The configuration with the fallback that substitutions are looked up in, created on first use. */
+    private volatile Config source;
+
+    /** The source with every resolvable substitution resolved, created for the first self-reference. */
+    private volatile Config resolved;
+
+    /** The resolved values and the walkable unresolved objects by their path expression. */
+    private final Map<String, ConfigValue> values = new ConcurrentHashMap<>();
+
+    /**
+     * Whether a value contains no substitutions, by identity. The typesafe library only exposes
+     * the status through a new configuration, so it is determined once for every value.
+     */
+    private final Map<ConfigValue, Boolean> statuses = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a resolver for the configuration.
+     *
+     * @param config the unresolved configuration
+     * @param fallback the object that substitutions are looked up in if the configuration
+     *                 does not contain them or {@code null}
+     */
+    public HoconResolver(final Config config, final ObjectNode fallback) {
+        this.config = Objects.requireNonNull(config, "config cannot be null");
+        this.fallback = fallback;
+    }
+
+    /**
+     * Returns the root node of the configuration.
+     *
+     * @return the root node, which resolves the substitutions of its descendants on access
+     */
+    public HoconObjectNode root() {
+        if (!isWalkable(this.config.root())) {
+            // The root itself is merged with a substitution, so there is nothing to defer
+            return new HoconObjectNode((ConfigObject) this.resolve("", ROOT));
+        }
+
+        return new HoconObjectNode(this.config.root(), this, ROOT);
+    }
+
+    /**
+     * Returns the value of a key of an object of the tree.
+     *
+     * @param parent the keys of the path of the object
+     * @param key the key
+     * @param value the unresolved value of the key or {@code null}
+     * @return the resolved value, an object that can be walked without resolving it,
+     *         or {@code null} if the key is not present
+     * @throws ConfigResolveException if the value cannot be resolved
+     */
+    ConfigValue resolve(final String[] parent, final String key, final ConfigValue value) {
+        if (value == null || this.isResolved(value)) {
+            return value;
+        }
+
+        final String[] path = append(parent, key);
+
+        return this.values.computeIfAbsent(ConfigUtil.joinPath(path),
+                expression -> isWalkable(value) ? value : this.resolve(expression, path));
+    }
+
+    /**
+     * Checks if the value contains no substitutions.
+     */
+    boolean isResolved(final ConfigValue value) {
+        final Boolean status = this.statuses.get(value);
+
+        if (status != null) {
+            return status;
+        }
+
+        final boolean resolved = value.atKey("value").isResolved();
+        this.statuses.put(value, resolved);
+
+        return resolved;
+    }
+
+    /**
+     * Returns the path of a child.
+     */
+    static String[] append(final String[] path, final String key) {
+        final String[] child = Arrays.copyOf(path, path.length + 1);
+        child[path.length] = key;
+
+        return child;
+    }
+
+    /**
+     * Checks if the value is an object whose keys are known without resolving it.
+     */
+    private static boolean isWalkable(final ConfigValue value) {
+        if (!(value instanceof ConfigObject object)) {
+            return false;
+        }
+
+        try {
+            object.keySet();
+
+            return true;
+        } catch (final ConfigException.NotResolved exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Resolves the value at the path, or the whole configuration for the empty path.
+     */
+    private ConfigValue resolve(final String expression, final String[] path) {
+        ConfigValue value;
+        try {
+            final Config only = path.length == 0 ? this.config : this.config.withOnlyPath(expression);
+            value = find(only.resolveWith(this.source(), OPTIONS), path);
+        } catch (final ConfigException.BugOrBroken exception) {
+            // A value like path = ${path}":/usr/bin" refers to its own previous definition,
+            // which the typesafe library can only resolve as part of the whole configuration
+            value = this.resolveWhole(expression, path);
+        } catch (final ConfigException exception) {
+            throw failure(expression, exception);
+        }
+
+        // An optional substitution that is defined nowhere removes its key
+        return value == null ? ConfigValueFactory.fromAnyRef(null) : value;
+    }
+
+    private ConfigValue resolveWhole(final String expression, final String[] path) {
+        Config resolved = this.resolved;
+
+        if (resolved == null) {
+            try {
+                resolved = this.source().resolve(OPTIONS.setAllowUnresolved(true));
+            } catch (final ConfigException exception) {
+                throw failure(expression, exception);
+            }
+
+            this.resolved = resolved;
+        }
+
+        final ConfigValue value = find(resolved, path);
+        if (value != null && !this.isResolved(value)) {
+            throw new ConfigResolveException("Cannot resolve the substitutions of '" + expression + "'");
+        }
+
+        return value;
+    }
+
+    private static ConfigValue find(final Config config, final String[] path) {
+        ConfigValue value = config.root();
+        for (int i = 0; i < path.length && value != null; ++i) {
+            value = ((ConfigObject) value).get(path[i]);
+        }
+
+        return value;
+    }
+
+    private static ConfigResolveException failure(final String expression, final ConfigException exception) {
+        return new ConfigResolveException("Cannot resolve the substitutions of '" + expression + "': " + exception.getMessage(), exception);
+    }
+
+    private Config source() {
+        Config source = this.source;
+
+        if (source == null) {
+            source = this.fallback == null
+                    ? this.config
+                    : this.config.withFallback(ConfigValueFactory.fromMap(unwrap(this.fallback), "fallback").toConfig());
+            this.source = source;
+        }
+
+        return source;
+    }
+
+    /**
+     * Converts the fallback into the plain maps, lists and values that {@link ConfigValueFactory} accepts.
+     */
+    private static Map<String, Object> unwrap(final ObjectNode object) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        object.forEachEntry((key, node) -> map.put(key, unwrapNode(node)));
+
+        return map;
+    }
+
+    private static Object unwrapNode(final ConfigNode node) {
+        return switch (node.type()) {
+            case OBJECT -> unwrap(node.toObject());
+            case ARRAY -> {
+                final List<Object> list = new ArrayList<>();
+                for (final ConfigNode element : node.toArray()) {
+                    list.add(unwrapNode(element));
+                }
+
+                yield list;
+            }
+            case VALUE -> node.toValue().value();
+            case NULL -> null;
+        };
+    }
+}
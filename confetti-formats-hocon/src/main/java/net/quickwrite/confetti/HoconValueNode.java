@@ -64,25 +64,25 @@ public final class HoconValueNode extends AbstractConfigNode implements ValueNod
     /** {@inheritDoc} */
     @Override
     public String asString() {
-        return (String)this.value();
+        return ConfigNodeAdapter.asString(this.configValue);
     }
 
     /** {@inheritDoc} */
     @Override
     public long asLong() {
-        return ((Number)this.value()).longValue();
+        return ConfigNodeAdapter.asLong(this.configValue);
     }
 
     /** {@inheritDoc} */
     @Override
     public double asDouble() {
-        return ((Number)this.value()).doubleValue();
+        return ConfigNodeAdapter.asDouble(this.configValue);
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean asBoolean() {
-        return (Boolean)this.value();
+        return ConfigNodeAdapter.asBoolean(this.configValue);
     }
 
     /** {@inheritDoc} */
@@ -90,4 +90,31 @@ public final class HoconValueNode extends AbstractConfigNode implements ValueNod
     public Object value() {
         return this.configValue.unwrapped();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Nodes are compared structurally as defined by {@link NodeEquality}. Nodes that wrap the same
+     * {@code ConfigValue} are equal without comparing their content.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other instanceof HoconValueNode node) {
+            return node.configValue == this.configValue || NodeEquality.equals(this, node);
+        }
+
+        return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The hash code is derived from {@link #value()} as defined by {@link NodeEquality#valueHash(Object)}.
+     */
+    @Override
+    public int hashCode() {
+        return NodeEquality.valueHash(this.value());
+    }
 }
@@ -6,9 +6,13 @@
 
 package net.quickwrite.confetti.factory;
 
+import com.typesafe.config.Config;
 import com.typesafe.config.ConfigException;
 import net.quickwrite.confetti.ConfigNode;
 import net.quickwrite.confetti.HoconObjectNode;
+import net.quickwrite.confetti.HoconResolver;
+import net.quickwrite.confetti.ObjectNode;
+import net.quickwrite.confetti.event.ConfigParseEvent;
 import net.quickwrite.confetti.exception.ConfigParseException;
 
 import java.io.IOException;
@@ -25,15 +29,45 @@ import java.util.Objects;
  * model used by this library. Conversion of the parsed HOCON AST to
  * {@link ConfigNode} instances is performed by {@link HoconObjectNode} and
  * its collaborators.
+ *
+ * <h2>Substitutions</h2>
+ * <p>
+ * Substitutions like {@code ${server.host}} are resolved lazily by a {@link HoconResolver}:
+ * every value is resolved when its node is first accessed and remembered afterward.
+ * Substitutions that are not part of the document can be looked up in a fallback,
+ * for example the environment:
+ * {@snippet :
+ * final ObjectNode environment = new EnvironmentConfigFactory("APP_").parseEnvironment().toObject();
+ * final ConfigNode config = new HoconConfigFactory(environment).parse(path);
+ * }
  */
 public class HoconConfigFactory implements ConfigFactory {
+    private final ObjectNode fallback;
+
+    /**
+     * Creates a factory that resolves substitutions within the parsed document.
+     */
+    public HoconConfigFactory() {
+        this.fallback = null;
+    }
+
+    /**
+     * Creates a factory that looks up substitutions that are not part of the parsed
+     * document in the fallback.
+     *
+     * @param fallback the object that substitutions are looked up in
+     */
+    public HoconConfigFactory(final ObjectNode fallback) {
+        this.fallback = Objects.requireNonNull(fallback, "The fallback cannot be null.");
+    }
+
     /** {@inheritDoc} */
     @Override
     public ConfigNode parse(final Reader reader) throws IOException, ConfigParseException {
         Objects.requireNonNull(reader, "The reader cannot be null.");
 
         try {
-            return new HoconObjectNode(com.typesafe.config.ConfigFactory.parseReader(reader).root());
+            return this.root(com.typesafe.config.ConfigFactory.parseReader(reader));
         } catch (final ConfigException.IO exception) {
             throw new IOException(exception);
         } catch (final ConfigException exception) {
@@ -52,10 +86,37 @@ public class HoconConfigFactory implements ConfigFactory {
             throw new IOException("The provided file path does not exist.");
         }
 
+        final ConfigParseEvent event = ConfigParseEvent.start(path.toString());
+
         try {
-            return new HoconObjectNode(com.typesafe.config.ConfigFactory.parseFile(path.toFile()).root());
+            final ConfigNode node = this.root(com.typesafe.config.ConfigFactory.parseFile(path.toFile()));
+            event.succeeded(() -> path.toFile().length(), () -> this.countNodes(node));
+
+            return node;
         } catch (final ConfigException exception) {
-            throw new ConfigParseException(exception);
+            final ConfigParseException parseException = new ConfigParseException(exception);
+            event.failed(parseException, () -> path.toFile().length());
+            throw parseException;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Trees with substitutions are not walked, as that would resolve every substitution,
+     * and their count is reported as {@code -1}.
+     */
+    @Override
+    public long countNodes(final ConfigNode root) {
+        if (root instanceof HoconObjectNode object && !object.isResolved()) {
+            return -1;
         }
+
+        return ConfigFactory.super.countNodes(root);
+    }
+
+    private ConfigNode root(final Config config) {
+        return config.isResolved() ? new HoconObjectNode(config.root()) : new HoconResolver(config, this.fallback).root();
     }
 }
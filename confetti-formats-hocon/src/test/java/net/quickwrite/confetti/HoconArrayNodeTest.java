@@ -9,6 +9,7 @@ package net.quickwrite.confetti;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigList;
+import net.quickwrite.confetti.exception.InvalidNodeTypeException;
 import net.quickwrite.confetti.path.NodePath;
 import net.quickwrite.confetti.path.impl.IndexPathSegment;
 import net.quickwrite.confetti.path.impl.KeyPathSegment;
@@ -90,5 +91,56 @@ public class HoconArrayNodeTest {
 
         return node.get(0);
     }
-}
 
+    @Test
+    void typedAccessorsReadElements() {
+        HoconArrayNode node = new HoconArrayNode(ConfigFactory.parseString(
+                "items = [ 42, 0.5, true, text, null, { a = 1 } ]"
+        ).getList("items"));
+
+        assertEquals(42L, node.getLong(0));
+        assertEquals(0.5, node.getDouble(1));
+        assertTrue(node.getBoolean(2));
+        assertEquals("text", node.getString(3));
+
+        assertThrowsExactly(InvalidNodeTypeException.class, () -> node.getLong(4));
+        assertThrowsExactly(InvalidNodeTypeException.class, () -> node.getString(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> node.getLong(6));
+    }
+
+    @Test
+    void bulkAccessorsCopyElements() {
+        Config cfg = ConfigFactory.parseString("numbers = [ 1, 2, 3000000000 ], ratios = [ 0.5, 1 ], names = [ a, b ]");
+
+        HoconArrayNode numbers = new HoconArrayNode(cfg.getList("numbers"));
+        HoconArrayNode ratios = new HoconArrayNode(cfg.getList("ratios"));
+        HoconArrayNode names = new HoconArrayNode(cfg.getList("names"));
+
+        assertArrayEquals(new long[] { 1L, 2L, 3_000_000_000L }, numbers.toLongArray());
+        assertArrayEquals(new double[] { 0.5, 1.0 }, ratios.toDoubleArray());
+        assertArrayEquals(new int[] { 0, 1 }, ratios.toIntArray());
+        assertArrayEquals(new String[] { "a", "b" }, names.toStringArray());
+
+        assertThrows(ArithmeticException.class, numbers::toIntArray);
+        assertThrows(ClassCastException.class, names::toLongArray);
+    }
+
+    @Test
+    void bulkAccessorsRejectNonValues() {
+        HoconArrayNode node = new HoconArrayNode(ConfigFactory.parseString("items = [ 1, null ]").getList("items"));
+
+        assertThrowsExactly(InvalidNodeTypeException.class, node::toLongArray);
+    }
+
+    @Test
+    void equalityIsStructural() {
+        ConfigList list = ConfigFactory.parseString("arr = [1, {a = 2}, [3], \"s\", null, true]").getList("arr");
+        HoconArrayNode first = new HoconArrayNode(list);
+        HoconArrayNode second = new HoconArrayNode(ConfigFactory.parseString("arr = [1, {a = 2}, [3], s, null, true]").getList("arr"));
+
+        assertEquals(first, new HoconArrayNode(list));
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, new HoconArrayNode(ConfigFactory.parseString("arr = [1, {a = 2}, [3], s, null, false]").getList("arr")));
+    }
+}
@@ -9,13 +9,14 @@ package net.quickwrite.confetti;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigObject;
+import net.quickwrite.confetti.exception.InvalidNodeTypeException;
 import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
 import net.quickwrite.confetti.path.impl.KeyPathSegment;
 import net.quickwrite.confetti.path.impl.SimpleNodePath;
 import org.junit.jupiter.api.Test;
 
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -94,4 +95,112 @@ public class HoconObjectNodeTest {
 
         return child.get("a").orElseThrow();
     }
+
+    @Test
+    void typedAccessorsReadValues() {
+        HoconObjectNode node = new HoconObjectNode(ConfigFactory.parseString(
+                "port = 8080, ratio = 0.75, enabled = true, name = confetti, nothing = null, nested { a = 1 }"
+        ).root());
+
+        assertEquals(8080L, node.getLong("port", -1L));
+        assertEquals(0.75, node.getDouble("ratio", -1.0));
+        assertEquals(8080.0, node.getDouble("port", -1.0));
+        assertTrue(node.getBoolean("enabled", false));
+        assertEquals("confetti", node.getString("name", null));
+
+        assertEquals(-1L, node.getLong("missing", -1L));
+        assertEquals(-1L, node.getLong("nothing", -1L));
+        assertEquals("default", node.getString("nothing", "default"));
+
+        assertEquals(NodeType.OBJECT, node.getNodeOrNull("nested").type());
+        assertNull(node.getNodeOrNull("missing"));
+    }
+
+    @Test
+    void typedAccessorsMatchNodeConversions() {
+        HoconObjectNode node = new HoconObjectNode(ConfigFactory.parseString("name = confetti, nested { a = 1 }").root());
+
+        assertThrows(ClassCastException.class, () -> node.getLong("name", 0L));
+        assertThrows(ClassCastException.class, () -> node.get("name").orElseThrow().toValue().asLong());
+
+        assertThrowsExactly(InvalidNodeTypeException.class, () -> node.getString("nested", null));
+        assertThrowsExactly(InvalidNodeTypeException.class, () -> node.get("nested").orElseThrow().toValue());
+    }
+
+    @Test
+    void forEachEntryConvertsEveryValue() {
+        HoconObjectNode node = new HoconObjectNode(ConfigFactory.parseString("a = 1, b = { c = 2 }, d = null").root());
+
+        Map<String, ConfigNode> entries = new LinkedHashMap<>();
+        node.forEachEntry(entries::put);
+
+        assertEquals(node.keys(), entries.keySet());
+        assertEquals(1L, entries.get("a").toValue().asLong());
+        assertEquals(NodeType.OBJECT, entries.get("b").type());
+        assertTrue(entries.get("d").isNull());
+        assertEquals(NodePath.of(PathSegment.key("b")), entries.get("b").path());
+
+        Map<String, ConfigNode> viaMap = new LinkedHashMap<>();
+        node.toMap().forEach(viaMap::put);
+        assertEquals(entries.keySet(), viaMap.keySet());
+    }
+
+    @Test
+    void entryCursorVisitsAllKeys() {
+        HoconObjectNode node = new HoconObjectNode(ConfigFactory.parseString("a = 1, b = 2").root());
+
+        Set<String> keys = new HashSet<>();
+        long sum = 0;
+
+        EntryCursor cursor = node.entryCursor();
+        while (cursor.next()) {
+            keys.add(cursor.key());
+            sum += cursor.value().toValue().asLong();
+        }
+
+        assertEquals(Set.of("a", "b"), keys);
+        assertEquals(3L, sum);
+    }
+
+    @Test
+    void valuesAndEntrySetAreLazyViews() {
+        HoconObjectNode node = new HoconObjectNode(ConfigFactory.parseString("a = 1, b = 2").root());
+
+        Set<Map.Entry<String, ConfigNode>> entries = node.toMap().entrySet();
+        assertEquals(2, entries.size());
+        assertThrows(UnsupportedOperationException.class, entries::clear);
+
+        Set<String> keys = new HashSet<>();
+        for (Map.Entry<String, ConfigNode> entry : entries) {
+            keys.add(entry.getKey());
+            assertEquals(NodeType.VALUE, entry.getValue().type());
+        }
+        assertEquals(Set.of("a", "b"), keys);
+
+        Collection<ConfigNode> values = node.values();
+        assertEquals(2, values.size());
+        assertEquals(3L, values.stream().mapToLong(value -> value.toValue().asLong()).sum());
+        assertThrows(UnsupportedOperationException.class, () -> values.add(new NullNode()));
+    }
+
+    @Test
+    void equalityIsStructural() {
+        HoconObjectNode first = new HoconObjectNode(ConfigFactory.parseString("a = 1, b { c = [1, 2.5, x], d = null }").root());
+        HoconObjectNode second = new HoconObjectNode(ConfigFactory.parseString("b { d = null, c = [1, 2.5, x] }, a = 1").root());
+        HoconObjectNode different = new HoconObjectNode(ConfigFactory.parseString("a = 1, b { c = [1, 2.5, y], d = null }").root());
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, different);
+        assertEquals(first.getNodeOrNull("b"), second.getNodeOrNull("b"));
+        assertEquals(Set.of(first), Set.of(second));
+    }
+
+    @Test
+    void equalityIgnoresPath() {
+        HoconObjectNode node = new HoconObjectNode(ConfigFactory.parseString("x { a = 1 }, y { a = 1 }").root());
+
+        assertEquals(node.getNodeOrNull("x"), node.getNodeOrNull("y"));
+        assertNotEquals(node.getNodeOrNull("x"), node);
+    }
 }
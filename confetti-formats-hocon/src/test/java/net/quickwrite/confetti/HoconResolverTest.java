@@ -0,0 +1,162 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValue;
+import net.quickwrite.confetti.exception.ConfigResolveException;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.tree.ArrayData;
+import net.quickwrite.confetti.tree.ConfigTree;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HoconResolverTest {
+    private static HoconObjectNode resolve(final String hocon) {
+        return new HoconResolver(ConfigFactory.parseString(hocon), null).root();
+    }
+
+    private static ObjectNode object(final ConfigNode node) {
+        return node.toObject();
+    }
+
+    @Test
+    void resolveReferences() {
+        HoconObjectNode root = resolve("""
+                host = localhost
+                port = 8080
+                url = "http://"${host}":"${port}
+                server { port = ${port} }
+                """);
+
+        assertEquals("http://localhost:8080", root.getString("url", null));
+        assertEquals(8080, object(root.getNodeOrNull("server")).getLong("port", 0));
+        assertEquals("localhost", root.getNodeOrNull("host").toValue().asString());
+    }
+
+    @Test
+    void resolveOnlyAccessedValues() {
+        HoconObjectNode root = resolve("""
+                good = 1
+                nested { bad = ${missing}, good = 2 }
+                """);
+
+        assertEquals(1, root.getLong("good", 0));
+        assertEquals(2, object(root.getNodeOrNull("nested")).getLong("good", 0));
+
+        ConfigResolveException exception = assertThrows(ConfigResolveException.class,
+                () -> object(root.getNodeOrNull("nested")).getNodeOrNull("bad"));
+        assertTrue(exception.getMessage().startsWith("Cannot resolve the substitutions of 'nested.bad'"), exception.getMessage());
+    }
+
+    @Test
+    void rememberResolvedValues() {
+        Config config = ConfigFactory.parseString("a = 1\nb = ${a}");
+        HoconResolver resolver = new HoconResolver(config, null);
+        ConfigValue unresolved = config.root().get("b");
+
+        ConfigValue first = resolver.resolve(new String[0], "b", unresolved);
+
+        assertEquals(1, first.unwrapped());
+        assertSame(first, resolver.resolve(new String[0], "b", unresolved));
+    }
+
+    @Test
+    void resolveSelfReferences() {
+        HoconObjectNode root = resolve("""
+                path = /bin
+                path = ${path}":/usr/bin"
+                env { path = /opt, path = ${env.path}":/sbin" }
+                base = z
+                suffixed = ${base}
+                suffixed = ${suffixed}":q"
+                """);
+
+        assertEquals("/bin:/usr/bin", root.getString("path", null));
+        assertEquals("/opt:/sbin", object(root.getNodeOrNull("env")).getString("path", null));
+        assertEquals("z:q", root.getString("suffixed", null));
+    }
+
+    @Test
+    void resolveMergedObjectsAndLists() {
+        HoconObjectNode root = resolve("""
+                defaults { timeout = 5, retries = 3 }
+                client = ${defaults} { retries = 5 }
+                hosts = [${primary}, backup]
+                primary = main
+                """);
+
+        ObjectNode client = object(root.getNodeOrNull("client"));
+        assertEquals(5, client.getLong("timeout", 0));
+        assertEquals(5, client.getLong("retries", 0));
+        assertArrayEquals(new String[] {"main", "backup"}, root.getNodeOrNull("hosts").toArray().toStringArray());
+    }
+
+    @Test
+    void resolveUndefinedOptionalSubstitutionToNull() {
+        HoconObjectNode root = resolve("timeout = ${?undefined}");
+
+        assertTrue(root.getNodeOrNull("timeout").isNull());
+        assertEquals(7, root.getLong("timeout", 7));
+    }
+
+    @Test
+    void detectCycles() {
+        HoconObjectNode root = resolve("""
+                a = ${b}
+                b = ${c}
+                c = ${a}
+                d = 1
+                """);
+
+        assertEquals(1, root.getLong("d", 0));
+
+        ConfigResolveException exception = assertThrows(ConfigResolveException.class, () -> root.getNodeOrNull("a"));
+        assertTrue(exception.getMessage().contains("cycle"), exception.getMessage());
+    }
+
+    @Test
+    void lookUpMissingSubstitutionsInFallback() {
+        ObjectNode fallback = ConfigTree.root(ObjectData.builder()
+                .put("host", ScalarData.ofString("fallback"))
+                .put("db", ObjectData.builder().put("user", ScalarData.ofString("admin")).build())
+                .build()).toObject();
+
+        HoconObjectNode root = new HoconResolver(ConfigFactory.parseString("""
+                host = local
+                url = ${host}
+                user = ${db.user}
+                """), fallback).root();
+
+        assertEquals("local", root.getString("url", null));
+        assertEquals("admin", root.getString("user", null));
+        assertFalse(root.keys().contains("db"));
+    }
+
+    @Test
+    void walkNodesOfUnresolvedTree() {
+        HoconObjectNode root = resolve("""
+                a = 1
+                b { c = ${a}, d = [${a}] }
+                """);
+
+        assertEquals(ConfigTree.root(ObjectData.builder()
+                .put("a", ScalarData.ofLong(1))
+                .put("b", ObjectData.builder()
+                        .put("c", ScalarData.ofLong(1))
+                        .put("d", ArrayData.builder().add(ScalarData.ofLong(1)).build())
+                        .build())
+                .build()), root);
+        assertEquals(NodePath.of(PathSegment.key("b"), PathSegment.key("c")),
+                object(root.getNodeOrNull("b")).getNodeOrNull("c").path());
+    }
+}
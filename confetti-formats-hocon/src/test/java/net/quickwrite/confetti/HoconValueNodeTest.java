@@ -82,5 +82,14 @@ public class HoconValueNodeTest {
         NodePath expected = base.appendPathSegment(new KeyPathSegment("k"));
         assertEquals(expected.toString(), node.path().toString());
     }
-}
 
+    @Test
+    void equalityComparesValuesByKind() {
+        HoconObjectNode node = new HoconObjectNode(ConfigFactory.parseString("a = 1, b = 1, c = 1.5, d = \"1\"").root());
+
+        assertEquals(node.getNodeOrNull("a"), node.getNodeOrNull("b"));
+        assertEquals(node.getNodeOrNull("a").hashCode(), node.getNodeOrNull("b").hashCode());
+        assertNotEquals(node.getNodeOrNull("a"), node.getNodeOrNull("c"));
+        assertNotEquals(node.getNodeOrNull("a"), node.getNodeOrNull("d"));
+    }
+}
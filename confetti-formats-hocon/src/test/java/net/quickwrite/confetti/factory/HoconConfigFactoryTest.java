@@ -6,10 +6,20 @@
 
 package net.quickwrite.confetti.factory;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import net.quickwrite.confetti.ConfigNode;
 import net.quickwrite.confetti.HoconObjectNode;
 import net.quickwrite.confetti.NodeType;
+import net.quickwrite.confetti.ObjectNode;
+import net.quickwrite.confetti.event.ConfigParseEvent;
 import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.exception.ConfigResolveException;
+import net.quickwrite.confetti.metrics.NodeMetrics;
+import net.quickwrite.confetti.tree.ConfigTree;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -17,6 +27,7 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -125,4 +136,75 @@ public class HoconConfigFactoryTest {
         HoconConfigFactory factory = new HoconConfigFactory();
         assertThrows(NullPointerException.class, () -> factory.parse((Path) null));
     }
+
+    @Test
+    void parseReaderResolvesSubstitutions() throws Exception {
+        HoconConfigFactory factory = new HoconConfigFactory();
+
+        HoconObjectNode obj = (HoconObjectNode) factory.parse(new StringReader("""
+                a = 1
+                b = ${a}
+                c = ${?undefined}
+                """));
+
+        assertEquals(1, obj.getLong("b", 0));
+        assertTrue(obj.get("c").orElseThrow().isNull());
+    }
+
+    @Test
+    void parseReaderLooksUpSubstitutionsInFallback() throws Exception {
+        ObjectNode fallback = ConfigTree.root(ObjectData.builder()
+                .put("port", ScalarData.ofLong(8080))
+                .build()).toObject();
+        HoconConfigFactory factory = new HoconConfigFactory(fallback);
+
+        HoconObjectNode obj = (HoconObjectNode) factory.parse(new StringReader("server { port = ${port} }"));
+
+        assertEquals(8080, obj.get("server").orElseThrow().toObject().getLong("port", 0));
+        assertThrows(ConfigResolveException.class,
+                () -> factory.parse(new StringReader("a = ${missing}")).toObject().get("a"));
+    }
+
+    @Test
+    void parseEventDoesNotResolveSubstitutions() throws Exception {
+        // The fallback is only read once a substitution is resolved
+        NodeMetrics metrics = new NodeMetrics();
+        ObjectNode fallback = metrics.instrument(ConfigTree.root(ObjectData.builder()
+                .put("port", ScalarData.ofLong(8080))
+                .build())).toObject();
+        metrics.reset();
+        HoconConfigFactory factory = new HoconConfigFactory(fallback);
+        Path file = Files.createTempFile("confetti", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(ConfigParseEvent.NAME).withoutThreshold();
+            recording.start();
+            ConfigNode node = factory.parse("server { port = ${port}, url = \"http://\"${server.host}, host = localhost }");
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(ConfigParseEvent.NAME))
+                    .toList();
+
+            assertEquals(1, events.size());
+            assertEquals(-1, events.getFirst().getLong("nodeCount"));
+            assertTrue(metrics.snapshot().isEmpty());
+
+            assertEquals(8080, node.toObject().get("server").orElseThrow().toObject().getLong("port", 0));
+            assertFalse(metrics.snapshot().isEmpty());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void parseEventCountsResolvedTrees() throws Exception {
+        assertEquals(3, new HoconConfigFactory().countNodes(new HoconConfigFactory().parse("a { b = 1 }")));
+    }
+
+    @Test
+    void constructorNullFallbackThrowsNpe() {
+        assertThrows(NullPointerException.class, () -> new HoconConfigFactory(null));
+    }
 }
@@ -0,0 +1,18 @@
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(project(":confetti-core"))
+
+    // Tests
+    testImplementation("org.junit.jupiter:junit-jupiter-api:5.8.1")
+    testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.8.1")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks {
+    withType<Test>().configureEach {
+        useJUnitPlatform()
+    }
+}
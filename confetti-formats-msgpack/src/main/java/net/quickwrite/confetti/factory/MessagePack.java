@@ -0,0 +1,149 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.event.ConfigParseEvent;
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.ConfigTree;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Utility class that reads and writes configuration trees in the
+ * <a href="https://msgpack.org">MessagePack</a> format.
+ *
+ * <p>
+ * MessagePack is a compact binary encoding of JSON-like data, so a tree is written and read
+ * without a schema and can be inspected with any MessagePack tool. Objects become maps with
+ * string keys, arrays become arrays and scalars become the smallest MessagePack type that
+ * holds them. The decoder reads straight into the immutable
+ * {@link net.quickwrite.confetti.tree.ConfigData ConfigData} of a {@link ConfigTree}:
+ * {@snippet :
+ * final ByteBuffer bundle = MessagePack.write(config);
+ *
+ * // On the receiving side
+ * final ConfigNode received = MessagePack.read(bundle);
+ * }
+ *
+ * <p>
+ * Timestamps are read as strings in their ISO-8601 form. Binary data and other extension
+ * types cannot be represented by a configuration tree and are rejected.
+ *
+ * <hr>
+ *
+ * This class is intentionally non-instantiable and exposes only static
+ * utility methods.
+ */
+public final class MessagePack {
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MessagePack() {}
+
+    /**
+     * Reads the value at the position of the buffer and moves the position behind it, so
+     * several values written one after another can be read in a row.
+     *
+     * <p>
+     * Strings of a buffer with an accessible backing array are decoded directly from it.
+     *
+     * @param buffer the buffer to read
+     * @return the root of the tree
+     * @throws ConfigParseException if the data is not valid MessagePack or contains unsupported types
+     */
+    public static ConfigNode read(final ByteBuffer buffer) throws ConfigParseException {
+        Objects.requireNonNull(buffer, "buffer cannot be null");
+
+        final ConfigParseEvent event = ConfigParseEvent.start("buffer");
+        final int start = buffer.position();
+
+        try {
+            final ConfigNode node = ConfigTree.root(MessagePackDecoder.decode(buffer));
+            event.succeeded(node, () -> buffer.position() - start);
+
+            return node;
+        } catch (final RuntimeException exception) {
+            event.failed(exception, () -> buffer.limit() - start);
+            throw exception;
+        }
+    }
+
+    /**
+     * Reads a file that contains a single value.
+     *
+     * @param path the file to read
+     * @return the root of the tree
+     * @throws IOException if the file cannot be read
+     * @throws ConfigParseException if the file does not contain exactly one valid value
+     */
+    public static ConfigNode read(final Path path) throws IOException, ConfigParseException {
+        Objects.requireNonNull(path, "The path cannot be null.");
+
+        final ConfigParseEvent event = ConfigParseEvent.start(path.toString());
+
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            final ConfigNode node = ConfigTree.root(MessagePackDecoder.decode(buffer));
+
+            if (buffer.hasRemaining()) {
+                throw new ConfigParseException("Unexpected data after the value (byte " + buffer.position() + ")");
+            }
+
+            event.succeeded(node, buffer::limit);
+
+            return node;
+        } catch (final IOException | RuntimeException exception) {
+            event.failed(exception, () -> -1);
+            throw exception;
+        }
+    }
+
+    /**
+     * Encodes the tree.
+     *
+     * <p>
+     * The tree is encoded while it is walked and is not copied first.
+     *
+     * @param root the root of the tree to encode
+     * @return a heap buffer whose position is {@code 0} and whose limit is the size of the encoded tree
+     * @throws IllegalArgumentException if the tree is nested deeper than {@link #read(ByteBuffer)} accepts
+     */
+    public static ByteBuffer write(final ConfigNode root) {
+        Objects.requireNonNull(root, "root cannot be null");
+
+        return MessagePackEncoder.encode(root);
+    }
+
+    /**
+     * Encodes the tree into a file.
+     *
+     * @param root the root of the tree to encode
+     * @param path the file to write; an existing file is replaced
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if the tree is nested deeper than {@link #read(ByteBuffer)} accepts
+     */
+    public static void write(final ConfigNode root, final Path path) throws IOException {
+        Objects.requireNonNull(root, "root cannot be null");
+        Objects.requireNonNull(path, "The path cannot be null.");
+
+        final ByteBuffer encoded = write(root);
+
+        try (final FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (encoded.hasRemaining()) {
+                channel.write(encoded);
+            }
+        }
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.ArrayData;
+import net.quickwrite.confetti.tree.ConfigData;
+import net.quickwrite.confetti.tree.NullData;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Decodes a MessagePack value into {@link ConfigData}.
+ *
+ * <p>
+ * All reads use absolute positions of the buffer. Strings of a heap buffer are decoded
+ * straight out of its backing array; only direct and read-only buffers are copied into
+ * a reused scratch array first. Short strings, which are mostly keys, go through a small
+ * direct-mapped cache, so the keys that repeat in every element of an array are decoded
+ * once and share a single {@link String}.
+ *
+ * <p>
+ * Timestamps (extension type {@code -1}) become strings in their ISO-8601 form like
+ * {@code 2024-01-01T00:00:00Z}. Binary data, other extension types, non-string map keys
+ * and integers outside the range of a {@code long} are rejected.
+ */
+final class MessagePackDecoder {
+    /** Maps and arrays nested deeper than this are rejected instead of overflowing the stack. */
+    static final int MAX_DEPTH = 512;
+
+    /** Strings up to this length in bytes are cached. */
+    private static final int CACHED_LENGTH = 32;
+    private static final int CACHE_SIZE = 256;
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+
+    /** The backing array of a heap buffer or {@code null}. */
+    private final byte[] array;
+    private final int arrayOffset;
+    private byte[] scratch = new byte[64];
+
+    private final byte[][] cachedBytes = new byte[CACHE_SIZE][];
+    private final String[] cachedStrings = new String[CACHE_SIZE];
+
+    private MessagePackDecoder(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.position = buffer.position();
+        this.limit = buffer.limit();
+
+        if (buffer.hasArray()) {
+            this.array = buffer.array();
+            this.arrayOffset = buffer.arrayOffset();
+        } else {
+            this.array = null;
+            this.arrayOffset = 0;
+        }
+    }
+
+    /**
+     * Decodes the value at the position of the buffer and moves the position behind it.
+     *
+     * @param buffer the buffer to read
+     * @return the decoded value
+     * @throws ConfigParseException if the data is not valid MessagePack or contains unsupported types
+     */
+    static ConfigData decode(final ByteBuffer buffer) {
+        // MessagePack is big endian regardless of the order of the buffer
+        final MessagePackDecoder decoder = new MessagePackDecoder(buffer.duplicate().order(ByteOrder.BIG_ENDIAN));
+        final ConfigData data = decoder.read(0);
+        buffer.position(decoder.position);
+
+        return data;
+    }
+
+    private ConfigData read(final int depth) {
+        final int start = this.position;
+        final int format = this.readByte();
+
+        if (format <= 0x7F) {
+            return ScalarData.ofLong(format);
+        }
+
+        if (format >= 0xE0) {
+            return ScalarData.ofLong((byte) format);
+        }
+
+        return switch (format >>> 4) {
+            case 0x8 -> this.readMap(format & 0x0F, depth);
+            case 0x9 -> this.readArray(format & 0x0F, depth);
+            case 0xA, 0xB -> ScalarData.ofString(this.readString(format & 0x1F));
+            default -> switch (format) {
+                case 0xC0 -> NullData.INSTANCE;
+                case 0xC2 -> ScalarData.ofBoolean(false);
+                case 0xC3 -> ScalarData.ofBoolean(true);
+                case 0xCA -> ScalarData.ofDouble(Float.intBitsToFloat(this.readInt()));
+                case 0xCB -> ScalarData.ofDouble(Double.longBitsToDouble(this.readLong()));
+                case 0xCC -> ScalarData.ofLong(this.readByte());
+                case 0xCD -> ScalarData.ofLong(this.readShort());
+                case 0xCE -> ScalarData.ofLong(this.readInt() & 0xFFFFFFFFL);
+                case 0xCF -> ScalarData.ofLong(this.readUnsignedLong(start));
+                case 0xD0 -> ScalarData.ofLong((byte) this.readByte());
+                case 0xD1 -> ScalarData.ofLong((short) this.readShort());
+                case 0xD2 -> ScalarData.ofLong(this.readInt());
+                case 0xD3 -> ScalarData.ofLong(this.readLong());
+                case 0xD9 -> ScalarData.ofString(this.readString(this.readByte()));
+                case 0xDA -> ScalarData.ofString(this.readString(this.readShort()));
+                case 0xDB -> ScalarData.ofString(this.readString(this.readLength(start)));
+                case 0xDC -> this.readArray(this.readShort(), depth);
+                case 0xDD -> this.readArray(this.readLength(start), depth);
+                case 0xDE -> this.readMap(this.readShort(), depth);
+                case 0xDF -> this.readMap(this.readLength(start), depth);
+                case 0xD6 -> this.readExtension(4, start);
+                case 0xD7 -> this.readExtension(8, start);
+                case 0xC7 -> this.readExtension(this.readByte(), start);
+                case 0xD4, 0xD5, 0xD8, 0xC8, 0xC9 -> throw error("Extension types other than timestamps are not supported", start);
+                case 0xC4, 0xC5, 0xC6 -> throw error("Binary data is not supported", start);
+                default -> throw error("Unknown format 0x" + Integer.toHexString(format), start);
+            };
+        };
+    }
+
+    private ObjectData readMap(final int size, final int depth) {
+        this.checkDepth(depth);
+        this.checkSize(size, 2);
+
+        final ObjectData.Builder builder = ObjectData.builder();
+
+        for (int i = 0; i < size; ++i) {
+            final int start = this.position;
+            final int format = this.readByte();
+
+            final int length;
+            if ((format & 0xE0) == 0xA0) {
+                length = format & 0x1F;
+            } else if (format == 0xD9) {
+                length = this.readByte();
+            } else if (format == 0xDA) {
+                length = this.readShort();
+            } else if (format == 0xDB) {
+                length = this.readLength(start);
+            } else {
+                throw error("Map keys must be strings", start);
+            }
+
+            builder.put(this.readString(length), this.read(depth + 1));
+        }
+
+        return builder.build();
+    }
+
+    private ArrayData readArray(final int size, final int depth) {
+        this.checkDepth(depth);
+        this.checkSize(size, 1);
+
+        final ArrayData.Builder builder = ArrayData.builder();
+
+        for (int i = 0; i < size; ++i) {
+            builder.add(this.read(depth + 1));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Reads the type and the data of an extension with the given data length.
+     */
+    private ScalarData readExtension(final int length, final int start) {
+        final int type = (byte) this.readByte();
+
+        if (type != -1) {
+            throw error("Extension types other than timestamps are not supported", start);
+        }
+
+        final long seconds;
+        final long nanos;
+
+        switch (length) {
+            case 4 -> {
+                seconds = this.readInt() & 0xFFFFFFFFL;
+                nanos = 0;
+            }
+            case 8 -> {
+                final long value = this.readLong();
+                seconds = value & 0x3FFFFFFFFL;
+                nanos = value >>> 34;
+            }
+            case 12 -> {
+                nanos = this.readInt() & 0xFFFFFFFFL;
+                seconds = this.readLong();
+            }
+            default -> throw error("A timestamp cannot have " + length + " bytes", start);
+        }
+
+        if (nanos > 999_999_999L) {
+            throw error("The nanoseconds of the timestamp are out of range", start);
+        }
+
+        try {
+            return ScalarData.ofString(Instant.ofEpochSecond(seconds, nanos).toString());
+        } catch (final RuntimeException exception) {
+            throw error("The timestamp is out of range", start);
+        }
+    }
+
+    private String readString(final int length) {
+        this.require(length);
+
+        final byte[] source;
+        final int offset;
+
+        if (this.array != null) {
+            source = this.array;
+            offset = this.arrayOffset + this.position;
+        } else {
+            if (this.scratch.length < length) {
+                this.scratch = new byte[Math.max(length, 2 * this.scratch.length)];
+            }
+
+            this.buffer.get(this.position, this.scratch, 0, length);
+            source = this.scratch;
+            offset = 0;
+        }
+
+        this.position += length;
+
+        if (length > CACHED_LENGTH) {
+            return new String(source, offset, length, StandardCharsets.UTF_8);
+        }
+
+        int hash = length;
+        for (int i = offset; i < offset + length; ++i) {
+            hash = 31 * hash + source[i];
+        }
+
+        final int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+        final byte[] cached = this.cachedBytes[slot];
+
+        if (cached != null && Arrays.equals(cached, 0, cached.length, source, offset, offset + length)) {
+            return this.cachedStrings[slot];
+        }
+
+        final String string = new String(source, offset, length, StandardCharsets.UTF_8);
+        this.cachedBytes[slot] = Arrays.copyOfRange(source, offset, offset + length);
+        this.cachedStrings[slot] = string;
+
+        return string;
+    }
+
+    private long readUnsignedLong(final int start) {
+        final long value = this.readLong();
+
+        if (value < 0) {
+            throw error("The integer exceeds the range of a long", start);
+        }
+
+        return value;
+    }
+
+    /**
+     * Reads a 32-bit length, which is unsigned in MessagePack.
+     */
+    private int readLength(final int start) {
+        final int length = this.readInt();
+
+        if (length < 0) {
+            throw error("The length " + (length & 0xFFFFFFFFL) + " exceeds the maximum size of 2 GiB", start);
+        }
+
+        return length;
+    }
+
+    private int readByte() {
+        this.require(1);
+
+        return this.buffer.get(this.position++) & 0xFF;
+    }
+
+    private int readShort() {
+        this.require(2);
+
+        final int value = this.buffer.getShort(this.position) & 0xFFFF;
+        this.position += 2;
+
+        return value;
+    }
+
+    private int readInt() {
+        this.require(4);
+
+        final int value = this.buffer.getInt(this.position);
+        this.position += 4;
+
+        return value;
+    }
+
+    private long readLong() {
+        this.require(8);
+
+        final long value = this.buffer.getLong(this.position);
+        this.position += 8;
+
+        return value;
+    }
+
+    private void require(final int length) {
+        if (this.limit - this.position < length) {
+            throw error("The data is truncated", this.position);
+        }
+    }
+
+    /**
+     * Rejects sizes that cannot fit into the remaining bytes before allocating anything.
+     */
+    private void checkSize(final int size, final int minimumBytesPerElement) {
+        if ((long) size * minimumBytesPerElement > this.limit - this.position) {
+            throw error("The data is truncated", this.position);
+        }
+    }
+
+    private void checkDepth(final int depth) {
+        if (depth >= MAX_DEPTH) {
+            throw error("The data is nested deeper than " + MAX_DEPTH + " levels", this.position);
+        }
+    }
+
+    private static ConfigParseException error(final String message, final int position) {
+        return new ConfigParseException(message + " (byte " + position + ")");
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.ArrayNode;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.ObjectNode;
+import net.quickwrite.confetti.tree.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Encodes {@link ConfigData} and {@link ConfigNode} trees into MessagePack.
+ *
+ * <p>
+ * Nodes that are backed by {@link ConfigData} are encoded from their data; all other nodes
+ * are encoded while they are walked, without copying them first. Trees that are nested deeper
+ * than {@value MessagePackDecoder#MAX_DEPTH} levels are rejected, as they could not be read again.
+ *
+ * <p>
+ * Every value uses its shortest encoding: integers use the smallest integer format that
+ * holds them, and doubles that are exactly representable as a {@code float} are written
+ * as a float 32. ASCII strings are copied char by char without an intermediate array.
+ */
+final class MessagePackEncoder {
+    private byte[] bytes = new byte[1024];
+    private int size;
+
+    private MessagePackEncoder() {}
+
+    /**
+     * Encodes the data.
+     *
+     * @param data the data to encode
+     * @return a heap buffer containing the encoded data; its limit is the size of the data
+     */
+    static ByteBuffer encode(final ConfigData data) {
+        final MessagePackEncoder encoder = new MessagePackEncoder();
+        encoder.write(data, 0);
+
+        return ByteBuffer.wrap(encoder.bytes, 0, encoder.size);
+    }
+
+    /**
+     * Encodes the tree.
+     *
+     * @param node the root of the tree to encode
+     * @return a heap buffer containing the encoded tree; its limit is the size of the tree
+     */
+    static ByteBuffer encode(final ConfigNode node) {
+        final MessagePackEncoder encoder = new MessagePackEncoder();
+        encoder.write(node, 0);
+
+        return ByteBuffer.wrap(encoder.bytes, 0, encoder.size);
+    }
+
+    private void write(final ConfigNode node, final int depth) {
+        switch (node) {
+            case TreeObjectNode tree -> this.write(tree.data(), depth);
+            case TreeArrayNode tree -> this.write(tree.data(), depth);
+            case TreeValueNode tree -> this.write(tree.data(), depth);
+            case ObjectNode object -> {
+                checkDepth(depth);
+
+                this.writeHeader(object.keys().size(), 0x80, 0x0F, 0xDE);
+                object.forEachEntry((key, value) -> {
+                    this.writeString(key);
+                    this.write(value, depth + 1);
+                });
+            }
+            case ArrayNode array -> {
+                checkDepth(depth);
+
+                final int size = array.size();
+
+                this.writeHeader(size, 0x90, 0x0F, 0xDC);
+                for (int i = 0; i < size; ++i) {
+                    this.write(array.get(i), depth + 1);
+                }
+            }
+            default -> {
+                if (node.isNull()) {
+                    this.putByte(0xC0);
+                } else {
+                    this.writeValue(node.toValue().value(), depth);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a boxed value with the same conversions as {@link ScalarData#of(Object)}.
+     */
+    private void writeValue(final Object value, final int depth) {
+        switch (value) {
+            case String string -> this.writeString(string);
+            case Boolean bool -> this.putByte(bool ? 0xC3 : 0xC2);
+            case Byte number -> this.writeLong(number);
+            case Short number -> this.writeLong(number);
+            case Integer number -> this.writeLong(number);
+            case Long number -> this.writeLong(number);
+            default -> this.write(ScalarData.of(value), depth);
+        }
+    }
+
+    private void write(final ConfigData data, final int depth) {
+        switch (data) {
+            case ObjectData object -> {
+                checkDepth(depth);
+
+                this.writeHeader(object.size(), 0x80, 0x0F, 0xDE);
+                object.forEach((key, value) -> {
+                    this.writeString(key);
+                    this.write(value, depth + 1);
+                });
+            }
+            case ArrayData array -> {
+                checkDepth(depth);
+
+                final int size = array.size();
+
+                this.writeHeader(size, 0x90, 0x0F, 0xDC);
+                for (int i = 0; i < size; ++i) {
+                    this.write(array.get(i), depth + 1);
+                }
+            }
+            case ScalarData scalar -> {
+                switch (scalar.kind()) {
+                    case STRING -> this.writeString(scalar.asString());
+                    case LONG -> this.writeLong(scalar.asLong());
+                    case DOUBLE -> this.writeDouble(scalar.asDouble());
+                    case BOOLEAN -> this.putByte(scalar.asBoolean() ? 0xC3 : 0xC2);
+                }
+            }
+            case NullData ignored -> this.putByte(0xC0);
+        }
+    }
+
+    /**
+     * Writes the header of a map or an array: the fix format if the size fits into its
+     * mask, the 16-bit format otherwise and the 32-bit format after it.
+     */
+    private void writeHeader(final int size, final int fix, final int mask, final int format16) {
+        if (size <= mask) {
+            this.putByte(fix | size);
+        } else if (size <= 0xFFFF) {
+            this.putByte(format16);
+            this.putShort(size);
+        } else {
+            this.putByte(format16 + 1);
+            this.putInt(size);
+        }
+    }
+
+    private void writeLong(final long value) {
+        if (value >= -32 && value <= 0x7F) {
+            // Positive and negative fixint
+            this.putByte((int) value);
+        } else if (value >= 0) {
+            if (value <= 0xFF) {
+                this.putByte(0xCC);
+                this.putByte((int) value);
+            } else if (value <= 0xFFFF) {
+                this.putByte(0xCD);
+                this.putShort((int) value);
+            } else if (value <= 0xFFFFFFFFL) {
+                this.putByte(0xCE);
+                this.putInt((int) value);
+            } else {
+                this.putByte(0xCF);
+                this.putLong(value);
+            }
+        } else if (value >= Byte.MIN_VALUE) {
+            this.putByte(0xD0);
+            this.putByte((int) value);
+        } else if (value >= Short.MIN_VALUE) {
+            this.putByte(0xD1);
+            this.putShort((int) value);
+        } else if (value >= Integer.MIN_VALUE) {
+            this.putByte(0xD2);
+            this.putInt((int) value);
+        } else {
+            this.putByte(0xD3);
+            this.putLong(value);
+        }
+    }
+
+    private void writeDouble(final double value) {
+        final float single = (float) value;
+
+        if (single == value) {
+            this.putByte(0xCA);
+            this.putInt(Float.floatToRawIntBits(single));
+        } else {
+            this.putByte(0xCB);
+            this.putLong(Double.doubleToRawLongBits(value));
+        }
+    }
+
+    private void writeString(final String string) {
+        final int length = string.length();
+
+        boolean ascii = true;
+        for (int i = 0; i < length; ++i) {
+            if (string.charAt(i) >= 0x80) {
+                ascii = false;
+                break;
+            }
+        }
+
+        if (!ascii) {
+            final byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+
+            this.writeStringHeader(utf8.length);
+            this.ensureCapacity(utf8.length);
+            System.arraycopy(utf8, 0, this.bytes, this.size, utf8.length);
+            this.size += utf8.length;
+
+            return;
+        }
+
+        this.writeStringHeader(length);
+        this.ensureCapacity(length);
+        for (int i = 0; i < length; ++i) {
+            this.bytes[this.size++] = (byte) string.charAt(i);
+        }
+    }
+
+    private void writeStringHeader(final int length) {
+        if (length <= 0x1F) {
+            this.putByte(0xA0 | length);
+        } else if (length <= 0xFF) {
+            this.putByte(0xD9);
+            this.putByte(length);
+        } else if (length <= 0xFFFF) {
+            this.putByte(0xDA);
+            this.putShort(length);
+        } else {
+            this.putByte(0xDB);
+            this.putInt(length);
+        }
+    }
+
+    private void putByte(final int value) {
+        this.ensureCapacity(1);
+        this.bytes[this.size++] = (byte) value;
+    }
+
+    private void putShort(final int value) {
+        this.ensureCapacity(2);
+
+        this.bytes[this.size++] = (byte) (value >>> 8);
+        this.bytes[this.size++] = (byte) value;
+    }
+
+    private void putInt(final int value) {
+        this.ensureCapacity(4);
+
+        // MessagePack is big endian, like a ByteBuffer
+        this.bytes[this.size++] = (byte) (value >>> 24);
+        this.bytes[this.size++] = (byte) (value >>> 16);
+        this.bytes[this.size++] = (byte) (value >>> 8);
+        this.bytes[this.size++] = (byte) value;
+    }
+
+    private void putLong(final long value) {
+        this.putInt((int) (value >>> 32));
+        this.putInt((int) value);
+    }
+
+    private static void checkDepth(final int depth) {
+        if (depth >= MessagePackDecoder.MAX_DEPTH) {
+            throw new IllegalArgumentException("The tree is nested deeper than " + MessagePackDecoder.MAX_DEPTH + " levels");
+        }
+    }
+
+    private void ensureCapacity(final int additional) {
+        final long required = (long) this.size + additional;
+
+        if (required > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("The encoded tree exceeds the maximum size of 2 GiB");
+        }
+
+        if (required > this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(required, 2L * this.bytes.length)));
+        }
+    }
+}
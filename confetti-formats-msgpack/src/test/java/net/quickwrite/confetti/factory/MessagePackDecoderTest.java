@@ -0,0 +1,137 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.ArrayData;
+import net.quickwrite.confetti.tree.ConfigData;
+import net.quickwrite.confetti.tree.NullData;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessagePackDecoderTest {
+    private static ConfigData decode(final int... bytes) {
+        return MessagePackDecoder.decode(buffer(bytes));
+    }
+
+    private static ByteBuffer buffer(final int... bytes) {
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length);
+        for (int b : bytes) {
+            buffer.put((byte) b);
+        }
+
+        return buffer.flip();
+    }
+
+    @Test
+    void decodeScalars() {
+        assertEquals(ScalarData.ofLong(5), decode(0x05));
+        assertEquals(ScalarData.ofLong(-1), decode(0xFF));
+        assertEquals(ScalarData.ofLong(255), decode(0xCC, 0xFF));
+        assertEquals(ScalarData.ofLong(65535), decode(0xCD, 0xFF, 0xFF));
+        assertEquals(ScalarData.ofLong(4294967295L), decode(0xCE, 0xFF, 0xFF, 0xFF, 0xFF));
+        assertEquals(ScalarData.ofLong(-128), decode(0xD0, 0x80));
+        assertEquals(ScalarData.ofLong(-2), decode(0xD1, 0xFF, 0xFE));
+        assertEquals(ScalarData.ofLong(-2), decode(0xD2, 0xFF, 0xFF, 0xFF, 0xFE));
+        assertEquals(ScalarData.ofLong(-2), decode(0xD3, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFE));
+        assertEquals(ScalarData.ofDouble(1.5), decode(0xCA, 0x3F, 0xC0, 0x00, 0x00));
+        assertEquals(ScalarData.ofDouble(1.5), decode(0xCB, 0x3F, 0xF8, 0, 0, 0, 0, 0, 0));
+        assertEquals(ScalarData.ofBoolean(true), decode(0xC3));
+        assertSame(NullData.INSTANCE, decode(0xC0));
+        assertEquals(ScalarData.ofString("hi"), decode(0xD9, 0x02, 'h', 'i'));
+        assertEquals(ScalarData.ofString("hi"), decode(0xDA, 0x00, 0x02, 'h', 'i'));
+        assertEquals(ScalarData.ofString("é"), decode(0xDB, 0, 0, 0, 0x02, 0xC3, 0xA9));
+    }
+
+    @Test
+    void decodeContainers() {
+        assertEquals(ObjectData.builder()
+                .put("a", ArrayData.builder().add(ScalarData.ofLong(1)).add(NullData.INSTANCE).build())
+                .put("b", ObjectData.empty())
+                .build(), decode(0xDE, 0x00, 0x02, 0xA1, 'a', 0xDC, 0x00, 0x02, 0x01, 0xC0, 0xA1, 'b', 0x80));
+    }
+
+    @Test
+    void decodeTimestamps() {
+        assertEquals(ScalarData.ofString("1970-01-01T00:00:01Z"), decode(0xD6, 0xFF, 0, 0, 0, 1));
+        // 500000000 nanoseconds in the upper 30 bits, 2 seconds in the lower 34 bits
+        long packed = (500_000_000L << 34) | 2;
+        assertEquals(ScalarData.ofString("1970-01-01T00:00:02.500Z"), decode(0xD7, 0xFF,
+                (int) (packed >>> 56), (int) (packed >>> 48), (int) (packed >>> 40), (int) (packed >>> 32),
+                (int) (packed >>> 24), (int) (packed >>> 16), (int) (packed >>> 8), (int) packed));
+        assertEquals(ScalarData.ofString("1969-12-31T23:59:59Z"), decode(0xC7, 12, 0xFF,
+                0, 0, 0, 0, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF));
+    }
+
+    @Test
+    void shareRepeatedKeys() {
+        ArrayData array = (ArrayData) decode(0x92, 0x81, 0xA4, 'h', 'o', 's', 't', 0x01, 0x81, 0xA4, 'h', 'o', 's', 't', 0x02);
+
+        String first = ((ObjectData) array.get(0)).keys().iterator().next();
+        String second = ((ObjectData) array.get(1)).keys().iterator().next();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void readDirectAndLittleEndianBuffers() {
+        ByteBuffer heap = buffer(0x82, 0xA1, 'a', 0xCD, 0x01, 0x00, 0xA1, 'b', 0xA2, 'h', 'i');
+        ByteBuffer direct = ByteBuffer.allocateDirect(heap.remaining()).order(ByteOrder.LITTLE_ENDIAN);
+        direct.put(heap.duplicate()).flip();
+
+        assertEquals(MessagePackDecoder.decode(heap), MessagePackDecoder.decode(direct));
+        assertFalse(direct.hasRemaining());
+    }
+
+    @Test
+    void advancePosition() {
+        ByteBuffer buffer = buffer(0x01, 0x02);
+
+        assertEquals(ScalarData.ofLong(1), MessagePackDecoder.decode(buffer));
+        assertEquals(1, buffer.position());
+        assertEquals(ScalarData.ofLong(2), MessagePackDecoder.decode(buffer));
+    }
+
+    @Test
+    void rejectInvalidData() {
+        assertThrows(ConfigParseException.class, () -> decode());
+        assertThrows(ConfigParseException.class, () -> decode(0xA3, 'a'));
+        assertThrows(ConfigParseException.class, () -> decode(0xDD, 0x7F, 0xFF, 0xFF, 0xFF));
+        assertThrows(ConfigParseException.class, () -> decode(0xDB, 0xFF, 0xFF, 0xFF, 0xFF));
+        assertThrows(ConfigParseException.class, () -> decode(0xC1));
+        assertThrows(ConfigParseException.class, () -> decode(0xC4, 0x01, 0x00));
+        assertThrows(ConfigParseException.class, () -> decode(0xD4, 0x01, 0x00));
+        assertThrows(ConfigParseException.class, () -> decode(0xCF, 0x80, 0, 0, 0, 0, 0, 0, 0));
+        assertThrows(ConfigParseException.class, () -> decode(0x81, 0x01, 0x01));
+        assertThrows(ConfigParseException.class, () -> decode(0xD6, 0xFF, 0xFF));
+
+        ConfigParseException exception = assertThrows(ConfigParseException.class, () -> decode(0x91, 0xC1));
+        assertEquals("Unknown format 0xc1 (byte 1)", exception.getMessage());
+    }
+
+    @Test
+    void limitNesting() {
+        int[] allowed = new int[MessagePackDecoder.MAX_DEPTH + 1];
+        Arrays.fill(allowed, 0x91);
+        allowed[allowed.length - 1] = 0xC0;
+
+        assertInstanceOf(ArrayData.class, decode(allowed));
+
+        int[] tooDeep = new int[MessagePackDecoder.MAX_DEPTH + 2];
+        Arrays.fill(tooDeep, 0x91);
+        tooDeep[tooDeep.length - 1] = 0xC0;
+
+        assertThrows(ConfigParseException.class, () -> decode(tooDeep));
+    }
+}
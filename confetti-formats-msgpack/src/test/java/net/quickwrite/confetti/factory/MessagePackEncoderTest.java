@@ -0,0 +1,88 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.tree.ArrayData;
+import net.quickwrite.confetti.tree.ConfigData;
+import net.quickwrite.confetti.tree.NullData;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessagePackEncoderTest {
+    private static int[] encode(final ConfigData data) {
+        ByteBuffer buffer = MessagePackEncoder.encode(data);
+        int[] bytes = new int[buffer.remaining()];
+
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = buffer.get() & 0xFF;
+        }
+
+        return bytes;
+    }
+
+    private static int[] bytes(final int... bytes) {
+        return bytes;
+    }
+
+    @Test
+    void encodeIntegersInTheirSmallestFormat() {
+        assertArrayEquals(bytes(0x00), encode(ScalarData.ofLong(0)));
+        assertArrayEquals(bytes(0x7F), encode(ScalarData.ofLong(127)));
+        assertArrayEquals(bytes(0xE0), encode(ScalarData.ofLong(-32)));
+        assertArrayEquals(bytes(0xCC, 0x80), encode(ScalarData.ofLong(128)));
+        assertArrayEquals(bytes(0xCD, 0x01, 0x00), encode(ScalarData.ofLong(256)));
+        assertArrayEquals(bytes(0xCE, 0x00, 0x01, 0x00, 0x00), encode(ScalarData.ofLong(65536)));
+        assertArrayEquals(bytes(0xCF, 0x00, 0x00, 0x00, 0x01, 0x00, 0x00, 0x00, 0x00), encode(ScalarData.ofLong(1L << 32)));
+        assertArrayEquals(bytes(0xD0, 0xDF), encode(ScalarData.ofLong(-33)));
+        assertArrayEquals(bytes(0xD1, 0xFF, 0x7F), encode(ScalarData.ofLong(-129)));
+        assertArrayEquals(bytes(0xD2, 0xFF, 0xFF, 0x7F, 0xFF), encode(ScalarData.ofLong(-32769)));
+        assertArrayEquals(bytes(0xD3, 0x80, 0, 0, 0, 0, 0, 0, 0), encode(ScalarData.ofLong(Long.MIN_VALUE)));
+    }
+
+    @Test
+    void encodeDoubles() {
+        assertArrayEquals(bytes(0xCA, 0x3F, 0xC0, 0x00, 0x00), encode(ScalarData.ofDouble(1.5)));
+        assertArrayEquals(bytes(0xCB, 0x3F, 0xB9, 0x99, 0x99, 0x99, 0x99, 0x99, 0x9A), encode(ScalarData.ofDouble(0.1)));
+    }
+
+    @Test
+    void encodeConstants() {
+        assertArrayEquals(bytes(0xC0), encode(NullData.INSTANCE));
+        assertArrayEquals(bytes(0xC2), encode(ScalarData.ofBoolean(false)));
+        assertArrayEquals(bytes(0xC3), encode(ScalarData.ofBoolean(true)));
+    }
+
+    @Test
+    void encodeStrings() {
+        assertArrayEquals(bytes(0xA2, 'h', 'i'), encode(ScalarData.ofString("hi")));
+        assertArrayEquals(bytes(0xA2, 0xC3, 0xA9), encode(ScalarData.ofString("é")));
+        assertEquals(0xD9, encode(ScalarData.ofString("x".repeat(32)))[0]);
+        assertEquals(0xDA, encode(ScalarData.ofString("x".repeat(256)))[0]);
+        assertEquals(0xDB, encode(ScalarData.ofString("x".repeat(65536)))[0]);
+    }
+
+    @Test
+    void encodeContainers() {
+        assertArrayEquals(bytes(0x81, 0xA1, 'a', 0x92, 0x01, 0xC0), encode(ObjectData.builder()
+                .put("a", ArrayData.builder().add(ScalarData.ofLong(1)).add(NullData.INSTANCE).build())
+                .build()));
+
+        ArrayData.Builder array = ArrayData.builder();
+        for (int i = 0; i < 16; ++i) {
+            array.add(ScalarData.ofLong(i));
+        }
+
+        int[] encoded = encode(array.build());
+        assertEquals(0xDC, encoded[0]);
+        assertEquals(16, (encoded[1] << 8) | encoded[2]);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.metrics.NodeMetrics;
+import net.quickwrite.confetti.tree.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessagePackTest {
+    private static final ObjectData CONFIG = ObjectData.builder()
+            .put("name", ScalarData.ofString("app ☃"))
+            .put("ratio", ScalarData.ofDouble(0.1))
+            .put("limit", ScalarData.ofLong(Long.MAX_VALUE))
+            .put("enabled", ScalarData.ofBoolean(true))
+            .put("fallback", NullData.INSTANCE)
+            .put("servers", ArrayData.builder()
+                    .add(ObjectData.builder().put("host", ScalarData.ofString("a")).put("port", ScalarData.ofLong(80)).build())
+                    .add(ObjectData.builder().put("host", ScalarData.ofString("b")).put("port", ScalarData.ofLong(-70000)).build())
+                    .build())
+            .build();
+
+    private static ObjectData data(final ConfigNode node) {
+        return ((TreeObjectNode) node).data();
+    }
+
+    @Test
+    void roundTrip() {
+        ByteBuffer buffer = MessagePack.write(ConfigTree.root(CONFIG));
+
+        assertEquals(0, buffer.position());
+        assertEquals(CONFIG, data(MessagePack.read(buffer)));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void roundTripLargeObject() {
+        ObjectData.Builder builder = ObjectData.builder();
+        for (int i = 0; i < 70000; ++i) {
+            builder.put("key" + i, ScalarData.ofLong(i));
+        }
+
+        ObjectData large = builder.build();
+
+        assertEquals(large, data(MessagePack.read(MessagePack.write(ConfigTree.root(large)))));
+    }
+
+    @Test
+    void writeNodesWithoutData() {
+        ConfigNode instrumented = new NodeMetrics().instrument(ConfigTree.root(CONFIG));
+
+        assertEquals(CONFIG, data(MessagePack.read(MessagePack.write(instrumented))));
+    }
+
+    @Test
+    void roundTripAtTheDepthLimit() {
+        ConfigData deepest = NullData.INSTANCE;
+        for (int i = 0; i < MessagePackDecoder.MAX_DEPTH; ++i) {
+            deepest = ArrayData.builder().add(deepest).build();
+        }
+
+        ArrayData allowed = (ArrayData) deepest;
+        ConfigNode node = MessagePack.read(MessagePack.write(ConfigTree.root(allowed)));
+        assertEquals(allowed, ((TreeArrayNode) node).data());
+
+        ConfigNode tooDeep = ConfigTree.root(ArrayData.builder().add(allowed).build());
+        assertThrows(IllegalArgumentException.class, () -> MessagePack.write(tooDeep));
+        assertThrows(IllegalArgumentException.class, () -> MessagePack.write(new NodeMetrics().instrument(tooDeep)));
+    }
+
+    @Test
+    void readValuesInARow() {
+        ByteBuffer first = MessagePack.write(ConfigTree.root(ScalarData.ofLong(1)));
+        ByteBuffer second = MessagePack.write(ConfigTree.root(CONFIG));
+        ByteBuffer both = ByteBuffer.allocate(first.remaining() + second.remaining()).put(first).put(second).flip();
+
+        assertEquals(1, MessagePack.read(both).toValue().asLong());
+        assertEquals(CONFIG, data(MessagePack.read(both)));
+    }
+
+    @Test
+    void writeAndReadFile(@TempDir final Path directory) throws IOException {
+        Path file = directory.resolve("config.msgpack");
+        MessagePack.write(ConfigTree.root(CONFIG), file);
+
+        assertEquals(CONFIG, data(MessagePack.read(file)));
+    }
+
+    @Test
+    void rejectTrailingDataInFile(@TempDir final Path directory) throws IOException {
+        Path file = directory.resolve("config.msgpack");
+        Files.write(file, new byte[] {0x01, 0x02});
+
+        ConfigParseException exception = assertThrows(ConfigParseException.class, () -> MessagePack.read(file));
+
+        assertEquals("Unexpected data after the value (byte 1)", exception.getMessage());
+    }
+
+    @Test
+    void rejectNullArguments() {
+        assertThrows(NullPointerException.class, () -> MessagePack.read((ByteBuffer) null));
+        assertThrows(NullPointerException.class, () -> MessagePack.read((Path) null));
+        assertThrows(NullPointerException.class, () -> MessagePack.write(null));
+    }
+}
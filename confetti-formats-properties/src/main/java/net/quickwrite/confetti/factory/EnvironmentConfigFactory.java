@@ -0,0 +1,97 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.ConfigTree;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link ConfigFactory} implementation that reads environment variables into immutable
+ * {@link ConfigTree configuration trees}.
+ *
+ * <p>
+ * After the prefix is removed, the names are converted to lower case and their underscores
+ * separate the segments, so {@code APP_SERVER_PORT=8080} with the prefix {@code "APP_"}
+ * becomes the key {@code port} in the object {@code server}. Values are converted like
+ * the ones of the {@link PropertiesConfigFactory}.
+ * {@snippet :
+ * final ConfigNode overrides = new EnvironmentConfigFactory("APP_").parseEnvironment();
+ * }
+ *
+ * <p>
+ * {@link #parse(Reader)} reads {@code NAME=value} lines, like the output of {@code env},
+ * with the syntax of a {@code .properties} document.
+ */
+public class EnvironmentConfigFactory implements ConfigFactory {
+    private final String prefix;
+
+    /**
+     * Creates a factory that reads all variables.
+     */
+    public EnvironmentConfigFactory() {
+        this("");
+    }
+
+    /**
+     * Creates a factory that only reads the variables starting with the prefix.
+     *
+     * @param prefix The prefix that is removed from the names, for example {@code "APP_"}
+     */
+    public EnvironmentConfigFactory(final String prefix) {
+        this.prefix = Objects.requireNonNull(prefix, "The prefix cannot be null.");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConfigNode parse(final Reader reader) throws IOException, ConfigParseException {
+        Objects.requireNonNull(reader, "The reader cannot be null.");
+
+        final KeyTreeBuilder builder = this.builder();
+        PropertiesReader.read(reader, builder);
+
+        return ConfigTree.root(builder.build());
+    }
+
+    /**
+     * Reads the variables of the map.
+     *
+     * @param variables The variables by their name, for example the environment of a {@link ProcessBuilder}
+     * @return The root of the tree
+     */
+    public ConfigNode parse(final Map<String, String> variables) {
+        Objects.requireNonNull(variables, "The variables cannot be null.");
+
+        final KeyTreeBuilder builder = this.builder();
+
+        variables.forEach((name, value) -> {
+            if (builder.accepts(name)) {
+                builder.add(name, value);
+            }
+        });
+
+        return ConfigTree.root(builder.build());
+    }
+
+    /**
+     * Reads the {@link System#getenv() environment} of the process.
+     *
+     * @return The root of the tree
+     */
+    public ConfigNode parseEnvironment() {
+        return this.parse(System.getenv());
+    }
+
+    private KeyTreeBuilder builder() {
+        return new KeyTreeBuilder(this.prefix, '_', true);
+    }
+}
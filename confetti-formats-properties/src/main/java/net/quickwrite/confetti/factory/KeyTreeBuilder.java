@@ -0,0 +1,209 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Collects flat key–value pairs like {@code server.port=8080} and turns them into a tree.
+ *
+ * <p>
+ * Keys that do not start with the prefix are rejected by {@link #accepts(String)} before
+ * their value is decoded. The prefix is removed from accepted keys, which are split into
+ * their segments once. {@link #build()} sorts the entries by their segments, so all keys
+ * below the same object are next to each other, and groups them in a single pass.
+ *
+ * <p>
+ * If a key is both a value and the parent of other keys, like {@code java.vendor} and
+ * {@code java.vendor.url}, the object wins and the value is dropped. If a key occurs more
+ * than once, the last value wins.
+ */
+final class KeyTreeBuilder {
+    private static final Comparator<Entry> ORDER = (first, second) -> Arrays.compare(first.segments, second.segments);
+
+    private final String prefix;
+    private final char separator;
+    private final boolean lowerCase;
+
+    private Entry[] entries = new Entry[16];
+    private int size;
+
+    /**
+     * Creates a builder.
+     *
+     * @param prefix The prefix of the keys that are collected
+     * @param separator The separator of the segments of a key
+     * @param lowerCase Whether the keys are converted to lower case
+     */
+    KeyTreeBuilder(final String prefix, final char separator, final boolean lowerCase) {
+        this.prefix = prefix;
+        this.separator = separator;
+        this.lowerCase = lowerCase;
+    }
+
+    /**
+     * Checks if the key starts with the prefix and is longer than it.
+     */
+    boolean accepts(final String key) {
+        return key.length() > this.prefix.length() && key.startsWith(this.prefix);
+    }
+
+    /**
+     * Adds a key that is {@link #accepts(String) accepted} by this builder.
+     */
+    void add(final String key, final String value) {
+        String path = key.substring(this.prefix.length());
+        if (this.lowerCase) {
+            path = path.toLowerCase(Locale.ROOT);
+        }
+
+        if (this.size == this.entries.length) {
+            this.entries = Arrays.copyOf(this.entries, 2 * this.size);
+        }
+
+        this.entries[this.size++] = new Entry(this.split(path), value);
+    }
+
+    /**
+     * Creates the tree of the collected entries.
+     */
+    ObjectData build() {
+        // The sort is stable, so duplicate keys keep the order in which they were added
+        Arrays.sort(this.entries, 0, this.size, ORDER);
+
+        return this.group(0, this.size, 0);
+    }
+
+    /**
+     * Groups the entries in {@code [from, to)}, which all have more than {@code depth}
+     * segments and share the first {@code depth} ones.
+     */
+    private ObjectData group(final int from, final int to, final int depth) {
+        final ObjectData.Builder builder = ObjectData.builder();
+
+        for (int start = from; start < to; ) {
+            final String segment = this.entries[start].segments[depth];
+
+            int end = start + 1;
+            while (end < to && this.entries[end].segments[depth].equals(segment)) {
+                ++end;
+            }
+
+            // The values of the segment itself sort before all keys below it
+            int children = start;
+            while (children < end && this.entries[children].segments.length == depth + 1) {
+                ++children;
+            }
+
+            builder.put(segment, children < end
+                    ? this.group(children, end, depth + 1)
+                    : scalar(this.entries[children - 1].value));
+
+            start = end;
+        }
+
+        return builder.build();
+    }
+
+    private String[] split(final String path) {
+        int count = 1;
+        for (int i = 0; i < path.length(); ++i) {
+            if (path.charAt(i) == this.separator) {
+                ++count;
+            }
+        }
+
+        final String[] segments = new String[count];
+        int start = 0;
+
+        for (int i = 0; i < count - 1; ++i) {
+            final int end = path.indexOf(this.separator, start);
+            segments[i] = path.substring(start, end);
+            start = end + 1;
+        }
+
+        segments[count - 1] = path.substring(start);
+
+        return segments;
+    }
+
+    /**
+     * Converts a value into a scalar. Integers and decimal numbers in JSON syntax become
+     * numbers, {@code true} and {@code false} become booleans and everything else stays
+     * a string.
+     */
+    static ScalarData scalar(final String value) {
+        if (value.equals("true") || value.equals("false")) {
+            return ScalarData.ofBoolean(value.length() == 4);
+        }
+
+        final int length = value.length();
+        int position = 0;
+
+        if (position < length && value.charAt(position) == '-') {
+            ++position;
+        }
+
+        final int integer = digits(value, position);
+        if (integer == position || (value.charAt(position) == '0' && integer > position + 1)) {
+            return ScalarData.ofString(value);
+        }
+
+        if (integer == length) {
+            try {
+                return ScalarData.ofLong(Long.parseLong(value));
+            } catch (final NumberFormatException exception) {
+                return ScalarData.ofString(value);
+            }
+        }
+
+        position = integer;
+
+        if (value.charAt(position) == '.') {
+            position = digits(value, position + 1);
+
+            if (position == integer + 1) {
+                return ScalarData.ofString(value);
+            }
+        }
+
+        if (position < length && (value.charAt(position) == 'e' || value.charAt(position) == 'E')) {
+            ++position;
+
+            if (position < length && (value.charAt(position) == '+' || value.charAt(position) == '-')) {
+                ++position;
+            }
+
+            final int exponent = digits(value, position);
+            if (exponent == position) {
+                return ScalarData.ofString(value);
+            }
+
+            position = exponent;
+        }
+
+        return position == length ? ScalarData.ofDouble(Double.parseDouble(value)) : ScalarData.ofString(value);
+    }
+
+    /**
+     * Returns the position after the ASCII digits that start at the position.
+     */
+    private static int digits(final String value, int position) {
+        while (position < value.length() && value.charAt(position) >= '0' && value.charAt(position) <= '9') {
+            ++position;
+        }
+
+        return position;
+    }
+
+    private record Entry(String[] segments, String value) {}
+}
@@ -0,0 +1,105 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.ConfigTree;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * {@link ConfigFactory} implementation that reads {@code .properties} documents and
+ * {@link Properties} like the {@link System#getProperties() system properties} into immutable
+ * {@link ConfigTree configuration trees}.
+ *
+ * <p>
+ * The dots of a key separate its segments, so {@code server.port=8080} becomes the key
+ * {@code port} in the object {@code server}. Values in JSON number syntax become numbers,
+ * {@code true} and {@code false} become booleans and all other values stay strings.
+ * If a key is both a value and the parent of other keys, the object wins.
+ *
+ * <h2>Prefix</h2>
+ * <p>
+ * A factory with a prefix only reads the keys that start with it and removes the prefix
+ * from them. Values of other keys are skipped without being decoded.
+ * {@snippet :
+ * // -Dapp.server.port=8080 becomes { server { port = 8080 } }
+ * final ConfigNode overrides = new PropertiesConfigFactory("app.").parseSystemProperties();
+ * }
+ */
+public class PropertiesConfigFactory implements ConfigFactory {
+    private final String prefix;
+
+    /**
+     * Creates a factory that reads all keys.
+     */
+    public PropertiesConfigFactory() {
+        this("");
+    }
+
+    /**
+     * Creates a factory that only reads the keys starting with the prefix.
+     *
+     * @param prefix The prefix that is removed from the keys, for example {@code "app."}
+     */
+    public PropertiesConfigFactory(final String prefix) {
+        this.prefix = Objects.requireNonNull(prefix, "The prefix cannot be null.");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConfigNode parse(final Reader reader) throws IOException, ConfigParseException {
+        Objects.requireNonNull(reader, "The reader cannot be null.");
+
+        final KeyTreeBuilder builder = this.builder();
+        PropertiesReader.read(reader, builder);
+
+        return ConfigTree.root(builder.build());
+    }
+
+    /**
+     * Reads the string keys and values of the properties, including their defaults.
+     *
+     * @param properties The properties
+     * @return The root of the tree
+     */
+    public ConfigNode parse(final Properties properties) {
+        Objects.requireNonNull(properties, "The properties cannot be null.");
+
+        final KeyTreeBuilder builder = this.builder();
+
+        for (final String key : properties.stringPropertyNames()) {
+            if (builder.accepts(key)) {
+                final String value = properties.getProperty(key);
+
+                // The properties may be changed concurrently
+                if (value != null) {
+                    builder.add(key, value);
+                }
+            }
+        }
+
+        return ConfigTree.root(builder.build());
+    }
+
+    /**
+     * Reads the {@link System#getProperties() system properties}.
+     *
+     * @return The root of the tree
+     */
+    public ConfigNode parseSystemProperties() {
+        return this.parse(System.getProperties());
+    }
+
+    private KeyTreeBuilder builder() {
+        return new KeyTreeBuilder(this.prefix, '.', false);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.exception.ConfigParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Utility class that reads the entries of a {@code .properties} document into a
+ * {@link KeyTreeBuilder}.
+ *
+ * <p>
+ * The syntax is the one of {@link java.util.Properties#load(Reader)}: comment lines start
+ * with {@code #} or {@code !}, a line ending in an odd number of backslashes continues on
+ * the next line, and the key ends at the first unescaped {@code =}, {@code :} or whitespace.
+ * Unlike {@link java.util.Properties}, the entries are not collected in a map first, and the
+ * value of a key that is not {@link KeyTreeBuilder#accepts(String) accepted} is never
+ * unescaped.
+ *
+ * <hr>
+ *
+ * This class is intentionally non-instantiable and exposes only static
+ * utility methods.
+ */
+final class PropertiesReader {
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PropertiesReader() {}
+
+    /**
+     * Reads all entries of the document.
+     *
+     * @param reader The reader of the document
+     * @param builder The builder that receives the entries
+     * @throws IOException if the document cannot be read
+     * @throws ConfigParseException if the document contains a malformed escape sequence
+     */
+    static void read(final Reader reader, final KeyTreeBuilder builder) throws IOException {
+        final String input = readFully(reader);
+        final int length = input.length();
+        final StringBuilder line = new StringBuilder();
+
+        int position = 0;
+        int lineNumber = 1;
+
+        while (position < length) {
+            position = skipWhitespace(input, position);
+
+            if (position == length) {
+                break;
+            }
+
+            final char c = input.charAt(position);
+
+            if (c == '#' || c == '!' || c == '\n' || c == '\r') {
+                position = skipNewline(input, lineEnd(input, position));
+                ++lineNumber;
+                continue;
+            }
+
+            final int firstLine = lineNumber;
+            line.setLength(0);
+
+            while (true) {
+                final int end = lineEnd(input, position);
+                line.append(input, position, end);
+                position = skipNewline(input, end);
+                ++lineNumber;
+
+                if (!continues(line)) {
+                    break;
+                }
+
+                line.setLength(line.length() - 1);
+                position = skipWhitespace(input, position);
+
+                if (end == length) {
+                    break;
+                }
+            }
+
+            entry(line, builder, firstLine);
+        }
+    }
+
+    /**
+     * Splits a logical line into its key and value.
+     */
+    private static void entry(final StringBuilder line, final KeyTreeBuilder builder, final int lineNumber) {
+        final int length = line.length();
+        int keyEnd = 0;
+
+        for (boolean escaped = false; keyEnd < length; ++keyEnd) {
+            final char c = line.charAt(keyEnd);
+
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '=' || c == ':' || isWhitespace(c)) {
+                break;
+            }
+        }
+
+        int valueStart = skipWhitespace(line, keyEnd);
+        if (valueStart < length && (line.charAt(valueStart) == '=' || line.charAt(valueStart) == ':')) {
+            valueStart = skipWhitespace(line, valueStart + 1);
+        }
+
+        final String key = unescape(line, 0, keyEnd, lineNumber);
+
+        if (builder.accepts(key)) {
+            builder.add(key, unescape(line, valueStart, length, lineNumber));
+        }
+    }
+
+    private static String unescape(final StringBuilder line, final int start, final int end, final int lineNumber) {
+        final int backslash = line.indexOf("\\", start);
+
+        if (backslash < 0 || backslash >= end) {
+            return line.substring(start, end);
+        }
+
+        final StringBuilder result = new StringBuilder(end - start);
+        result.append(line, start, backslash);
+
+        for (int i = backslash; i < end; ++i) {
+            final char c = line.charAt(i);
+
+            if (c != '\\' || i + 1 == end) {
+                result.append(c);
+                continue;
+            }
+
+            final char escaped = line.charAt(++i);
+
+            switch (escaped) {
+                case 't' -> result.append('\t');
+                case 'n' -> result.append('\n');
+                case 'r' -> result.append('\r');
+                case 'f' -> result.append('\f');
+                case 'u' -> {
+                    if (i + 4 >= end) {
+                        throw new ConfigParseException("Malformed \\uXXXX escape sequence (line " + lineNumber + ")");
+                    }
+
+                    int code = 0;
+                    for (int j = 1; j <= 4; ++j) {
+                        final int digit = Character.digit(line.charAt(i + j), 16);
+
+                        if (digit < 0) {
+                            throw new ConfigParseException("Malformed \\uXXXX escape sequence (line " + lineNumber + ")");
+                        }
+
+                        code = (code << 4) | digit;
+                    }
+
+                    result.append((char) code);
+                    i += 4;
+                }
+                default -> result.append(escaped);
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Checks if the line ends in an odd number of backslashes.
+     */
+    private static boolean continues(final StringBuilder line) {
+        int backslashes = 0;
+
+        for (int i = line.length() - 1; i >= 0 && line.charAt(i) == '\\'; --i) {
+            ++backslashes;
+        }
+
+        return (backslashes & 1) == 1;
+    }
+
+    private static int lineEnd(final String input, int position) {
+        while (position < input.length() && input.charAt(position) != '\n' && input.charAt(position) != '\r') {
+            ++position;
+        }
+
+        return position;
+    }
+
+    private static int skipNewline(final String input, int position) {
+        if (position < input.length() && input.charAt(position) == '\r') {
+            ++position;
+        }
+
+        if (position < input.length() && input.charAt(position) == '\n') {
+            ++position;
+        }
+
+        return position;
+    }
+
+    private static int skipWhitespace(final CharSequence input, int position) {
+        while (position < input.length() && isWhitespace(input.charAt(position))) {
+            ++position;
+        }
+
+        return position;
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    private static String readFully(final Reader reader) throws IOException {
+        final StringBuilder input = new StringBuilder();
+        final char[] buffer = new char[8192];
+
+        for (int read; (read = reader.read(buffer)) >= 0; ) {
+            input.append(buffer, 0, read);
+        }
+
+        return input.toString();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+import net.quickwrite.confetti.tree.TreeObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnvironmentConfigFactoryTest {
+    private static ObjectData data(final Object node) {
+        return ((TreeObjectNode) node).data();
+    }
+
+    @Test
+    void parseVariables() {
+        ObjectData data = data(new EnvironmentConfigFactory("APP_").parse(Map.of(
+                "APP_SERVER_HOST", "localhost",
+                "APP_SERVER_PORT", "8080",
+                "APP_DEBUG", "false",
+                "PATH", "/usr/bin")));
+
+        assertEquals(ObjectData.builder()
+                .put("debug", ScalarData.ofBoolean(false))
+                .put("server", ObjectData.builder()
+                        .put("host", ScalarData.ofString("localhost"))
+                        .put("port", ScalarData.ofLong(8080))
+                        .build())
+                .build(), data);
+    }
+
+    @Test
+    void parseEnvOutput() {
+        ObjectData data = data(new EnvironmentConfigFactory("APP_").parse("""
+                HOME=/root
+                APP_NAME=demo
+                APP_RATIO=0.5
+                """));
+
+        assertEquals(ObjectData.builder()
+                .put("name", ScalarData.ofString("demo"))
+                .put("ratio", ScalarData.ofDouble(0.5))
+                .build(), data);
+    }
+
+    @Test
+    void parseEnvironment() {
+        Map<String, String> environment = System.getenv();
+        ObjectData data = data(new EnvironmentConfigFactory().parseEnvironment());
+
+        // Every variable without an underscore is a key of the root
+        environment.forEach((name, value) -> {
+            if (name.indexOf('_') < 0 && !name.isEmpty()) {
+                assertTrue(data.containsKey(name.toLowerCase(Locale.ROOT)), name);
+            }
+        });
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeyTreeBuilderTest {
+    @Test
+    void groupDottedKeys() {
+        KeyTreeBuilder builder = new KeyTreeBuilder("", '.', false);
+        builder.add("server.port", "8080");
+        builder.add("name", "app");
+        builder.add("server.host", "localhost");
+        builder.add("server.tls.enabled", "true");
+
+        assertEquals(ObjectData.builder()
+                .put("name", ScalarData.ofString("app"))
+                .put("server", ObjectData.builder()
+                        .put("host", ScalarData.ofString("localhost"))
+                        .put("port", ScalarData.ofLong(8080))
+                        .put("tls", ObjectData.builder().put("enabled", ScalarData.ofBoolean(true)).build())
+                        .build())
+                .build(), builder.build());
+    }
+
+    @Test
+    void preferObjectsOverValues() {
+        KeyTreeBuilder builder = new KeyTreeBuilder("", '.', false);
+        builder.add("java.vendor.url", "https://example.com");
+        builder.add("java.vendor", "Example");
+
+        assertEquals(ObjectData.builder()
+                .put("java", ObjectData.builder()
+                        .put("vendor", ObjectData.builder().put("url", ScalarData.ofString("https://example.com")).build())
+                        .build())
+                .build(), builder.build());
+    }
+
+    @Test
+    void keepLastDuplicate() {
+        KeyTreeBuilder builder = new KeyTreeBuilder("", '.', false);
+        builder.add("a", "1");
+        builder.add("b", "2");
+        builder.add("a", "3");
+
+        assertEquals(ScalarData.ofLong(3), builder.build().get("a"));
+    }
+
+    @Test
+    void filterAndStripPrefix() {
+        KeyTreeBuilder builder = new KeyTreeBuilder("APP_", '_', true);
+
+        assertTrue(builder.accepts("APP_SERVER_PORT"));
+        assertFalse(builder.accepts("APP_"));
+        assertFalse(builder.accepts("PATH"));
+
+        builder.add("APP_SERVER_PORT", "8080");
+
+        assertEquals(ObjectData.builder()
+                .put("server", ObjectData.builder().put("port", ScalarData.ofLong(8080)).build())
+                .build(), builder.build());
+    }
+
+    @Test
+    void keepEmptySegments() {
+        KeyTreeBuilder builder = new KeyTreeBuilder("", '.', false);
+        builder.add("a..b", "x");
+
+        assertEquals(ScalarData.ofString("x"), ((ObjectData) ((ObjectData) builder.build().get("a")).get("")).get("b"));
+    }
+
+    @Test
+    void convertScalars() {
+        assertEquals(ScalarData.ofLong(0), KeyTreeBuilder.scalar("0"));
+        assertEquals(ScalarData.ofLong(-42), KeyTreeBuilder.scalar("-42"));
+        assertEquals(ScalarData.ofDouble(1.5), KeyTreeBuilder.scalar("1.5"));
+        assertEquals(ScalarData.ofDouble(-2e10), KeyTreeBuilder.scalar("-2E+10"));
+        assertEquals(ScalarData.ofBoolean(false), KeyTreeBuilder.scalar("false"));
+
+        for (String string : new String[] {"", "-", "007", "1.", ".5", "1e", "1.5.0", "0x10", "+1", "TRUE", " 1", "99999999999999999999"}) {
+            assertEquals(ScalarData.ofString(string), KeyTreeBuilder.scalar(string), string);
+        }
+    }
+}
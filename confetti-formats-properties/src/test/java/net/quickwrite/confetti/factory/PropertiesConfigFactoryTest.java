@@ -0,0 +1,137 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+import net.quickwrite.confetti.tree.TreeObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PropertiesConfigFactoryTest {
+    private static final String DOCUMENT = """
+            # A comment
+            ! Another comment
+            server.host = localhost
+            server.port:8080
+              server.name   Main server
+            path=C:\\\\config\\\\app
+            greeting = Hello \\
+                       World
+            escaped\\ key = \\u00E9\\t\\=
+            empty
+            trailing = value\\\\
+            colon\\:key = 1
+            """;
+
+    private final PropertiesConfigFactory factory = new PropertiesConfigFactory();
+
+    private static ObjectData data(final Object node) {
+        return ((TreeObjectNode) node).data();
+    }
+
+    @Test
+    void parseDocument() {
+        ObjectData data = data(factory.parse(DOCUMENT));
+
+        assertEquals(ObjectData.builder()
+                .put("host", ScalarData.ofString("localhost"))
+                .put("name", ScalarData.ofString("Main server"))
+                .put("port", ScalarData.ofLong(8080))
+                .build(), data.get("server"));
+        assertEquals(ScalarData.ofString("Hello World"), data.get("greeting"));
+        assertEquals(ScalarData.ofString(""), data.get("empty"));
+    }
+
+    @Test
+    void matchPropertiesSyntax() throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader(DOCUMENT));
+
+        ObjectData expected = data(factory.parse(properties));
+        ObjectData actual = data(factory.parse(new StringReader(DOCUMENT)));
+
+        assertEquals(expected, actual);
+        assertEquals(ScalarData.ofString("\u00E9\t="), actual.get("escaped key"));
+        assertEquals(ScalarData.ofString("C:\\config\\app"), actual.get("path"));
+        assertEquals(ScalarData.ofString("value\\"), actual.get("trailing"));
+        assertEquals(ScalarData.ofLong(1), actual.get("colon:key"));
+    }
+
+    @Test
+    void filterByPrefix() {
+        ObjectData data = data(new PropertiesConfigFactory("server.").parse(DOCUMENT));
+
+        assertEquals(ObjectData.builder()
+                .put("host", ScalarData.ofString("localhost"))
+                .put("name", ScalarData.ofString("Main server"))
+                .put("port", ScalarData.ofLong(8080))
+                .build(), data);
+    }
+
+    @Test
+    void skipValuesOfFilteredKeys() {
+        // The malformed escape is never decoded
+        ObjectData data = data(new PropertiesConfigFactory("app.").parse("other = \\uZZZZ\napp.a = 1\n"));
+
+        assertEquals(ScalarData.ofLong(1), data.get("a"));
+    }
+
+    @Test
+    void rejectMalformedEscape() {
+        ConfigParseException exception = assertThrows(ConfigParseException.class, () -> factory.parse("a = 1\n\nb = \\u12"));
+
+        assertTrue(exception.getMessage().contains("line 3"), exception.getMessage());
+    }
+
+    @Test
+    void parseProperties() {
+        Properties defaults = new Properties();
+        defaults.setProperty("a.b", "1");
+
+        Properties properties = new Properties(defaults);
+        properties.setProperty("a.c", "true");
+        properties.put(1, "not a string key");
+
+        ObjectData data = data(factory.parse(properties));
+
+        assertEquals(ObjectData.builder()
+                .put("a", ObjectData.builder()
+                        .put("b", ScalarData.ofLong(1))
+                        .put("c", ScalarData.ofBoolean(true))
+                        .build())
+                .build(), data);
+    }
+
+    @Test
+    void parseSystemProperties() {
+        System.setProperty("confetti.test.enabled", "true");
+
+        try {
+            ObjectData data = data(new PropertiesConfigFactory("confetti.test.").parseSystemProperties());
+
+            assertEquals(ScalarData.ofBoolean(true), data.get("enabled"));
+        } finally {
+            System.clearProperty("confetti.test.enabled");
+        }
+    }
+
+    @Test
+    void rejectNullArguments() {
+        assertEquals("The reader cannot be null.",
+                assertThrows(NullPointerException.class, () -> factory.parse((Reader) null)).getMessage());
+        assertEquals("The prefix cannot be null.",
+                assertThrows(NullPointerException.class, () -> new PropertiesConfigFactory(null)).getMessage());
+    }
+}
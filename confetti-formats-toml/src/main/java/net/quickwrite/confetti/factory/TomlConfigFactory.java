@@ -0,0 +1,53 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.ConfigTree;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * {@link ConfigFactory} implementation that parses TOML 1.0 documents into immutable
+ * {@link ConfigTree configuration trees}.
+ *
+ * <p>
+ * The parser builds the {@link net.quickwrite.confetti.tree.ConfigData} of the tree directly,
+ * without an intermediate map-based model. Integers are stored as {@code long}s, floats as
+ * {@code double}s and booleans as {@code boolean}s. Offset date-times, local date-times,
+ * local dates and local times are validated and kept as strings in their RFC 3339 form
+ * (for example {@code 1979-05-27T07:32:00Z}), which the {@link java.time} parsers accept.
+ * {@snippet :
+ * final ConfigNode config = new TomlConfigFactory().parse("""
+ *         [server]
+ *         host = "localhost"
+ *         port = 8080
+ *
+ *         [[server.routes]]
+ *         path = "/"
+ *         """);
+ * }
+ */
+public class TomlConfigFactory implements ConfigFactory {
+    /** {@inheritDoc} */
+    @Override
+    public ConfigNode parse(final Reader reader) throws IOException, ConfigParseException {
+        Objects.requireNonNull(reader, "The reader cannot be null.");
+
+        final StringBuilder input = new StringBuilder();
+        final char[] buffer = new char[8192];
+
+        for (int read; (read = reader.read(buffer)) >= 0; ) {
+            input.append(buffer, 0, read);
+        }
+
+        return ConfigTree.root(TomlParser.parse(input.toString()));
+    }
+}
@@ -0,0 +1,965 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.ArrayData;
+import net.quickwrite.confetti.tree.ConfigData;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A recursive descent parser for TOML 1.0 documents.
+ *
+ * <p>
+ * The document is parsed in a single pass. Key–value pairs and table headers are inserted
+ * into mutable {@link Table} builders, so a header like {@code [servers.alpha]} or a dotted
+ * key only walks the path to its table instead of rewriting the tree. Scalars, arrays and
+ * inline tables are immutable {@link ConfigData} as soon as they are parsed. The builders
+ * are frozen into {@link ObjectData} once at the end.
+ *
+ * <p>
+ * Date-times are validated with {@link java.time} and stored as strings in their
+ * RFC 3339 form with an upper case {@code T} and {@code Z}.
+ */
+final class TomlParser {
+    private final String input;
+    private final int length;
+    private int position;
+
+    private TomlParser(final String input) {
+        this.input = input;
+        this.length = input.length();
+    }
+
+    /**
+     * Parses the document.
+     *
+     * @param input The TOML document
+     * @return The root table
+     * @throws ConfigParseException if the document is not valid TOML
+     */
+    static ObjectData parse(final String input) {
+        return new TomlParser(input).document();
+    }
+
+    private ObjectData document() {
+        final Table root = new Table(Table.EXPLICIT);
+        Table current = root;
+
+        if (this.length > 0 && this.input.charAt(0) == '\uFEFF') {
+            ++this.position;
+        }
+
+        while (true) {
+            this.skipWhitespace();
+
+            if (this.position == this.length) {
+                return root.freeze();
+            }
+
+            final char c = this.input.charAt(this.position);
+
+            if (c == '[') {
+                current = this.header(root);
+            } else if (c != '#' && c != '\n' && c != '\r') {
+                this.keyValue(current);
+            }
+
+            this.lineEnd();
+        }
+    }
+
+    /**
+     * Parses a {@code [table]} or {@code [[array]]} header and returns the table it opens.
+     */
+    private Table header(final Table root) {
+        final int start = this.position;
+        final boolean array = this.input.startsWith("[[", this.position);
+        this.position += array ? 2 : 1;
+
+        this.skipWhitespace();
+        final List<String> keys = this.key();
+        this.skipWhitespace();
+
+        if (!this.input.startsWith(array ? "]]" : "]", this.position)) {
+            throw this.error("Expected '" + (array ? "]]" : "]") + "' at the end of the header");
+        }
+
+        this.position += array ? 2 : 1;
+
+        Table table = root;
+        for (int i = 0; i < keys.size() - 1; ++i) {
+            table = this.descend(table, keys.get(i), keys, i, start);
+        }
+
+        final String last = keys.get(keys.size() - 1);
+        final Object existing = table.entries.get(last);
+
+        if (array) {
+            final Table element = new Table(Table.EXPLICIT);
+
+            if (existing == null) {
+                final TableArray tables = new TableArray();
+                tables.add(element);
+                table.entries.put(last, tables);
+            } else if (existing instanceof TableArray tables) {
+                tables.add(element);
+            } else {
+                throw this.error("Cannot append to " + describe(keys, keys.size()) + " as it is not an array of tables", start);
+            }
+
+            return element;
+        }
+
+        if (existing == null) {
+            final Table defined = new Table(Table.EXPLICIT);
+            table.entries.put(last, defined);
+
+            return defined;
+        }
+
+        if (existing instanceof Table defined && defined.kind == Table.IMPLICIT) {
+            defined.kind = Table.EXPLICIT;
+
+            return defined;
+        }
+
+        throw this.error("The table " + describe(keys, keys.size()) + " is defined twice", start);
+    }
+
+    /**
+     * Returns the table of a key of a header, creating it if it does not exist yet.
+     */
+    private Table descend(final Table table, final String key, final List<String> keys, final int index, final int start) {
+        final Object existing = table.entries.get(key);
+
+        if (existing == null) {
+            final Table created = new Table(Table.IMPLICIT);
+            table.entries.put(key, created);
+
+            return created;
+        }
+
+        if (existing instanceof Table child) {
+            return child;
+        }
+
+        if (existing instanceof TableArray tables) {
+            return tables.last();
+        }
+
+        throw this.error("Cannot define a table in " + describe(keys, index + 1) + " as it is a value", start);
+    }
+
+    /**
+     * Parses a key–value pair and inserts it into the table.
+     */
+    private void keyValue(final Table table) {
+        final int start = this.position;
+        final List<String> keys = this.key();
+
+        this.skipWhitespace();
+        if (this.position == this.length || this.input.charAt(this.position) != '=') {
+            throw this.error("Expected '=' after the key");
+        }
+
+        ++this.position;
+        this.skipWhitespace();
+
+        final ConfigData value = this.value();
+
+        Table target = table;
+        for (int i = 0; i < keys.size() - 1; ++i) {
+            final String key = keys.get(i);
+            final Object existing = target.entries.get(key);
+
+            if (existing == null) {
+                final Table created = new Table(Table.DOTTED);
+                target.entries.put(key, created);
+                target = created;
+            } else if (existing instanceof Table child && child.kind == Table.DOTTED) {
+                target = child;
+            } else {
+                throw this.error("Cannot add keys to " + describe(keys, i + 1) + " with a dotted key", start);
+            }
+        }
+
+        final String last = keys.get(keys.size() - 1);
+        if (target.entries.putIfAbsent(last, value) != null) {
+            throw this.error("The key " + describe(keys, keys.size()) + " is defined twice", start);
+        }
+    }
+
+    /**
+     * Parses a simple or dotted key.
+     */
+    private List<String> key() {
+        final List<String> keys = new ArrayList<>(2);
+
+        while (true) {
+            keys.add(this.simpleKey());
+            this.skipWhitespace();
+
+            if (this.position == this.length || this.input.charAt(this.position) != '.') {
+                return keys;
+            }
+
+            ++this.position;
+            this.skipWhitespace();
+        }
+    }
+
+    private String simpleKey() {
+        if (this.position < this.length) {
+            final char c = this.input.charAt(this.position);
+
+            if (c == '"') {
+                return this.basicString();
+            }
+
+            if (c == '\'') {
+                return this.literalString();
+            }
+        }
+
+        final int start = this.position;
+        while (this.position < this.length && isBareKeyChar(this.input.charAt(this.position))) {
+            ++this.position;
+        }
+
+        if (start == this.position) {
+            throw this.error("Expected a key");
+        }
+
+        return this.input.substring(start, this.position);
+    }
+
+    private ConfigData value() {
+        if (this.position == this.length) {
+            throw this.error("Expected a value");
+        }
+
+        final char c = this.input.charAt(this.position);
+
+        return switch (c) {
+            case '"' -> ScalarData.ofString(this.input.startsWith("\"\"\"", this.position)
+                    ? this.multiLineBasicString()
+                    : this.basicString());
+            case '\'' -> ScalarData.ofString(this.input.startsWith("'''", this.position)
+                    ? this.multiLineLiteralString()
+                    : this.literalString());
+            case '[' -> this.array();
+            case '{' -> this.inlineTable();
+            case 't' -> this.keyword("true", ScalarData.ofBoolean(true));
+            case 'f' -> this.keyword("false", ScalarData.ofBoolean(false));
+            default -> this.numberOrDateTime();
+        };
+    }
+
+    private ConfigData keyword(final String keyword, final ConfigData value) {
+        if (!this.input.startsWith(keyword, this.position)) {
+            throw this.error("Expected a value");
+        }
+
+        this.position += keyword.length();
+        this.requireDelimiter();
+
+        return value;
+    }
+
+    private ArrayData array() {
+        ++this.position;
+        final ArrayData.Builder builder = ArrayData.builder();
+
+        while (true) {
+            this.skipWhitespaceAndNewlines();
+
+            if (this.position < this.length && this.input.charAt(this.position) == ']') {
+                ++this.position;
+                return builder.build();
+            }
+
+            builder.add(this.value());
+            this.skipWhitespaceAndNewlines();
+
+            if (this.position == this.length) {
+                throw this.error("Expected ']' at the end of the array");
+            }
+
+            final char c = this.input.charAt(this.position);
+            if (c == ']') {
+                ++this.position;
+                return builder.build();
+            }
+
+            if (c != ',') {
+                throw this.error("Expected ',' or ']' in the array");
+            }
+
+            ++this.position;
+        }
+    }
+
+    private ObjectData inlineTable() {
+        ++this.position;
+        final Table table = new Table(Table.EXPLICIT);
+
+        this.skipWhitespace();
+        if (this.position < this.length && this.input.charAt(this.position) == '}') {
+            ++this.position;
+            return ObjectData.empty();
+        }
+
+        while (true) {
+            this.skipWhitespace();
+            this.keyValue(table);
+            this.skipWhitespace();
+
+            if (this.position == this.length) {
+                throw this.error("Expected '}' at the end of the inline table");
+            }
+
+            final char c = this.input.charAt(this.position++);
+            if (c == '}') {
+                return table.freeze();
+            }
+
+            if (c != ',') {
+                --this.position;
+                throw this.error("Expected ',' or '}' in the inline table");
+            }
+        }
+    }
+
+    private ConfigData numberOrDateTime() {
+        final int start = this.position;
+
+        while (this.position < this.length && isValueChar(this.input.charAt(this.position))) {
+            ++this.position;
+        }
+
+        // A local date may be followed by a space and a time
+        if (this.position - start == 10 && isDate(start)
+                && this.position + 3 < this.length
+                && this.input.charAt(this.position) == ' '
+                && isDigit(this.input.charAt(this.position + 1))
+                && isDigit(this.input.charAt(this.position + 2))
+                && this.input.charAt(this.position + 3) == ':') {
+            ++this.position;
+
+            while (this.position < this.length && isValueChar(this.input.charAt(this.position))) {
+                ++this.position;
+            }
+        }
+
+        if (start == this.position) {
+            throw this.error("Expected a value");
+        }
+
+        final String token = this.input.substring(start, this.position);
+        this.requireDelimiter();
+
+        final ConfigData value = isDate(start) || (token.length() > 2 && token.charAt(2) == ':')
+                ? dateTime(token)
+                : number(token);
+
+        if (value == null) {
+            this.position = start;
+            throw this.error("Invalid value '" + token + "'");
+        }
+
+        return value;
+    }
+
+    private boolean isDate(final int start) {
+        return start + 4 < this.length
+                && isDigit(this.input.charAt(start))
+                && isDigit(this.input.charAt(start + 1))
+                && isDigit(this.input.charAt(start + 2))
+                && isDigit(this.input.charAt(start + 3))
+                && this.input.charAt(start + 4) == '-';
+    }
+
+    /**
+     * Parses a date-time, date or time.
+     *
+     * @return The normalized value or {@code null} if it is invalid
+     */
+    static ConfigData dateTime(final String token) {
+        final char[] chars = token.toCharArray();
+        final int time;
+
+        if (chars.length > 2 && chars[2] == ':') {
+            time = 0;
+        } else if (chars.length == 10) {
+            time = -1;
+        } else if (chars.length > 11 && (chars[10] == 'T' || chars[10] == 't' || chars[10] == ' ')) {
+            chars[10] = 'T';
+            time = 11;
+        } else {
+            return null;
+        }
+
+        // Times have to contain the seconds
+        if (time >= 0 && (chars.length < time + 8 || chars[time + 5] != ':')) {
+            return null;
+        }
+
+        if (chars[chars.length - 1] == 'z') {
+            chars[chars.length - 1] = 'Z';
+        }
+
+        final String normalized = new String(chars);
+
+        try {
+            if (time < 0) {
+                LocalDate.parse(normalized, DateTimeFormatter.ISO_LOCAL_DATE);
+            } else if (time == 0) {
+                LocalTime.parse(normalized, DateTimeFormatter.ISO_LOCAL_TIME);
+            } else if (normalized.endsWith("Z") || normalized.indexOf('+', time) >= 0 || normalized.indexOf('-', time) >= 0) {
+                OffsetDateTime.parse(normalized, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+            } else {
+                LocalDateTime.parse(normalized, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            }
+        } catch (final DateTimeParseException exception) {
+            return null;
+        }
+
+        return ScalarData.ofString(normalized);
+    }
+
+    /**
+     * Parses an integer or a float.
+     *
+     * @return The number or {@code null} if it is invalid
+     */
+    static ConfigData number(final String token) {
+        final int length = token.length();
+        final boolean signed = token.charAt(0) == '+' || token.charAt(0) == '-';
+        final int start = signed ? 1 : 0;
+
+        if (start == length) {
+            return null;
+        }
+
+        final String unsigned = token.substring(start);
+        if ("inf".equals(unsigned)) {
+            return ScalarData.ofDouble(token.charAt(0) == '-' ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+        }
+
+        if ("nan".equals(unsigned)) {
+            return ScalarData.ofDouble(Double.NaN);
+        }
+
+        if (!signed && length > 2 && token.charAt(0) == '0') {
+            final int radix = switch (token.charAt(1)) {
+                case 'x' -> 16;
+                case 'o' -> 8;
+                case 'b' -> 2;
+                default -> 0;
+            };
+
+            if (radix != 0) {
+                final String digits = digits(token, 2, radix);
+
+                try {
+                    return digits == null ? null : ScalarData.ofLong(Long.parseLong(digits, radix));
+                } catch (final NumberFormatException exception) {
+                    return null;
+                }
+            }
+        }
+
+        // The integer part must not have leading zeros
+        int end = start;
+        while (end < length && (isDigit(token.charAt(end)) || token.charAt(end) == '_')) {
+            ++end;
+        }
+
+        final String integer = digits(token.substring(start, end), 0, 10);
+        if (integer == null || (integer.length() > 1 && integer.charAt(0) == '0')) {
+            return null;
+        }
+
+        final StringBuilder number = new StringBuilder(length).append(token, 0, start).append(integer);
+        boolean decimal = false;
+
+        if (end < length && token.charAt(end) == '.') {
+            final int fraction = ++end;
+            while (end < length && (isDigit(token.charAt(end)) || token.charAt(end) == '_')) {
+                ++end;
+            }
+
+            final String digits = digits(token.substring(fraction, end), 0, 10);
+            if (digits == null) {
+                return null;
+            }
+
+            number.append('.').append(digits);
+            decimal = true;
+        }
+
+        if (end < length && (token.charAt(end) == 'e' || token.charAt(end) == 'E')) {
+            ++end;
+            number.append('e');
+
+            if (end < length && (token.charAt(end) == '+' || token.charAt(end) == '-')) {
+                number.append(token.charAt(end++));
+            }
+
+            final String digits = digits(token.substring(end), 0, 10);
+            if (digits == null) {
+                return null;
+            }
+
+            number.append(digits);
+            end = length;
+            decimal = true;
+        }
+
+        if (end != length) {
+            return null;
+        }
+
+        try {
+            return decimal
+                    ? ScalarData.ofDouble(Double.parseDouble(number.toString()))
+                    : ScalarData.ofLong(Long.parseLong(number.toString()));
+        } catch (final NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Removes the underscores between the digits of the radix.
+     *
+     * @return The digits or {@code null} if they are empty or an underscore is not surrounded by digits
+     */
+    private static String digits(final String token, final int start, final int radix) {
+        final StringBuilder digits = new StringBuilder(token.length() - start);
+        boolean previousDigit = false;
+
+        for (int i = start; i < token.length(); ++i) {
+            final char c = token.charAt(i);
+
+            if (c == '_') {
+                if (!previousDigit) {
+                    return null;
+                }
+
+                previousDigit = false;
+            } else if (Character.digit(c, radix) >= 0 && c < 0x80) {
+                digits.append(c);
+                previousDigit = true;
+            } else {
+                return null;
+            }
+        }
+
+        return previousDigit ? digits.toString() : null;
+    }
+
+    private String basicString() {
+        ++this.position;
+        final StringBuilder builder = new StringBuilder();
+
+        while (true) {
+            if (this.position == this.length) {
+                throw this.error("Unterminated string");
+            }
+
+            final char c = this.input.charAt(this.position++);
+
+            if (c == '"') {
+                return builder.toString();
+            }
+
+            if (c == '\\') {
+                this.escape(builder);
+            } else if (isControl(c)) {
+                --this.position;
+                throw this.error("Control characters have to be escaped in strings");
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+
+    private String multiLineBasicString() {
+        this.position += 3;
+        this.skipNewline();
+        final StringBuilder builder = new StringBuilder();
+
+        while (true) {
+            if (this.position == this.length) {
+                throw this.error("Unterminated multi-line string");
+            }
+
+            final char c = this.input.charAt(this.position);
+
+            if (c == '"' && this.input.startsWith("\"\"\"", this.position)) {
+                return this.closeMultiLine(builder, '"');
+            }
+
+            ++this.position;
+
+            if (c == '\\') {
+                if (this.isLineEndingBackslash()) {
+                    this.skipWhitespaceAndNewlines(false);
+                } else {
+                    this.escape(builder);
+                }
+            } else if (c == '\r' && this.position < this.length && this.input.charAt(this.position) == '\n') {
+                builder.append('\n');
+                ++this.position;
+            } else if (c != '\n' && isControl(c)) {
+                --this.position;
+                throw this.error("Control characters have to be escaped in strings");
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+
+    private String literalString() {
+        final int start = ++this.position;
+
+        while (true) {
+            if (this.position == this.length) {
+                throw this.error("Unterminated string");
+            }
+
+            final char c = this.input.charAt(this.position);
+
+            if (c == '\'') {
+                return this.input.substring(start, this.position++);
+            }
+
+            if (isControl(c)) {
+                throw this.error("Control characters are not allowed in literal strings");
+            }
+
+            ++this.position;
+        }
+    }
+
+    private String multiLineLiteralString() {
+        this.position += 3;
+        this.skipNewline();
+        final StringBuilder builder = new StringBuilder();
+
+        while (true) {
+            if (this.position == this.length) {
+                throw this.error("Unterminated multi-line string");
+            }
+
+            final char c = this.input.charAt(this.position);
+
+            if (c == '\'' && this.input.startsWith("'''", this.position)) {
+                return this.closeMultiLine(builder, '\'');
+            }
+
+            ++this.position;
+
+            if (c == '\r' && this.position < this.length && this.input.charAt(this.position) == '\n') {
+                builder.append('\n');
+                ++this.position;
+            } else if (c != '\n' && isControl(c)) {
+                --this.position;
+                throw this.error("Control characters are not allowed in literal strings");
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+
+    /**
+     * Consumes the closing delimiter; up to two quotes directly before it belong to the string.
+     */
+    private String closeMultiLine(final StringBuilder builder, final char quote) {
+        int quotes = 0;
+        while (this.position + quotes < this.length && this.input.charAt(this.position + quotes) == quote) {
+            ++quotes;
+        }
+
+        if (quotes > 5) {
+            throw this.error("Too many quotes at the end of the multi-line string");
+        }
+
+        builder.append(String.valueOf(quote).repeat(quotes - 3));
+        this.position += quotes;
+
+        return builder.toString();
+    }
+
+    private boolean isLineEndingBackslash() {
+        int i = this.position;
+        while (i < this.length && (this.input.charAt(i) == ' ' || this.input.charAt(i) == '\t')) {
+            ++i;
+        }
+
+        return i < this.length && (this.input.charAt(i) == '\n' || this.input.startsWith("\r\n", i));
+    }
+
+    private void escape(final StringBuilder builder) {
+        if (this.position == this.length) {
+            throw this.error("Unterminated escape sequence");
+        }
+
+        final char c = this.input.charAt(this.position++);
+
+        switch (c) {
+            case 'b' -> builder.append('\b');
+            case 't' -> builder.append('\t');
+            case 'n' -> builder.append('\n');
+            case 'f' -> builder.append('\f');
+            case 'r' -> builder.append('\r');
+            case '"' -> builder.append('"');
+            case '\\' -> builder.append('\\');
+            case 'u' -> builder.appendCodePoint(this.unicode(4));
+            case 'U' -> builder.appendCodePoint(this.unicode(8));
+            default -> {
+                this.position -= 2;
+                throw this.error("Invalid escape sequence '\\" + c + "'");
+            }
+        }
+    }
+
+    private int unicode(final int digits) {
+        if (this.position + digits > this.length) {
+            throw this.error("Incomplete unicode escape sequence");
+        }
+
+        final int codePoint;
+        try {
+            codePoint = Integer.parseInt(this.input, this.position, this.position + digits, 16);
+        } catch (final NumberFormatException exception) {
+            throw this.error("Invalid unicode escape sequence");
+        }
+
+        if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT || (codePoint >= 0xD800 && codePoint <= 0xDFFF)) {
+            throw this.error("The escape sequence is not a unicode scalar value");
+        }
+
+        this.position += digits;
+
+        return codePoint;
+    }
+
+    /**
+     * Checks that a number, date-time or boolean is not directly followed by other characters.
+     */
+    private void requireDelimiter() {
+        if (this.position == this.length) {
+            return;
+        }
+
+        final char c = this.input.charAt(this.position);
+
+        if (c != ' ' && c != '\t' && c != '\n' && c != '\r' && c != '#' && c != ',' && c != ']' && c != '}') {
+            throw this.error("Unexpected character '" + c + "' after the value");
+        }
+    }
+
+    /**
+     * Consumes the rest of a line, which may only contain whitespace and a comment.
+     */
+    private void lineEnd() {
+        this.skipWhitespace();
+
+        if (this.position < this.length && this.input.charAt(this.position) == '#') {
+            this.skipComment();
+        }
+
+        if (this.position == this.length) {
+            return;
+        }
+
+        if (!this.skipNewline()) {
+            throw this.error("Expected the end of the line");
+        }
+    }
+
+    private void skipComment() {
+        ++this.position;
+
+        while (this.position < this.length) {
+            final char c = this.input.charAt(this.position);
+
+            if (c == '\n' || (c == '\r' && this.input.startsWith("\r\n", this.position))) {
+                return;
+            }
+
+            if (isControl(c)) {
+                throw this.error("Control characters are not allowed in comments");
+            }
+
+            ++this.position;
+        }
+    }
+
+    private boolean skipNewline() {
+        if (this.position < this.length && this.input.charAt(this.position) == '\n') {
+            ++this.position;
+            return true;
+        }
+
+        if (this.input.startsWith("\r\n", this.position)) {
+            this.position += 2;
+            return true;
+        }
+
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (this.position < this.length) {
+            final char c = this.input.charAt(this.position);
+
+            if (c != ' ' && c != '\t') {
+                return;
+            }
+
+            ++this.position;
+        }
+    }
+
+    private void skipWhitespaceAndNewlines() {
+        this.skipWhitespaceAndNewlines(true);
+    }
+
+    private void skipWhitespaceAndNewlines(final boolean comments) {
+        while (true) {
+            this.skipWhitespace();
+
+            if (comments && this.position < this.length && this.input.charAt(this.position) == '#') {
+                this.skipComment();
+            }
+
+            if (!this.skipNewline()) {
+                return;
+            }
+        }
+    }
+
+    private ConfigParseException error(final String message) {
+        return this.error(message, this.position);
+    }
+
+    private ConfigParseException error(final String message, final int position) {
+        int line = 1;
+        int column = 1;
+
+        for (int i = 0; i < position && i < this.length; ++i) {
+            if (this.input.charAt(i) == '\n') {
+                ++line;
+                column = 1;
+            } else {
+                ++column;
+            }
+        }
+
+        return new ConfigParseException(message + " (line " + line + ", column " + column + ")");
+    }
+
+    private static String describe(final List<String> keys, final int length) {
+        return "'" + String.join(".", keys.subList(0, length)) + "'";
+    }
+
+    private static boolean isBareKeyChar(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '_' || c == '-';
+    }
+
+    private static boolean isValueChar(final char c) {
+        return isBareKeyChar(c) || c == '+' || c == '.' || c == ':';
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isControl(final char c) {
+        return (c < 0x20 && c != '\t') || c == 0x7F;
+    }
+
+    /**
+     * A table that is still open for insertions.
+     *
+     * <p>
+     * The values are {@link ConfigData}, nested {@link Table}s or {@link TableArray}s.
+     */
+    private static final class Table {
+        /** Created as the parent of a header; it may still be defined by its own header. */
+        static final int IMPLICIT = 0;
+        /** Defined by a header or an inline table. */
+        static final int EXPLICIT = 1;
+        /** Created by a dotted key; only dotted keys can add to it. */
+        static final int DOTTED = 2;
+
+        private final Map<String, Object> entries = new LinkedHashMap<>();
+        private int kind;
+
+        private Table(final int kind) {
+            this.kind = kind;
+        }
+
+        private ObjectData freeze() {
+            final ObjectData.Builder builder = ObjectData.builder();
+
+            for (final Map.Entry<String, Object> entry : this.entries.entrySet()) {
+                builder.put(entry.getKey(), freeze(entry.getValue()));
+            }
+
+            return builder.build();
+        }
+
+        private static ConfigData freeze(final Object value) {
+            return switch (value) {
+                case Table table -> table.freeze();
+                case TableArray tables -> tables.freeze();
+                default -> (ConfigData) value;
+            };
+        }
+    }
+
+    /**
+     * An array of tables that is still open for {@code [[header]]}s.
+     */
+    private static final class TableArray {
+        private final List<Table> tables = new ArrayList<>();
+
+        private void add(final Table table) {
+            this.tables.add(table);
+        }
+
+        private Table last() {
+            return this.tables.get(this.tables.size() - 1);
+        }
+
+        private ArrayData freeze() {
+            final ArrayData.Builder builder = ArrayData.builder();
+
+            for (final Table table : this.tables) {
+                builder.add(table.freeze());
+            }
+
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.ObjectNode;
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TomlConfigFactoryTest {
+    private final TomlConfigFactory factory = new TomlConfigFactory();
+
+    @Test
+    void parseDocument() {
+        ConfigNode node = factory.parse("""
+                title = "example"
+
+                [server]
+                host = "localhost"
+                port = 8080
+                """);
+
+        ObjectNode server = node.toObject().get("server").orElseThrow().toObject();
+
+        assertEquals("example", node.toObject().getString("title", null));
+        assertEquals("localhost", server.getString("host", null));
+        assertEquals(8080, server.getLong("port", 0));
+    }
+
+    @Test
+    void parseEmptyDocument() {
+        ConfigNode node = factory.parse("");
+
+        assertEquals(ObjectData.empty(), ((TreeObjectNode) node).data());
+    }
+
+    @Test
+    void parseFromReaderLargerThanBuffer() throws IOException {
+        StringBuilder toml = new StringBuilder();
+        for (int i = 0; i < 2000; ++i) {
+            toml.append("key").append(i).append(" = ").append(i).append('\n');
+        }
+
+        ObjectData data = ((TreeObjectNode) factory.parse(new StringReader(toml.toString()))).data();
+
+        assertEquals(2000, data.size());
+        assertEquals(ScalarData.ofLong(1999), data.get("key1999"));
+    }
+
+    @Test
+    void parseFromPath(@TempDir final Path directory) throws IOException {
+        Path file = directory.resolve("config.toml");
+        Files.writeString(file, "[a]\nb = true\n");
+
+        ConfigNode node = factory.parse(file);
+
+        assertTrue(node.toObject().get("a").orElseThrow().toObject().getBoolean("b", false));
+    }
+
+    @Test
+    void rejectInvalidDocument() {
+        assertThrows(ConfigParseException.class, () -> factory.parse("a = "));
+    }
+
+    @Test
+    void rejectNullReader() {
+        NullPointerException exception = assertThrows(NullPointerException.class, () -> factory.parse((Reader) null));
+
+        assertEquals("The reader cannot be null.", exception.getMessage());
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.ArrayData;
+import net.quickwrite.confetti.tree.ConfigData;
+import net.quickwrite.confetti.tree.ObjectData;
+import net.quickwrite.confetti.tree.ScalarData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TomlParserTest {
+    private static ObjectData object(final ConfigData data) {
+        return (ObjectData) data;
+    }
+
+    private static ArrayData array(final ConfigData data) {
+        return (ArrayData) data;
+    }
+
+    @Test
+    void parseTablesAndDottedKeys() {
+        ObjectData data = TomlParser.parse("""
+                name.first = "Tom"
+                name.last = "Preston-Werner"
+
+                [a.b.c]
+                d = 1
+
+                [a]
+                e = 2
+                """);
+
+        assertEquals(ObjectData.builder()
+                .put("first", ScalarData.ofString("Tom"))
+                .put("last", ScalarData.ofString("Preston-Werner"))
+                .build(), data.get("name"));
+        assertEquals(ScalarData.ofLong(1), object(object(object(data.get("a")).get("b")).get("c")).get("d"));
+        assertEquals(ScalarData.ofLong(2), object(data.get("a")).get("e"));
+    }
+
+    @Test
+    void parseArraysOfTables() {
+        ObjectData data = TomlParser.parse("""
+                [[products]]
+                name = "Hammer"
+
+                [[products]]
+
+                [[products]]
+                name = "Nail"
+
+                [products.size]
+                length = 3
+                """);
+
+        ArrayData products = array(data.get("products"));
+
+        assertEquals(3, products.size());
+        assertEquals(ScalarData.ofString("Hammer"), object(products.get(0)).get("name"));
+        assertEquals(ObjectData.empty(), products.get(1));
+        assertEquals(ScalarData.ofLong(3), object(object(products.get(2)).get("size")).get("length"));
+    }
+
+    @Test
+    void parseQuotedKeys() {
+        ObjectData data = TomlParser.parse("""
+                "127.0.0.1" = "localhost"
+                'quoted "key"' = 1
+                site."google.com" = true
+                """);
+
+        assertEquals(ScalarData.ofString("localhost"), data.get("127.0.0.1"));
+        assertEquals(ScalarData.ofLong(1), data.get("quoted \"key\""));
+        assertEquals(ScalarData.ofBoolean(true), object(data.get("site")).get("google.com"));
+    }
+
+    @Test
+    void parseStrings() {
+        ObjectData data = TomlParser.parse("""
+                basic = "tab\\tquote\\" \\u00E9 \\U0001F600"
+                literal = 'C:\\Users\\nodejs'
+                multi = \"""
+                first
+                second\"""
+                folded = \"""\\
+                  The quick \\
+                  brown fox.\"""
+                raw = '''
+                no \\escapes'''
+                quotes = \"""two ""\"""
+                """);
+
+        assertEquals(ScalarData.ofString("tab\tquote\" \u00E9 \uD83D\uDE00"), data.get("basic"));
+        assertEquals(ScalarData.ofString("C:\\Users\\nodejs"), data.get("literal"));
+        assertEquals(ScalarData.ofString("first\nsecond"), data.get("multi"));
+        assertEquals(ScalarData.ofString("The quick brown fox."), data.get("folded"));
+        assertEquals(ScalarData.ofString("no \\escapes"), data.get("raw"));
+        assertEquals(ScalarData.ofString("two \"\""), data.get("quotes"));
+    }
+
+    @Test
+    void parseNumbers() {
+        ObjectData data = TomlParser.parse("""
+                int = +1_000
+                negative = -17
+                hex = 0xDEAD_beef
+                octal = 0o755
+                binary = 0b1101
+                float = 6.626e-34
+                exponent = 5E+2
+                infinity = -inf
+                nan = nan
+                """);
+
+        assertEquals(ScalarData.ofLong(1000), data.get("int"));
+        assertEquals(ScalarData.ofLong(-17), data.get("negative"));
+        assertEquals(ScalarData.ofLong(0xDEADBEEFL), data.get("hex"));
+        assertEquals(ScalarData.ofLong(0755), data.get("octal"));
+        assertEquals(ScalarData.ofLong(13), data.get("binary"));
+        assertEquals(ScalarData.ofDouble(6.626e-34), data.get("float"));
+        assertEquals(ScalarData.ofDouble(500), data.get("exponent"));
+        assertEquals(ScalarData.ofDouble(Double.NEGATIVE_INFINITY), data.get("infinity"));
+        assertEquals(ScalarData.ofDouble(Double.NaN), data.get("nan"));
+    }
+
+    @Test
+    void normalizeDateTimes() {
+        ObjectData data = TomlParser.parse("""
+                offset = 1979-05-27 07:32:00z
+                fraction = 1979-05-27T00:32:00.999999-07:00
+                local = 1979-05-27t07:32:00
+                date = 1979-05-27
+                time = 07:32:00
+                """);
+
+        assertEquals(ScalarData.ofString("1979-05-27T07:32:00Z"), data.get("offset"));
+        assertEquals(ScalarData.ofString("1979-05-27T00:32:00.999999-07:00"), data.get("fraction"));
+        assertEquals(ScalarData.ofString("1979-05-27T07:32:00"), data.get("local"));
+        assertEquals(ScalarData.ofString("1979-05-27"), data.get("date"));
+        assertEquals(ScalarData.ofString("07:32:00"), data.get("time"));
+    }
+
+    @Test
+    void parseArraysAndInlineTables() {
+        ObjectData data = TomlParser.parse("""
+                nested = [ [1, 2], ["a", 'b'], ]
+                multiline = [
+                  1, # one
+                  2,
+                ]
+                point = { x = 1, y.z = 2 }
+                empty = {}
+                """);
+
+        assertEquals(ArrayData.builder()
+                .add(ArrayData.builder().add(ScalarData.ofLong(1)).add(ScalarData.ofLong(2)).build())
+                .add(ArrayData.builder().add(ScalarData.ofString("a")).add(ScalarData.ofString("b")).build())
+                .build(), data.get("nested"));
+        assertEquals(2, array(data.get("multiline")).size());
+        assertEquals(ScalarData.ofLong(2), object(object(data.get("point")).get("y")).get("z"));
+        assertEquals(ObjectData.empty(), data.get("empty"));
+    }
+
+    @Test
+    void reportLineAndColumn() {
+        ConfigParseException exception = assertThrows(ConfigParseException.class, () -> TomlParser.parse("""
+                a = 1
+                b = 2
+                a = 3
+                """));
+
+        assertTrue(exception.getMessage().contains("(line 3, column 1)"), exception.getMessage());
+    }
+
+    @Test
+    void rejectInvalidDocuments() {
+        String[] documents = {
+                "a = 1\na = 2",
+                "[a]\n[a]",
+                "a = 1\n[a]",
+                "[a.b]\n[a]\nb.c = 1",
+                "a.b = 1\n[a]",
+                "a = {}\n[[a]]",
+                "[[a]]\n[a]",
+                "p = { x = 1 }\np.y = 2",
+                "p = { x = 1, }",
+                "p = { x = 1\n}",
+                "a = 01",
+                "a = 1__0",
+                "a = 1.",
+                "a = .5",
+                "a = 0x",
+                "a = 99999999999999999999",
+                "a = 1979-02-30",
+                "a = 07:32",
+                "a = \"unterminated",
+                "a = \"\\x\"",
+                "a = 1 b = 2",
+                "a",
+                "= 1",
+                "[a",
+                "a = true false",
+        };
+
+        for (String toml : documents) {
+            assertThrows(ConfigParseException.class, () -> TomlParser.parse(toml), toml);
+        }
+    }
+}
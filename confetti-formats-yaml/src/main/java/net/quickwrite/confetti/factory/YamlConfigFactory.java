@@ -0,0 +1,70 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.ConfigData;
+import net.quickwrite.confetti.tree.ConfigTree;
+import net.quickwrite.confetti.tree.ObjectData;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.Event;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * {@link ConfigFactory} implementation that parses YAML into immutable
+ * {@link net.quickwrite.confetti.tree.ConfigTree configuration trees}.
+ *
+ * <p>
+ * The nodes are built directly from the events of the SnakeYAML pull parser, so no
+ * intermediate document model is created. Aliases share the subtree of their anchor
+ * instead of copying it:
+ * {@snippet :
+ * final ConfigNode config = new YamlConfigFactory().parse("""
+ *         defaults: &defaults
+ *           timeout: 30
+ *         primary:
+ *           <<: *defaults
+ *           host: a.example.com
+ *         """);
+ * }
+ * The input has to contain a single document. An empty input is parsed as an empty object.
+ * Streams of multiple documents and documents that are too large to be held in memory
+ * are read with a {@link YamlStreamReader}.
+ */
+public class YamlConfigFactory implements ConfigFactory {
+    /** {@inheritDoc} */
+    @Override
+    public ConfigNode parse(final Reader reader) throws IOException, ConfigParseException {
+        Objects.requireNonNull(reader, "The reader cannot be null.");
+
+        try {
+            final YamlTreeBuilder builder = new YamlTreeBuilder(reader);
+            builder.expect(Event.ID.StreamStart);
+
+            if (builder.peek().is(Event.ID.StreamEnd)) {
+                return ConfigTree.root(ObjectData.empty());
+            }
+
+            builder.startDocument();
+            final ConfigData root = builder.read();
+            builder.expect(Event.ID.DocumentEnd);
+
+            final Event next = builder.next();
+            if (!next.is(Event.ID.StreamEnd)) {
+                throw YamlTreeBuilder.error("Expected a single document but found another one", next.getStartMark());
+            }
+
+            return ConfigTree.root(root);
+        } catch (final YAMLException exception) {
+            throw YamlTreeBuilder.translate(exception);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.tree.ArrayData;
+import net.quickwrite.confetti.tree.ConfigData;
+import net.quickwrite.confetti.tree.ConfigTree;
+import net.quickwrite.confetti.tree.ObjectData;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads a YAML stream document by document.
+ *
+ * <p>
+ * {@link #nextDocument()} builds the next document completely. {@link #forEachChild(NodePath, BiConsumer)}
+ * only builds the children of a single mapping or sequence of the next document, one at a time,
+ * and skips everything else, so documents with a huge list can be processed with the memory of a
+ * single element:
+ * {@snippet :
+ * try (YamlStreamReader reader = new YamlStreamReader(Files.newBufferedReader(path))) {
+ *     while (reader.hasNextDocument()) {
+ *         reader.forEachChild(NodePath.of(PathSegment.key("events")), (segment, event) -> process(event));
+ *     }
+ * }
+ * }
+ * Anchored nodes are always built, so aliases resolve to the same subtree as in
+ * {@link YamlConfigFactory}. The merge keys of the streamed container itself are reported as
+ * a child with the key {@code <<} and are not applied.
+ *
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class YamlStreamReader implements Closeable {
+    private final Reader reader;
+    private final YamlTreeBuilder builder;
+    private boolean started;
+
+    /**
+     * Creates a reader for the YAML stream. The stream is read lazily.
+     *
+     * @param reader The source of the stream; it is closed by {@link #close()}
+     */
+    public YamlStreamReader(final Reader reader) {
+        this.reader = Objects.requireNonNull(reader, "The reader cannot be null.");
+        this.builder = new YamlTreeBuilder(reader);
+    }
+
+    /**
+     * Checks if the stream has another document.
+     *
+     * @return {@code true} if there is another document
+     * @throws IOException if an I/O error occurs while reading
+     * @throws ConfigParseException if the stream is not valid YAML
+     */
+    public boolean hasNextDocument() throws IOException {
+        try {
+            if (!this.started) {
+                this.builder.expect(Event.ID.StreamStart);
+                this.started = true;
+            }
+
+            return this.builder.peek().is(Event.ID.DocumentStart);
+        } catch (final YAMLException exception) {
+            throw YamlTreeBuilder.translate(exception);
+        }
+    }
+
+    /**
+     * Builds the next document.
+     *
+     * @return The root of the document
+     * @throws IOException if an I/O error occurs while reading
+     * @throws ConfigParseException if the stream is not valid YAML or has no more documents
+     */
+    public ConfigNode nextDocument() throws IOException {
+        this.requireDocument();
+
+        try {
+            this.builder.startDocument();
+            final ConfigData root = this.builder.read();
+            this.builder.expect(Event.ID.DocumentEnd);
+
+            return ConfigTree.root(root);
+        } catch (final YAMLException exception) {
+            throw YamlTreeBuilder.translate(exception);
+        }
+    }
+
+    /**
+     * Consumes the next document and passes the children of the container at the path to the action.
+     *
+     * <p>
+     * Every child is built on its own and handed to the action before the next one is read. Objects
+     * report their entries with key segments and arrays their elements with index segments.
+     *
+     * @param container The path of a mapping or sequence within the document
+     * @param action The action that receives the segment and the node of every child
+     * @return The number of children or {@code 0} if the document has no container at the path
+     * @throws IOException if an I/O error occurs while reading
+     * @throws ConfigParseException if the stream is not valid YAML or has no more documents
+     */
+    public long forEachChild(final NodePath container, final BiConsumer<PathSegment, ConfigNode> action) throws IOException {
+        Objects.requireNonNull(container, "The container cannot be null.");
+        Objects.requireNonNull(action, "The action cannot be null.");
+
+        this.requireDocument();
+
+        try {
+            this.builder.startDocument();
+            final long count = this.visit(container.segments(), 0, action);
+            this.builder.expect(Event.ID.DocumentEnd);
+
+            return count;
+        } catch (final YAMLException exception) {
+            throw YamlTreeBuilder.translate(exception);
+        }
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws IOException if the reader cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private void requireDocument() throws IOException {
+        if (!this.hasNextDocument()) {
+            throw new ConfigParseException("The stream has no more documents");
+        }
+    }
+
+    /**
+     * Descends along the path, starting at the node of the next event.
+     */
+    private long visit(final List<PathSegment> path, final int level, final BiConsumer<PathSegment, ConfigNode> action) {
+        final Event event = this.builder.peek();
+
+        // Anchored nodes and aliases are needed as a whole, so they are searched in memory
+        if (event instanceof AliasEvent || ((NodeEvent) event).getAnchor() != null) {
+            return emit(this.builder.read(), path, level, action);
+        }
+
+        if (level == path.size()) {
+            return this.stream(action);
+        }
+
+        final PathSegment segment = path.get(level);
+
+        if (segment.isKey() && event.is(Event.ID.MappingStart)) {
+            this.builder.next();
+            long count = 0;
+
+            while (!this.builder.peek().is(Event.ID.MappingEnd)) {
+                if (segment.key().equals(this.builder.readKey())) {
+                    count = this.visit(path, level + 1, action);
+                } else {
+                    this.builder.skip();
+                }
+            }
+
+            this.builder.next();
+            return count;
+        }
+
+        if (!segment.isKey() && event.is(Event.ID.SequenceStart)) {
+            this.builder.next();
+            long count = 0;
+
+            for (int index = 0; !this.builder.peek().is(Event.ID.SequenceEnd); ++index) {
+                if (index == segment.index()) {
+                    count = this.visit(path, level + 1, action);
+                } else {
+                    this.builder.skip();
+                }
+            }
+
+            this.builder.next();
+            return count;
+        }
+
+        this.builder.skip();
+        return 0;
+    }
+
+    /**
+     * Builds the children of the container that starts with the next event one by one.
+     */
+    private long stream(final BiConsumer<PathSegment, ConfigNode> action) {
+        final Event event = this.builder.next();
+        long count = 0;
+
+        if (event.is(Event.ID.MappingStart)) {
+            while (!this.builder.peek().is(Event.ID.MappingEnd)) {
+                final String key = this.builder.readKey();
+                action.accept(PathSegment.key(key), ConfigTree.root(this.builder.read()));
+                ++count;
+            }
+
+            this.builder.next();
+        } else if (event.is(Event.ID.SequenceStart)) {
+            for (; !this.builder.peek().is(Event.ID.SequenceEnd); ++count) {
+                action.accept(PathSegment.index((int) count), ConfigTree.root(this.builder.read()));
+            }
+
+            this.builder.next();
+        }
+
+        return count;
+    }
+
+    /**
+     * Passes the children of the container at the path within the data to the action.
+     */
+    private static long emit(
+            ConfigData data,
+            final List<PathSegment> path,
+            final int level,
+            final BiConsumer<PathSegment, ConfigNode> action
+    ) {
+        for (int i = level; i < path.size() && data != null; ++i) {
+            final PathSegment segment = path.get(i);
+
+            if (segment.isKey()) {
+                data = data instanceof ObjectData object ? object.get(segment.key()) : null;
+            } else {
+                data = data instanceof ArrayData array && segment.index() < array.size() ? array.get(segment.index()) : null;
+            }
+        }
+
+        if (data instanceof ObjectData object) {
+            object.forEach((key, value) -> action.accept(PathSegment.key(key), ConfigTree.root(value)));
+
+            return object.size();
+        }
+
+        if (data instanceof ArrayData array) {
+            for (int i = 0; i < array.size(); ++i) {
+                action.accept(PathSegment.index(i), ConfigTree.root(array.get(i)));
+            }
+
+            return array.size();
+        }
+
+        return 0;
+    }
+}
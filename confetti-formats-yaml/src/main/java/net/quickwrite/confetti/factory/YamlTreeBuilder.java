@@ -0,0 +1,516 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.*;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.error.Mark;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.*;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds immutable {@link ConfigData} from the events of a YAML pull parser.
+ *
+ * <p>
+ * The tree is built with an explicit stack, so deeply nested documents do not overflow the
+ * call stack. Every anchored node is remembered until the end of its document and an alias
+ * returns the very same {@link ConfigData} instance, so aliased subtrees are shared instead
+ * of copied. Merge keys ({@code <<: *defaults}) add the entries of the merged mappings that
+ * are not set explicitly.
+ *
+ * <p>
+ * Plain scalars are resolved with the YAML 1.2 core schema: {@code null}, {@code ~} and empty
+ * scalars are null, {@code true}/{@code false} are booleans, decimal, octal ({@code 0o}) and
+ * hexadecimal ({@code 0x}) integers are longs and decimal numbers as well as {@code .inf} and
+ * {@code .nan} are doubles. Quoted scalars are always strings.
+ */
+final class YamlTreeBuilder {
+    private static final String TAG_PREFIX = "tag:yaml.org,2002:";
+    private static final String MERGE_KEY = "<<";
+
+    private final Parser parser;
+    private final Map<String, ConfigData> anchors = new HashMap<>();
+
+    YamlTreeBuilder(final Reader reader) {
+        final LoaderOptions options = new LoaderOptions();
+        // The whole input is streamed, so there is no reason to limit its size
+        options.setCodePointLimit(Integer.MAX_VALUE);
+
+        this.parser = new ParserImpl(new StreamReader(reader), options);
+    }
+
+    /**
+     * Returns the next event without consuming it.
+     */
+    Event peek() {
+        return this.parser.peekEvent();
+    }
+
+    /**
+     * Consumes the next event.
+     */
+    Event next() {
+        return this.parser.getEvent();
+    }
+
+    /**
+     * Consumes the next event and checks its type.
+     *
+     * @throws ConfigParseException if the event has another type
+     */
+    Event expect(final Event.ID id) {
+        final Event event = this.parser.getEvent();
+
+        if (!event.is(id)) {
+            throw error("Expected " + id + " but found " + event.getEventId(), event.getStartMark());
+        }
+
+        return event;
+    }
+
+    /**
+     * Forgets the anchors of the previous document.
+     */
+    void startDocument() {
+        this.expect(Event.ID.DocumentStart);
+        this.anchors.clear();
+    }
+
+    /**
+     * Reads the key of a mapping entry.
+     *
+     * @throws ConfigParseException if the key is not a scalar
+     */
+    String readKey() {
+        final Event event = this.parser.getEvent();
+
+        if (!(event instanceof ScalarEvent scalar)) {
+            throw error("Only scalar keys are supported but found " + event.getEventId(), event.getStartMark());
+        }
+
+        return scalar.getValue();
+    }
+
+    /**
+     * Checks if the key is a merge key.
+     */
+    static boolean isMergeKey(final String key, final Event event) {
+        return MERGE_KEY.equals(key) && event instanceof ScalarEvent scalar && scalar.isPlain();
+    }
+
+    /**
+     * Reads the next node and everything below it.
+     *
+     * @return The data of the node
+     */
+    ConfigData read() {
+        final List<Frame> stack = new ArrayList<>();
+
+        while (true) {
+            final Event event = this.parser.getEvent();
+            final Frame top = stack.isEmpty() ? null : stack.get(stack.size() - 1);
+
+            if (top != null && top.expectsKey()) {
+                if (event.is(Event.ID.MappingEnd)) {
+                    stack.remove(stack.size() - 1);
+                    this.deliver(stack, top.anchor, top.finish(), event);
+
+                    if (stack.isEmpty()) {
+                        return top.result;
+                    }
+
+                    continue;
+                }
+
+                if (!(event instanceof ScalarEvent scalar)) {
+                    throw error("Only scalar keys are supported but found " + event.getEventId(), event.getStartMark());
+                }
+
+                top.key(scalar);
+                continue;
+            }
+
+            final ConfigData value;
+            switch (event.getEventId()) {
+                case MappingStart -> {
+                    stack.add(new Frame(((NodeEvent) event).getAnchor(), true));
+                    continue;
+                }
+                case SequenceStart -> {
+                    stack.add(new Frame(((NodeEvent) event).getAnchor(), false));
+                    continue;
+                }
+                case SequenceEnd -> {
+                    stack.remove(stack.size() - 1);
+                    value = top.finish();
+                    this.remember(top.anchor, value);
+                }
+                case Scalar -> {
+                    value = resolve((ScalarEvent) event);
+                    this.remember(((ScalarEvent) event).getAnchor(), value);
+                }
+                case Alias -> value = this.alias((AliasEvent) event);
+                default -> throw error("Unexpected " + event.getEventId(), event.getStartMark());
+            }
+
+            if (stack.isEmpty()) {
+                return value;
+            }
+
+            stack.get(stack.size() - 1).add(value, event);
+        }
+    }
+
+    /**
+     * Skips the next node and everything below it without building it.
+     *
+     * <p>
+     * Anchored nodes are still built, as later aliases may refer to them.
+     */
+    void skip() {
+        int depth = 0;
+
+        do {
+            final Event event = this.parser.peekEvent();
+
+            if (!(event instanceof AliasEvent) && event instanceof NodeEvent node && node.getAnchor() != null) {
+                this.read();
+                continue;
+            }
+
+            this.parser.getEvent();
+
+            if (event instanceof CollectionStartEvent) {
+                ++depth;
+            } else if (event instanceof CollectionEndEvent) {
+                --depth;
+            }
+        } while (depth > 0);
+    }
+
+    private void deliver(final List<Frame> stack, final String anchor, final ConfigData value, final Event event) {
+        this.remember(anchor, value);
+
+        if (!stack.isEmpty()) {
+            stack.get(stack.size() - 1).add(value, event);
+        }
+    }
+
+    private void remember(final String anchor, final ConfigData value) {
+        if (anchor != null) {
+            this.anchors.put(anchor, value);
+        }
+    }
+
+    private ConfigData alias(final AliasEvent event) {
+        final ConfigData value = this.anchors.get(event.getAnchor());
+
+        if (value == null) {
+            throw error("Unknown anchor '" + event.getAnchor() + "'", event.getStartMark());
+        }
+
+        return value;
+    }
+
+    /**
+     * Converts a scalar into data.
+     *
+     * @param event The scalar
+     * @return The data of the scalar
+     */
+    static ConfigData resolve(final ScalarEvent event) {
+        final String value = event.getValue();
+        final String tag = event.getTag();
+
+        if (tag != null && tag.startsWith(TAG_PREFIX)) {
+            return switch (tag.substring(TAG_PREFIX.length())) {
+                case "null" -> NullData.INSTANCE;
+                case "bool" -> resolveBoolean(value, event);
+                case "int" -> resolveInteger(value, event);
+                case "float" -> resolveFloat(value, event);
+                default -> ScalarData.ofString(value);
+            };
+        }
+
+        // Quoted scalars, the non-specific tag '!' and local tags are strings
+        if (tag != null || !event.isPlain()) {
+            return ScalarData.ofString(value);
+        }
+
+        return resolvePlain(value);
+    }
+
+    private static ConfigData resolvePlain(final String value) {
+        if (value.isEmpty()) {
+            return NullData.INSTANCE;
+        }
+
+        // Most plain scalars are words, which are rejected by their first character
+        final char first = value.charAt(0);
+        switch (first) {
+            case '~':
+                return value.length() == 1 ? NullData.INSTANCE : ScalarData.ofString(value);
+            case 'n', 'N':
+                return "null".equals(value) || "Null".equals(value) || "NULL".equals(value)
+                        ? NullData.INSTANCE
+                        : ScalarData.ofString(value);
+            case 't', 'T':
+                return "true".equals(value) || "True".equals(value) || "TRUE".equals(value)
+                        ? ScalarData.ofBoolean(true)
+                        : ScalarData.ofString(value);
+            case 'f', 'F':
+                return "false".equals(value) || "False".equals(value) || "FALSE".equals(value)
+                        ? ScalarData.ofBoolean(false)
+                        : ScalarData.ofString(value);
+            case '-', '+', '.', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9':
+                final ConfigData number = parseNumber(value);
+                return number != null ? number : ScalarData.ofString(value);
+            default:
+                return ScalarData.ofString(value);
+        }
+    }
+
+    /**
+     * Parses a number of the core schema.
+     *
+     * @return The number or {@code null} if the value is no number
+     */
+    private static ConfigData parseNumber(final String value) {
+        final int length = value.length();
+        final int start = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+
+        if (start == length) {
+            return null;
+        }
+
+        if (value.startsWith(".", start)) {
+            final String special = value.substring(start + 1);
+
+            if ("inf".equals(special) || "Inf".equals(special) || "INF".equals(special)) {
+                return ScalarData.ofDouble(value.charAt(0) == '-' ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+            }
+
+            if (start == 0 && ("nan".equals(special) || "NaN".equals(special) || "NAN".equals(special))) {
+                return ScalarData.ofDouble(Double.NaN);
+            }
+        }
+
+        if (start == 0 && length > 2 && value.charAt(0) == '0') {
+            final char prefix = value.charAt(1);
+
+            if (prefix == 'x' || prefix == 'o') {
+                try {
+                    return ScalarData.ofLong(Long.parseLong(value, 2, length, prefix == 'x' ? 16 : 8));
+                } catch (final NumberFormatException exception) {
+                    return null;
+                }
+            }
+        }
+
+        boolean digits = false;
+        boolean decimal = false;
+
+        for (int i = start; i < length; ++i) {
+            final char c = value.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                digits = true;
+            } else if (c == '.' || c == 'e' || c == 'E' || ((c == '-' || c == '+') && (value.charAt(i - 1) | 0x20) == 'e')) {
+                decimal = true;
+            } else {
+                return null;
+            }
+        }
+
+        if (!digits) {
+            return null;
+        }
+
+        try {
+            if (!decimal) {
+                try {
+                    return ScalarData.ofLong(Long.parseLong(value));
+                } catch (final NumberFormatException exception) {
+                    // Too large for a long, so it is kept as a double
+                }
+            }
+
+            return ScalarData.ofDouble(Double.parseDouble(value));
+        } catch (final NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    private static ConfigData resolveBoolean(final String value, final ScalarEvent event) {
+        final ConfigData resolved = resolvePlain(value);
+
+        if (!(resolved instanceof ScalarData scalar) || scalar.kind() != ScalarData.Kind.BOOLEAN) {
+            throw error("'" + value + "' is not a boolean", event.getStartMark());
+        }
+
+        return resolved;
+    }
+
+    private static ConfigData resolveInteger(final String value, final ScalarEvent event) {
+        final ConfigData resolved = value.isEmpty() ? null : parseNumber(value);
+
+        if (!(resolved instanceof ScalarData scalar) || scalar.kind() != ScalarData.Kind.LONG) {
+            throw error("'" + value + "' is not an integer", event.getStartMark());
+        }
+
+        return resolved;
+    }
+
+    private static ConfigData resolveFloat(final String value, final ScalarEvent event) {
+        final ConfigData resolved = value.isEmpty() ? null : parseNumber(value);
+
+        if (!(resolved instanceof ScalarData scalar)) {
+            throw error("'" + value + "' is not a number", event.getStartMark());
+        }
+
+        return scalar.kind() == ScalarData.Kind.LONG ? ScalarData.ofDouble(scalar.asLong()) : scalar;
+    }
+
+    static ConfigParseException error(final String message, final Mark mark) {
+        return new ConfigParseException(mark == null ? message : message + mark);
+    }
+
+    /**
+     * Converts an exception of the parser into the exceptions of {@link ConfigFactory}.
+     *
+     * @param exception The exception of the parser
+     * @return The exception to throw if the cause is not an {@link IOException}
+     * @throws IOException if the reader failed
+     */
+    static ConfigParseException translate(final YAMLException exception) throws IOException {
+        if (exception.getCause() instanceof IOException io) {
+            throw io;
+        }
+
+        return new ConfigParseException(exception.getMessage(), exception);
+    }
+
+    /**
+     * A mapping or sequence that is currently built.
+     */
+    private static final class Frame {
+        private final String anchor;
+        private final boolean mapping;
+
+        private ObjectData object;
+        private List<ConfigData> merges;
+        private String key;
+        private boolean merge;
+
+        private ArrayData.Builder array;
+
+        private ConfigData result;
+
+        private Frame(final String anchor, final boolean mapping) {
+            this.anchor = anchor;
+            this.mapping = mapping;
+
+            if (mapping) {
+                this.object = ObjectData.empty();
+            } else {
+                this.array = ArrayData.builder();
+            }
+        }
+
+        private boolean expectsKey() {
+            return this.mapping && this.key == null;
+        }
+
+        private void key(final ScalarEvent event) {
+            this.key = event.getValue();
+            this.merge = isMergeKey(this.key, event);
+
+            if (!this.merge && this.object.containsKey(this.key)) {
+                throw error("Duplicate key '" + this.key + "'", event.getStartMark());
+            }
+        }
+
+        private void add(final ConfigData value, final Event event) {
+            if (!this.mapping) {
+                this.array.add(value);
+                return;
+            }
+
+            if (this.merge) {
+                if (this.merges == null) {
+                    this.merges = new ArrayList<>();
+                }
+
+                this.merges.add(checkMerge(value, event));
+            } else {
+                this.object = this.object.with(this.key, value);
+            }
+
+            this.key = null;
+        }
+
+        private ConfigData finish() {
+            if (!this.mapping) {
+                return this.result = this.array.build();
+            }
+
+            if (this.merges != null) {
+                // Explicit keys win, and earlier merged mappings win over later ones
+                for (final ConfigData merge : this.merges) {
+                    if (merge instanceof ObjectData source) {
+                        this.mergeFrom(source);
+                    } else {
+                        final ArrayData sources = (ArrayData) merge;
+
+                        for (int i = 0; i < sources.size(); ++i) {
+                            this.mergeFrom((ObjectData) sources.get(i));
+                        }
+                    }
+                }
+            }
+
+            return this.result = this.object;
+        }
+
+        private void mergeFrom(final ObjectData source) {
+            source.forEach((key, value) -> {
+                if (!this.object.containsKey(key)) {
+                    this.object = this.object.with(key, value);
+                }
+            });
+        }
+
+        private static ConfigData checkMerge(final ConfigData value, final Event event) {
+            if (value instanceof ObjectData) {
+                return value;
+            }
+
+            if (value instanceof ArrayData array) {
+                for (int i = 0; i < array.size(); ++i) {
+                    if (!(array.get(i) instanceof ObjectData)) {
+                        throw error("Only mappings can be merged", event.getStartMark());
+                    }
+                }
+
+                return value;
+            }
+
+            throw error("Only mappings can be merged", event.getStartMark());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.NodeType;
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YamlConfigFactoryTest {
+    private final YamlConfigFactory factory = new YamlConfigFactory();
+
+    private ObjectData parse(final String yaml) {
+        return ((TreeObjectNode) factory.parse(yaml)).data();
+    }
+
+    @Test
+    void parseNestedDocument() {
+        ObjectData data = parse("""
+                server:
+                  host: localhost
+                  ports: [80, 443]
+                name: "app"
+                """);
+
+        assertEquals(ObjectData.builder()
+                .put("server", ObjectData.builder()
+                        .put("host", ScalarData.ofString("localhost"))
+                        .put("ports", ArrayData.builder().add(ScalarData.ofLong(80)).add(ScalarData.ofLong(443)).build())
+                        .build())
+                .put("name", ScalarData.ofString("app"))
+                .build(), data);
+    }
+
+    @Test
+    void resolveCoreSchemaScalars() {
+        ObjectData data = parse("""
+                nothing: ~
+                empty:
+                upper: NULL
+                yes: true
+                no: False
+                decimal: -12
+                hex: 0x1F
+                octal: 0o17
+                float: 1.5e3
+                infinity: -.inf
+                nan: .NaN
+                huge: 123456789012345678901234567890
+                quoted: "42"
+                tagged: !!str 42
+                forced: !!float 1
+                word: yes
+                version: 1.2.3
+                """);
+
+        assertSame(NullData.INSTANCE, data.get("nothing"));
+        assertSame(NullData.INSTANCE, data.get("empty"));
+        assertSame(NullData.INSTANCE, data.get("upper"));
+        assertEquals(ScalarData.ofBoolean(true), data.get("yes"));
+        assertEquals(ScalarData.ofBoolean(false), data.get("no"));
+        assertEquals(ScalarData.ofLong(-12), data.get("decimal"));
+        assertEquals(ScalarData.ofLong(31), data.get("hex"));
+        assertEquals(ScalarData.ofLong(15), data.get("octal"));
+        assertEquals(ScalarData.ofDouble(1500), data.get("float"));
+        assertEquals(ScalarData.ofDouble(Double.NEGATIVE_INFINITY), data.get("infinity"));
+        assertEquals(ScalarData.ofDouble(Double.NaN), data.get("nan"));
+        assertEquals(ScalarData.Kind.DOUBLE, ((ScalarData) data.get("huge")).kind());
+        assertEquals(ScalarData.ofString("42"), data.get("quoted"));
+        assertEquals(ScalarData.ofString("42"), data.get("tagged"));
+        assertEquals(ScalarData.ofDouble(1), data.get("forced"));
+        // YAML 1.1 booleans are plain strings in the core schema
+        assertEquals(ScalarData.ofString("yes"), data.get("word"));
+        assertEquals(ScalarData.ofString("1.2.3"), data.get("version"));
+    }
+
+    @Test
+    void aliasesShareSubtrees() {
+        ObjectData data = parse("""
+                defaults: &defaults
+                  timeout: 30
+                  retries: 3
+                first: *defaults
+                second: [*defaults, *defaults]
+                """);
+
+        ConfigData defaults = data.get("defaults");
+        assertSame(defaults, data.get("first"));
+        assertSame(defaults, ((ArrayData) data.get("second")).get(0));
+        assertSame(defaults, ((ArrayData) data.get("second")).get(1));
+    }
+
+    @Test
+    void mergeKeysKeepExplicitValues() {
+        ObjectData data = parse("""
+                base: &base { a: 1, b: 2 }
+                other: &other { b: 3, c: 4 }
+                merged:
+                  <<: [*base, *other]
+                  a: 0
+                """);
+
+        assertEquals(ObjectData.builder()
+                .put("a", ScalarData.ofLong(0))
+                .put("b", ScalarData.ofLong(2))
+                .put("c", ScalarData.ofLong(4))
+                .build(), data.get("merged"));
+    }
+
+    @Test
+    void mergeOfScalarIsRejected() {
+        assertThrows(ConfigParseException.class, () -> factory.parse("a: &a 1\nb:\n  <<: *a\n"));
+    }
+
+    @Test
+    void duplicateKeysAreRejected() {
+        ConfigParseException exception = assertThrows(ConfigParseException.class, () -> factory.parse("a: 1\na: 2\n"));
+
+        assertTrue(exception.getMessage().contains("Duplicate key 'a'"));
+    }
+
+    @Test
+    void unknownAliasIsRejected() {
+        assertThrows(ConfigParseException.class, () -> factory.parse("a: *missing\n"));
+    }
+
+    @Test
+    void complexKeysAreRejected() {
+        assertThrows(ConfigParseException.class, () -> factory.parse("? [a, b]\n: 1\n"));
+    }
+
+    @Test
+    void invalidSyntaxIsParseException() {
+        assertThrows(ConfigParseException.class, () -> factory.parse("a: [1, 2\n"));
+    }
+
+    @Test
+    void multipleDocumentsAreRejected() {
+        assertThrows(ConfigParseException.class, () -> factory.parse("a: 1\n---\nb: 2\n"));
+    }
+
+    @Test
+    void emptyInputIsEmptyObject() {
+        ConfigNode node = factory.parse("");
+
+        assertEquals(NodeType.OBJECT, node.type());
+        assertTrue(node.toObject().keys().isEmpty());
+    }
+
+    @Test
+    void scalarAndSequenceRoots() {
+        assertEquals(NodeType.VALUE, factory.parse("42").type());
+        assertEquals(NodeType.ARRAY, factory.parse("- 1\n- 2\n").type());
+    }
+
+    @Test
+    void deepNestingDoesNotOverflow() {
+        String yaml = "[".repeat(5000) + "]".repeat(5000);
+
+        assertEquals(NodeType.ARRAY, factory.parse(yaml).type());
+    }
+
+    @Test
+    void parsePath() throws Exception {
+        Path file = Files.createTempFile("yaml-factory-test", ".yaml");
+        try {
+            Files.writeString(file, "k: 42\n");
+
+            assertEquals(42L, factory.parse(file).toObject().getLong("k", 0));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void readerFailureIsIOException() {
+        Reader failing = new Reader() {
+            @Override
+            public int read(final char[] buffer, final int offset, final int length) throws IOException {
+                throw new IOException("boom");
+            }
+
+            @Override
+            public void close() {}
+        };
+
+        assertThrows(IOException.class, () -> factory.parse(failing));
+    }
+
+    @Test
+    void nullReaderIsRejected() {
+        assertThrows(NullPointerException.class, () -> factory.parse((Reader) null));
+        assertDoesNotThrow(() -> factory.parse(new StringReader("a: 1")));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.factory;
+
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.tree.TreeObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class YamlStreamReaderTest {
+    private static final NodePath ITEMS = NodePath.of(PathSegment.key("items"));
+
+    @Test
+    void readsDocumentsOneByOne() throws Exception {
+        try (YamlStreamReader reader = new YamlStreamReader(new StringReader("a: 1\n---\nb: 2\n---\n- 3\n"))) {
+            List<ConfigNode> documents = new ArrayList<>();
+            while (reader.hasNextDocument()) {
+                documents.add(reader.nextDocument());
+            }
+
+            assertEquals(3, documents.size());
+            assertEquals(1L, documents.get(0).toObject().getLong("a", 0));
+            assertEquals(2L, documents.get(1).toObject().getLong("b", 0));
+            assertEquals(1, documents.get(2).toArray().size());
+            assertThrows(ConfigParseException.class, reader::nextDocument);
+        }
+    }
+
+    @Test
+    void streamsElementsOfNestedSequence() throws Exception {
+        String yaml = """
+                header: { version: 1 }
+                items:
+                  - { id: 0 }
+                  - { id: 1 }
+                  - { id: 2 }
+                footer: done
+                """;
+
+        try (YamlStreamReader reader = new YamlStreamReader(new StringReader(yaml))) {
+            List<PathSegment> segments = new ArrayList<>();
+            List<Long> ids = new ArrayList<>();
+
+            long count = reader.forEachChild(ITEMS, (segment, node) -> {
+                segments.add(segment);
+                ids.add(node.toObject().getLong("id", -1));
+            });
+
+            assertEquals(3, count);
+            assertEquals(List.of(0L, 1L, 2L), ids);
+            assertEquals(List.of(PathSegment.index(0), PathSegment.index(1), PathSegment.index(2)), segments);
+            assertFalse(reader.hasNextDocument());
+        }
+    }
+
+    @Test
+    void streamsEntriesOfMappingInsideSequence() throws Exception {
+        String yaml = """
+                - skipped
+                - { a: 1, b: 2 }
+                """;
+
+        try (YamlStreamReader reader = new YamlStreamReader(new StringReader(yaml))) {
+            List<String> keys = new ArrayList<>();
+
+            reader.forEachChild(NodePath.of(PathSegment.index(1)), (segment, node) -> keys.add(segment.key()));
+
+            assertEquals(List.of("a", "b"), keys);
+        }
+    }
+
+    @Test
+    void aliasesIntoSkippedPartsResolve() throws Exception {
+        String yaml = """
+                defaults: &defaults { timeout: 30 }
+                items:
+                  - *defaults
+                  - *defaults
+                """;
+
+        try (YamlStreamReader reader = new YamlStreamReader(new StringReader(yaml))) {
+            List<ConfigNode> nodes = new ArrayList<>();
+
+            reader.forEachChild(ITEMS, (segment, node) -> nodes.add(node));
+
+            assertEquals(2, nodes.size());
+            assertSame(((TreeObjectNode) nodes.get(0)).data(), ((TreeObjectNode) nodes.get(1)).data());
+        }
+    }
+
+    @Test
+    void anchoredContainerIsStreamedFromMemory() throws Exception {
+        String yaml = """
+                items: &items [1, 2]
+                copy: *items
+                """;
+
+        try (YamlStreamReader reader = new YamlStreamReader(new StringReader(yaml))) {
+            assertEquals(2, reader.forEachChild(ITEMS, (segment, node) -> {}));
+        }
+    }
+
+    @Test
+    void missingContainerHasNoChildren() throws Exception {
+        try (YamlStreamReader reader = new YamlStreamReader(new StringReader("other: [1]\n---\nitems: 5\n"))) {
+            assertEquals(0, reader.forEachChild(ITEMS, (segment, node) -> fail()));
+            assertEquals(0, reader.forEachChild(ITEMS, (segment, node) -> fail()));
+            assertFalse(reader.hasNextDocument());
+        }
+    }
+
+    @Test
+    void emptyStreamHasNoDocuments() throws Exception {
+        try (YamlStreamReader reader = new YamlStreamReader(new StringReader(""))) {
+            assertFalse(reader.hasNextDocument());
+        }
+    }
+}
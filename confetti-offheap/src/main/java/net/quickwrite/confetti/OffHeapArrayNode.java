@@ -0,0 +1,158 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link ArrayNode} implementation that reads an array of an {@link OffHeapTree}.
+ *
+ * <p>
+ * Elements are decoded on access; the list returned by {@link #toList()} is an
+ * unmodifiable, lazy view.
+ */
+public final class OffHeapArrayNode extends AbstractConfigNode implements ArrayNode {
+    private final ByteBuffer buffer;
+    private final int offset;
+
+    /** The cached structural hash code or {@code 0} if it has not been computed yet. */
+    private int hash;
+
+    OffHeapArrayNode(final ByteBuffer buffer, final int offset) {
+        super();
+
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    OffHeapArrayNode(final ByteBuffer buffer, final int offset, final ConfigNode parent, final PathSegment key) {
+        super(parent, key);
+
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConfigNode get(final int index) {
+        return OffHeapFormat.toConfigNode(this.buffer, this.element(index), this, PathSegment.index(index));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return OffHeapFormat.count(this.buffer, this.offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is decoded directly from the buffer without creating a {@link ConfigNode}.
+     */
+    @Override
+    public long getLong(final int index) {
+        return OffHeapFormat.asLong(this.buffer, OffHeapFormat.requireValue(this.buffer, this.element(index)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is decoded directly from the buffer without creating a {@link ConfigNode}.
+     */
+    @Override
+    public double getDouble(final int index) {
+        return OffHeapFormat.asDouble(this.buffer, OffHeapFormat.requireValue(this.buffer, this.element(index)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is decoded directly from the buffer without creating a {@link ConfigNode}.
+     */
+    @Override
+    public boolean getBoolean(final int index) {
+        return OffHeapFormat.asBoolean(this.buffer, OffHeapFormat.requireValue(this.buffer, this.element(index)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is decoded directly from the buffer without creating a {@link ConfigNode}.
+     */
+    @Override
+    public String getString(final int index) {
+        return OffHeapFormat.asString(this.buffer, OffHeapFormat.requireValue(this.buffer, this.element(index)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <hr>
+     * <p>
+     * The returned list is an unmodifiable, lazy view that decodes the elements on access.
+     */
+    @Override
+    public List<ConfigNode> toList() {
+        return new AbstractList<>() {
+            @Override
+            public ConfigNode get(final int index) {
+                return OffHeapArrayNode.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return OffHeapArrayNode.this.size();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Nodes are compared structurally as defined by {@link NodeEquality}. Nodes that read the same
+     * record of the same buffer are equal without comparing their content.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other instanceof OffHeapArrayNode node && node.buffer == this.buffer && node.offset == this.offset) {
+            return true;
+        }
+
+        return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The structural hash code is computed on first use and cached.
+     */
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+
+        if (hash == 0) {
+            hash = NodeEquality.hash(this);
+            this.hash = hash;
+        }
+
+        return hash;
+    }
+
+    private int element(final int index) {
+        return OffHeapFormat.elementAt(this.buffer, this.offset, Objects.checkIndex(index, this.size()));
+    }
+}
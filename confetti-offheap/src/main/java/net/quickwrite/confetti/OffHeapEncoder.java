@@ -0,0 +1,245 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import net.quickwrite.confetti.visitor.ConfigVisitor;
+import net.quickwrite.confetti.visitor.ConfigWalker;
+import net.quickwrite.confetti.visitor.PathCursor;
+import net.quickwrite.confetti.visitor.VisitResult;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import static net.quickwrite.confetti.OffHeapFormat.*;
+
+/**
+ * Encodes a {@link ConfigNode} tree into the layout described by {@link OffHeapFormat}.
+ *
+ * <p>
+ * The tree is walked once with a {@link ConfigWalker}. Every node is written when it is
+ * left, so the records of its children already exist and their offsets are known.
+ */
+final class OffHeapEncoder implements ConfigVisitor {
+    private byte[] bytes = new byte[1024];
+    private int size;
+
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final Deque<Children> open = new ArrayDeque<>();
+
+    private final int nullOffset;
+    private final int trueOffset;
+    private final int falseOffset;
+
+    private int rootOffset;
+
+    private OffHeapEncoder() {
+        this.size = HEADER_SIZE;
+
+        this.nullOffset = this.putByte(TAG_NULL);
+        this.trueOffset = this.putByte(TAG_TRUE);
+        this.falseOffset = this.putByte(TAG_FALSE);
+    }
+
+    /**
+     * Encodes the tree.
+     *
+     * @param root the root of the tree
+     * @return a heap buffer containing the encoded tree; its limit is the size of the tree
+     */
+    static ByteBuffer encode(final ConfigNode root) {
+        final OffHeapEncoder encoder = new OffHeapEncoder();
+        ConfigWalker.sequential().walk(root, encoder);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(encoder.bytes, 0, encoder.size);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(ROOT_OFFSET_POSITION, encoder.rootOffset);
+        buffer.putInt(BYTE_SIZE_POSITION, encoder.size);
+
+        return buffer;
+    }
+
+    @Override
+    public VisitResult enter(final ConfigNode node, final PathCursor path) {
+        if (node.isObject() || node.isArray()) {
+            this.open.push(new Children(node.isObject()));
+        }
+
+        return VisitResult.CONTINUE;
+    }
+
+    @Override
+    public VisitResult leave(final ConfigNode node, final PathCursor path) {
+        final int offset = switch (node.type()) {
+            case OBJECT -> this.writeObject(this.open.pop());
+            case ARRAY -> this.writeArray(this.open.pop());
+            case VALUE -> this.writeValue(node.toValue());
+            case NULL -> this.nullOffset;
+        };
+
+        if (this.open.isEmpty()) {
+            this.rootOffset = offset;
+        } else {
+            final Children parent = this.open.peek();
+
+            if (parent.object) {
+                final String key = path.key(path.depth() - 1);
+                parent.add(key.hashCode());
+                parent.add(this.writeString(key));
+            }
+
+            parent.add(offset);
+        }
+
+        return VisitResult.CONTINUE;
+    }
+
+    private int writeObject(final Children children) {
+        final int count = children.size / 3;
+
+        // Sort the entries by the hash of their key; the low bits keep the entry index
+        final long[] order = new long[count];
+        for (int i = 0; i < count; ++i) {
+            order[i] = ((long) children.values[3 * i] << 32) | i;
+        }
+        Arrays.sort(order);
+
+        final int offset = this.putByte(TAG_OBJECT);
+        this.putInt(count);
+
+        for (final long sorted : order) {
+            final int index = (int) sorted;
+
+            this.putInt(children.values[3 * index]);
+            this.putInt(children.values[3 * index + 1]);
+            this.putInt(children.values[3 * index + 2]);
+        }
+
+        return offset;
+    }
+
+    private int writeArray(final Children children) {
+        final int offset = this.putByte(TAG_ARRAY);
+        this.putInt(children.size);
+
+        for (int i = 0; i < children.size; ++i) {
+            this.putInt(children.values[i]);
+        }
+
+        return offset;
+    }
+
+    private int writeValue(final ValueNode node) {
+        final Object value = node.value();
+
+        if (value instanceof String string) {
+            return this.writeString(string);
+        }
+
+        if (value instanceof Boolean bool) {
+            return bool ? this.trueOffset : this.falseOffset;
+        }
+
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long) {
+            final int offset = this.putByte(TAG_LONG);
+            this.putLong(((Number) value).longValue());
+
+            return offset;
+        }
+
+        if (value instanceof Number number) {
+            final int offset = this.putByte(TAG_DOUBLE);
+            this.putLong(Double.doubleToLongBits(number.doubleValue()));
+
+            return offset;
+        }
+
+        return this.writeString(String.valueOf(value));
+    }
+
+    private int writeString(final String string) {
+        final Integer existing = this.strings.get(string);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        final byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+        final int offset = this.putByte(TAG_STRING);
+        this.putInt(utf8.length);
+        this.ensureCapacity(utf8.length);
+        System.arraycopy(utf8, 0, this.bytes, this.size, utf8.length);
+        this.size += utf8.length;
+
+        this.strings.put(string, offset);
+
+        return offset;
+    }
+
+    private int putByte(final byte value) {
+        this.ensureCapacity(1);
+
+        final int offset = this.size;
+        this.bytes[this.size++] = value;
+
+        return offset;
+    }
+
+    private void putInt(final int value) {
+        this.ensureCapacity(4);
+
+        // Big endian, the default byte order of a ByteBuffer
+        this.bytes[this.size++] = (byte) (value >>> 24);
+        this.bytes[this.size++] = (byte) (value >>> 16);
+        this.bytes[this.size++] = (byte) (value >>> 8);
+        this.bytes[this.size++] = (byte) value;
+    }
+
+    private void putLong(final long value) {
+        this.putInt((int) (value >>> 32));
+        this.putInt((int) value);
+    }
+
+    private void ensureCapacity(final int additional) {
+        final long required = (long) this.size + additional;
+
+        if (required > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("The encoded tree exceeds the maximum size of 2 GiB");
+        }
+
+        if (required > this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(required, 2L * this.bytes.length)));
+        }
+    }
+
+    /**
+     * The encoded children of a container that is currently open:
+     * {@code (hash, keyOffset, valueOffset)} triples for objects and value offsets for arrays.
+     */
+    private static final class Children {
+        private final boolean object;
+        private int[] values = new int[12];
+        private int size;
+
+        private Children(final boolean object) {
+            this.object = object;
+        }
+
+        private void add(final int value) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, 2 * this.values.length);
+            }
+
+            this.values[this.size++] = value;
+        }
+    }
+}
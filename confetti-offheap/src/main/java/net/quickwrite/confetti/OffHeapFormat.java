@@ -0,0 +1,265 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import net.quickwrite.confetti.exception.InvalidNodeTypeException;
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utility class that describes the binary layout of an {@link OffHeapTree} and
+ * decodes its records.
+ *
+ * <p>The buffer starts with a header followed by the records of all nodes:
+ * <pre>
+ * header  := MAGIC:int VERSION:int rootOffset:int byteSize:int
+ * null    := TAG_NULL
+ * boolean := TAG_TRUE | TAG_FALSE
+ * long    := TAG_LONG value:long
+ * double  := TAG_DOUBLE bits:long
+ * string  := TAG_STRING byteLength:int utf8:byte[byteLength]
+ * object  := TAG_OBJECT count:int (hash:int keyOffset:int valueOffset:int)[count]
+ * array   := TAG_ARRAY count:int valueOffset:int[count]
+ * </pre>
+ *
+ * <p>
+ * All offsets are absolute positions in the buffer. The entries of an object are sorted
+ * by the {@link String#hashCode()} of their key, so a key is found with a binary search.
+ * Every record is written after the records it refers to, and equal strings are
+ * only written once.
+ *
+ * <p>
+ * All reads use absolute positions, so a buffer can be read by any number of
+ * threads at the same time.
+ *
+ * <hr>
+ *
+ * This class is intentionally non-instantiable and exposes only static
+ * utility methods.
+ */
+final class OffHeapFormat {
+    static final int MAGIC = 0x43465448;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int ROOT_OFFSET_POSITION = 8;
+    static final int BYTE_SIZE_POSITION = 12;
+
+    static final byte TAG_NULL = 0;
+    static final byte TAG_TRUE = 1;
+    static final byte TAG_FALSE = 2;
+    static final byte TAG_LONG = 3;
+    static final byte TAG_DOUBLE = 4;
+    static final byte TAG_STRING = 5;
+    static final byte TAG_OBJECT = 6;
+    static final byte TAG_ARRAY = 7;
+
+    /** The size of an object entry in bytes. */
+    static final int ENTRY_SIZE = 12;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private OffHeapFormat() {}
+
+    /**
+     * Wraps the record at the offset into the corresponding {@link ConfigNode}.
+     *
+     * @param buffer  the buffer of the tree
+     * @param offset  the offset of the record
+     * @param parent  the parent of the node or {@code null} for the root
+     * @param segment the segment identifying the node within its parent or {@code null} for the root
+     * @return the node
+     */
+    static ConfigNode toConfigNode(final ByteBuffer buffer, final int offset, final ConfigNode parent, final PathSegment segment) {
+        return switch (buffer.get(offset)) {
+            case TAG_OBJECT -> parent == null
+                    ? new OffHeapObjectNode(buffer, offset)
+                    : new OffHeapObjectNode(buffer, offset, parent, segment);
+            case TAG_ARRAY -> parent == null
+                    ? new OffHeapArrayNode(buffer, offset)
+                    : new OffHeapArrayNode(buffer, offset, parent, segment);
+            case TAG_NULL -> parent == null ? new NullNode() : new NullNode(parent, segment);
+            default -> parent == null
+                    ? new OffHeapValueNode(buffer, offset)
+                    : new OffHeapValueNode(buffer, offset, parent, segment);
+        };
+    }
+
+    /**
+     * Checks if the record is absent or {@code null}.
+     */
+    static boolean isAbsent(final ByteBuffer buffer, final int offset) {
+        return offset < 0 || buffer.get(offset) == TAG_NULL;
+    }
+
+    /**
+     * Returns the offset if the record is a scalar.
+     *
+     * @throws InvalidNodeTypeException if the record is an object, an array or {@code null}
+     */
+    static int requireValue(final ByteBuffer buffer, final int offset) {
+        return switch (buffer.get(offset)) {
+            case TAG_OBJECT, TAG_ARRAY, TAG_NULL -> throw new InvalidNodeTypeException("The node cannot be used as a value node.");
+            default -> offset;
+        };
+    }
+
+    static String asString(final ByteBuffer buffer, final int offset) {
+        if (buffer.get(offset) != TAG_STRING) {
+            throw new ClassCastException("The value at offset " + offset + " is not a string");
+        }
+
+        return decodeString(buffer, offset);
+    }
+
+    static long asLong(final ByteBuffer buffer, final int offset) {
+        return switch (buffer.get(offset)) {
+            case TAG_LONG -> buffer.getLong(offset + 1);
+            case TAG_DOUBLE -> (long) Double.longBitsToDouble(buffer.getLong(offset + 1));
+            default -> throw new ClassCastException("The value at offset " + offset + " is not a number");
+        };
+    }
+
+    static double asDouble(final ByteBuffer buffer, final int offset) {
+        return switch (buffer.get(offset)) {
+            case TAG_LONG -> buffer.getLong(offset + 1);
+            case TAG_DOUBLE -> Double.longBitsToDouble(buffer.getLong(offset + 1));
+            default -> throw new ClassCastException("The value at offset " + offset + " is not a number");
+        };
+    }
+
+    static boolean asBoolean(final ByteBuffer buffer, final int offset) {
+        return switch (buffer.get(offset)) {
+            case TAG_TRUE -> true;
+            case TAG_FALSE -> false;
+            default -> throw new ClassCastException("The value at offset " + offset + " is not a boolean");
+        };
+    }
+
+    static Object value(final ByteBuffer buffer, final int offset) {
+        return switch (buffer.get(offset)) {
+            case TAG_STRING -> decodeString(buffer, offset);
+            case TAG_LONG -> buffer.getLong(offset + 1);
+            case TAG_DOUBLE -> Double.longBitsToDouble(buffer.getLong(offset + 1));
+            case TAG_TRUE -> Boolean.TRUE;
+            case TAG_FALSE -> Boolean.FALSE;
+            default -> throw new InvalidNodeTypeException("The node cannot be used as a value node.");
+        };
+    }
+
+    /**
+     * Returns the number of entries of an object or elements of an array.
+     */
+    static int count(final ByteBuffer buffer, final int offset) {
+        return buffer.getInt(offset + 1);
+    }
+
+    static String keyAt(final ByteBuffer buffer, final int objectOffset, final int index) {
+        return decodeString(buffer, buffer.getInt(entryPosition(objectOffset, index) + 4));
+    }
+
+    static int valueAt(final ByteBuffer buffer, final int objectOffset, final int index) {
+        return buffer.getInt(entryPosition(objectOffset, index) + 8);
+    }
+
+    static int elementAt(final ByteBuffer buffer, final int arrayOffset, final int index) {
+        return buffer.getInt(arrayOffset + 5 + 4 * index);
+    }
+
+    /**
+     * Finds the value record of the key in an object.
+     *
+     * @return the offset of the value record or {@code -1} if the key is not present
+     */
+    static int lookup(final ByteBuffer buffer, final int objectOffset, final String key) {
+        if (key == null) {
+            return -1;
+        }
+
+        final int hash = key.hashCode();
+        int low = 0;
+        int high = count(buffer, objectOffset) - 1;
+
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int middleHash = buffer.getInt(entryPosition(objectOffset, middle));
+
+            if (middleHash < hash) {
+                low = middle + 1;
+            } else if (middleHash > hash) {
+                high = middle - 1;
+            } else {
+                // Check all entries with the same hash, starting at the first one
+                int index = middle;
+                while (index > 0 && buffer.getInt(entryPosition(objectOffset, index - 1)) == hash) {
+                    --index;
+                }
+
+                final int count = count(buffer, objectOffset);
+                for (; index < count && buffer.getInt(entryPosition(objectOffset, index)) == hash; ++index) {
+                    final int position = entryPosition(objectOffset, index);
+
+                    if (stringEquals(buffer, buffer.getInt(position + 4), key)) {
+                        return buffer.getInt(position + 8);
+                    }
+                }
+
+                return -1;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int entryPosition(final int objectOffset, final int index) {
+        return objectOffset + 5 + ENTRY_SIZE * index;
+    }
+
+    static String decodeString(final ByteBuffer buffer, final int offset) {
+        final byte[] bytes = new byte[buffer.getInt(offset + 1)];
+        buffer.get(offset + 5, bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares a string record with the string without decoding ASCII strings.
+     */
+    private static boolean stringEquals(final ByteBuffer buffer, final int offset, final String string) {
+        final int length = buffer.getInt(offset + 1);
+        final int start = offset + 5;
+
+        if (length == string.length()) {
+            boolean ascii = true;
+
+            for (int i = 0; i < length; ++i) {
+                final char c = string.charAt(i);
+                final byte b = buffer.get(start + i);
+
+                if (c >= 0x80 || b < 0) {
+                    ascii = false;
+                    break;
+                }
+
+                if (c != b) {
+                    return false;
+                }
+            }
+
+            if (ascii) {
+                return true;
+            }
+        } else if (length < string.length()) {
+            // UTF-8 never needs fewer bytes than there are chars
+            return false;
+        }
+
+        return decodeString(buffer, offset).equals(string);
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link ObjectNode} implementation that reads an object of an {@link OffHeapTree}.
+ *
+ * <p>
+ * Keys are found with a binary search over the hash codes stored in the buffer and
+ * compared without decoding them. Values are decoded on access; all collections
+ * returned by this class are unmodifiable, lazy views. The keys iterate in the order
+ * of their hash codes.
+ */
+public final class OffHeapObjectNode extends AbstractConfigNode implements ObjectNode {
+    private final ByteBuffer buffer;
+    private final int offset;
+
+    /** The cached structural hash code or {@code 0} if it has not been computed yet. */
+    private int hash;
+
+    OffHeapObjectNode(final ByteBuffer buffer, final int offset) {
+        super();
+
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    OffHeapObjectNode(final ByteBuffer buffer, final int offset, final ConfigNode parent, final PathSegment key) {
+        super(parent, key);
+
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<ConfigNode> get(final String key) {
+        return Optional.ofNullable(this.getNodeOrNull(key));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConfigNode getNodeOrNull(final String key) {
+        final int value = OffHeapFormat.lookup(this.buffer, this.offset, key);
+
+        return value < 0 ? null : OffHeapFormat.toConfigNode(this.buffer, value, this, PathSegment.key(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is decoded directly from the buffer without creating a {@link ConfigNode}.
+     */
+    @Override
+    public long getLong(final String key, final long defaultValue) {
+        final int value = OffHeapFormat.lookup(this.buffer, this.offset, key);
+
+        return OffHeapFormat.isAbsent(this.buffer, value)
+                ? defaultValue
+                : OffHeapFormat.asLong(this.buffer, OffHeapFormat.requireValue(this.buffer, value));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is decoded directly from the buffer without creating a {@link ConfigNode}.
+     */
+    @Override
+    public double getDouble(final String key, final double defaultValue) {
+        final int value = OffHeapFormat.lookup(this.buffer, this.offset, key);
+
+        return OffHeapFormat.isAbsent(this.buffer, value)
+                ? defaultValue
+                : OffHeapFormat.asDouble(this.buffer, OffHeapFormat.requireValue(this.buffer, value));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is decoded directly from the buffer without creating a {@link ConfigNode}.
+     */
+    @Override
+    public boolean getBoolean(final String key, final boolean defaultValue) {
+        final int value = OffHeapFormat.lookup(this.buffer, this.offset, key);
+
+        return OffHeapFormat.isAbsent(this.buffer, value)
+                ? defaultValue
+                : OffHeapFormat.asBoolean(this.buffer, OffHeapFormat.requireValue(this.buffer, value));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The value is decoded directly from the buffer without creating a {@link ConfigNode}.
+     */
+    @Override
+    public String getString(final String key, final String defaultValue) {
+        final int value = OffHeapFormat.lookup(this.buffer, this.offset, key);
+
+        return OffHeapFormat.isAbsent(this.buffer, value)
+                ? defaultValue
+                : OffHeapFormat.asString(this.buffer, OffHeapFormat.requireValue(this.buffer, value));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<String> keys() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return count();
+            }
+
+            @Override
+            public boolean contains(final Object key) {
+                return key instanceof String string && OffHeapFormat.lookup(buffer, offset, string) >= 0;
+            }
+
+            @Override
+            public Iterator<String> iterator() {
+                return new IndexIterator<>() {
+                    @Override
+                    String at(final int index) {
+                        return OffHeapFormat.keyAt(buffer, offset, index);
+                    }
+                };
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<ConfigNode> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public int size() {
+                return count();
+            }
+
+            @Override
+            public Iterator<ConfigNode> iterator() {
+                return new IndexIterator<>() {
+                    @Override
+                    ConfigNode at(final int index) {
+                        return nodeAt(index, OffHeapFormat.keyAt(buffer, offset, index));
+                    }
+                };
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forEachEntry(final BiConsumer<? super String, ? super ConfigNode> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+
+        final int count = this.count();
+        for (int i = 0; i < count; ++i) {
+            final String key = OffHeapFormat.keyAt(this.buffer, this.offset, i);
+
+            action.accept(key, this.nodeAt(i, key));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <hr>
+     * <p>
+     * The returned map is an unmodifiable, lazy view that decodes the entries on access.
+     */
+    @Override
+    public Map<String, ConfigNode> toMap() {
+        return new AbstractMap<>() {
+            @Override
+            public int size() {
+                return count();
+            }
+
+            @Override
+            public ConfigNode get(final Object key) {
+                return key instanceof String string ? getNodeOrNull(string) : null;
+            }
+
+            @Override
+            public boolean containsKey(final Object key) {
+                return key instanceof String string && OffHeapFormat.lookup(buffer, offset, string) >= 0;
+            }
+
+            @Override
+            public Set<String> keySet() {
+                return keys();
+            }
+
+            @Override
+            public Set<Entry<String, ConfigNode>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public int size() {
+                        return count();
+                    }
+
+                    @Override
+                    public Iterator<Entry<String, ConfigNode>> iterator() {
+                        return new IndexIterator<>() {
+                            @Override
+                            Entry<String, ConfigNode> at(final int index) {
+                                final String key = OffHeapFormat.keyAt(buffer, offset, index);
+
+                                return new SimpleImmutableEntry<>(key, nodeAt(index, key));
+                            }
+                        };
+                    }
+                };
+            }
+
+            @Override
+            public void forEach(final BiConsumer<? super String, ? super ConfigNode> action) {
+                forEachEntry(action);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Nodes are compared structurally as defined by {@link NodeEquality}. Nodes that read the same
+     * record of the same buffer are equal without comparing their content.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other instanceof OffHeapObjectNode node && node.buffer == this.buffer && node.offset == this.offset) {
+            return true;
+        }
+
+        return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The structural hash code is computed on first use and cached.
+     */
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+
+        if (hash == 0) {
+            hash = NodeEquality.hash(this);
+            this.hash = hash;
+        }
+
+        return hash;
+    }
+
+    private int count() {
+        return OffHeapFormat.count(this.buffer, this.offset);
+    }
+
+    private ConfigNode nodeAt(final int index, final String key) {
+        return OffHeapFormat.toConfigNode(this.buffer, OffHeapFormat.valueAt(this.buffer, this.offset, index), this, PathSegment.key(key));
+    }
+
+    /**
+     * Iterates the entries of the object by their position in the buffer.
+     */
+    private abstract class IndexIterator<T> implements Iterator<T> {
+        private final int count = count();
+        private int index;
+
+        abstract T at(int index);
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.count;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return this.at(this.index++);
+        }
+    }
+}
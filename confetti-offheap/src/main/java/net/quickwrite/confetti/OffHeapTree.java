@@ -0,0 +1,163 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import net.quickwrite.confetti.exception.ConfigParseException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A configuration tree that is stored in a {@link ByteBuffer} outside of the Java heap.
+ *
+ * <p>
+ * The tree is encoded once into a compact binary form. The buffer is either allocated
+ * {@linkplain ByteBuffer#allocateDirect(int) directly} or mapped from a file, so the content
+ * of the tree is not scanned by the garbage collector. Only the nodes that are currently
+ * used are decoded into short-lived wrapper objects:
+ * {@snippet :
+ * OffHeapTree.write(routes, Path.of("routes.cfti"));
+ *
+ * final OffHeapTree tree = OffHeapTree.map(Path.of("routes.cfti"));
+ * final long weight = tree.root().toObject().getNodeOrNull("eu-west-1").toObject().getLong("weight", 0L);
+ * }
+ *
+ * <p>
+ * The tree is immutable and can be read by any number of threads. Keys of an object
+ * iterate in the order of their hash codes. Equal strings are stored once, so
+ * repeated keys and values do not increase the size of the buffer. An encoded tree
+ * is limited to 2 GiB.
+ */
+public final class OffHeapTree {
+    private final ByteBuffer buffer;
+    private final int rootOffset;
+
+    private OffHeapTree(final ByteBuffer buffer) {
+        if (buffer.capacity() < OffHeapFormat.HEADER_SIZE
+                || buffer.getInt(0) != OffHeapFormat.MAGIC
+                || buffer.getInt(4) != OffHeapFormat.VERSION) {
+            throw new ConfigParseException("The buffer does not contain an off-heap configuration tree.");
+        }
+
+        if (buffer.getInt(OffHeapFormat.BYTE_SIZE_POSITION) != buffer.capacity()) {
+            throw new ConfigParseException("The off-heap configuration tree is truncated.");
+        }
+
+        this.buffer = buffer;
+        this.rootOffset = buffer.getInt(OffHeapFormat.ROOT_OFFSET_POSITION);
+    }
+
+    /**
+     * Encodes the tree into a direct buffer.
+     *
+     * @param root the root of the tree to encode
+     * @return the off-heap tree
+     */
+    public static OffHeapTree encode(final ConfigNode root) {
+        Objects.requireNonNull(root, "root cannot be null");
+
+        final ByteBuffer encoded = OffHeapEncoder.encode(root);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(encoded.remaining());
+        buffer.put(encoded).flip();
+
+        return new OffHeapTree(buffer.asReadOnlyBuffer());
+    }
+
+    /**
+     * Encodes the tree into a file that can be {@link #map(Path) mapped} later.
+     *
+     * @param root the root of the tree to encode
+     * @param path the file to write; an existing file is replaced
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(final ConfigNode root, final Path path) throws IOException {
+        Objects.requireNonNull(root, "root cannot be null");
+        Objects.requireNonNull(path, "The path cannot be null.");
+
+        final ByteBuffer encoded = OffHeapEncoder.encode(root);
+
+        try (final FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (encoded.hasRemaining()) {
+                channel.write(encoded);
+            }
+        }
+    }
+
+    /**
+     * Maps a file that was created by {@link #write(ConfigNode, Path)} into memory.
+     *
+     * <p>
+     * The pages of the file are loaded by the operating system on access and
+     * are not part of the Java heap.
+     *
+     * @param path the file to map
+     * @return the off-heap tree
+     * @throws IOException if the file cannot be read
+     * @throws ConfigParseException if the file does not contain an off-heap tree
+     */
+    public static OffHeapTree map(final Path path) throws IOException {
+        Objects.requireNonNull(path, "The path cannot be null.");
+
+        if (!Files.exists(path)) {
+            throw new IOException("The provided file path does not exist.");
+        }
+
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new OffHeapTree(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Wraps a buffer that contains an encoded tree.
+     *
+     * <p>
+     * The content between position {@code 0} and the capacity of the buffer is used; the
+     * buffer must not be modified afterward.
+     *
+     * @param buffer the buffer containing the tree
+     * @return the off-heap tree
+     * @throws ConfigParseException if the buffer does not contain an off-heap tree
+     */
+    public static OffHeapTree wrap(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer cannot be null");
+
+        return new OffHeapTree(buffer.duplicate().clear().slice().asReadOnlyBuffer());
+    }
+
+    /**
+     * Returns the root node of the tree.
+     *
+     * @return the root node
+     */
+    public ConfigNode root() {
+        return OffHeapFormat.toConfigNode(this.buffer, this.rootOffset, null, null);
+    }
+
+    /**
+     * Returns the size of the encoded tree.
+     *
+     * @return the number of bytes of the buffer
+     */
+    public long byteSize() {
+        return this.buffer.capacity();
+    }
+
+    /**
+     * Checks if the tree is stored outside of the Java heap.
+     *
+     * @return {@code true} if the buffer is direct or mapped
+     */
+    public boolean isOffHeap() {
+        return this.buffer.isDirect();
+    }
+}
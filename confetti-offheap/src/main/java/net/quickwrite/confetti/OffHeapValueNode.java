@@ -0,0 +1,90 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import net.quickwrite.confetti.path.PathSegment;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ValueNode} implementation that decodes a scalar of an {@link OffHeapTree} on access.
+ */
+public final class OffHeapValueNode extends AbstractConfigNode implements ValueNode {
+    private final ByteBuffer buffer;
+    private final int offset;
+
+    OffHeapValueNode(final ByteBuffer buffer, final int offset) {
+        super();
+
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    OffHeapValueNode(final ByteBuffer buffer, final int offset, final ConfigNode parent, final PathSegment key) {
+        super(parent, key);
+
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String asString() {
+        return OffHeapFormat.asString(this.buffer, this.offset);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long asLong() {
+        return OffHeapFormat.asLong(this.buffer, this.offset);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double asDouble() {
+        return OffHeapFormat.asDouble(this.buffer, this.offset);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean asBoolean() {
+        return OffHeapFormat.asBoolean(this.buffer, this.offset);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object value() {
+        return OffHeapFormat.value(this.buffer, this.offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Nodes are compared structurally as defined by {@link NodeEquality}. Nodes that read the same
+     * record of the same buffer are equal without comparing their content.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (other instanceof OffHeapValueNode node) {
+            return (node.buffer == this.buffer && node.offset == this.offset) || NodeEquality.equals(this, node);
+        }
+
+        return other instanceof ConfigNode node && NodeEquality.equals(this, node);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The hash code is derived from {@link #value()} as defined by {@link NodeEquality#valueHash(Object)}.
+     */
+    @Override
+    public int hashCode() {
+        return NodeEquality.valueHash(this.value());
+    }
+}
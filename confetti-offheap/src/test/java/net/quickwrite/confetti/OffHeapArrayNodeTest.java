@@ -0,0 +1,94 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import net.quickwrite.confetti.exception.InvalidNodeTypeException;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.tree.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapArrayNodeTest {
+    private static ArrayNode encode(final ConfigData data) {
+        return OffHeapTree.encode(ConfigTree.root(data)).root().toArray();
+    }
+
+    private static ArrayNode numbers() {
+        ArrayData.Builder builder = ArrayData.builder();
+        for (int i = 0; i < 100; ++i) {
+            builder.add(ScalarData.ofLong(i));
+        }
+
+        return encode(builder.build());
+    }
+
+    @Test
+    void getReturnsElementsWithPath() {
+        ArrayNode node = encode(ArrayData.builder()
+                .add(ScalarData.ofString("s"))
+                .add(NullData.INSTANCE)
+                .add(ObjectData.empty())
+                .add(ArrayData.empty())
+                .build());
+
+        assertInstanceOf(OffHeapArrayNode.class, node);
+        assertEquals(4, node.size());
+        assertEquals(NodeType.VALUE, node.get(0).type());
+        assertEquals(NodeType.NULL, node.get(1).type());
+        assertEquals(NodeType.OBJECT, node.get(2).type());
+        assertEquals(NodeType.ARRAY, node.get(3).type());
+        assertEquals(Optional.of(PathSegment.index(2)), node.get(2).key());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> node.get(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> node.get(-1));
+    }
+
+    @Test
+    void typedAccessors() {
+        ArrayNode node = encode(ArrayData.builder()
+                .add(ScalarData.ofLong(3))
+                .add(ScalarData.ofDouble(1.5))
+                .add(ScalarData.ofBoolean(true))
+                .add(ScalarData.ofString("text"))
+                .add(NullData.INSTANCE)
+                .build());
+
+        assertEquals(3L, node.getLong(0));
+        assertEquals(1.5, node.getDouble(1));
+        assertEquals(1L, node.getLong(1));
+        assertTrue(node.getBoolean(2));
+        assertEquals("text", node.getString(3));
+
+        assertThrows(InvalidNodeTypeException.class, () -> node.getLong(4));
+        assertThrows(ClassCastException.class, () -> node.getLong(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> node.getLong(5));
+    }
+
+    @Test
+    void bulkExtraction() {
+        ArrayNode node = numbers();
+
+        long[] values = node.toLongArray();
+        assertEquals(100, values.length);
+        assertEquals(99L, values[99]);
+        assertEquals(4950L, node.stream().mapToLong(element -> element.toValue().asLong()).sum());
+    }
+
+    @Test
+    void toListIsUnmodifiableView() {
+        ArrayNode node = numbers();
+        List<ConfigNode> list = node.toList();
+
+        assertEquals(100, list.size());
+        assertEquals(42L, list.get(42).toValue().asLong());
+        assertThrows(UnsupportedOperationException.class, () -> list.add(list.get(0)));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import net.quickwrite.confetti.exception.InvalidNodeTypeException;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.tree.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapObjectNodeTest {
+    private static ObjectNode encode(final ConfigData data) {
+        return OffHeapTree.encode(ConfigTree.root(data)).root().toObject();
+    }
+
+    private static ObjectNode server() {
+        return encode(ObjectData.builder()
+                .put("host", ScalarData.ofString("localhost"))
+                .put("port", ScalarData.ofLong(8080))
+                .put("load", ScalarData.ofDouble(0.5))
+                .put("secure", ScalarData.ofBoolean(false))
+                .put("proxy", NullData.INSTANCE)
+                .put("limits", ObjectData.builder().put("rate", ScalarData.ofLong(10)).build())
+                .build());
+    }
+
+    @Test
+    void getReturnsChildrenWithPath() {
+        ObjectNode node = server();
+
+        assertInstanceOf(OffHeapObjectNode.class, node);
+        assertTrue(node.get("unknown").isEmpty());
+        assertNull(node.getNodeOrNull(null));
+
+        ConfigNode rate = node.getNodeOrNull("limits").toObject().getNodeOrNull("rate");
+        assertEquals(10L, rate.toValue().asLong());
+        assertEquals(Optional.of(PathSegment.key("rate")), rate.key());
+        assertTrue(node.get("proxy").orElseThrow().isNull());
+    }
+
+    @Test
+    void typedAccessors() {
+        ObjectNode node = server();
+
+        assertEquals("localhost", node.getString("host", null));
+        assertEquals(8080L, node.getLong("port", 0L));
+        assertEquals(8080.0, node.getDouble("port", 0.0));
+        assertEquals(0.5, node.getDouble("load", 0.0));
+        assertFalse(node.getBoolean("secure", true));
+
+        assertEquals(7L, node.getLong("unknown", 7L));
+        assertEquals(7L, node.getLong("proxy", 7L));
+        assertEquals("fallback", node.getString("proxy", "fallback"));
+
+        assertThrows(InvalidNodeTypeException.class, () -> node.getLong("limits", 0L));
+        assertThrows(ClassCastException.class, () -> node.getLong("host", 0L));
+    }
+
+    @Test
+    void keysValuesAndMapAreConsistent() {
+        ObjectNode node = server();
+
+        assertEquals(Set.of("host", "port", "load", "secure", "proxy", "limits"), node.keys());
+        assertTrue(node.keys().contains("port"));
+        assertFalse(node.keys().contains(1));
+        assertEquals(6, node.values().size());
+
+        Map<String, ConfigNode> map = node.toMap();
+        assertEquals(6, map.size());
+        assertTrue(map.containsKey("host"));
+        assertNull(map.get("unknown"));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("host"));
+
+        List<String> iterated = new ArrayList<>();
+        for (Map.Entry<String, ConfigNode> entry : map.entrySet()) {
+            iterated.add(entry.getKey());
+            assertEquals(PathSegment.key(entry.getKey()), entry.getValue().key().orElseThrow());
+        }
+        assertEquals(new ArrayList<>(node.keys()), iterated);
+    }
+
+    @Test
+    void forEachEntryAndCursorVisitAllEntries() {
+        ObjectNode node = server();
+
+        List<String> forEach = new ArrayList<>();
+        node.forEachEntry((key, value) -> forEach.add(key));
+
+        List<String> cursor = new ArrayList<>();
+        EntryCursor entries = node.entryCursor();
+        while (entries.next()) {
+            cursor.add(entries.key());
+            assertNotNull(entries.value());
+        }
+
+        assertEquals(new ArrayList<>(node.keys()), forEach);
+        assertEquals(forEach, cursor);
+        assertThrows(NullPointerException.class, () -> node.forEachEntry(null));
+    }
+
+    @Test
+    void collidingKeys() {
+        // "Aa" and "BB" share the same String#hashCode
+        ObjectNode node = encode(ObjectData.builder()
+                .put("Aa", ScalarData.ofLong(1))
+                .put("BB", ScalarData.ofLong(2))
+                .put("AaAa", ScalarData.ofLong(3))
+                .put("BBBB", ScalarData.ofLong(4))
+                .put("AaBB", ScalarData.ofLong(5))
+                .build());
+
+        assertEquals(1L, node.getLong("Aa", 0L));
+        assertEquals(2L, node.getLong("BB", 0L));
+        assertEquals(3L, node.getLong("AaAa", 0L));
+        assertEquals(4L, node.getLong("BBBB", 0L));
+        assertEquals(5L, node.getLong("AaBB", 0L));
+        assertEquals(0L, node.getLong("BBAa", 0L));
+    }
+
+    @Test
+    void unicodeKeys() {
+        ObjectNode node = encode(ObjectData.builder()
+                .put("grüße", ScalarData.ofString("hallo"))
+                .put("日本", ScalarData.ofString("東京"))
+                .put("gru", ScalarData.ofString("ascii"))
+                .build());
+
+        assertEquals("hallo", node.getString("grüße", null));
+        assertEquals("東京", node.getString("日本", null));
+        assertEquals("ascii", node.getString("gru", null));
+        assertNull(node.getString("grüsse", null));
+        assertEquals(Set.of("grüße", "日本", "gru"), node.keys());
+    }
+
+    @Test
+    void largeObject() {
+        ObjectData.Builder builder = ObjectData.builder();
+        for (int i = 0; i < 10_000; ++i) {
+            builder.put("key" + i, ScalarData.ofLong(i));
+        }
+        ObjectNode node = encode(builder.build());
+
+        assertEquals(10_000, node.keys().size());
+        for (int i = 0; i < 10_000; ++i) {
+            assertEquals(i, node.getLong("key" + i, -1L));
+        }
+        assertEquals(-1L, node.getLong("key10000", -1L));
+    }
+}
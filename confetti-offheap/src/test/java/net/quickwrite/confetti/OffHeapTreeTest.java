@@ -0,0 +1,156 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import net.quickwrite.confetti.exception.ConfigParseException;
+import net.quickwrite.confetti.tree.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapTreeTest {
+    private static ObjectData sample() {
+        return ObjectData.builder()
+                .put("name", ScalarData.ofString("gateway"))
+                .put("port", ScalarData.ofLong(8080))
+                .put("ratio", ScalarData.ofDouble(0.75))
+                .put("enabled", ScalarData.ofBoolean(true))
+                .put("missing", NullData.INSTANCE)
+                .put("tags", ArrayData.builder()
+                        .add(ScalarData.ofString("a"))
+                        .add(ScalarData.ofString("b"))
+                        .build())
+                .put("nested", ObjectData.builder()
+                        .put("depth", ScalarData.ofLong(2))
+                        .build())
+                .build();
+    }
+
+    @Test
+    void encodeRoundTrip() {
+        ObjectData data = sample();
+        OffHeapTree tree = OffHeapTree.encode(ConfigTree.root(data));
+
+        assertTrue(tree.isOffHeap());
+        assertEquals(data, ConfigTree.copyOf(tree.root()));
+    }
+
+    @Test
+    void encodeRejectsNull() {
+        assertThrows(NullPointerException.class, () -> OffHeapTree.encode(null));
+        assertThrows(NullPointerException.class, () -> OffHeapTree.wrap(null));
+    }
+
+    @Test
+    void scalarAndNullRoots() {
+        assertEquals(42L, OffHeapTree.encode(ConfigTree.root(ScalarData.ofLong(42))).root().toValue().asLong());
+        assertTrue(OffHeapTree.encode(ConfigTree.root(NullData.INSTANCE)).root().isNull());
+        assertEquals(0, OffHeapTree.encode(ConfigTree.root(ArrayData.empty())).root().toArray().size());
+    }
+
+    @Test
+    void writeAndMapFile(@TempDir final Path directory) throws IOException {
+        Path file = directory.resolve("config.cfti");
+        ObjectData data = sample();
+
+        OffHeapTree.write(ConfigTree.root(data), file);
+        OffHeapTree tree = OffHeapTree.map(file);
+
+        assertEquals(Files.size(file), tree.byteSize());
+        assertTrue(tree.isOffHeap());
+        assertEquals(data, ConfigTree.copyOf(tree.root()));
+    }
+
+    @Test
+    void mapMissingFile(@TempDir final Path directory) {
+        assertThrows(IOException.class, () -> OffHeapTree.map(directory.resolve("missing.cfti")));
+    }
+
+    private static ByteBuffer heapCopy(final Path directory) throws IOException {
+        Path file = directory.resolve("config.cfti");
+        OffHeapTree.write(ConfigTree.root(sample()), file);
+
+        return ByteBuffer.wrap(Files.readAllBytes(file));
+    }
+
+    @Test
+    void wrapHeapBuffer(@TempDir final Path directory) throws IOException {
+        OffHeapTree tree = OffHeapTree.wrap(heapCopy(directory));
+
+        assertFalse(tree.isOffHeap());
+        assertEquals(sample(), ConfigTree.copyOf(tree.root()));
+    }
+
+    @Test
+    void wrapRejectsInvalidContent() {
+        assertThrows(ConfigParseException.class, () -> OffHeapTree.wrap(ByteBuffer.allocate(4)));
+        assertThrows(ConfigParseException.class, () -> OffHeapTree.wrap(ByteBuffer.allocate(64)));
+    }
+
+    @Test
+    void wrapRejectsTruncatedContent(@TempDir final Path directory) throws IOException {
+        ByteBuffer copy = heapCopy(directory);
+
+        assertThrows(ConfigParseException.class, () -> OffHeapTree.wrap(copy.limit(copy.capacity() - 1).slice()));
+    }
+
+    @Test
+    void repeatedStringsAreStoredOnce() {
+        ObjectData.Builder few = ObjectData.builder();
+        ObjectData.Builder many = ObjectData.builder();
+        for (int i = 0; i < 100; ++i) {
+            ObjectData route = ObjectData.builder()
+                    .put("region", ScalarData.ofString("eu-west-1-a-very-long-region-name"))
+                    .build();
+
+            if (i < 10) {
+                few.put("route" + i, route);
+            }
+            many.put("route" + i, route);
+        }
+
+        long fewSize = OffHeapTree.encode(ConfigTree.root(few.build())).byteSize();
+        long manySize = OffHeapTree.encode(ConfigTree.root(many.build())).byteSize();
+
+        // Every additional route only costs its own key and records, not the region string
+        assertTrue((manySize - fewSize) / 90 < "eu-west-1-a-very-long-region-name".length() + 30);
+    }
+
+    @Test
+    void deepTree() {
+        ConfigData data = ScalarData.ofLong(1);
+        for (int i = 0; i < 10_000; ++i) {
+            data = ObjectData.builder().put("child", data).build();
+        }
+
+        ConfigNode node = OffHeapTree.encode(ConfigTree.root(data)).root();
+        for (int i = 0; i < 10_000; ++i) {
+            node = node.toObject().getNodeOrNull("child");
+        }
+
+        assertEquals(1L, node.toValue().asLong());
+    }
+
+    @Test
+    void equalityMatchesSourceTree() {
+        ObjectData data = sample();
+        ConfigNode root = OffHeapTree.encode(ConfigTree.root(data)).root();
+
+        assertEquals(data.hashCode(), root.hashCode());
+        assertEquals(ConfigTree.root(data), root);
+        assertEquals(root, ConfigTree.root(data));
+        assertEquals(root, OffHeapTree.encode(ConfigTree.root(data)).root());
+        assertNotEquals(root, ConfigTree.root(data.without("tags")));
+        assertEquals(root.toObject().getNodeOrNull("tags"), root.toObject().getNodeOrNull("tags"));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti;
+
+import net.quickwrite.confetti.tree.ConfigTree;
+import net.quickwrite.confetti.tree.ScalarData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapValueNodeTest {
+    private static ValueNode encode(final ScalarData data) {
+        return OffHeapTree.encode(ConfigTree.root(data)).root().toValue();
+    }
+
+    @Test
+    void stringValue() {
+        ValueNode node = encode(ScalarData.ofString("ünïcödé"));
+
+        assertInstanceOf(OffHeapValueNode.class, node);
+        assertEquals("ünïcödé", node.asString());
+        assertEquals("ünïcödé", node.value());
+        assertThrows(ClassCastException.class, node::asLong);
+        assertThrows(ClassCastException.class, node::asBoolean);
+    }
+
+    @Test
+    void numberValues() {
+        ValueNode integral = encode(ScalarData.ofLong(Long.MIN_VALUE));
+        assertEquals(Long.MIN_VALUE, integral.asLong());
+        assertEquals(Long.MIN_VALUE, integral.value());
+        assertEquals((double) Long.MIN_VALUE, integral.asDouble());
+
+        ValueNode decimal = encode(ScalarData.ofDouble(-2.75));
+        assertEquals(-2.75, decimal.asDouble());
+        assertEquals(-2.75, decimal.value());
+        assertEquals(-2L, decimal.asLong());
+        assertThrows(ClassCastException.class, decimal::asString);
+    }
+
+    @Test
+    void booleanValues() {
+        assertTrue(encode(ScalarData.ofBoolean(true)).asBoolean());
+        assertFalse(encode(ScalarData.ofBoolean(false)).asBoolean());
+        assertEquals(Boolean.TRUE, encode(ScalarData.ofBoolean(true)).value());
+        assertThrows(ClassCastException.class, () -> encode(ScalarData.ofBoolean(true)).asDouble());
+    }
+}
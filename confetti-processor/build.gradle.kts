@@ -8,6 +8,7 @@ dependencies {
     implementation("com.sun.codemodel:codemodel:2.6")
 
     // Tests
+    testImplementation(project(":confetti-core"))
     testImplementation("org.junit.jupiter:junit-jupiter-api:5.8.1")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.8.1")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
@@ -0,0 +1,86 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeMirror;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Reads values of annotations that cannot be accessed through the annotation
+ * interface at compile time, like {@link Class} values.
+ *
+ * <hr>
+ *
+ * This class is intentionally non-instantiable and exposes only static
+ * utility methods.
+ */
+final class AnnotationValues {
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private AnnotationValues() {}
+
+    /**
+     * Extracts TypeMirror values from an annotation element of type Class or Class[].
+     *
+     * @param element the element that is annotated (e.g. a TypeElement or ExecutableElement)
+     * @param annotationQualifiedName fully-qualified annotation class name (e.g. "com.example.TypeResolver")
+     * @param annotationElementName the annotation element name (e.g. "value")
+     * @param processingEnv the processing environment (available in your processor)
+     * @return a list of TypeMirror objects; never null (empty if nothing found)
+     */
+    static List<TypeMirror> getClassTypedAnnotationValues(
+            final Element element,
+            final String annotationQualifiedName,
+            final String annotationElementName,
+            final ProcessingEnvironment processingEnv
+    ) {
+        for (final AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            if (!annotationQualifiedName.equals(annotationMirror.getAnnotationType().toString())) {
+                continue;
+            }
+
+            final Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                                        processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror);
+
+            for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+                if (!annotationElementName.contentEquals(entry.getKey().getSimpleName())) {
+                    continue;
+                }
+
+                final AnnotationValue value = entry.getValue();
+                final Object content = value.getValue();
+
+                // If the annotation element is an array, the value will be a List<AnnotationValue>
+                if (content instanceof List) {
+                    @SuppressWarnings("unchecked")
+                    final List<? extends AnnotationValue> list = (List<? extends AnnotationValue>) content;
+
+                    return list.stream()
+                            .map(val -> (TypeMirror) val.getValue())
+                            .collect(Collectors.toList());
+                }
+
+                if (content instanceof TypeMirror) {
+                    return Collections.singletonList((TypeMirror) content);
+                }
+
+                return Collections.emptyList();
+            }
+        }
+
+        return Collections.emptyList();
+    }
+}
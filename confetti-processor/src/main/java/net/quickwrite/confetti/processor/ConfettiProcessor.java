@@ -16,6 +16,12 @@ import java.util.stream.Collectors;
 
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
 public class ConfettiProcessor extends AbstractProcessor {
+    /**
+     * The option that enables the generation of the schemas of the configs,
+     * for example {@code -Aconfetti.schema=true}.
+     */
+    public static final String SCHEMA_OPTION = "confetti.schema";
+
     private Collection<SimpleProcessor> processors;
 
     public synchronized void init(final ProcessingEnvironment processingEnv) {
@@ -24,7 +30,8 @@ public class ConfettiProcessor extends AbstractProcessor {
         final UnknownDependencyList dependencyList = new UnknownDependencyList();
         processors = List.of(
                 new ConfigProcessor(dependencyList, processingEnv),
-                new TypeResolverProcessor(dependencyList,  processingEnv)
+                new TypeResolverProcessor(dependencyList,  processingEnv),
+                new MigrationProcessor(processingEnv)
         );
     }
 
@@ -49,6 +56,11 @@ public class ConfettiProcessor extends AbstractProcessor {
         return true; // Claim the ConfettiConfigs
     }
 
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(SCHEMA_OPTION);
+    }
+
     @Override
     public Set<String> getSupportedAnnotationTypes() {
         return this.processors.stream().map(p -> p.annotation().getCanonicalName()).collect(Collectors.toUnmodifiableSet());
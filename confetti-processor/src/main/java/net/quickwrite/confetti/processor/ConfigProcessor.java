@@ -7,15 +7,20 @@
 package net.quickwrite.confetti.processor;
 
 import net.quickwrite.confetti.ConfettiConfig;
+import net.quickwrite.confetti.DefaultValue;
+import net.quickwrite.confetti.processor.data.DefaultConstant;
 import net.quickwrite.confetti.processor.data.UnknownDependencyList;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.Elements;
+import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Types;
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -25,9 +30,29 @@ public final class ConfigProcessor implements SimpleProcessor {
     private final UnknownDependencyList unknownDependencyList;
     private final ProcessingEnvironment processingEnv;
 
+    private final DefaultValueConverter defaultValueConverter;
+    private final DefaultsGenerator defaultsGenerator;
+    /** The generator of the schemas or {@code null} if they are not generated. */
+    private final SchemaGenerator schemaGenerator;
+
+    /** The compile-time converted default values of every config that has not been generated yet. */
+    private final Map<TypeElement, List<DefaultConstant>> defaultConstants = new HashMap<>();
+
+    /** The keys of every config whose schema has not been generated yet. */
+    private final Map<TypeElement, List<ExecutableElement>> schemaKeys = new HashMap<>();
+
+    /** The instance methods of every type that has been expanded in this round. */
+    private final Map<TypeElement, List<ExecutableElement>> expandedTypes = new HashMap<>();
+
     public ConfigProcessor(final UnknownDependencyList unknownDependencyList, final ProcessingEnvironment processingEnv) {
         this.unknownDependencyList = unknownDependencyList;
         this.processingEnv = processingEnv;
+
+        this.defaultValueConverter = new DefaultValueConverter(processingEnv);
+        this.defaultsGenerator = new DefaultsGenerator(processingEnv);
+        this.schemaGenerator = Boolean.parseBoolean(processingEnv.getOptions().get(ConfettiProcessor.SCHEMA_OPTION))
+                ? new SchemaGenerator(processingEnv)
+                : null;
     }
 
     @Override
@@ -39,8 +64,14 @@ public final class ConfigProcessor implements SimpleProcessor {
 
     @Override
     public void roundEnding(final RoundEnvironment roundEnv) {
+        this.expandedTypes.clear();
+
         final Collection<TypeElement> finalizedElements = unknownDependencyList.collectKnown();
-        // TODO: Do something with those elements
+
+        for (final TypeElement finalizedElement : finalizedElements) {
+            this.generateDefaults(finalizedElement);
+            this.generateSchema(finalizedElement);
+        }
 
         if (!roundEnv.processingOver()) {
             return;
@@ -90,6 +121,8 @@ public final class ConfigProcessor implements SimpleProcessor {
         }
 
         final Set<TypeMirror> collectedTypes = new HashSet<>();
+        final List<DefaultConstant> constants = new ArrayList<>();
+        final List<ExecutableElement> keys = new ArrayList<>();
 
         for (final ExecutableElement instanceMethod : this.getAllInstanceMethods((TypeElement) element, false)) {
             // Skip methods that return nothing
@@ -98,11 +131,90 @@ public final class ConfigProcessor implements SimpleProcessor {
             }
 
             collectedTypes.add(instanceMethod.getReturnType());
+            keys.add(instanceMethod);
+
+            final DefaultValue defaultValue = instanceMethod.getAnnotation(DefaultValue.class);
+            if (defaultValue != null) {
+                this.convertDefaultValue(instanceMethod, defaultValue).ifPresent(constants::add);
+            }
+        }
+
+        if (!constants.isEmpty()) {
+            this.defaultConstants.put((TypeElement) element, constants);
+        }
+
+        if (this.schemaGenerator != null) {
+            this.schemaKeys.put((TypeElement) element, keys);
         }
 
         unknownDependencyList.addConfigWithDependencies((TypeElement) element, collectedTypes.stream().toList());
     }
 
+    /**
+     * Converts the {@link DefaultValue} of the method at compile time and reports invalid values.
+     *
+     * @param method The annotated method
+     * @param defaultValue The annotation of the method
+     * @return The converted value or {@link Optional#empty()} if it cannot be converted at compile time
+     */
+    private Optional<DefaultConstant> convertDefaultValue(final ExecutableElement method, final DefaultValue defaultValue) {
+        try {
+            return this.defaultValueConverter.convert(method, defaultValue.value());
+        } catch (final IllegalArgumentException exception) {
+            final String message = "Invalid @DefaultValue for " + method.getEnclosingElement() + "." + method + '\n' +
+                    exception.getMessage() + '\n' +
+                    "Suggestion: Fix by providing a value that can be converted into " + method.getReturnType();
+
+            processingEnv.getMessager().printError(message, method);
+
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Generates the class with the compile-time converted default values of the config.
+     *
+     * @param config The config whose dependencies are all known
+     */
+    private void generateDefaults(final TypeElement config) {
+        final List<DefaultConstant> constants = this.defaultConstants.remove(config);
+
+        if (constants == null) {
+            return;
+        }
+
+        try {
+            this.defaultsGenerator.generate(config, constants);
+        } catch (final IOException exception) {
+            processingEnv.getMessager().printError(
+                    "Could not generate the default values of " + config + ": " + exception.getMessage(),
+                    config
+            );
+        }
+    }
+
+    /**
+     * Generates the class with the schema of the config.
+     *
+     * @param config The config whose dependencies are all known
+     */
+    private void generateSchema(final TypeElement config) {
+        final List<ExecutableElement> keys = this.schemaKeys.remove(config);
+
+        if (keys == null) {
+            return;
+        }
+
+        try {
+            this.schemaGenerator.generate(config, keys);
+        } catch (final IOException exception) {
+            processingEnv.getMessager().printError(
+                    "Could not generate the schema of " + config + ": " + exception.getMessage(),
+                    config
+            );
+        }
+    }
+
     /**
      * Returns every instance (non‑static) method that a class inherits or declares,
      * excluding methods from java.lang.Object if you wish (set includeObject = false).
@@ -124,50 +236,143 @@ public final class ConfigProcessor implements SimpleProcessor {
      * }
      * }
      *
+     * <p>
+     * The methods of every supertype are only collected once per round, so configs that share
+     * base interfaces reuse the already expanded methods of those interfaces.
+     *
      * @param start The {@link TypeElement} that should be checked upon
      * @param includeObject If the methods of {@link Object} should be added
      * @return A list of {@link ExecutableElement}s that represents all methods
      */
     private List<ExecutableElement> getAllInstanceMethods(final TypeElement start, final boolean includeObject) {
-        final Elements elems = processingEnv.getElementUtils();
-        final Types types = processingEnv.getTypeUtils();
-        final List<ExecutableElement> result = new ArrayList<>();
+        final List<ExecutableElement> methods = this.expandInstanceMethods(start);
+
+        if (!includeObject) {
+            return methods;
+        }
+
+        final TypeElement object = processingEnv.getElementUtils().getTypeElement(Object.class.getCanonicalName());
+        final Map<MethodSignature, ExecutableElement> index = this.indexBySignature(start, methods);
+        // The methods of Object are not generic, so their signatures do not depend on the inheriting type
+        this.mergeInherited(object, this.declaredInstanceMethods(object), index);
 
-        // Queue for breadth‑first traversal of the type hierarchy
-        final Queue<TypeElement> queue = new LinkedList<>();
-        queue.add(start);
+        return List.copyOf(index.values());
+    }
+
+    /**
+     * Returns the instance methods of the type without the methods of {@link Object}.
+     * The result is cached until the end of the round.
+     *
+     * @param type The type whose methods should be expanded
+     * @return An unmodifiable list of the declared methods followed by the inherited methods that are not overridden
+     */
+    private List<ExecutableElement> expandInstanceMethods(final TypeElement type) {
+        final List<ExecutableElement> cached = this.expandedTypes.get(type);
+        if (cached != null) {
+            return cached;
+        }
 
-        while (!queue.isEmpty()) {
-            TypeElement cur = queue.poll();
+        final Map<MethodSignature, ExecutableElement> index = this.indexBySignature(type, this.declaredInstanceMethods(type));
 
-            if (!includeObject && cur.getQualifiedName().contentEquals("java.lang.Object")) {
+        for (final TypeMirror superType : processingEnv.getTypeUtils().directSupertypes(type.asType())) {
+            if (!(processingEnv.getTypeUtils().asElement(superType) instanceof TypeElement superElement)
+                    || superElement.getQualifiedName().contentEquals("java.lang.Object")) {
                 continue;
             }
 
-            for (final Element e : cur.getEnclosedElements()) {
-                if (e.getKind() != ElementKind.METHOD) continue;
-                ExecutableElement method = (ExecutableElement) e;
+            this.mergeInherited(type, this.expandInstanceMethods(superElement), index);
+        }
 
-                if (method.getModifiers().contains(Modifier.STATIC)) continue;
+        final List<ExecutableElement> methods = List.copyOf(index.values());
+        this.expandedTypes.put(type, methods);
 
-                // Is the method being overwritten?
-                final boolean overwritten = result.stream().anyMatch(m -> elems.overrides(m, method, start));
-                if (overwritten) {
-                    continue;
-                }
+        return methods;
+    }
 
-                result.add(method);
+    /**
+     * Adds the inherited methods to the index if the type does not already contain a method with the same signature.
+     *
+     * <p>
+     * If two supertypes provide a method with the same signature the more specific one is kept,
+     * as only those collisions need to be checked with {@link javax.lang.model.util.Elements#overrides}.
+     *
+     * @param type The type that inherits the methods
+     * @param inherited The methods of one of the supertypes
+     * @param index The methods of the type keyed by their signature
+     */
+    private void mergeInherited(
+            final TypeElement type,
+            final List<ExecutableElement> inherited,
+            final Map<MethodSignature, ExecutableElement> index
+    ) {
+        for (final ExecutableElement method : inherited) {
+            final MethodSignature signature = this.signatureOf(type, method);
+            final ExecutableElement existing = index.putIfAbsent(signature, method);
+
+            if (existing != null && existing != method
+                    && processingEnv.getElementUtils().overrides(method, existing, type)) {
+                index.put(signature, method);
             }
+        }
+    }
 
-            for (final TypeMirror superTm : types.directSupertypes(cur.asType())) {
-                final Element superEl = types.asElement(superTm);
+    private Map<MethodSignature, ExecutableElement> indexBySignature(final TypeElement type, final List<ExecutableElement> methods) {
+        final Map<MethodSignature, ExecutableElement> index = new LinkedHashMap<>();
+
+        for (final ExecutableElement method : methods) {
+            index.putIfAbsent(this.signatureOf(type, method), method);
+        }
 
-                if (superEl instanceof TypeElement element) {
-                    queue.add(element);
-                }
+        return index;
+    }
+
+    private List<ExecutableElement> declaredInstanceMethods(final TypeElement type) {
+        final List<ExecutableElement> methods = new ArrayList<>();
+
+        for (final ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (!method.getModifiers().contains(Modifier.STATIC)) {
+                methods.add(method);
             }
         }
 
-        return result;
+        return methods;
     }
+
+    /**
+     * Creates the signature of the method as it is seen from the given type.
+     *
+     * <p>
+     * The parameters are resolved against the type before they are erased, so
+     * {@code void set(T value)} of {@code Base<T>} has the same signature as
+     * {@code void set(String value)} in {@code Sub extends Base<String>}.
+     *
+     * @param type The type the method is a member of
+     * @param method The method that is declared in the type or one of its supertypes
+     * @return The signature of the method
+     */
+    private MethodSignature signatureOf(final TypeElement type, final ExecutableElement method) {
+        final Types types = processingEnv.getTypeUtils();
+        final String name = method.getSimpleName().toString();
+
+        if (method.getParameters().isEmpty()) {
+            return new MethodSignature(name, List.of());
+        }
+
+        final ExecutableType memberType = (ExecutableType) types.asMemberOf((DeclaredType) type.asType(), method);
+        final List<String> parameters = new ArrayList<>(memberType.getParameterTypes().size());
+
+        for (final TypeMirror parameter : memberType.getParameterTypes()) {
+            parameters.add(types.erasure(parameter).toString());
+        }
+
+        return new MethodSignature(name, parameters);
+    }
+
+    /**
+     * The override-equivalence key of a method.
+     *
+     * @param name The name of the method
+     * @param parameters The erased parameter types of the method
+     */
+    private record MethodSignature(String name, List<String> parameters) {}
 }
@@ -0,0 +1,235 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor;
+
+import net.quickwrite.confetti.DefaultValue;
+import net.quickwrite.confetti.processor.data.DefaultConstant;
+import net.quickwrite.confetti.processor.data.DefaultConstant.Kind;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Converts the literals of {@link DefaultValue} annotations at compile time.
+ *
+ * <p>
+ * For primitives, their boxed counterparts, {@link String}s, enums and {@link Duration}s
+ * the target type is already known to the processor. Those literals are validated
+ * and converted here so that the generated sources only have to load a constant
+ * instead of parsing the literal with a type resolver at runtime.
+ *
+ * <p>
+ * Every other type is left untouched and will be converted at runtime.
+ */
+public final class DefaultValueConverter {
+    /** Durations in the form of {@code 10s}, {@code 500 ms} or {@code 2h}. */
+    private static final Pattern DURATION_PATTERN = Pattern.compile("(-?\\d+)\\s*(ns|us|ms|s|m|h|d)");
+
+    private final ProcessingEnvironment processingEnv;
+
+    public DefaultValueConverter(final ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * Converts the {@link DefaultValue} literals of the given method.
+     *
+     * @param method The annotated method
+     * @param literals The values of the {@link DefaultValue} annotation
+     * @return The converted constant or {@link Optional#empty()} if the return type
+     *         can only be converted at runtime
+     * @throws IllegalArgumentException if the literals are invalid for the return type
+     */
+    public Optional<DefaultConstant> convert(final ExecutableElement method, final String[] literals) {
+        final TypeMirror type = method.getReturnType();
+        final Optional<Kind> kind = this.kindOf(type);
+
+        if (kind.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (literals.length != 1) {
+            throw new IllegalArgumentException(
+                    "Expected exactly one default value for the type " + type + " but got " + literals.length
+            );
+        }
+
+        final Object value = kind.get() == Kind.ENUM
+                ? enumConstant((TypeElement) processingEnv.getTypeUtils().asElement(type), literals[0])
+                : parse(kind.get(), literals[0]);
+
+        return Optional.of(new DefaultConstant(toConstantName(method.getSimpleName().toString()), type, kind.get(), value));
+    }
+
+    /**
+     * Parses the literal into the Java value of the given kind.
+     *
+     * @param kind The kind of the value; must not be {@link Kind#ENUM}
+     * @param literal The literal that should be parsed
+     * @return The boxed value or a {@link Duration}
+     * @throws IllegalArgumentException if the literal cannot be parsed
+     */
+    public static Object parse(final Kind kind, final String literal) {
+        try {
+            return switch (kind) {
+                case BOOLEAN -> parseBoolean(literal);
+                case BYTE -> Byte.parseByte(literal);
+                case SHORT -> Short.parseShort(literal);
+                case INT -> Integer.parseInt(literal);
+                case LONG -> Long.parseLong(literal);
+                case CHAR -> parseChar(literal);
+                case FLOAT -> Float.parseFloat(literal);
+                case DOUBLE -> Double.parseDouble(literal);
+                case STRING -> literal;
+                case DURATION -> parseDuration(literal);
+                case ENUM -> throw new IllegalArgumentException("Enum constants require the enum declaration");
+            };
+        } catch (final NumberFormatException | DateTimeParseException exception) {
+            throw new IllegalArgumentException(
+                    "The value \"" + literal + "\" is not a valid " + kind.name().toLowerCase(Locale.ROOT), exception
+            );
+        } catch (final ArithmeticException exception) {
+            // Durations like 999999999999999 days do not fit into the seconds of a Duration
+            throw new IllegalArgumentException(
+                    "The value \"" + literal + "\" is out of the range of a " + kind.name().toLowerCase(Locale.ROOT), exception
+            );
+        }
+    }
+
+    /**
+     * Converts a method name into the name of a constant: {@code maxConnections -> MAX_CONNECTIONS}.
+     *
+     * @param name The name of the method
+     * @return The name of the constant
+     */
+    public static String toConstantName(final String name) {
+        final StringBuilder builder = new StringBuilder(name.length() + 4);
+
+        for (int i = 0; i < name.length(); ++i) {
+            final char current = name.charAt(i);
+
+            if (i > 0 && Character.isUpperCase(current)) {
+                final char previous = name.charAt(i - 1);
+                final boolean nextIsLower = i + 1 < name.length() && Character.isLowerCase(name.charAt(i + 1));
+
+                if (!Character.isUpperCase(previous) || nextIsLower) {
+                    builder.append('_');
+                }
+            }
+
+            builder.append(Character.toUpperCase(current));
+        }
+
+        return builder.toString();
+    }
+
+    private Optional<Kind> kindOf(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return Optional.of(primitiveKind(type.getKind()));
+        }
+
+        if (type.getKind() != TypeKind.DECLARED) {
+            return Optional.empty();
+        }
+
+        final Element element = ((DeclaredType) type).asElement();
+
+        if (element.getKind() == ElementKind.ENUM) {
+            return Optional.of(Kind.ENUM);
+        }
+
+        final String name = ((TypeElement) element).getQualifiedName().toString();
+
+        return switch (name) {
+            case "java.lang.String" -> Optional.of(Kind.STRING);
+            case "java.time.Duration" -> Optional.of(Kind.DURATION);
+            default -> {
+                try {
+                    // Boxed primitives are handled like their primitive counterpart
+                    yield Optional.of(primitiveKind(processingEnv.getTypeUtils().unboxedType(type).getKind()));
+                } catch (final IllegalArgumentException exception) {
+                    yield Optional.empty();
+                }
+            }
+        };
+    }
+
+    private static Kind primitiveKind(final TypeKind typeKind) {
+        return switch (typeKind) {
+            case BOOLEAN -> Kind.BOOLEAN;
+            case BYTE -> Kind.BYTE;
+            case SHORT -> Kind.SHORT;
+            case INT -> Kind.INT;
+            case LONG -> Kind.LONG;
+            case CHAR -> Kind.CHAR;
+            case FLOAT -> Kind.FLOAT;
+            case DOUBLE -> Kind.DOUBLE;
+            default -> throw new IllegalArgumentException("The type kind " + typeKind + " is not a primitive");
+        };
+    }
+
+    private static String enumConstant(final TypeElement enumElement, final String literal) {
+        for (final Element enclosed : enumElement.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.ENUM_CONSTANT && enclosed.getSimpleName().contentEquals(literal)) {
+                return literal;
+            }
+        }
+
+        throw new IllegalArgumentException("The enum " + enumElement + " has no constant named \"" + literal + "\"");
+    }
+
+    private static boolean parseBoolean(final String literal) {
+        return switch (literal) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new IllegalArgumentException("The value \"" + literal + "\" is not a valid boolean");
+        };
+    }
+
+    private static char parseChar(final String literal) {
+        if (literal.length() != 1) {
+            throw new IllegalArgumentException("The value \"" + literal + "\" is not a single character");
+        }
+
+        return literal.charAt(0);
+    }
+
+    private static Duration parseDuration(final String literal) {
+        final Matcher matcher = DURATION_PATTERN.matcher(literal);
+
+        if (!matcher.matches()) {
+            // Fall back to the ISO-8601 format like PT10S
+            return Duration.parse(literal);
+        }
+
+        final long amount = Long.parseLong(matcher.group(1));
+        final TimeUnit unit = switch (matcher.group(2)) {
+            case "ns" -> TimeUnit.NANOSECONDS;
+            case "us" -> TimeUnit.MICROSECONDS;
+            case "ms" -> TimeUnit.MILLISECONDS;
+            case "s" -> TimeUnit.SECONDS;
+            case "m" -> TimeUnit.MINUTES;
+            case "h" -> TimeUnit.HOURS;
+            default -> TimeUnit.DAYS;
+        };
+
+        return Duration.of(amount, unit.toChronoUnit());
+    }
+}
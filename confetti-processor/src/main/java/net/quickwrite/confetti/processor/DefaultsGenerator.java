@@ -0,0 +1,134 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor;
+
+import com.sun.codemodel.*;
+import net.quickwrite.confetti.processor.data.DefaultConstant;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Generates the class holding the compile-time converted default values of a config.
+ *
+ * <p>
+ * For an interface {@code MyAwesomeConfig} the class {@code MyAwesomeConfigDefaults}
+ * is generated into the same package:
+ * {@snippet :
+ * public final class MyAwesomeConfigDefaults {
+ *     public static final int AGE = 42;
+ *     public static final String NAME = "Max";
+ *     public static final Duration TIMEOUT = Duration.ofSeconds(10L, 0L);
+ * }
+ * }
+ * Primitives and {@link String}s are compile-time constants; enums and durations
+ * are initialized once when the class is loaded.
+ */
+public final class DefaultsGenerator {
+    /** The suffix of the generated class. */
+    public static final String SUFFIX = "Defaults";
+
+    private final ProcessingEnvironment processingEnv;
+
+    public DefaultsGenerator(final ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * Generates the defaults class of the given config.
+     *
+     * @param config The interface annotated with {@link net.quickwrite.confetti.ConfettiConfig}
+     * @param constants The converted default values of the config
+     * @throws IOException if the source file could not be written
+     */
+    public void generate(final TypeElement config, final Collection<DefaultConstant> constants) throws IOException {
+        final JCodeModel codeModel = new JCodeModel();
+        final JDefinedClass definedClass;
+
+        try {
+            definedClass = codeModel._class(
+                    JMod.PUBLIC | JMod.FINAL,
+                    GeneratedSources.className(processingEnv, config, SUFFIX),
+                    ClassType.CLASS
+            );
+        } catch (final JClassAlreadyExistsException exception) {
+            throw new IllegalStateException("The defaults of " + config + " were generated twice", exception);
+        }
+
+        definedClass.javadoc().add("Compile-time converted default values of {@link " + config.getQualifiedName() + "}.");
+        definedClass.constructor(JMod.PRIVATE);
+
+        for (final DefaultConstant constant : constants) {
+            definedClass.field(
+                    JMod.PUBLIC | JMod.STATIC | JMod.FINAL,
+                    type(codeModel, constant.type()),
+                    constant.fieldName(),
+                    initializer(codeModel, constant)
+            );
+        }
+
+        GeneratedSources.write(processingEnv, codeModel, config);
+    }
+
+    private static JType type(final JCodeModel codeModel, final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return JType.parse(codeModel, type.toString());
+        }
+
+        return codeModel.directClass(((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString());
+    }
+
+    private static JExpression initializer(final JCodeModel codeModel, final DefaultConstant constant) {
+        final Object value = constant.value();
+
+        return switch (constant.kind()) {
+            case BOOLEAN -> JExpr.lit((Boolean) value);
+            // Byte and short constants are assignable from int literals
+            case BYTE, SHORT -> JExpr.lit(((Number) value).intValue());
+            case INT -> JExpr.lit((Integer) value);
+            case LONG -> JExpr.lit((Long) value);
+            case CHAR -> JExpr.lit((Character) value);
+            case FLOAT -> floatLiteral(codeModel, (Float) value);
+            case DOUBLE -> doubleLiteral(codeModel, (Double) value);
+            case STRING -> JExpr.lit((String) value);
+            case ENUM -> type(codeModel, constant.type()).boxify().staticRef((String) value);
+            case DURATION -> codeModel.ref(Duration.class)
+                    .staticInvoke("ofSeconds")
+                    .arg(JExpr.lit(((Duration) value).getSeconds()))
+                    .arg(JExpr.lit((long) ((Duration) value).getNano()));
+        };
+    }
+
+    private static JExpression floatLiteral(final JCodeModel codeModel, final float value) {
+        if (Float.isNaN(value)) {
+            return codeModel.ref(Float.class).staticRef("NaN");
+        }
+
+        if (Float.isInfinite(value)) {
+            return codeModel.ref(Float.class).staticRef(value > 0 ? "POSITIVE_INFINITY" : "NEGATIVE_INFINITY");
+        }
+
+        return JExpr.lit(value);
+    }
+
+    private static JExpression doubleLiteral(final JCodeModel codeModel, final double value) {
+        if (Double.isNaN(value)) {
+            return codeModel.ref(Double.class).staticRef("NaN");
+        }
+
+        if (Double.isInfinite(value)) {
+            return codeModel.ref(Double.class).staticRef(value > 0 ? "POSITIVE_INFINITY" : "NEGATIVE_INFINITY");
+        }
+
+        return JExpr.lit(value);
+    }
+}
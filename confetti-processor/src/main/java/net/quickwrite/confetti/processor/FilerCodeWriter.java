@@ -47,6 +47,11 @@ import java.util.Objects;
  *       By default binary resources are created in {@link StandardLocation#CLASS_OUTPUT} but you can
  *       specify another location (for example {@link StandardLocation#SOURCE_OUTPUT}).
  *   </li>
+ *   <li>
+ *       Every created file is attributed to the originating elements passed to the constructor.
+ *       Incremental build tools use them to find out which files have to be regenerated when
+ *       a source file changes.
+ *   </li>
  * </ul>
  *
  * <p>
@@ -56,6 +61,7 @@ import java.util.Objects;
 public class FilerCodeWriter extends CodeWriter {
     private final Filer filer;
     private final StandardLocation resourceLocation;
+    private final Element[] originatingElements;
 
     /**
      * Construct a writer that uses {@code CLASS_OUTPUT} for binary resources.
@@ -74,11 +80,26 @@ public class FilerCodeWriter extends CodeWriter {
      *                         or {@link StandardLocation#SOURCE_OUTPUT})
      */
     public FilerCodeWriter(final Filer filer, final StandardLocation resourceLocation) {
+        this(filer, resourceLocation, new Element[0]);
+    }
+
+    /**
+     * Construct a writer, choose where binary resources are created and attribute every
+     * file to the given elements.
+     *
+     * @param filer the annotation-processor filer used to create files
+     * @param resourceLocation where binary resources should be created (e.g. {@link StandardLocation#CLASS_OUTPUT}
+     *                         or {@link StandardLocation#SOURCE_OUTPUT})
+     * @param originatingElements the elements the generated files are derived from
+     */
+    public FilerCodeWriter(final Filer filer, final StandardLocation resourceLocation, final Element... originatingElements) {
         Objects.requireNonNull(filer, "filer must not be null");
         Objects.requireNonNull(resourceLocation, "resourceLocation must not be null");
+        Objects.requireNonNull(originatingElements, "originatingElements must not be null");
 
         this.filer = filer;
         this.resourceLocation = resourceLocation;
+        this.originatingElements = originatingElements.clone();
     }
 
     /**
@@ -86,8 +107,8 @@ public class FilerCodeWriter extends CodeWriter {
      *
      * <p>
      * The package and fileName are combined to produce the fully qualified class name used
-     * with {@link Filer#createSourceFile(CharSequence, javax.lang.model.element.Element...)}.
-     * The returned {@link Writer} writes UTF-8 bytes to the underlying {@link JavaFileObject}.
+     * with {@link Filer#createSourceFile(CharSequence, javax.lang.model.element.Element...)}
+     * together with the originating elements of this writer. The returned {@link Writer} writes UTF-8 bytes to the underlying {@link JavaFileObject}.
      *
      * @param pkg the JCodeModel package (may be unnamed)
      * @param fileName the file name including the ".java" suffix (JCodeModel passes the file name)
@@ -98,7 +119,7 @@ public class FilerCodeWriter extends CodeWriter {
     public Writer openSource(JPackage pkg, String fileName) throws IOException {
         final String qualified = (pkg == null || pkg.isUnnamed() ? "" : pkg.name() + ".")
                                   + fileName.replaceAll("\\.java$", "");
-        final JavaFileObject jfo = filer.createSourceFile(qualified);
+        final JavaFileObject jfo = filer.createSourceFile(qualified, originatingElements);
         return new OutputStreamWriter(jfo.openOutputStream(), StandardCharsets.UTF_8);
     }
 
@@ -107,7 +128,7 @@ public class FilerCodeWriter extends CodeWriter {
      *
      * <p>
      * This uses {@link Filer#createResource(JavaFileManager.Location, CharSequence, CharSequence, Element...)}
-     * with the {@link #resourceLocation} provided in the constructor.
+     * with the {@link #resourceLocation} and the originating elements provided in the constructor.
      *
      * @param pkg the JCodeModel package or {@code null} for unnamed
      * @param fileName the resource relative name (for example {@code "META-INF/services/..."} or {@code "foo.properties"})
@@ -118,7 +139,7 @@ public class FilerCodeWriter extends CodeWriter {
     public OutputStream openBinary(JPackage pkg, String fileName) throws IOException {
         final String pkgName = (pkg == null || pkg.isUnnamed()) ? "" : pkg.name();
 
-        final FileObject fo = filer.createResource(resourceLocation, pkgName, fileName);
+        final FileObject fo = filer.createResource(resourceLocation, pkgName, fileName, originatingElements);
 
         return fo.openOutputStream();
     }
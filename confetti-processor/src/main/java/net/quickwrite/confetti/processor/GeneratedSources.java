@@ -0,0 +1,74 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor;
+
+import com.sun.codemodel.JCodeModel;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+
+/**
+ * Helpers that are shared by every generator of this processor.
+ *
+ * <hr>
+ *
+ * This class is intentionally non-instantiable and exposes only static
+ * utility methods.
+ */
+final class GeneratedSources {
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GeneratedSources() {}
+
+    /**
+     * Returns the fully qualified name of a class that is generated for the given config.
+     *
+     * <p>
+     * The generated class is placed in the same package as the config. Nested
+     * interfaces are flattened with an underscore: {@code Outer.Inner} with the
+     * suffix {@code Defaults} becomes {@code Outer_InnerDefaults}.
+     *
+     * @param processingEnv The current processing environment
+     * @param config The interface annotated with {@link net.quickwrite.confetti.ConfettiConfig}
+     * @param suffix The suffix of the generated class
+     * @return The fully qualified name of the generated class
+     */
+    static String className(final ProcessingEnvironment processingEnv, final TypeElement config, final String suffix) {
+        final StringBuilder simpleName = new StringBuilder(config.getSimpleName());
+
+        Element enclosing = config.getEnclosingElement();
+        while (enclosing.getKind() != ElementKind.PACKAGE) {
+            simpleName.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+
+        final String packageName = processingEnv.getElementUtils().getPackageOf(config).getQualifiedName().toString();
+
+        return (packageName.isEmpty() ? "" : packageName + ".") + simpleName + suffix;
+    }
+
+    /**
+     * Writes all classes of the given code model through the compiler's filer.
+     *
+     * <p>
+     * The originating elements have to contain every element the generated classes are derived
+     * from. Incremental builds only regenerate the classes when one of them changes.
+     *
+     * @param processingEnv The current processing environment
+     * @param codeModel The code model containing the generated classes
+     * @param originatingElements The elements the generated classes are derived from
+     * @throws IOException if the files could not be written
+     */
+    static void write(final ProcessingEnvironment processingEnv, final JCodeModel codeModel, final Element... originatingElements) throws IOException {
+        codeModel.build(new FilerCodeWriter(processingEnv.getFiler(), StandardLocation.CLASS_OUTPUT, originatingElements));
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor;
+
+import net.quickwrite.confetti.ConfettiConfig;
+import net.quickwrite.confetti.migration.ConfigMigration;
+import net.quickwrite.confetti.processor.data.MigrationDeclaration;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * The processor that processes the {@link ConfigMigration}'s.
+ *
+ * <p>
+ * The migrations are grouped by their target config. At the end of the round the
+ * version chain of every target is validated and the migration plan of the target
+ * is generated by the {@link MigrationsGenerator}.
+ */
+public final class MigrationProcessor implements SimpleProcessor {
+    private static final String MIGRATOR_INTERFACE = "net.quickwrite.confetti.migration.ConfigMigrator";
+
+    private final ProcessingEnvironment processingEnv;
+    private final MigrationsGenerator migrationsGenerator;
+
+    /** The migrations of this round keyed by their target config. */
+    private final Map<TypeElement, List<MigrationDeclaration>> migrations = new LinkedHashMap<>();
+
+    /** The qualified names of the configs whose migrations have already been generated. */
+    private final Set<String> generatedConfigs = new HashSet<>();
+
+    public MigrationProcessor(final ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+        this.migrationsGenerator = new MigrationsGenerator(processingEnv);
+    }
+
+    @Override
+    public void process(final TypeElement annotation, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (!checkElement(element)) {
+                continue;
+            }
+
+            final TypeElement migrator = (TypeElement) element;
+            final ConfigMigration configMigration = migrator.getAnnotation(ConfigMigration.class);
+            final TypeElement target = this.getTarget(migrator);
+
+            if (target == null) {
+                continue;
+            }
+
+            if (!this.isAccessibleFrom(migrator, target)) {
+                processingEnv.getMessager().printError(
+                        "The class " + migrator + " cannot be instantiated from the package of " + target + ".\n" +
+                                "Suggestion: Fix by making the class and its constructor public.",
+                        migrator
+                );
+
+                continue;
+            }
+
+            if (configMigration.from() >= configMigration.to()) {
+                processingEnv.getMessager().printError(
+                        "The migration " + migrator + " must satisfy from < to but was " +
+                                configMigration.from() + " -> " + configMigration.to(),
+                        migrator
+                );
+
+                continue;
+            }
+
+            if (this.generatedConfigs.contains(target.getQualifiedName().toString())) {
+                processingEnv.getMessager().printError(
+                        "The migration " + migrator + " was found after the migrations of " + target + " were generated.\n" +
+                                "Suggestion: Fix by declaring all migrations of a config in the same compilation.",
+                        migrator
+                );
+
+                continue;
+            }
+
+            this.migrations.computeIfAbsent(target, ignored -> new ArrayList<>())
+                    .add(new MigrationDeclaration(migrator, configMigration.from(), configMigration.to()));
+        }
+    }
+
+    @Override
+    public void roundEnding(final RoundEnvironment roundEnv) {
+        for (final Map.Entry<TypeElement, List<MigrationDeclaration>> entry : this.migrations.entrySet()) {
+            final TypeElement config = entry.getKey();
+            this.generatedConfigs.add(config.getQualifiedName().toString());
+
+            final List<MigrationDeclaration> chain = new ArrayList<>(entry.getValue());
+            chain.sort(Comparator.comparingInt(MigrationDeclaration::from));
+
+            final OptionalInt currentVersion = this.validateChain(config, chain);
+            if (currentVersion.isEmpty()) {
+                continue;
+            }
+
+            try {
+                this.migrationsGenerator.generate(config, currentVersion.getAsInt(), chain);
+            } catch (final IOException exception) {
+                processingEnv.getMessager().printError(
+                        "Could not generate the migrations of " + config + ": " + exception.getMessage(),
+                        config
+                );
+            }
+        }
+
+        this.migrations.clear();
+    }
+
+    @Override
+    public Class<?> annotation() {
+        return ConfigMigration.class;
+    }
+
+    /**
+     * Checks that the sorted migrations form a contiguous chain that ends at the version of the config.
+     *
+     * @param config The config that is being migrated
+     * @param chain The migrations of the config sorted by {@code from}
+     * @return The current version of the config or {@link OptionalInt#empty()} if the chain is invalid
+     */
+    private OptionalInt validateChain(final TypeElement config, final List<MigrationDeclaration> chain) {
+        boolean valid = true;
+
+        for (int i = 1; i < chain.size(); ++i) {
+            final MigrationDeclaration previous = chain.get(i - 1);
+            final MigrationDeclaration current = chain.get(i);
+
+            if (previous.from() == current.from()) {
+                processingEnv.getMessager().printError(
+                        "The migrations " + previous.migrator() + " and " + current.migrator() +
+                                " of " + config + " both migrate from version " + current.from() + ".\n" +
+                                "Suggestion: Fix by removing one of the migrations.",
+                        current.migrator()
+                );
+
+                valid = false;
+            } else if (previous.to() > current.from()) {
+                processingEnv.getMessager().printError(
+                        "The migrations " + previous.migrator() + " and " + current.migrator() +
+                                " of " + config + " overlap.\n" +
+                                "Suggestion: Fix by adjusting the versions of the migrations.",
+                        current.migrator()
+                );
+
+                valid = false;
+            } else if (previous.to() != current.from()) {
+                processingEnv.getMessager().printError(
+                        "The migrations of " + config + " are missing a migration from version " + previous.to() +
+                                " to version " + current.from() + ".\n" +
+                                "Suggestion: Fix by adding a migration for those versions.",
+                        current.migrator()
+                );
+
+                valid = false;
+            }
+        }
+
+        final int lastVersion = chain.get(chain.size() - 1).to();
+        final int declaredVersion = config.getAnnotation(ConfettiConfig.class).version();
+
+        if (declaredVersion >= 1 && declaredVersion != lastVersion) {
+            processingEnv.getMessager().printError(
+                    "The migrations of " + config + " end at version " + lastVersion +
+                            ", but the config declares the version " + declaredVersion + ".\n" +
+                            "Suggestion: Fix by adjusting the version of the config or its migrations.",
+                    config
+            );
+
+            valid = false;
+        }
+
+        return valid ? OptionalInt.of(lastVersion) : OptionalInt.empty();
+    }
+
+    /**
+     * Checks if the generated migrations of the target can create instances of the migrator.
+     *
+     * @param migrator The migration class
+     * @param target The config the migrations are generated for
+     * @return {@code true} if the migrator is accessible
+     */
+    private boolean isAccessibleFrom(final TypeElement migrator, final TypeElement target) {
+        final PackageElement migratorPackage = processingEnv.getElementUtils().getPackageOf(migrator);
+        final PackageElement targetPackage = processingEnv.getElementUtils().getPackageOf(target);
+
+        if (migratorPackage.equals(targetPackage)) {
+            return true;
+        }
+
+        for (Element current = migrator; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+            if (!current.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+
+        return ElementFilter.constructorsIn(migrator.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                        && constructor.getModifiers().contains(Modifier.PUBLIC));
+    }
+
+    /**
+     * Resolves the target of the migration and checks that it is a config.
+     *
+     * @param migrator The migration class
+     * @return The target config or {@code null} if the target is invalid
+     */
+    private TypeElement getTarget(final TypeElement migrator) {
+        final List<TypeMirror> targets = AnnotationValues.getClassTypedAnnotationValues(
+                migrator,
+                ConfigMigration.class.getCanonicalName(),
+                "target",
+                processingEnv
+        );
+
+        final Element target = targets.isEmpty() ? null : processingEnv.getTypeUtils().asElement(targets.get(0));
+
+        if (!(target instanceof TypeElement typeElement) || target.getAnnotation(ConfettiConfig.class) == null) {
+            processingEnv.getMessager().printError(
+                    "The target of the migration " + migrator + " is not annotated with @ConfettiConfig.\n" +
+                            "Suggestion: Fix by using a @ConfettiConfig interface as the target.",
+                    migrator
+            );
+
+            return null;
+        }
+
+        return typeElement;
+    }
+
+    /**
+     * Checks the provided element and returns if the element should be processed further on.
+     *
+     * @param element The element that should be checked
+     * @return If the element should be processed
+     */
+    private boolean checkElement(final Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            processingEnv.getMessager().printError(
+                    "The " + element.getKind().toString().toLowerCase() + " " + element + " can only be a class.",
+                    element
+            );
+
+            return false;
+        }
+
+        final TypeElement classElement = (TypeElement) element;
+
+        if (classElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            processingEnv.getMessager().printError("The class " + element + " cannot be abstract.", element);
+
+            return false;
+        }
+
+        final TypeElement migratorInterface = processingEnv.getElementUtils().getTypeElement(MIGRATOR_INTERFACE);
+        if (migratorInterface == null || !processingEnv.getTypeUtils().isAssignable(classElement.asType(), migratorInterface.asType())) {
+            processingEnv.getMessager().printError(
+                    "The class " + element + " has to implement " + MIGRATOR_INTERFACE + '.',
+                    element
+            );
+
+            return false;
+        }
+
+        final boolean nested = classElement.getNestingKind().isNested();
+        final boolean hasConstructor = ElementFilter.constructorsIn(classElement.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                        && !constructor.getModifiers().contains(Modifier.PRIVATE));
+
+        if ((nested && !classElement.getModifiers().contains(Modifier.STATIC)) || !hasConstructor) {
+            processingEnv.getMessager().printError(
+                    "The class " + element + " needs a non-private constructor without parameters.\n" +
+                            "Suggestion: Fix by adding such a constructor (nested classes also have to be static).",
+                    element
+            );
+
+            return false;
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor;
+
+import com.sun.codemodel.*;
+import net.quickwrite.confetti.processor.data.MigrationDeclaration;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the migration plan of a config from its {@link net.quickwrite.confetti.migration.ConfigMigration}s.
+ *
+ * <p>
+ * For an interface {@code MyAwesomeConfig} the class {@code MyAwesomeConfigMigrations}
+ * is generated into the same package:
+ * {@snippet :
+ * public final class MyAwesomeConfigMigrations {
+ *     public static final int CURRENT_VERSION = 3;
+ *
+ *     public static MigrationPlan plan() {
+ *         return new MigrationPlan(CURRENT_VERSION, List.of(
+ *             new MigrationStep(1, 2, new V1toV2Migration()),
+ *             new MigrationStep(2, 3, new V2toV3Migration())
+ *         ));
+ *     }
+ * }
+ * }
+ */
+public final class MigrationsGenerator {
+    /** The suffix of the generated class. */
+    public static final String SUFFIX = "Migrations";
+
+    private static final String MIGRATION_PLAN = "net.quickwrite.confetti.migration.MigrationPlan";
+    private static final String MIGRATION_STEP = "net.quickwrite.confetti.migration.MigrationStep";
+
+    private final ProcessingEnvironment processingEnv;
+
+    public MigrationsGenerator(final ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * Generates the migrations class of the given config.
+     *
+     * @param config The interface annotated with {@link net.quickwrite.confetti.ConfettiConfig}
+     * @param currentVersion The version every migration ends at
+     * @param migrations The validated migrations ordered by their versions
+     * @throws IOException if the source file could not be written
+     */
+    public void generate(final TypeElement config, final int currentVersion, final List<MigrationDeclaration> migrations) throws IOException {
+        final JCodeModel codeModel = new JCodeModel();
+        final JDefinedClass definedClass;
+
+        try {
+            definedClass = codeModel._class(
+                    JMod.PUBLIC | JMod.FINAL,
+                    GeneratedSources.className(processingEnv, config, SUFFIX),
+                    ClassType.CLASS
+            );
+        } catch (final JClassAlreadyExistsException exception) {
+            throw new IllegalStateException("The migrations of " + config + " were generated twice", exception);
+        }
+
+        definedClass.javadoc().add("Migrations of {@link " + config.getQualifiedName() + "} to its current version.");
+        definedClass.constructor(JMod.PRIVATE);
+
+        final JFieldVar version = definedClass.field(
+                JMod.PUBLIC | JMod.STATIC | JMod.FINAL,
+                codeModel.INT,
+                "CURRENT_VERSION",
+                JExpr.lit(currentVersion)
+        );
+        version.javadoc().add("The current version of {@link " + config.getQualifiedName() + "}.");
+
+        final JClass planClass = codeModel.directClass(MIGRATION_PLAN);
+        final JClass stepClass = codeModel.directClass(MIGRATION_STEP);
+
+        final JInvocation steps = codeModel.ref(List.class).staticInvoke("of");
+        for (final MigrationDeclaration migration : migrations) {
+            steps.arg(JExpr._new(stepClass)
+                    .arg(JExpr.lit(migration.from()))
+                    .arg(JExpr.lit(migration.to()))
+                    .arg(JExpr._new(codeModel.directClass(migration.migrator().getQualifiedName().toString()))));
+        }
+
+        final JMethod plan = definedClass.method(JMod.PUBLIC | JMod.STATIC, planClass, "plan");
+        plan.javadoc().add("Creates a new migration plan with fresh migrator instances.");
+        plan.javadoc().addReturn().add("The plan migrating every supported version to {@link #CURRENT_VERSION}");
+        plan.body()._return(JExpr._new(planClass).arg(version).arg(steps));
+
+        final List<Element> originatingElements = new ArrayList<>(migrations.size() + 1);
+        originatingElements.add(config);
+        migrations.forEach(migration -> originatingElements.add(migration.migrator()));
+
+        GeneratedSources.write(processingEnv, codeModel, originatingElements.toArray(Element[]::new));
+    }
+}
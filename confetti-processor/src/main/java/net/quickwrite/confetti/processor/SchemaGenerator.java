@@ -0,0 +1,303 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor;
+
+import com.sun.codemodel.*;
+import net.quickwrite.confetti.ConfettiConfig;
+import net.quickwrite.confetti.DefaultValue;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Generates the schema of a config that can be compiled into a
+ * {@code net.quickwrite.confetti.schema.SchemaValidator}.
+ *
+ * <p>
+ * Schemas are only generated if the processor option {@value ConfettiProcessor#SCHEMA_OPTION}
+ * is {@code true}, as they are compiled for every config:
+ * {@snippet :
+ * javac -Aconfetti.schema=true ...
+ * }
+ * For an interface {@code MyAwesomeConfig} the class {@code MyAwesomeConfigSchema}
+ * is generated into the same package:
+ * {@snippet :
+ * public final class MyAwesomeConfigSchema {
+ *     public static final Schema.ObjectSchema SCHEMA;
+ *
+ *     static {
+ *         final Schema.ObjectSchema.Builder builder = Schema.object();
+ *         final Schema schema0 = Schema.integer(-2147483648L, 2147483647L);
+ *         builder.optional("age", schema0);
+ *         final Schema schema1 = Schema.string();
+ *         builder.required("name", schema1);
+ *         builder.required("nickname", schema1);
+ *         final Schema schema2 = ServerConfigSchema.SCHEMA;
+ *         builder.required("server", schema2);
+ *         SCHEMA = builder.build();
+ *     }
+ * }
+ * }
+ * Every method is a key with the name of the method. Keys with a {@link DefaultValue} or an
+ * {@link Optional} type are optional. Primitives, their wrappers and strings are checked by
+ * their type, collections and arrays by their elements and other configs by their own schema.
+ * All other types are resolved by type resolvers at runtime and therefore accept every node.
+ *
+ * <p>
+ * Every key is a statement of its own and keys of the same type share one local, so configs
+ * with hundreds of keys neither produce a call chain that javac has to attribute in one deeply
+ * nested expression nor resolve the same schema method once per key.
+ */
+public final class SchemaGenerator {
+    /** The suffix of the generated class. */
+    public static final String SUFFIX = "Schema";
+
+    private static final String SCHEMA = "net.quickwrite.confetti.schema.Schema";
+    private static final String OBJECT_SCHEMA = SCHEMA + ".ObjectSchema";
+    private static final String OBJECT_SCHEMA_BUILDER = OBJECT_SCHEMA + ".Builder";
+
+    private final ProcessingEnvironment processingEnv;
+
+    public SchemaGenerator(final ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * Generates the schema class of the given config.
+     *
+     * @param config The interface annotated with {@link ConfettiConfig}
+     * @param methods The instance methods of the config that return a value
+     * @throws IOException if the source file could not be written
+     */
+    public void generate(final TypeElement config, final Collection<ExecutableElement> methods) throws IOException {
+        final JCodeModel codeModel = new JCodeModel();
+        final JDefinedClass definedClass;
+
+        try {
+            definedClass = codeModel._class(
+                    JMod.PUBLIC | JMod.FINAL,
+                    GeneratedSources.className(processingEnv, config, SUFFIX),
+                    ClassType.CLASS
+            );
+        } catch (final JClassAlreadyExistsException exception) {
+            throw new IllegalStateException("The schema of " + config + " was generated twice", exception);
+        }
+
+        definedClass.javadoc().add("The schema of {@link " + config.getQualifiedName() + "}.");
+        definedClass.constructor(JMod.PRIVATE);
+
+        final JFieldVar field = definedClass.field(
+                JMod.PUBLIC | JMod.STATIC | JMod.FINAL,
+                codeModel.directClass(OBJECT_SCHEMA),
+                "SCHEMA"
+        );
+
+        final JClass schema = codeModel.directClass(SCHEMA);
+        final Map<String, JVar> shared = new HashMap<>();
+        final JBlock initializer = definedClass.init();
+        final JVar builder = initializer.decl(
+                JMod.FINAL,
+                codeModel.directClass(OBJECT_SCHEMA_BUILDER),
+                "builder",
+                schema.staticInvoke("object")
+        );
+
+        for (final ExecutableElement method : methods) {
+            if (!method.getParameters().isEmpty()) {
+                continue;
+            }
+
+            TypeMirror type = method.getReturnType();
+            boolean required = method.getAnnotation(DefaultValue.class) == null;
+
+            final TypeMirror optional = this.typeArgumentOf(type, "java.util.Optional");
+            if (optional != null) {
+                type = optional;
+                required = false;
+            }
+
+            final TypeMirror keyType = type;
+            final JVar keySchema = shared.computeIfAbsent(keyType.toString(), ignored -> initializer.decl(
+                    JMod.FINAL,
+                    schema,
+                    "schema" + shared.size(),
+                    this.schemaOf(codeModel, schema, config, keyType)
+            ));
+
+            initializer.invoke(builder, required ? "required" : "optional")
+                    .arg(JExpr.lit(method.getSimpleName().toString()))
+                    .arg(keySchema);
+        }
+
+        initializer.assign(field, JExpr.invoke(builder, "build"));
+
+        GeneratedSources.write(processingEnv, codeModel, config);
+    }
+
+    private JExpression schemaOf(final JCodeModel codeModel, final JClass schema, final TypeElement config, final TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return schema.staticInvoke("bool");
+            case BYTE:
+                return integer(schema, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            case SHORT:
+                return integer(schema, Short.MIN_VALUE, Short.MAX_VALUE);
+            case INT:
+                return integer(schema, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            case LONG:
+                return schema.staticInvoke("integer");
+            case FLOAT:
+            case DOUBLE:
+                return schema.staticInvoke("number");
+            case CHAR:
+                return schema.staticInvoke("string");
+            case ARRAY:
+                return schema.staticInvoke("arrayOf")
+                        .arg(this.schemaOf(codeModel, schema, config, ((ArrayType) type).getComponentType()));
+            case DECLARED:
+                break;
+            default:
+                return schema.staticInvoke("any");
+        }
+
+        final TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+
+        if (element.getKind() == ElementKind.ENUM || element.getQualifiedName().contentEquals("java.lang.String")) {
+            return schema.staticInvoke("string");
+        }
+
+        if (element.getAnnotation(ConfettiConfig.class) != null) {
+            // Configs that refer back to this one would read the field before it is initialized
+            if (this.references(element, config, new HashSet<>())) {
+                return schema.staticInvoke("any");
+            }
+
+            return codeModel.directClass(GeneratedSources.className(processingEnv, element, SUFFIX)).staticRef("SCHEMA");
+        }
+
+        final TypeMirror collectionElement = this.typeArgumentOf(type, "java.util.Collection");
+        if (collectionElement != null) {
+            return schema.staticInvoke("arrayOf").arg(this.schemaOf(codeModel, schema, config, collectionElement));
+        }
+
+        try {
+            return this.schemaOf(codeModel, schema, config, processingEnv.getTypeUtils().unboxedType(type));
+        } catch (final IllegalArgumentException exception) {
+            // Not a wrapper type, so it is converted by a type resolver
+            return schema.staticInvoke("any");
+        }
+    }
+
+    private static JExpression integer(final JClass schema, final long minimum, final long maximum) {
+        return schema.staticInvoke("integer").arg(JExpr.lit(minimum)).arg(JExpr.lit(maximum));
+    }
+
+    /**
+     * Returns the single type argument with which the type implements the generic type.
+     *
+     * @param type The type to check
+     * @param genericType The qualified name of a type with a single type parameter
+     * @return The type argument or {@code null} if the type is not a subtype of the generic type
+     */
+    private TypeMirror typeArgumentOf(final TypeMirror type, final String genericType) {
+        if (!(type instanceof DeclaredType)) {
+            return null;
+        }
+
+        final Types types = processingEnv.getTypeUtils();
+        final TypeElement generic = processingEnv.getElementUtils().getTypeElement(genericType);
+
+        // Most keys are not collections, so they are rejected without walking their supertypes
+        if (generic == null || !types.isSubtype(types.erasure(type), types.erasure(generic.asType()))) {
+            return null;
+        }
+
+        return this.findTypeArgument(type, genericType);
+    }
+
+    private TypeMirror findTypeArgument(final TypeMirror type, final String genericType) {
+        if (!(type instanceof DeclaredType declared)) {
+            return null;
+        }
+
+        final TypeElement element = (TypeElement) declared.asElement();
+
+        if (element.getQualifiedName().contentEquals(genericType)) {
+            return declared.getTypeArguments().size() == 1 ? declared.getTypeArguments().get(0) : null;
+        }
+
+        for (final TypeMirror superType : processingEnv.getTypeUtils().directSupertypes(type)) {
+            final TypeMirror argument = this.findTypeArgument(superType, genericType);
+
+            if (argument != null) {
+                return argument;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks if the config refers to the target config through its own keys or the keys of the configs it refers to.
+     */
+    private boolean references(final TypeElement config, final TypeElement target, final Set<TypeElement> visited) {
+        if (config.equals(target)) {
+            return true;
+        }
+
+        if (!visited.add(config)) {
+            return false;
+        }
+
+        for (final ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(config))) {
+            if (method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+
+            for (final TypeElement referenced : this.configsIn(method.getReturnType())) {
+                if (this.references(referenced, target, visited)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the configs that are part of the type, including type arguments and array components.
+     */
+    private List<TypeElement> configsIn(final TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return this.configsIn(((ArrayType) type).getComponentType());
+        }
+
+        if (!(type instanceof DeclaredType declared)) {
+            return List.of();
+        }
+
+        final List<TypeElement> configs = new ArrayList<>();
+
+        if (declared.asElement().getAnnotation(ConfettiConfig.class) != null) {
+            configs.add((TypeElement) declared.asElement());
+        }
+
+        for (final TypeMirror argument : declared.getTypeArguments()) {
+            configs.addAll(this.configsIn(argument));
+        }
+
+        return configs;
+    }
+}
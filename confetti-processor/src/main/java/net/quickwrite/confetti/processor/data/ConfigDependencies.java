@@ -8,63 +8,50 @@ package net.quickwrite.confetti.processor.data;
 
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 class ConfigDependencies {
     private final TypeElement baseTypeElement;
 
-    private final List<TypeMirror> typeMirrors;
-    private final List<Boolean> available;
+    /** The types that are not available yet; the size is the number of missing dependencies. */
+    private final Map<TypeKey, TypeMirror> missing;
 
-    public ConfigDependencies(final TypeElement baseTypeElement, final List<TypeMirror> typeMirrors, final Set<TypeMirror> alreadyAvailable) {
+    public ConfigDependencies(final TypeElement baseTypeElement, final List<TypeMirror> typeMirrors, final Set<TypeKey> alreadyAvailable) {
         this.baseTypeElement = baseTypeElement;
+        this.missing = new LinkedHashMap<>();
 
-        this.typeMirrors = typeMirrors;
-        this.available = new ArrayList<>(typeMirrors.size());
+        for (final TypeMirror typeMirror : typeMirrors) {
+            final TypeKey key = TypeKey.of(typeMirror);
 
-        for (final TypeMirror typeMirror : this.typeMirrors) {
-            this.available.add(alreadyAvailable.contains(typeMirror));
+            if (!alreadyAvailable.contains(key)) {
+                this.missing.putIfAbsent(key, typeMirror);
+            }
         }
     }
 
-    public void setAvailable(final TypeMirror typeMirror) {
-        final int position = this.typeMirrors.indexOf(typeMirror);
-
-        if (position == -1) {
-            return;
-        }
-
-        this.available.set(position, true);
+    /**
+     * Marks the type as available.
+     *
+     * @param key The key of the type that is now available
+     * @return {@code true} if this was the last missing type
+     */
+    public boolean setAvailable(final TypeKey key) {
+        return this.missing.remove(key) != null && this.missing.isEmpty();
     }
 
     public boolean allAvailable() {
-        for (boolean available : this.available) {
-            if (!available) {
-                return false;
-            }
-        }
-
-        return true;
+        return this.missing.isEmpty();
     }
 
     public TypeElement getBaseTypeElement() {
         return this.baseTypeElement;
     }
 
-    public Set<TypeMirror> missingTypes() {
-        final Set<TypeMirror> missingTypes = new HashSet<>();
-
-        for (int i = 0; i < this.typeMirrors.size(); ++i) {
-            if (this.available.get(i)) {
-                continue;
-            }
-
-            missingTypes.add(this.typeMirrors.get(i));
-        }
-
-        return missingTypes;
+    public Map<TypeKey, TypeMirror> missingTypes() {
+        return Collections.unmodifiableMap(this.missing);
     }
 }
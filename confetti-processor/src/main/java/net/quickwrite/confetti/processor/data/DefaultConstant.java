@@ -0,0 +1,58 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor.data;
+
+import javax.lang.model.type.TypeMirror;
+import java.util.Objects;
+
+/**
+ * A {@link net.quickwrite.confetti.DefaultValue} literal that has already been
+ * converted into its target type at compile time.
+ *
+ * <p>
+ * The {@code value} depends on the {@link Kind}:
+ * <ul>
+ *     <li>{@link Kind#ENUM} stores the name of the enum constant as a {@link String}.</li>
+ *     <li>{@link Kind#DURATION} stores a {@link java.time.Duration}.</li>
+ *     <li>All other kinds store the boxed Java value (for example an {@link Integer} for {@link Kind#INT}).</li>
+ * </ul>
+ *
+ * @param fieldName The name of the generated constant
+ * @param type The return type of the annotated method
+ * @param kind The kind of value that has been converted
+ * @param value The converted value
+ */
+public record DefaultConstant(String fieldName, TypeMirror type, Kind kind, Object value) {
+    /**
+     * Checks that none of the values is a {@code null}-value.
+     *
+     * @throws NullPointerException if any of the values is {@code null}
+     */
+    public DefaultConstant {
+        Objects.requireNonNull(fieldName, "fieldName cannot be null");
+        Objects.requireNonNull(type, "type cannot be null");
+        Objects.requireNonNull(kind, "kind cannot be null");
+        Objects.requireNonNull(value, "value cannot be null");
+    }
+
+    /**
+     * The kinds of types whose defaults can be converted at compile time.
+     */
+    public enum Kind {
+        BOOLEAN,
+        BYTE,
+        SHORT,
+        INT,
+        LONG,
+        CHAR,
+        FLOAT,
+        DOUBLE,
+        STRING,
+        ENUM,
+        DURATION
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor.data;
+
+import javax.lang.model.element.TypeElement;
+import java.util.Objects;
+
+/**
+ * A class annotated with {@link net.quickwrite.confetti.migration.ConfigMigration}.
+ *
+ * @param migrator The class performing the migration
+ * @param from The version that is being migrated from
+ * @param to The version that is being migrated to
+ */
+public record MigrationDeclaration(TypeElement migrator, int from, int to) {
+    /**
+     * Checks that the migrator is not a {@code null}-value.
+     *
+     * @throws NullPointerException if {@code migrator} is {@code null}
+     */
+    public MigrationDeclaration {
+        Objects.requireNonNull(migrator, "migrator cannot be null");
+    }
+}
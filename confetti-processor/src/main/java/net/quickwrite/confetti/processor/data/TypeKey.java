@@ -0,0 +1,156 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor.data;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.*;
+import javax.lang.model.util.SimpleTypeVisitor14;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A hashable key of a {@link TypeMirror}.
+ *
+ * <p>
+ * {@link TypeMirror}s do not implement {@code equals} and {@code hashCode}: the same type can be
+ * represented by different instances (for example {@code List<String>} used by two methods).
+ * The key describes the structure of the type instead, so two types that are the same according
+ * to {@link javax.lang.model.util.Types#isSameType(TypeMirror, TypeMirror)} have equal keys.
+ * Type annotations are ignored just like they are by {@code isSameType}.
+ *
+ * @param descriptor The structural description of the type
+ */
+record TypeKey(String descriptor) {
+    private static final DescriptorVisitor VISITOR = new DescriptorVisitor();
+
+    /**
+     * Checks that the descriptor is not a {@code null}-value.
+     *
+     * @throws NullPointerException if {@code descriptor} is {@code null}
+     */
+    TypeKey {
+        Objects.requireNonNull(descriptor, "descriptor cannot be null");
+    }
+
+    /**
+     * Creates the key of the given type.
+     *
+     * @param typeMirror The type the key should be created for
+     * @return The key of the type
+     */
+    static TypeKey of(final TypeMirror typeMirror) {
+        Objects.requireNonNull(typeMirror, "typeMirror cannot be null");
+
+        final StringBuilder builder = new StringBuilder();
+        typeMirror.accept(VISITOR, builder);
+
+        return new TypeKey(builder.toString());
+    }
+
+    private static final class DescriptorVisitor extends SimpleTypeVisitor14<Void, StringBuilder> {
+        @Override
+        protected Void defaultAction(final TypeMirror type, final StringBuilder builder) {
+            builder.append(type.getKind()).append(':').append(type);
+
+            return null;
+        }
+
+        @Override
+        public Void visitPrimitive(final PrimitiveType type, final StringBuilder builder) {
+            builder.append(type.getKind());
+
+            return null;
+        }
+
+        @Override
+        public Void visitArray(final ArrayType type, final StringBuilder builder) {
+            type.getComponentType().accept(this, builder);
+            builder.append("[]");
+
+            return null;
+        }
+
+        @Override
+        public Void visitDeclared(final DeclaredType type, final StringBuilder builder) {
+            final TypeMirror enclosingType = type.getEnclosingType();
+
+            if (enclosingType.getKind() == TypeKind.DECLARED) {
+                // Inner class of a (possibly parameterized) type
+                enclosingType.accept(this, builder);
+                builder.append('.').append(type.asElement().getSimpleName());
+            } else {
+                builder.append(((TypeElement) type.asElement()).getQualifiedName());
+            }
+
+            this.appendAll(type.getTypeArguments(), '<', ',', '>', builder);
+
+            return null;
+        }
+
+        @Override
+        public Void visitTypeVariable(final TypeVariable type, final StringBuilder builder) {
+            final TypeParameterElement parameter = (TypeParameterElement) type.asElement();
+
+            // Type variables are only the same if they are declared by the same element
+            builder.append(parameter.getSimpleName()).append('@').append(parameter.getGenericElement());
+
+            return null;
+        }
+
+        @Override
+        public Void visitWildcard(final WildcardType type, final StringBuilder builder) {
+            builder.append('?');
+
+            if (type.getExtendsBound() != null) {
+                builder.append(" extends ");
+                type.getExtendsBound().accept(this, builder);
+            } else if (type.getSuperBound() != null) {
+                builder.append(" super ");
+                type.getSuperBound().accept(this, builder);
+            }
+
+            return null;
+        }
+
+        @Override
+        public Void visitIntersection(final IntersectionType type, final StringBuilder builder) {
+            this.appendAll(type.getBounds(), '(', '&', ')', builder);
+
+            return null;
+        }
+
+        @Override
+        public Void visitUnion(final UnionType type, final StringBuilder builder) {
+            this.appendAll(type.getAlternatives(), '(', '|', ')', builder);
+
+            return null;
+        }
+
+        private void appendAll(
+                final List<? extends TypeMirror> types,
+                final char open,
+                final char separator,
+                final char close,
+                final StringBuilder builder
+        ) {
+            if (types.isEmpty()) {
+                return;
+            }
+
+            builder.append(open);
+            for (int i = 0; i < types.size(); ++i) {
+                if (i > 0) {
+                    builder.append(separator);
+                }
+
+                types.get(i).accept(this, builder);
+            }
+            builder.append(close);
+        }
+    }
+}
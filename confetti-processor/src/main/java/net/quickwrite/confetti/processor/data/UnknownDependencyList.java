@@ -8,10 +8,7 @@ package net.quickwrite.confetti.processor.data;
 
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 /**
  * Manages the currently unknown dependencies that occur when processing
@@ -33,60 +30,107 @@ import java.util.Set;
  * later on, this has to be stored and checked later on.
  */
 public class UnknownDependencyList {
-    private final Set<TypeMirror> availableTypes;
-    private final Set<ConfigDependencies> configDependenciesSet;
+    private final Set<TypeKey> availableTypes;
+
+    /** Every config that has not been collected yet. */
+    private final Map<TypeElement, ConfigDependencies> configs;
+
+    /** The configs that are still waiting for a type, keyed by that type. */
+    private final Map<TypeKey, List<ConfigDependencies>> dependents;
+
+    /** The configs whose dependencies are all available, but that have not been collected yet. */
+    private final Queue<ConfigDependencies> finished;
 
     public UnknownDependencyList() {
         this(new HashSet<>());
     }
 
     public UnknownDependencyList(final Set<TypeMirror> availableTypes) {
-        this.availableTypes = availableTypes;
-        this.configDependenciesSet = new HashSet<>();
+        this.availableTypes = new HashSet<>();
+        this.configs = new LinkedHashMap<>();
+        this.dependents = new HashMap<>();
+        this.finished = new ArrayDeque<>();
+
+        for (final TypeMirror typeMirror : availableTypes) {
+            this.availableTypes.add(TypeKey.of(typeMirror));
+        }
     }
 
+    /**
+     * Marks the type as available. Only the configs that are waiting for this
+     * type are updated.
+     *
+     * @param typeMirror The type that can now be resolved
+     * @return {@code true} if the type was not available before
+     */
     public boolean setAvailable(final TypeMirror typeMirror) {
-        if (!this.availableTypes.add(typeMirror)) {
+        final TypeKey key = TypeKey.of(typeMirror);
+
+        if (!this.availableTypes.add(key)) {
             return false;
         }
 
-        for (final ConfigDependencies configDependencies : this.configDependenciesSet) {
-            configDependencies.setAvailable(typeMirror);
+        final List<ConfigDependencies> waiting = this.dependents.remove(key);
+        if (waiting == null) {
+            return true;
+        }
+
+        for (final ConfigDependencies configDependencies : waiting) {
+            if (configDependencies.setAvailable(key)) {
+                this.finished.add(configDependencies);
+            }
         }
 
         return true;
     }
 
+    /**
+     * Removes and returns every config whose dependencies are all available.
+     *
+     * @return The configs that can be generated
+     */
     public Collection<TypeElement> collectKnown() {
-        final Collection<ConfigDependencies> known = configDependenciesSet.stream()
-                .filter(ConfigDependencies::allAvailable).toList();
+        final List<TypeElement> known = new ArrayList<>(this.finished.size());
 
-        known.forEach(configDependenciesSet::remove);
+        ConfigDependencies configDependencies;
+        while ((configDependencies = this.finished.poll()) != null) {
+            this.configs.remove(configDependencies.getBaseTypeElement());
+            known.add(configDependencies.getBaseTypeElement());
+        }
 
-        return known.stream().map(ConfigDependencies::getBaseTypeElement).toList();
+        return known;
     }
 
     public Collection<TypeElement> collectCurrentConfigs() {
-        return this.configDependenciesSet.stream().map(ConfigDependencies::getBaseTypeElement).toList();
+        return List.copyOf(this.configs.keySet());
     }
 
     public boolean addConfigWithDependencies(final TypeElement baseTypeElement, final List<TypeMirror> typeMirrors) {
-        final ConfigDependencies dependencies = new ConfigDependencies(baseTypeElement, typeMirrors, availableTypes);
-
-        if (!this.configDependenciesSet.add(dependencies)) {
+        if (this.configs.containsKey(baseTypeElement)) {
             return false;
         }
 
+        final ConfigDependencies dependencies = new ConfigDependencies(baseTypeElement, typeMirrors, this.availableTypes);
+        this.configs.put(baseTypeElement, dependencies);
+
+        if (dependencies.allAvailable()) {
+            this.finished.add(dependencies);
+        } else {
+            for (final TypeKey key : dependencies.missingTypes().keySet()) {
+                this.dependents.computeIfAbsent(key, ignored -> new ArrayList<>()).add(dependencies);
+            }
+        }
+
         return this.setAvailable(baseTypeElement.asType());
     }
 
     public Set<TypeMirror> missingTypes() {
-        final Set<TypeMirror> missingTypes = new HashSet<>();
+        final Map<TypeKey, TypeMirror> missingTypes = new LinkedHashMap<>();
 
-        for (final ConfigDependencies configDependencies : this.configDependenciesSet) {
-            missingTypes.addAll(configDependencies.missingTypes());
+        for (final ConfigDependencies configDependencies : this.configs.values()) {
+            configDependencies.missingTypes().forEach(missingTypes::putIfAbsent);
         }
 
-        return missingTypes;
+        return new LinkedHashSet<>(missingTypes.values());
     }
 }
@@ -7,6 +7,7 @@
 package net.quickwrite.confetti.processor;
 
 import net.quickwrite.confetti.ConfettiConfig;
+import net.quickwrite.confetti.migration.ConfigMigration;
 import net.quickwrite.confetti.resolver.ConfettiTypeResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,11 +18,14 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class ConfettiProcessorTest {
     // Stub of a ProcessingEnvironment that does nothing.
@@ -61,6 +65,27 @@ public class ConfettiProcessorTest {
     public void correctSupportedAnnotationTypes() {
         Set<String> supportedAnnotations = this.confettiProcessor.getSupportedAnnotationTypes();
 
-        assertEquals(Set.of(ConfettiConfig.class.getCanonicalName(), ConfettiTypeResolver.class.getCanonicalName()), supportedAnnotations);
+        assertEquals(
+                Set.of(
+                        ConfettiConfig.class.getCanonicalName(),
+                        ConfettiTypeResolver.class.getCanonicalName(),
+                        ConfigMigration.class.getCanonicalName()
+                ),
+                supportedAnnotations
+        );
+    }
+
+    @Test
+    public void registeredAsAggregatingIncrementalProcessor() throws IOException {
+        try (InputStream stream = ConfettiProcessor.class.getResourceAsStream("/META-INF/gradle/incremental.annotation.processors")) {
+            assertNotNull(stream, "The processor has to declare its incremental mode");
+
+            String declaration = new String(stream.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                    .findFirst()
+                    .orElseThrow();
+
+            assertEquals(ConfettiProcessor.class.getCanonicalName() + ",aggregating", declaration);
+        }
     }
 }
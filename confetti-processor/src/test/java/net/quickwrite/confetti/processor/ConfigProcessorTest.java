@@ -0,0 +1,255 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigProcessorTest {
+    private static final String RESOLVERS = """
+            package test;
+
+            @net.quickwrite.confetti.resolver.ConfettiTypeResolver({ String.class, int.class })
+            class Resolvers {}
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void collectMostSpecificInheritedMethod() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.Resolvers", RESOLVERS,
+                "test.Named", """
+                        package test;
+
+                        interface Named {
+                            Object name();
+                        }
+                        """,
+                "test.StringNamed", """
+                        package test;
+
+                        interface StringNamed extends Named {
+                            String name();
+                        }
+                        """,
+                "test.AppConfig", """
+                        package test;
+
+                        @net.quickwrite.confetti.ConfettiConfig
+                        interface AppConfig extends Named, StringNamed {
+                            @net.quickwrite.confetti.DefaultValue("8080")
+                            int port();
+                        }
+                        """
+        ));
+
+        assertTrue(result.success(), () -> "Compilation failed: " + result.errors());
+        assertTrue(result.isGenerated("test.AppConfigDefaults"));
+    }
+
+    @Test
+    public void collectMethodsOfGenericSupertypes() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.Resolvers", RESOLVERS,
+                "test.Holder", """
+                        package test;
+
+                        interface Holder<T> {
+                            T value();
+
+                            default void value(T value) {}
+                        }
+                        """,
+                "test.AppConfig", """
+                        package test;
+
+                        @net.quickwrite.confetti.ConfettiConfig
+                        interface AppConfig extends Holder<String> {
+                            String value();
+
+                            default void value(String value) {}
+                        }
+                        """
+        ));
+
+        assertTrue(result.success(), () -> "Compilation failed: " + result.errors());
+    }
+
+    @Test
+    public void reportMissingInheritedType() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.Resolvers", RESOLVERS,
+                "test.Base", """
+                        package test;
+
+                        interface Base {
+                            java.time.Duration timeout();
+                        }
+                        """,
+                "test.AppConfig", """
+                        package test;
+
+                        @net.quickwrite.confetti.ConfettiConfig
+                        interface AppConfig extends Base {}
+                        """
+        ));
+
+        assertFalse(result.success());
+        assertTrue(result.errors().stream().anyMatch(error -> error.contains("java.time.Duration")), result.errors()::toString);
+    }
+
+    /**
+     * Configs share a hierarchy of base interfaces. Collecting their methods has to stay linear in
+     * the number of methods: four times the methods per base interface may only cause about four
+     * times the supertype expansions and {@code Elements.overrides} checks, where comparing every
+     * inherited method with every other one would cause sixteen times as many.
+     */
+    @Test
+    public void processLargeSharedHierarchies() throws IOException {
+        final long small = compileSharedHierarchies(tempDir.resolve("small"), 10);
+        final long large = compileSharedHierarchies(tempDir.resolve("large"), 40);
+
+        assertTrue(large <= 4 * small, () -> "4x the methods caused " + large + " instead of at most "
+                + 4 * small + " lookups");
+    }
+
+    /**
+     * Compiles 20 configs that share a hierarchy of 10 base interfaces and returns how many
+     * inherited-method lookups the processor made.
+     */
+    private static long compileSharedHierarchies(final Path outputDir, final int methodsPerLevel) throws IOException {
+        final int levels = 10;
+        final int configs = 20;
+
+        Map<String, String> sources = new HashMap<>();
+        sources.put("test.Resolvers", RESOLVERS);
+
+        for (int level = 0; level < levels; ++level) {
+            StringBuilder source = new StringBuilder("package test;\n\ninterface Base").append(level);
+            if (level > 0) {
+                source.append(" extends Base").append(level - 1);
+            }
+            source.append(" {\n");
+
+            for (int method = 0; method < methodsPerLevel; ++method) {
+                source.append("    String level").append(level).append("Value").append(method).append("();\n");
+            }
+
+            sources.put("test.Base" + level, source.append("}\n").toString());
+        }
+
+        sources.put("test.Common", """
+                package test;
+
+                interface Common extends Base0 {
+                    int port();
+                }
+                """);
+
+        for (int config = 0; config < configs; ++config) {
+            sources.put("test.Config" + config, """
+                    package test;
+
+                    @net.quickwrite.confetti.ConfettiConfig
+                    interface Config%1$d extends Base%2$d, Common {
+                        String level0Value0();
+
+                        String own%1$d();
+                    }
+                    """.formatted(config, levels - 1));
+        }
+
+        final LookupCountingProcessor processor = new LookupCountingProcessor();
+        TestCompiler.Result result = TestCompiler.compile(outputDir, sources, processor);
+
+        assertTrue(result.success(), () -> "Compilation failed: " + result.errors());
+
+        return processor.lookups.get();
+    }
+
+    /**
+     * Runs the {@link ConfettiProcessor} and counts the supertype expansions and override checks it makes.
+     */
+    private static final class LookupCountingProcessor extends AbstractProcessor {
+        private final ConfettiProcessor delegate = new ConfettiProcessor();
+        private final AtomicLong lookups = new AtomicLong();
+
+        @Override
+        public synchronized void init(final ProcessingEnvironment processingEnv) {
+            super.init(processingEnv);
+
+            final Elements elements = this.counting(Elements.class, processingEnv.getElementUtils(), "overrides");
+            final Types types = this.counting(Types.class, processingEnv.getTypeUtils(), "directSupertypes");
+
+            this.delegate.init(this.proxy(ProcessingEnvironment.class, processingEnv, (method, args) -> switch (method.getName()) {
+                case "getElementUtils" -> elements;
+                case "getTypeUtils" -> types;
+                default -> method.invoke(processingEnv, args);
+            }));
+        }
+
+        @Override
+        public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+            return this.delegate.process(annotations, roundEnv);
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return this.delegate.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return this.delegate.getSupportedSourceVersion();
+        }
+
+        private <T> T counting(final Class<T> type, final T target, final String countedMethod) {
+            return this.proxy(type, target, (method, args) -> {
+                if (method.getName().equals(countedMethod)) {
+                    this.lookups.incrementAndGet();
+                }
+
+                return method.invoke(target, args);
+            });
+        }
+
+        private <T> T proxy(final Class<T> type, final T target, final Invocation invocation) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+                try {
+                    return invocation.invoke(method, args);
+                } catch (final InvocationTargetException exception) {
+                    throw exception.getCause();
+                }
+            }));
+        }
+
+        private interface Invocation {
+            Object invoke(Method method, Object[] args) throws Exception;
+        }
+    }
+}
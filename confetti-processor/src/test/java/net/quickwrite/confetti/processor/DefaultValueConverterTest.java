@@ -0,0 +1,155 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor;
+
+import net.quickwrite.confetti.processor.data.DefaultConstant.Kind;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DefaultValueConverterTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void parsePrimitives() {
+        assertEquals(true, DefaultValueConverter.parse(Kind.BOOLEAN, "true"));
+        assertEquals((byte) 12, DefaultValueConverter.parse(Kind.BYTE, "12"));
+        assertEquals((short) -3, DefaultValueConverter.parse(Kind.SHORT, "-3"));
+        assertEquals(42, DefaultValueConverter.parse(Kind.INT, "42"));
+        assertEquals(Long.MAX_VALUE, DefaultValueConverter.parse(Kind.LONG, "9223372036854775807"));
+        assertEquals('x', DefaultValueConverter.parse(Kind.CHAR, "x"));
+        assertEquals(1.5f, DefaultValueConverter.parse(Kind.FLOAT, "1.5"));
+        assertEquals(2.25, DefaultValueConverter.parse(Kind.DOUBLE, "2.25"));
+        assertEquals("Max", DefaultValueConverter.parse(Kind.STRING, "Max"));
+    }
+
+    @Test
+    public void parseDurations() {
+        assertEquals(Duration.ofSeconds(10), DefaultValueConverter.parse(Kind.DURATION, "10s"));
+        assertEquals(Duration.ofMillis(500), DefaultValueConverter.parse(Kind.DURATION, "500 ms"));
+        assertEquals(Duration.ofDays(2), DefaultValueConverter.parse(Kind.DURATION, "2d"));
+        assertEquals(Duration.ofMinutes(90), DefaultValueConverter.parse(Kind.DURATION, "PT1H30M"));
+    }
+
+    @Test
+    public void rejectInvalidLiterals() {
+        assertThrows(IllegalArgumentException.class, () -> DefaultValueConverter.parse(Kind.BOOLEAN, "yes"));
+        assertThrows(IllegalArgumentException.class, () -> DefaultValueConverter.parse(Kind.BYTE, "300"));
+        assertThrows(IllegalArgumentException.class, () -> DefaultValueConverter.parse(Kind.INT, "forty-two"));
+        assertThrows(IllegalArgumentException.class, () -> DefaultValueConverter.parse(Kind.CHAR, "xy"));
+        assertThrows(IllegalArgumentException.class, () -> DefaultValueConverter.parse(Kind.DURATION, "10 parsecs"));
+        assertThrows(IllegalArgumentException.class, () -> DefaultValueConverter.parse(Kind.DURATION, "999999999999999d"));
+    }
+
+    @Test
+    public void convertMethodNamesToConstantNames() {
+        assertEquals("NAME", DefaultValueConverter.toConstantName("name"));
+        assertEquals("MAX_CONNECTIONS", DefaultValueConverter.toConstantName("maxConnections"));
+        assertEquals("BASE_URL_PATH", DefaultValueConverter.toConstantName("baseURLPath"));
+        assertEquals("PORT2", DefaultValueConverter.toConstantName("port2"));
+    }
+
+    @Test
+    public void generateDefaultsClass() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.Resolvers", """
+                        package test;
+
+                        @net.quickwrite.confetti.resolver.ConfettiTypeResolver({
+                            int.class, Long.class, String.class, java.time.Duration.class, AppConfig.Mode.class, double.class
+                        })
+                        class Resolvers {}
+                        """,
+                "test.AppConfig", """
+                        package test;
+
+                        import net.quickwrite.confetti.ConfettiConfig;
+                        import net.quickwrite.confetti.DefaultValue;
+
+                        @ConfettiConfig
+                        interface AppConfig {
+                            enum Mode { FAST, SAFE }
+
+                            @DefaultValue("42")
+                            int maxConnections();
+
+                            @DefaultValue("7")
+                            Long retries();
+
+                            @DefaultValue("Max \\"the\\" name")
+                            String name();
+
+                            @DefaultValue("10s")
+                            java.time.Duration timeout();
+
+                            @DefaultValue("SAFE")
+                            Mode mode();
+
+                            @DefaultValue("NaN")
+                            double ratio();
+
+                            String withoutDefault();
+                        }
+                        """
+        ));
+
+        assertTrue(result.success(), () -> "Compilation failed: " + result.errors());
+        assertTrue(result.isGenerated("test.AppConfigDefaults"));
+
+        String source = result.generated("test.AppConfigDefaults");
+        assertTrue(source.contains("public final static int MAX_CONNECTIONS = 42;"), source);
+        assertTrue(source.contains("RETRIES = 7L;"), source);
+        assertTrue(source.contains("NAME = \"Max \\\"the\\\" name\";"), source);
+        assertTrue(source.contains("Duration.ofSeconds(10L, 0L);"), source);
+        assertTrue(source.contains("MODE = test.AppConfig.Mode.SAFE;"), source);
+        assertTrue(source.contains("RATIO = Double.NaN;"), source);
+        assertFalse(source.contains("WITHOUT_DEFAULT"), source);
+    }
+
+    @Test
+    public void reportInvalidDefaultAtCompileTime() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.BrokenConfig", """
+                        package test;
+
+                        @net.quickwrite.confetti.ConfettiConfig
+                        interface BrokenConfig {
+                            @net.quickwrite.confetti.DefaultValue("not a number")
+                            int port();
+                        }
+                        """
+        ));
+
+        assertFalse(result.success());
+        assertTrue(result.errors().stream().anyMatch(error -> error.contains("Invalid @DefaultValue")), result.errors()::toString);
+    }
+
+    @Test
+    public void reportOverflowingDurationAtCompileTime() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.BrokenConfig", """
+                        package test;
+
+                        @net.quickwrite.confetti.ConfettiConfig
+                        interface BrokenConfig {
+                            @net.quickwrite.confetti.DefaultValue("999999999999999d")
+                            java.time.Duration timeout();
+                        }
+                        """
+        ));
+
+        assertFalse(result.success());
+        assertTrue(result.errors().stream().anyMatch(error -> error.contains("Invalid @DefaultValue")
+                && error.contains("out of the range of a duration")), result.errors()::toString);
+    }
+}
@@ -20,6 +20,8 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -38,6 +40,7 @@ public class FilerCodeWriterTest {
      */
     static class SimpleFiler implements Filer {
         private final Path base;
+        private final List<List<Element>> originatingElements = new ArrayList<>();
 
         SimpleFiler(Path base) {
             this.base = Objects.requireNonNull(base, "base");
@@ -91,6 +94,7 @@ public class FilerCodeWriterTest {
 
         @Override
         public JavaFileObject createSourceFile(CharSequence name, Element... originatingElements) throws IOException {
+            this.originatingElements.add(List.of(originatingElements));
             Path p = sourcePathFor(name.toString());
             return javaFileObjectFor(p);
         }
@@ -102,6 +106,7 @@ public class FilerCodeWriterTest {
 
         @Override
         public FileObject createResource(JavaFileManager.Location location, CharSequence moduleAndPkg, CharSequence relativeName, Element... originatingElements) throws IOException {
+            this.originatingElements.add(List.of(originatingElements));
             Path p = resourcePathFor(location, moduleAndPkg == null ? "" : moduleAndPkg.toString(), relativeName.toString());
             return fileObjectFor(p);
         }
@@ -135,6 +140,41 @@ public class FilerCodeWriterTest {
         assertTrue(ex.getMessage().contains("resourceLocation"));
     }
 
+    @Test
+    public void constructorNullOriginatingElementsThrowsNPE() {
+        NullPointerException ex = assertThrows(NullPointerException.class, () -> {
+            new FilerCodeWriter(filer, StandardLocation.CLASS_OUTPUT, (Element[]) null);
+        });
+
+        assertTrue(ex.getMessage().contains("originatingElements"));
+    }
+
+    @Test
+    public void originatingElementsArePassedToFiler() throws Exception {
+        Element element = (Element) Proxy.newProxyInstance(
+                Element.class.getClassLoader(),
+                new Class<?>[] { Element.class },
+                (proxy, method, args) -> method.getName().equals("equals") ? proxy == args[0] : null
+        );
+
+        FilerCodeWriter writer = new FilerCodeWriter(filer, StandardLocation.CLASS_OUTPUT, element);
+        JPackage pkg = new JCodeModel()._package("com.example");
+
+        writer.openSource(pkg, "Generated.java").close();
+        writer.openBinary(pkg, "data.bin").close();
+
+        assertEquals(List.of(List.of(element), List.of(element)), ((SimpleFiler) filer).originatingElements);
+    }
+
+    @Test
+    public void noOriginatingElementsByDefault() throws Exception {
+        FilerCodeWriter writer = new FilerCodeWriter(filer);
+
+        writer.openSource(null, "Generated.java").close();
+
+        assertEquals(List.of(List.of()), ((SimpleFiler) filer).originatingElements);
+    }
+
     @Test
     public void openSourceWritesUtf8File() throws Exception {
         FilerCodeWriter writer = new FilerCodeWriter(filer, StandardLocation.SOURCE_OUTPUT);
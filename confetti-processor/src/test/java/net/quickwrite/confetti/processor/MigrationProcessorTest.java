@@ -0,0 +1,150 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor;
+
+import net.quickwrite.confetti.migration.MigrationPlan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MigrationProcessorTest {
+    private static final String CONFIG = """
+            package test;
+
+            @net.quickwrite.confetti.ConfettiConfig(version = %d)
+            interface AppConfig {}
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private static String migration(final String name, final int from, final int to) {
+        return """
+                package test;
+
+                import net.quickwrite.confetti.ConfigNode;
+                import net.quickwrite.confetti.migration.ConfigMigration;
+                import net.quickwrite.confetti.migration.ConfigMigrator;
+
+                @ConfigMigration(target = AppConfig.class, from = %d, to = %d)
+                class %s implements ConfigMigrator {
+                    @Override
+                    public ConfigNode migrate(final ConfigNode config) {
+                        return config;
+                    }
+                }
+                """.formatted(from, to, name);
+    }
+
+    @Test
+    public void generateMigrationPlan() throws Exception {
+        Map<String, String> sources = new HashMap<>();
+        sources.put("test.AppConfig", CONFIG.formatted(-1));
+        sources.put("test.V2toV3", migration("V2toV3", 2, 3));
+        sources.put("test.V1toV2", migration("V1toV2", 1, 2));
+        sources.put("test.V3toV5", migration("V3toV5", 3, 5));
+
+        TestCompiler.Result result = TestCompiler.compile(tempDir, sources);
+
+        assertTrue(result.success(), () -> "Compilation failed: " + result.errors());
+        assertTrue(result.isGenerated("test.AppConfigMigrations"));
+
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[] { tempDir.resolve("classes").toUri().toURL() },
+                getClass().getClassLoader()
+        )) {
+            Class<?> migrations = loader.loadClass("test.AppConfigMigrations");
+            MigrationPlan plan = (MigrationPlan) migrations.getMethod("plan").invoke(null);
+
+            assertEquals(5, plan.currentVersion());
+            assertEquals(5, migrations.getField("CURRENT_VERSION").getInt(null));
+            assertEquals(3, plan.steps().size());
+            assertEquals("test.V1toV2", plan.steps().get(0).migrator().getClass().getName());
+            assertEquals("test.V3toV5", plan.steps().get(2).migrator().getClass().getName());
+        }
+    }
+
+    @Test
+    public void reportGapInChain() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.AppConfig", CONFIG.formatted(-1),
+                "test.V1toV2", migration("V1toV2", 1, 2),
+                "test.V3toV4", migration("V3toV4", 3, 4)
+        ));
+
+        assertFalse(result.success());
+        assertTrue(result.errors().stream().anyMatch(error -> error.contains("missing a migration from version 2")), result.errors()::toString);
+    }
+
+    @Test
+    public void reportDuplicateStart() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.AppConfig", CONFIG.formatted(-1),
+                "test.V1toV2", migration("V1toV2", 1, 2),
+                "test.V1toV3", migration("V1toV3", 1, 3)
+        ));
+
+        assertFalse(result.success());
+        assertTrue(result.errors().stream().anyMatch(error -> error.contains("both migrate from version 1")), result.errors()::toString);
+    }
+
+    @Test
+    public void reportMismatchingVersion() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.AppConfig", CONFIG.formatted(7),
+                "test.V1toV2", migration("V1toV2", 1, 2)
+        ));
+
+        assertFalse(result.success());
+        assertTrue(result.errors().stream().anyMatch(error -> error.contains("declares the version 7")), result.errors()::toString);
+    }
+
+    @Test
+    public void reportInvalidVersions() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.AppConfig", CONFIG.formatted(-1),
+                "test.Backwards", migration("Backwards", 3, 2)
+        ));
+
+        assertFalse(result.success());
+        assertTrue(result.errors().stream().anyMatch(error -> error.contains("from < to")), result.errors()::toString);
+    }
+
+    @Test
+    public void reportTargetWithoutConfigAnnotation() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.AppConfig", "package test; interface AppConfig {}",
+                "test.V1toV2", migration("V1toV2", 1, 2)
+        ));
+
+        assertFalse(result.success());
+        assertTrue(result.errors().stream().anyMatch(error -> error.contains("not annotated with @ConfettiConfig")), result.errors()::toString);
+    }
+
+    @Test
+    public void reportClassNotImplementingMigrator() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.AppConfig", CONFIG.formatted(-1),
+                "test.NoMigrator", """
+                        package test;
+
+                        @net.quickwrite.confetti.migration.ConfigMigration(target = AppConfig.class, from = 1, to = 2)
+                        class NoMigrator {}
+                        """
+        ));
+
+        assertFalse(result.success());
+        assertTrue(result.errors().stream().anyMatch(error -> error.contains("has to implement")), result.errors()::toString);
+    }
+}
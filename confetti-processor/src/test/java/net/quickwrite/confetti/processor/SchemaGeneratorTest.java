@@ -0,0 +1,271 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor;
+
+import net.quickwrite.confetti.ConfettiConfig;
+import net.quickwrite.confetti.ConfigNode;
+import net.quickwrite.confetti.path.NodePath;
+import net.quickwrite.confetti.path.PathSegment;
+import net.quickwrite.confetti.schema.Schema;
+import net.quickwrite.confetti.schema.SchemaValidator;
+import net.quickwrite.confetti.schema.Violation;
+import net.quickwrite.confetti.tree.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchemaGeneratorTest {
+    private static final String RESOLVERS = """
+            package test;
+
+            @net.quickwrite.confetti.resolver.ConfettiTypeResolver({
+                    String.class, int.class, long.class, double.class, boolean.class, byte.class,
+                    java.time.Duration.class, Mode.class
+            })
+            class Resolvers {}
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private Schema.ObjectSchema load(final String className) throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[] { tempDir.resolve("classes").toUri().toURL() },
+                getClass().getClassLoader()
+        )) {
+            return (Schema.ObjectSchema) loader.loadClass(className).getField("SCHEMA").get(null);
+        }
+    }
+
+    private TestCompiler.Result compile(final Map<String, String> sources) throws IOException {
+        return TestCompiler.compile(tempDir, sources, ConfettiProcessor.SCHEMA_OPTION + "=true");
+    }
+
+    @Test
+    public void generateNoSchemaByDefault() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.Resolvers", RESOLVERS,
+                "test.Mode", "package test; enum Mode { FAST }",
+                "test.ServerConfig", """
+                        package test;
+
+                        @net.quickwrite.confetti.ConfettiConfig
+                        interface ServerConfig {
+                            String host();
+                        }
+                        """
+        ));
+
+        assertTrue(result.success(), () -> "Compilation failed: " + result.errors());
+        assertFalse(result.isGenerated("test.ServerConfigSchema"));
+    }
+
+    @Test
+    public void generateSchemaOfKeys() throws Exception {
+        TestCompiler.Result result = compile(Map.of(
+                "test.Resolvers", RESOLVERS,
+                "test.Mode", """
+                        package test;
+
+                        enum Mode { FAST, SLOW }
+                        """,
+                "test.ServerConfig", """
+                        package test;
+
+                        @net.quickwrite.confetti.ConfettiConfig
+                        interface ServerConfig {
+                            String host();
+
+                            @net.quickwrite.confetti.DefaultValue("8080")
+                            int port();
+                        }
+                        """,
+                "test.AppConfig", """
+                        package test;
+
+                        @net.quickwrite.confetti.ConfettiConfig
+                        interface AppConfig {
+                            String name();
+
+                            byte priority();
+
+                            long size();
+
+                            double ratio();
+
+                            boolean enabled();
+
+                            Mode mode();
+
+                            java.time.Duration timeout();
+
+                            ServerConfig server();
+                        }
+                        """
+        ));
+
+        assertTrue(result.success(), () -> "Compilation failed: " + result.errors());
+        assertTrue(result.isGenerated("test.AppConfigSchema"));
+        assertTrue(result.isGenerated("test.ServerConfigSchema"));
+
+        Schema.ObjectSchema server = load("test.ServerConfigSchema");
+        assertEquals(Schema.object()
+                .required("host", Schema.string())
+                .optional("port", Schema.integer(Integer.MIN_VALUE, Integer.MAX_VALUE))
+                .build(), server);
+
+        Schema.ObjectSchema app = load("test.AppConfigSchema");
+        assertEquals(Schema.object()
+                .required("name", Schema.string())
+                .required("priority", Schema.integer(Byte.MIN_VALUE, Byte.MAX_VALUE))
+                .required("size", Schema.integer())
+                .required("ratio", Schema.number())
+                .required("enabled", Schema.bool())
+                .required("mode", Schema.string())
+                .required("timeout", Schema.any())
+                .required("server", server)
+                .build(), app);
+    }
+
+    @Test
+    public void generatedSchemaValidatesTree() throws Exception {
+        TestCompiler.Result result = compile(Map.of(
+                "test.Resolvers", RESOLVERS,
+                "test.Mode", "package test; enum Mode { FAST }",
+                "test.AppConfig", """
+                        package test;
+
+                        @net.quickwrite.confetti.ConfettiConfig
+                        interface AppConfig {
+                            String host();
+
+                            int port();
+                        }
+                        """
+        ));
+
+        assertTrue(result.success(), () -> "Compilation failed: " + result.errors());
+
+        ConfigNode root = ConfigTree.root(ObjectData.builder().put("port", ScalarData.ofLong(1L << 40)).build());
+        List<Violation> violations = SchemaValidator.compile(load("test.AppConfigSchema")).validate(root);
+
+        assertEquals(
+                List.of(NodePath.of(PathSegment.key("host")), NodePath.of(PathSegment.key("port"))),
+                violations.stream().map(Violation::path).toList()
+        );
+    }
+
+    @Test
+    public void generateSchemaOnlyOnceDependenciesAreKnown() throws Exception {
+        TestCompiler.Result result = compile(Map.of(
+                "test.Resolvers", RESOLVERS,
+                "test.Mode", """
+                        package test;
+
+                        enum Mode { FAST, SLOW }
+                        """,
+                "test.UnresolvedConfig", """
+                        package test;
+
+                        @net.quickwrite.confetti.ConfettiConfig
+                        interface UnresolvedConfig {
+                            String name();
+
+                            java.util.UUID id();
+                        }
+                        """
+        ));
+
+        assertFalse(result.success());
+        assertFalse(result.isGenerated("test.UnresolvedConfigSchema"));
+    }
+
+    @Test
+    public void generateSchemaOfContainers() throws Exception {
+        TestCompiler.Result result = TestCompiler.compile(tempDir, Map.of(
+                "test.NodeConfig", """
+                        package test;
+
+                        import java.util.List;
+                        import java.util.Optional;
+                        import java.util.Set;
+
+                        @net.quickwrite.confetti.ConfettiConfig
+                        interface NodeConfig {
+                            Optional<Integer> weight();
+
+                            Set<Boolean> flags();
+
+                            long[][] matrix();
+
+                            List<NodeConfig> children();
+
+                            List<LeafConfig> leaves();
+                        }
+                        """,
+                "test.LeafConfig", """
+                        package test;
+
+                        @net.quickwrite.confetti.ConfettiConfig
+                        interface LeafConfig {
+                            Short name();
+                        }
+                        """
+        ), new SchemaOnlyProcessor());
+
+        assertTrue(result.success(), () -> "Compilation failed: " + result.errors());
+
+        Schema.ObjectSchema leaf = Schema.object().required("name", Schema.integer(Short.MIN_VALUE, Short.MAX_VALUE)).build();
+        assertEquals(leaf, load("test.LeafConfigSchema"));
+        // The config refers to itself, so its children cannot use the schema that is being initialized
+        assertEquals(Schema.object()
+                .optional("weight", Schema.integer(Integer.MIN_VALUE, Integer.MAX_VALUE))
+                .required("flags", Schema.arrayOf(Schema.bool()))
+                .required("matrix", Schema.arrayOf(Schema.arrayOf(Schema.integer())))
+                .required("children", Schema.arrayOf(Schema.any()))
+                .required("leaves", Schema.arrayOf(leaf))
+                .build(), load("test.NodeConfigSchema"));
+    }
+
+    /**
+     * Only generates the schemas, so the configs do not need type resolvers.
+     */
+    @SupportedAnnotationTypes("net.quickwrite.confetti.ConfettiConfig")
+    @SupportedSourceVersion(SourceVersion.RELEASE_21)
+    private static final class SchemaOnlyProcessor extends AbstractProcessor {
+        @Override
+        public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(ConfettiConfig.class)) {
+                try {
+                    new SchemaGenerator(processingEnv).generate(
+                            (TypeElement) element,
+                            ElementFilter.methodsIn(element.getEnclosedElements())
+                    );
+                } catch (final IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor;
+
+import javax.annotation.processing.Processor;
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiles in-memory sources with the {@link ConfettiProcessor} so that tests can
+ * inspect the diagnostics and the generated sources.
+ */
+final class TestCompiler {
+    private TestCompiler() {}
+
+    /**
+     * Compiles the given sources with a fresh {@link ConfettiProcessor}.
+     *
+     * @param outputDir the directory that receives generated sources and classes
+     * @param sources map from fully qualified class name to source text
+     * @return the result of the compilation
+     */
+    static Result compile(final Path outputDir, final Map<String, String> sources) throws IOException {
+        return compile(outputDir, sources, new ConfettiProcessor());
+    }
+
+    /**
+     * Compiles the given sources with a fresh {@link ConfettiProcessor} and the processor options.
+     *
+     * @param outputDir the directory that receives generated sources and classes
+     * @param sources map from fully qualified class name to source text
+     * @param options the {@code -A} options without the prefix, for example {@code confetti.schema=true}
+     * @return the result of the compilation
+     */
+    static Result compile(final Path outputDir, final Map<String, String> sources, final String... options) throws IOException {
+        return compile(outputDir, sources, new ConfettiProcessor(), options);
+    }
+
+    static Result compile(final Path outputDir, final Map<String, String> sources, final Processor processor,
+                          final String... options) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        final Path sourceOutput = Files.createDirectories(outputDir.resolve("generated"));
+        final Path classOutput = Files.createDirectories(outputDir.resolve("classes"));
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            fileManager.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(sourceOutput));
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(classOutput));
+
+            final List<JavaFileObject> units = new ArrayList<>();
+            for (final Map.Entry<String, String> entry : sources.entrySet()) {
+                units.add(new SourceFile(entry.getKey(), entry.getValue()));
+            }
+
+            final JavaCompiler.CompilationTask task = compiler.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    arguments(options),
+                    null,
+                    units
+            );
+            task.setProcessors(List.of(processor));
+
+            final boolean success = task.call();
+
+            return new Result(success, diagnostics.getDiagnostics(), sourceOutput);
+        }
+    }
+
+    private static List<String> arguments(final String... options) {
+        final List<String> arguments = new ArrayList<>(List.of("-classpath", System.getProperty("java.class.path")));
+        for (final String option : options) {
+            arguments.add("-A" + option);
+        }
+
+        return arguments;
+    }
+
+    record Result(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics, Path sourceOutput) {
+        List<String> errors() {
+            return this.diagnostics.stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                    .toList();
+        }
+
+        boolean isGenerated(final String qualifiedName) {
+            return Files.exists(this.pathOf(qualifiedName));
+        }
+
+        String generated(final String qualifiedName) throws IOException {
+            return Files.readString(this.pathOf(qualifiedName), StandardCharsets.UTF_8);
+        }
+
+        private Path pathOf(final String qualifiedName) {
+            return this.sourceOutput.resolve(qualifiedName.replace('.', '/') + ".java");
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String content;
+
+        SourceFile(final String qualifiedName, final String content) {
+            super(URI.create("string:///" + qualifiedName.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return this.content;
+        }
+    }
+}
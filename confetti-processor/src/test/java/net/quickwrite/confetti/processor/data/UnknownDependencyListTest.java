@@ -0,0 +1,119 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package net.quickwrite.confetti.processor.data;
+
+import com.sun.source.util.JavacTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.ToolProvider;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnknownDependencyListTest {
+    private Elements elements;
+    private Types types;
+
+    @BeforeEach
+    public void setUp() {
+        JavacTask task = (JavacTask) ToolProvider.getSystemJavaCompiler().getTask(null, null, null, null, null, List.of());
+        this.elements = task.getElements();
+        this.types = task.getTypes();
+    }
+
+    private TypeElement element(Class<?> type) {
+        return this.elements.getTypeElement(type.getCanonicalName());
+    }
+
+    private TypeMirror listOf(Class<?> type) {
+        return this.types.getDeclaredType(element(List.class), element(type).asType());
+    }
+
+    @Test
+    public void sameTypesHaveEqualKeys() {
+        TypeMirror first = listOf(String.class);
+        TypeMirror second = listOf(String.class);
+
+        assertNotSame(first, second);
+        assertTrue(this.types.isSameType(first, second));
+        assertEquals(TypeKey.of(first), TypeKey.of(second));
+
+        assertNotEquals(TypeKey.of(first), TypeKey.of(listOf(Integer.class)));
+        assertNotEquals(TypeKey.of(first), TypeKey.of(this.types.erasure(first)));
+        assertNotEquals(
+                TypeKey.of(this.types.getPrimitiveType(TypeKind.INT)),
+                TypeKey.of(this.types.getArrayType(this.types.getPrimitiveType(TypeKind.INT)))
+        );
+    }
+
+    @Test
+    public void collectConfigOnceAllTypesAreAvailable() {
+        UnknownDependencyList list = new UnknownDependencyList();
+        TypeElement config = element(Runnable.class);
+
+        assertTrue(list.addConfigWithDependencies(config, List.of(listOf(String.class), element(Integer.class).asType())));
+        assertEquals(List.of(), list.collectKnown());
+
+        // A different instance of the same type
+        assertTrue(list.setAvailable(listOf(String.class)));
+        assertFalse(list.setAvailable(listOf(String.class)));
+        assertEquals(List.of(), list.collectKnown());
+        assertEquals(Set.of(TypeKey.of(element(Integer.class).asType())), keysOf(list.missingTypes()));
+
+        assertTrue(list.setAvailable(element(Integer.class).asType()));
+        assertEquals(List.of(config), list.collectKnown());
+        assertEquals(List.of(), list.collectKnown());
+        assertEquals(List.of(), list.collectCurrentConfigs());
+    }
+
+    @Test
+    public void collectConfigWithAvailableTypesImmediately() {
+        UnknownDependencyList list = new UnknownDependencyList(Set.of(listOf(String.class)));
+        TypeElement config = element(Runnable.class);
+
+        list.addConfigWithDependencies(config, List.of(listOf(String.class), listOf(String.class)));
+
+        assertEquals(List.of(config), list.collectKnown());
+    }
+
+    @Test
+    public void configsAreAvailableForOtherConfigs() {
+        UnknownDependencyList list = new UnknownDependencyList();
+        TypeElement outer = element(Runnable.class);
+        TypeElement inner = element(AutoCloseable.class);
+
+        assertTrue(list.addConfigWithDependencies(outer, List.of(inner.asType())));
+        assertFalse(list.addConfigWithDependencies(outer, List.of()));
+        assertEquals(List.of(outer), list.collectCurrentConfigs());
+
+        list.addConfigWithDependencies(inner, List.of());
+
+        assertEquals(Set.of(outer, inner), Set.copyOf(list.collectKnown()));
+    }
+
+    @Test
+    public void reportMissingTypesOnce() {
+        UnknownDependencyList list = new UnknownDependencyList();
+
+        list.addConfigWithDependencies(element(Runnable.class), List.of(listOf(String.class)));
+        list.addConfigWithDependencies(element(AutoCloseable.class), List.of(listOf(String.class)));
+
+        assertEquals(1, list.missingTypes().size());
+        assertEquals(2, list.collectCurrentConfigs().size());
+    }
+
+    private static Set<TypeKey> keysOf(Set<TypeMirror> typeMirrors) {
+        return Set.copyOf(typeMirrors.stream().map(TypeKey::of).toList());
+    }
+}
@@ -4,5 +4,11 @@ include(
     "confetti-core",
     "confetti-annotations",
     "confetti-processor",
-    "confetti-formats-hocon"
+    "confetti-formats-hocon",
+    "confetti-formats-yaml",
+    "confetti-formats-toml",
+    "confetti-formats-properties",
+    "confetti-formats-msgpack",
+    "confetti-offheap",
+    "confetti-benchmarks"
 )